@@ -11,6 +11,7 @@ import nl.saxion.game.screens.WinnerScreen;
 import nl.saxion.gameapp.GameApp;
 import nl.saxion.game.config.GameConfig;
 import nl.saxion.game.config.ConfigManager;
+import nl.saxion.game.systems.ScreenRegistry;
 import nl.saxion.game.utils.DebugLogger;
 
 public class MainGame {
@@ -19,31 +20,60 @@ public class MainGame {
 
     public static void main(String[] args) {
 
-        // Register all game screens
-        GameApp.addScreen("menu", new MainMenuScreen());
-        GameApp.addScreen("playerinput", new PlayerInputScreen());
-        GameApp.addScreen("howtoplay", new HowToPlayScreen());
-        GameApp.addScreen("play", new PlayScreen());
-        GameApp.addScreen("ranks", new RanksScreen());
-        GameApp.addScreen("settings", new SettingsScreen());
-        GameApp.addScreen("credits", new CreditsScreen());
-        GameApp.addScreen("winner", new WinnerScreen());
-        // GameOverScreen is no longer needed - game over is now an overlay on PlayScreen
-
-
-        //heyy!!
-
-        // Start game with main menu
-
         config = ConfigManager.loadConfig();
         GameApp.log("Loaded config. masterVolume = " + config.masterVolume);
 
+        // Keep the shared config and debug logging in sync with saved settings
+        ConfigManager.addListener(saved -> {
+            config = saved;
+            DebugLogger.setEnabled(saved.debugEnabled);
+        });
+
         // Set debug logger enabled state from config
         DebugLogger.setEnabled(config.debugEnabled);
         if (config.debugEnabled) {
             GameApp.log("Debug logging enabled");
         }
 
+        // Register all game screens; each one is constructed when it is first shown.
+        // Declared assets are unloaded again when least recently visited screens exceed the budget.
+        ScreenRegistry.setBudgetMb(config.screenAssetBudgetMb);
+        ScreenRegistry.register("menu", 1280, 720, MainMenuScreen::new)
+                .pinned();
+        ScreenRegistry.register("playerinput", 1280, 720, PlayerInputScreen::new)
+                .texture("close", "assets/ui/close.png")
+                .texture("greentick", "assets/ui/greentick.png");
+        ScreenRegistry.register("howtoplay", 1280, 720, HowToPlayScreen::new)
+                .spriteSheets("key_W", "key_A", "key_S", "key_D");
+        // Play keeps the run (and the paused game while in settings), it is never unloaded
+        ScreenRegistry.register("play", 960, 540, PlayScreen::new)
+                .pinned();
+        ScreenRegistry.register("ranks", 1280, 720, RanksScreen::new);
+        ScreenRegistry.register("settings", 960, 540, SettingsScreen::new)
+                .texture("popup_panel", "assets/ui/Popup_Panel.png")
+                .texture("tab_1", "assets/ui/Tab_1.png")
+                .texture("green_toggle", "assets/ui/green_toggle.png")
+                .texture("red_toggle", "assets/ui/red_toggle.png")
+                .texture("blue_segment", "assets/ui/blue_segment_slider.png")
+                .texture("black_segment", "assets/ui/black_segment_slider.png")
+                .texture("black_left_slider", "assets/ui/black_left_slider.png")
+                .texture("black_mid_slider", "assets/ui/black_mid_slider.png")
+                .texture("black_right_slider", "assets/ui/black_right_slider.png")
+                .texture("tiny_black_minus", "assets/ui/tiny_black_minus.png")
+                .texture("tiny_black_plus", "assets/ui/tiny_black_plus.png")
+                .texture("tiny_blue_minus", "assets/ui/tiny_blue_minus.png")
+                .texture("tiny_blue_plus", "assets/ui/tiny_blue_plus.png")
+                .texture("icon_fullscreen", "assets/ui/fullscreen.png")
+                .texture("icon_master_volume", "assets/ui/mastervolumne.png")
+                .texture("icon_music", "assets/ui/music.png")
+                .texture("icon_sfx", "assets/ui/soundeffect.png")
+                .texture("close_button", "assets/ui/close.png");
+        ScreenRegistry.register("credits", 1280, 720, CreditsScreen::new)
+                .texture("saxion_logo", "assets/ui/saxion.png");
+        ScreenRegistry.register("winner", 1280, 720, WinnerScreen::new)
+                .texture("winner_title", "assets/ui/winner.png");
+        // GameOverScreen is no longer needed - game over is now an overlay on PlayScreen
+
         // Window size: 16:9 aspect ratio (HD)
         // Enable resizable window (true) - allows user to resize window with mouse
         GameApp.start(
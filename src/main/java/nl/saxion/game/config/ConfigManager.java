@@ -1,26 +1,79 @@
 package nl.saxion.game.config;
 
 import com.badlogic.gdx.Input;
+import com.badlogic.gdx.utils.JsonReader;
+import com.badlogic.gdx.utils.JsonValue;
+import com.badlogic.gdx.utils.JsonWriter.OutputType;
+import nl.saxion.game.systems.PersistenceWorker;
 import nl.saxion.gameapp.GameApp;
 
 import java.io.BufferedReader;
-import java.io.BufferedWriter;
 import java.io.File;
 import java.io.FileReader;
-import java.io.FileWriter;
 import java.io.IOException;
-
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * Config store - config.json is read once and kept in memory.
+ *
+ * loadConfig() returns a copy of the in-memory config (no disk access after the first call).
+ * saveConfig() updates the store, notifies listeners and queues a write on the
+ * PersistenceWorker. Saves made while a write is still queued are coalesced into one write
+ * of the latest config, which goes to a temp file that replaces config.json atomically.
+ * Pending writes are flushed on shutdown by the worker.
+ */
 public class ConfigManager {
 
     private static final String FILE_NAME = "config.json";
 
-    public static GameConfig loadConfig() {
+    // In-memory config (null until first load)
+    private static GameConfig current;
+    private static final List<Consumer<GameConfig>> listeners = new ArrayList<>();
+
+    // Write-behind state: latest unsaved config and version counters so an older snapshot never overwrites a newer one
+    private static GameConfig pendingWrite;
+    private static long pendingVersion = 0;
+    private static long writtenVersion = 0;
+    private static boolean writeScheduled = false;
+    private static final Object fileLock = new Object();
+
+    /**
+     * Current config. Returns a copy, so callers can change it and pass it to saveConfig().
+     */
+    public static synchronized GameConfig loadConfig() {
+        if (current == null) {
+            current = readConfig();
+        }
+        return current.copy();
+    }
+
+    /**
+     * Register a listener that is called with the new config after every saveConfig().
+     * Listeners run on the thread that saved (the render thread) and must not change the config.
+     */
+    public static synchronized void addListener(Consumer<GameConfig> listener) {
+        listeners.add(listener);
+    }
+
+    public static synchronized void removeListener(Consumer<GameConfig> listener) {
+        listeners.remove(listener);
+    }
+
+    private static GameConfig readConfig() {
         File file = new File(FILE_NAME);
 
         if (!file.exists()) {
             GameApp.log("Config not found → creating default.");
             GameConfig def = GameConfig.createDefault();
-            saveConfig(def);
+            scheduleWrite(def);
             return def;
         }
 
@@ -43,10 +96,10 @@ public class ConfigManager {
             if (isJSON) {
                 // JSON format
                 StringBuilder jsonContent = new StringBuilder();
-                jsonContent.append(firstLine.trim());
+                jsonContent.append(firstLine).append('\n');
                 String line;
                 while ((line = br.readLine()) != null) {
-                    jsonContent.append(line.trim());
+                    jsonContent.append(line).append('\n');
                 }
                 parseJSON(cfg, jsonContent.toString());
             } else {
@@ -82,7 +135,7 @@ public class ConfigManager {
         } catch (Exception e) {
             GameApp.log("Error loading config: " + e.getMessage());
             GameConfig def = GameConfig.createDefault();
-            saveConfig(def);
+            scheduleWrite(def);
             return def;
         }
     }
@@ -112,56 +165,24 @@ public class ConfigManager {
                 cfg.fullscreen = Boolean.parseBoolean(value);
             } else if (key.equals("showcaseMode")) {
                 cfg.showcaseMode = Boolean.parseBoolean(value);
+            } else if (key.equals("sharedLeaderboardDir")) {
+                cfg.sharedLeaderboardDir = value;
+            } else if (key.equals("kioskId")) {
+                cfg.kioskId = value;
+            } else if (key.equals("screenAssetBudgetMb")) {
+                cfg.screenAssetBudgetMb = Integer.parseInt(value);
             }
         } catch (NumberFormatException ex) {
             GameApp.log("Invalid value in config for " + key + ": " + value);
         }
     }
 
-    // Simple JSON parser for flat structure
+    // Parse the flat JSON object; each value goes through the same parsing as key=value lines
     private static void parseJSON(GameConfig cfg, String json) {
-        // Remove whitespace and braces
-        json = json.replaceAll("\\s+", "").replace("{", "").replace("}", "");
-
-        // Split by comma
-        String[] pairs = json.split(",");
-
-        for (String pair : pairs) {
-            if (pair.isEmpty()) continue;
-
-            // Split key:value
-            String[] kv = pair.split(":", 2);
-            if (kv.length != 2) continue;
-
-            String key = kv[0].replace("\"", "").trim();
-            String value = kv[1].replace("\"", "").trim();
-
-            try {
-                if (key.equals("masterVolume")) {
-                    cfg.masterVolume = Float.parseFloat(value);
-                } else if (key.equals("musicVolume")) {
-                    cfg.musicVolume = Float.parseFloat(value);
-                } else if (key.equals("sfxVolume")) {
-                    cfg.sfxVolume = Float.parseFloat(value);
-                } else if (key.equals("keyMoveUp")) {
-                    cfg.keyMoveUp = parseKeyValue(value);
-                } else if (key.equals("keyMoveDown")) {
-                    cfg.keyMoveDown = parseKeyValue(value);
-                } else if (key.equals("keyMoveLeft")) {
-                    cfg.keyMoveLeft = parseKeyValue(value);
-                } else if (key.equals("keyMoveRight")) {
-                    cfg.keyMoveRight = parseKeyValue(value);
-                } else if (key.equals("keyShoot")) {
-                    cfg.keyShoot = parseKeyValue(value);
-                } else if (key.equals("debugEnabled")) {
-                    cfg.debugEnabled = Boolean.parseBoolean(value);
-                } else if (key.equals("fullscreen")) {
-                    cfg.fullscreen = Boolean.parseBoolean(value);
-                } else if (key.equals("showcaseMode")) {
-                    cfg.showcaseMode = Boolean.parseBoolean(value);
-                }
-            } catch (NumberFormatException ex) {
-                GameApp.log("Invalid value in config for " + key + ": " + value);
+        JsonValue root = new JsonReader().parse(json);
+        for (JsonValue entry = root.child; entry != null; entry = entry.next) {
+            if (entry.isValue() && !entry.isNull()) {
+                applyConfigLine(cfg, entry.name, entry.asString());
             }
         }
     }
@@ -222,40 +243,101 @@ public class ConfigManager {
         }
     }
 
+    /**
+     * Store a changed config. Returns immediately; the file is written in the background.
+     */
     public static void saveConfig(GameConfig cfg) {
         if (cfg == null) {
             return;
         }
 
-        try {
-            cfg.validate();
-
-            FileWriter fw = new FileWriter(FILE_NAME);
-            BufferedWriter bw = new BufferedWriter(fw);
-
-            // Write JSON format
-            bw.write("{\n");
-            bw.write("  \"masterVolume\": " + cfg.masterVolume + ",\n");
-            bw.write("  \"musicVolume\": " + cfg.musicVolume + ",\n");
-            bw.write("  \"sfxVolume\": " + cfg.sfxVolume + ",\n");
-            bw.write("  \"keyMoveUp\": " + cfg.keyMoveUp + ",\n");
-            bw.write("  \"keyMoveDown\": " + cfg.keyMoveDown + ",\n");
-            bw.write("  \"keyMoveLeft\": " + cfg.keyMoveLeft + ",\n");
-            bw.write("  \"keyMoveRight\": " + cfg.keyMoveRight + ",\n");
-            bw.write("  \"keyShoot\": " + cfg.keyShoot + ",\n");
-            bw.write("  \"debugEnabled\": " + cfg.debugEnabled + ",\n");
-            bw.write("  \"fullscreen\": " + cfg.fullscreen + ",\n");
-            bw.write("  \"showcaseMode\": " + cfg.showcaseMode + "\n");
-            bw.write("}");
-
-            bw.flush();
-            bw.close();
-            fw.close();
+        cfg.validate();
+        GameConfig snapshot = cfg.copy();
+        List<Consumer<GameConfig>> toNotify;
+        synchronized (ConfigManager.class) {
+            current = snapshot;
+            toNotify = new ArrayList<>(listeners);
+        }
+        scheduleWrite(snapshot);
 
-            GameApp.log("Config saved to " + FILE_NAME);
+        for (Consumer<GameConfig> listener : toNotify) {
+            try {
+                listener.accept(snapshot.copy());
+            } catch (Exception e) {
+                GameApp.log("Error in config listener: " + e.getMessage());
+            }
+        }
+    }
 
+    /**
+     * Write a pending config now (tests, before reading config.json). Safe to call from any thread.
+     */
+    public static void flush() {
+        try {
+            writePending();
         } catch (IOException e) {
             GameApp.log("Error saving config: " + e.getMessage());
         }
     }
+
+    private static synchronized void scheduleWrite(GameConfig snapshot) {
+        pendingWrite = snapshot;
+        pendingVersion++;
+        if (!writeScheduled) {
+            writeScheduled = true;
+            // Later saves only replace pendingWrite until the queued write has run
+            PersistenceWorker.submit(FILE_NAME, ConfigManager::writePending);
+        }
+    }
+
+    private static void writePending() throws IOException {
+        GameConfig snapshot;
+        long version;
+        synchronized (ConfigManager.class) {
+            snapshot = pendingWrite;
+            version = pendingVersion;
+            writeScheduled = false;
+        }
+        if (snapshot != null) {
+            writeConfig(snapshot, version);
+        }
+    }
+
+    private static void writeConfig(GameConfig cfg, long version) throws IOException {
+        synchronized (fileLock) {
+            if (version <= writtenVersion) {
+                return; // A newer config was already written
+            }
+
+            StringBuilder json = new StringBuilder(320);
+            json.append("{\n");
+            json.append("  \"masterVolume\": ").append(cfg.masterVolume).append(",\n");
+            json.append("  \"musicVolume\": ").append(cfg.musicVolume).append(",\n");
+            json.append("  \"sfxVolume\": ").append(cfg.sfxVolume).append(",\n");
+            json.append("  \"keyMoveUp\": ").append(cfg.keyMoveUp).append(",\n");
+            json.append("  \"keyMoveDown\": ").append(cfg.keyMoveDown).append(",\n");
+            json.append("  \"keyMoveLeft\": ").append(cfg.keyMoveLeft).append(",\n");
+            json.append("  \"keyMoveRight\": ").append(cfg.keyMoveRight).append(",\n");
+            json.append("  \"keyShoot\": ").append(cfg.keyShoot).append(",\n");
+            json.append("  \"debugEnabled\": ").append(cfg.debugEnabled).append(",\n");
+            json.append("  \"fullscreen\": ").append(cfg.fullscreen).append(",\n");
+            json.append("  \"showcaseMode\": ").append(cfg.showcaseMode).append(",\n");
+            json.append("  \"sharedLeaderboardDir\": ").append(OutputType.json.quoteValue(cfg.sharedLeaderboardDir)).append(",\n");
+            json.append("  \"kioskId\": ").append(OutputType.json.quoteValue(cfg.kioskId)).append(",\n");
+            json.append("  \"screenAssetBudgetMb\": ").append(cfg.screenAssetBudgetMb).append("\n");
+            json.append("}");
+
+            // Write to a temp file and replace config.json so a crash never leaves a half-written config
+            Path target = Paths.get(FILE_NAME);
+            Path temp = Paths.get(FILE_NAME + ".tmp");
+            Files.write(temp, json.toString().getBytes(StandardCharsets.UTF_8));
+            try {
+                Files.move(temp, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            } catch (AtomicMoveNotSupportedException e) {
+                Files.move(temp, target, StandardCopyOption.REPLACE_EXISTING);
+            }
+            writtenVersion = version;
+            GameApp.log("Config saved to " + FILE_NAME);
+        }
+    }
 }
@@ -21,6 +21,15 @@ public class GameConfig {
     // All passive items and weapon at max level + evolved
     public boolean showcaseMode;
 
+    // Shared leaderboard directory for events with several kiosks ("" = local leaderboard only).
+    // e.g. "//eventserver/zombies/ranks" or "\\\\eventserver\\zombies\\ranks" in config.json
+    public String sharedLeaderboardDir;
+    // Name of this kiosk's segment in the shared directory ("" = computer name)
+    public String kioskId;
+
+    // Texture/font memory menu screens may keep loaded (MB); least recently visited screens are unloaded above it
+    public int screenAssetBudgetMb;
+
     public GameConfig() {}
 
     public static GameConfig createDefault() {
@@ -39,7 +48,29 @@ public class GameConfig {
         cfg.debugEnabled = false; // Debug disabled by default
         cfg.fullscreen = true; // Fullscreen enabled by default
         cfg.showcaseMode = false; // Showcase mode disabled by default
+        cfg.sharedLeaderboardDir = "";
+        cfg.kioskId = "";
+        cfg.screenAssetBudgetMb = 48;
+
+        return cfg;
+    }
 
+    public GameConfig copy() {
+        GameConfig cfg = new GameConfig();
+        cfg.masterVolume = masterVolume;
+        cfg.musicVolume = musicVolume;
+        cfg.sfxVolume = sfxVolume;
+        cfg.keyMoveUp = keyMoveUp;
+        cfg.keyMoveDown = keyMoveDown;
+        cfg.keyMoveLeft = keyMoveLeft;
+        cfg.keyMoveRight = keyMoveRight;
+        cfg.keyShoot = keyShoot;
+        cfg.debugEnabled = debugEnabled;
+        cfg.fullscreen = fullscreen;
+        cfg.showcaseMode = showcaseMode;
+        cfg.sharedLeaderboardDir = sharedLeaderboardDir;
+        cfg.kioskId = kioskId;
+        cfg.screenAssetBudgetMb = screenAssetBudgetMb;
         return cfg;
     }
 
@@ -47,5 +78,8 @@ public class GameConfig {
         masterVolume = GameApp.clamp(masterVolume, 0f, 1f);
         musicVolume = GameApp.clamp(musicVolume, 0f, 1f);
         sfxVolume = GameApp.clamp(sfxVolume, 0f, 1f);
+        sharedLeaderboardDir = sharedLeaderboardDir != null ? sharedLeaderboardDir.trim().replace('\\', '/') : "";
+        kioskId = kioskId != null ? kioskId.trim() : "";
+        screenAssetBudgetMb = Math.max(8, screenAssetBudgetMb);
     }
 }
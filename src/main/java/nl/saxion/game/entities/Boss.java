@@ -1,5 +1,10 @@
 package nl.saxion.game.entities;
 
+import nl.saxion.game.systems.AnimationClock;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+
 /**
  * MiniBoss entity - spawns at the end of each round (every 60 seconds)
  * Has hit animation when damaged for better visual feedback
@@ -29,6 +34,9 @@ public class Boss {
     // Death animation tracking
     private float deathAnimTimer = 0f;
     private static final float DEATH_ANIM_DURATION = 0.8f; // Duration before removal
+
+    // AnimationClock time when hit/death animation started
+    private float animationStartTime = 0f;
     
     // Knockback system (less than regular zombies - boss is tanky)
     private float knockbackX = 0f;
@@ -241,7 +249,10 @@ public class Boss {
 
         health -= damage;
         
-        // Trigger hit animation
+        // Trigger hit animation (restart only when entering hit state)
+        if (!isHit) {
+            animationStartTime = AnimationClock.now();
+        }
         isHit = true;
         hitTimer = HIT_DURATION;
 
@@ -250,6 +261,7 @@ public class Boss {
             isAlive = false;
             isDying = true;
             deathAnimTimer = 0f;
+            animationStartTime = AnimationClock.now();
         }
     }
     
@@ -257,6 +269,10 @@ public class Boss {
         return currentAnimation;
     }
 
+    public float getAnimationStartTime() {
+        return animationStartTime;
+    }
+
     public float getX() { return x; }
     public float getY() { return y; }
     public float getSize() { return size; }
@@ -320,4 +336,57 @@ public class Boss {
     public void applyKnockback(float bulletDirX, float bulletDirY) {
         applyKnockback(bulletDirX, bulletDirY, 1.0f);
     }
+
+    /**
+     * Write the run state of this boss (see GameSnapshot).
+     */
+    public void writeState(DataOutputStream out) throws IOException {
+        out.writeFloat(x);
+        out.writeFloat(y);
+        out.writeInt(health);
+        out.writeInt(maxHealth);
+        out.writeBoolean(isAlive);
+        out.writeBoolean(isDying);
+        out.writeFloat(speed);
+        out.writeFloat(size);
+        out.writeBoolean(isHit);
+        out.writeFloat(hitTimer);
+        out.writeFloat(deathAnimTimer);
+        // Stored as an age, the animation clock starts at 0 again after a restart
+        out.writeFloat(AnimationClock.now() - animationStartTime);
+        out.writeFloat(knockbackX);
+        out.writeFloat(knockbackY);
+        out.writeBoolean(facingRight);
+        out.writeByte(state.ordinal());
+        out.writeUTF(currentAnimation);
+        out.writeFloat(attackCooldown);
+        out.writeBoolean(rewardsGiven);
+    }
+
+    /**
+     * Create a boss from the state written by writeState().
+     */
+    public static Boss readState(DataInputStream in) throws IOException {
+        float x = in.readFloat();
+        float y = in.readFloat();
+        int health = in.readInt();
+        Boss boss = new Boss(x, y, in.readInt());
+        boss.health = health;
+        boss.isAlive = in.readBoolean();
+        boss.isDying = in.readBoolean();
+        boss.speed = in.readFloat();
+        boss.size = in.readFloat();
+        boss.isHit = in.readBoolean();
+        boss.hitTimer = in.readFloat();
+        boss.deathAnimTimer = in.readFloat();
+        boss.animationStartTime = AnimationClock.now() - in.readFloat();
+        boss.knockbackX = in.readFloat();
+        boss.knockbackY = in.readFloat();
+        boss.facingRight = in.readBoolean();
+        boss.state = BossState.values()[in.readByte()];
+        boss.currentAnimation = in.readUTF();
+        boss.attackCooldown = in.readFloat();
+        boss.rewardsGiven = in.readBoolean();
+        return boss;
+    }
 }
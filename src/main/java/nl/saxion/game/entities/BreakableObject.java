@@ -1,9 +1,14 @@
 package nl.saxion.game.entities;
 
 import nl.saxion.gameapp.GameApp;
+import nl.saxion.game.systems.AnimationClock;
+import nl.saxion.game.systems.RenderQueue;
 import com.badlogic.gdx.graphics.Color;
-import com.badlogic.gdx.graphics.g2d.SpriteBatch;
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
 import java.awt.Rectangle;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
 import java.util.ArrayList;
 import java.util.List;
 
@@ -30,24 +35,29 @@ public class BreakableObject {
 
         public final int row;           // Row for both idle and break animation
         public final String name;       // Animation name prefix
+        private final String idleAnimationName;
+        private final String breakAnimationName;
 
         ObjectType(int row, String name) {
             this.row = row;
             this.name = name;
+            // Build animation names once instead of every frame
+            this.idleAnimationName = name + "_idle";
+            this.breakAnimationName = name + "_break";
         }
 
         /**
          * Get idle animation name for this object type.
          */
         public String getIdleAnimationName() {
-            return name + "_idle";
+            return idleAnimationName;
         }
 
         /**
          * Get break animation name for this object type.
          */
         public String getBreakAnimationName() {
-            return name + "_break";
+            return breakAnimationName;
         }
 
         /**
@@ -87,6 +97,7 @@ public class BreakableObject {
     private boolean isBroken = false;
     private boolean isBreaking = false;
     private float breakAnimationTimer = 0f;
+    private float breakAnimationStartTime = 0f; // AnimationClock time when break animation started
     private static final float BREAK_ANIMATION_DURATION = 0.6f; // 4 frames x 0.15s
 
     // Hit flash effect - renders bright white when hit
@@ -215,10 +226,11 @@ public class BreakableObject {
     /**
      * Renders the object with animation at screen position relative to player.
      * Renders with bright flash effect when recently hit (draws sprite twice with additive effect).
+     * @param queue Render queue the sprite is submitted to
      * @param playerWorldX Player's X position in world coordinates
      * @param playerWorldY Player's Y position in world coordinates
      */
-    public void render(float playerWorldX, float playerWorldY) {
+    public void render(RenderQueue queue, float playerWorldX, float playerWorldY) {
         // Don't render if completely broken
         if (isBroken) return;
 
@@ -226,26 +238,21 @@ public class BreakableObject {
         float screenX = GameApp.getWorldWidth() / 2f + (x - playerWorldX);
         float screenY = GameApp.getWorldHeight() / 2f + (y - playerWorldY);
 
-        // Draw animation with flash effect
-        if (GameApp.hasAnimation(currentAnimation)) {
-            // Normal rendering first
-            GameApp.drawAnimation(currentAnimation, screenX, screenY, RENDER_SIZE, RENDER_SIZE);
-            
+        // Draw animation with flash effect (frame picked from the global animation clock)
+        TextureRegion frame = AnimationClock.getFrame(currentAnimation, breakAnimationStartTime);
+        if (frame != null) {
+            queue.addRegion(RenderQueue.LAYER_ACTORS, screenY, frame, screenX, screenY, RENDER_SIZE, RENDER_SIZE, false);
             if (isFlashing) {
                 // Flash effect: draw sprite again with bright tint to create white flash
-                SpriteBatch batch = GameApp.getSpriteBatch();
-                Color oldColor = batch.getColor().cpy(); // Save current color
                 // Use bright color (values > 1 create overbright/white effect)
-                batch.setColor(3f, 3f, 3f, 1f);
-                GameApp.drawAnimation(currentAnimation, screenX, screenY, RENDER_SIZE, RENDER_SIZE);
-                batch.setColor(oldColor); // Restore original color
+                queue.addRegion(RenderQueue.LAYER_ACTORS, screenY, frame, screenX, screenY, RENDER_SIZE, RENDER_SIZE, false,
+                        3f, 3f, 3f, 1f);
             }
         } else {
             // Fallback: use barrel animation if specific type not loaded
             String fallbackAnim = isBreaking ? "barrel_break" : "barrel_idle";
-            if (GameApp.hasAnimation(fallbackAnim)) {
-                GameApp.drawAnimation(fallbackAnim, screenX, screenY, RENDER_SIZE, RENDER_SIZE);
-            } else {
+            if (!queue.addClip(RenderQueue.LAYER_ACTORS, screenY, fallbackAnim, breakAnimationStartTime,
+                    screenX, screenY, RENDER_SIZE, RENDER_SIZE, false)) {
                 // Last resort: draw colored rectangle
                 GameApp.log("Warning: Animation '" + currentAnimation + "' not found for BreakableObject");
             }
@@ -270,6 +277,21 @@ public class BreakableObject {
         }
     }
 
+    /**
+     * Queues hit particles as tinted quads (drawn in the sprite pass).
+     * @param queue Render queue (must support rects, see RenderQueue.canDrawRects)
+     * @param playerWorldX Player's X position in world coordinates
+     * @param playerWorldY Player's Y position in world coordinates
+     */
+    public void queueParticles(RenderQueue queue, float playerWorldX, float playerWorldY) {
+        for (HitParticle p : hitParticles) {
+            float screenX = GameApp.getWorldWidth() / 2f + (p.x - playerWorldX);
+            float screenY = GameApp.getWorldHeight() / 2f + (p.y - playerWorldY);
+            queue.addRect(RenderQueue.LAYER_EFFECTS, screenY, screenX - p.size/2, screenY - p.size/2, p.size, p.size,
+                    p.color.r, p.color.g, p.color.b, p.color.a);
+        }
+    }
+
     /**
      * Called when hit by a bullet - reduces health and triggers flash effect.
      * Starts break animation when health reaches 0.
@@ -312,10 +334,8 @@ public class BreakableObject {
         breakAnimationTimer = 0f;
         currentAnimation = objectType.getBreakAnimationName();
 
-        // Reset animation to play from start
-        if (GameApp.hasAnimation(currentAnimation)) {
-            GameApp.resetAnimation(currentAnimation);
-        }
+        // Restart animation from the first frame
+        breakAnimationStartTime = AnimationClock.now();
     }
 
     /**
@@ -419,4 +439,42 @@ public class BreakableObject {
     public int getMaxHealth() {
         return maxHealth;
     }
+
+    /**
+     * Write the run state of this object (see GameSnapshot). Hit particles are not saved.
+     */
+    public void writeState(DataOutputStream out) throws IOException {
+        out.writeFloat(x);
+        out.writeFloat(y);
+        out.writeByte(objectType.ordinal());
+        out.writeByte(health);
+        out.writeByte(maxHealth);
+        out.writeBoolean(isBroken);
+        out.writeBoolean(isBreaking);
+        out.writeFloat(breakAnimationTimer);
+        // Stored as an age, the animation clock starts at 0 again after a restart
+        out.writeFloat(AnimationClock.now() - breakAnimationStartTime);
+        out.writeBoolean(isFlashing);
+        out.writeFloat(flashTimer);
+        out.writeUTF(currentAnimation);
+    }
+
+    /**
+     * Create an object from the state written by writeState().
+     */
+    public static BreakableObject readState(DataInputStream in) throws IOException {
+        float x = in.readFloat();
+        float y = in.readFloat();
+        BreakableObject object = new BreakableObject(x, y, ObjectType.values()[in.readByte()]);
+        object.health = in.readByte();
+        object.maxHealth = in.readByte();
+        object.isBroken = in.readBoolean();
+        object.isBreaking = in.readBoolean();
+        object.breakAnimationTimer = in.readFloat();
+        object.breakAnimationStartTime = AnimationClock.now() - in.readFloat();
+        object.isFlashing = in.readBoolean();
+        object.flashTimer = in.readFloat();
+        object.currentAnimation = in.readUTF();
+        return object;
+    }
 }
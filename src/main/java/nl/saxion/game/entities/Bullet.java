@@ -1,6 +1,7 @@
 package nl.saxion.game.entities;
 
 import nl.saxion.gameapp.GameApp;
+import nl.saxion.game.systems.AnimationClock;
 import java.awt.Rectangle;
 import java.util.HashSet;
 import java.util.Set;
@@ -115,9 +116,9 @@ public class Bullet {
             // Evolved bullets have a purple/pink tint
             // GameApp doesn't have direct tint support, so we draw normally
             // Could use different sprite later
-            GameApp.drawTexture(textureKey, x, y, width * 1.2f, height * 1.2f);
+            AnimationClock.draw(textureKey, 0f, x, y, width * 1.2f, height * 1.2f, false);
         } else {
-            GameApp.drawTexture(textureKey, x, y, width, height);
+            AnimationClock.draw(textureKey, 0f, x, y, width, height, false);
         }
     }
 
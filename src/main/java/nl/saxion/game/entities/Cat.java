@@ -1,5 +1,6 @@
 package nl.saxion.game.entities;
 
+import nl.saxion.game.systems.RenderQueue;
 import nl.saxion.gameapp.GameApp;
 
 /**
@@ -151,14 +152,16 @@ public class Cat {
     }
     
     /**
-     * Render cat tại vị trí screen (đã tính offset từ player)
+     * Render cat tại vị trí screen (đã tính offset từ player) - submitted to the render queue
      */
-    public void render(float screenX, float screenY) {
+    public void render(RenderQueue queue, float screenX, float screenY) {
         if (GameApp.hasSpritesheet("zombie_cats_sheet")) {
             int currentColumn = getCurrentFrameColumn();
             
             // Render với kích thước nhỏ hơn một chút
-            GameApp.drawSpritesheetFrame(
+            queue.addSheetFrame(
+                RenderQueue.LAYER_GROUND,
+                screenY,
                 "zombie_cats_sheet",
                 catType,        // row (0-12)
                 currentColumn,  // col (0 đến maxColumns-1, tự động loop)
@@ -13,6 +13,10 @@ public class DamageText {
     public boolean isCrit;
     public boolean isActive;
 
+    // Aggregation: target this text collects hits for, and time since first hit
+    public Object target;
+    public float aggregateTime;
+
     // Crit shake effect
     private float shakeTimer = 0f;
     private float shakeOffsetX = 0f;
@@ -34,6 +38,8 @@ public class DamageText {
         isActive = false;
         shakeTimer = 0f;
         shakeOffsetX = 0f;
+        target = null;
+        aggregateTime = 0f;
     }
 
     public void activate(int damage, float enemyX, float enemyY, boolean crit) {
@@ -50,12 +56,28 @@ public class DamageText {
         this.isActive = true;
         this.shakeTimer = 0f;
         this.shakeOffsetX = 0f;
+        this.target = null;
+        this.aggregateTime = 0f;
+    }
+
+    // Add another hit on the same target: sum damage, promote to crit, pop again
+    public void addHit(int damage, boolean crit) {
+        this.value += damage;
+        if (crit && !isCrit) {
+            this.isCrit = true;
+            this.shakeTimer = 0f;
+        }
+        this.scale = isCrit ? 1.4f : 1.2f;
+        this.alpha = 1.0f;
+        this.velocityY = Math.max(velocityY, 20f);
+        this.lifeTime = 0f;
     }
 
     public void update(float delta) {
         if (!isActive) return;
 
         lifeTime += delta;
+        aggregateTime += delta;
 
         // Move up
         y += velocityY * delta;
@@ -1,8 +1,12 @@
 package nl.saxion.game.entities;
 
 import nl.saxion.gameapp.GameApp;
+import nl.saxion.game.systems.AnimationClock;
 import nl.saxion.game.utils.CollisionChecker;
 import java.awt.Rectangle;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
 
 public class Enemy {
 
@@ -58,6 +62,7 @@ public class Enemy {
     private boolean isDying = false;
     private float deathAnimationTimer = 0f;
     private float hitAnimationTimer = 0f;
+    private float animationStartTime = 0f; // AnimationClock time when hit/death animation started
     private static final float HIT_ANIMATION_DURATION = 0.3f;
     private static final float DEATH_ANIMATION_DURATION = 1.5f;
 
@@ -370,17 +375,17 @@ public class Enemy {
             currentAnimation = deathAnim;
             deathAnimationTimer += delta;
 
-            // Reset animation when first entering death state
-            if (!previousAnimation.equals(deathAnim) && GameApp.hasAnimation(deathAnim)) {
-                GameApp.resetAnimation(deathAnim);
+            // Restart animation when first entering death state
+            if (!previousAnimation.equals(deathAnim)) {
+                animationStartTime = AnimationClock.now();
             }
         } else if (hitAnimationTimer > 0f) {
             currentAnimation = hitAnim;
             hitAnimationTimer -= delta;
 
-            // Reset animation when first entering hit state
-            if (!previousAnimation.equals(hitAnim) && GameApp.hasAnimation(hitAnim)) {
-                GameApp.resetAnimation(hitAnim);
+            // Restart animation when first entering hit state
+            if (!previousAnimation.equals(hitAnim)) {
+                animationStartTime = AnimationClock.now();
             }
 
             if (hitAnimationTimer <= 0f) {
@@ -395,15 +400,15 @@ public class Enemy {
         String animToRender = currentAnimation;
         
         // Fallback: if hit animation doesn't exist, use run animation instead
-        if (currentAnimation.endsWith("_hit") && !GameApp.hasAnimation(currentAnimation)) {
+        if (currentAnimation.endsWith("_hit") && !AnimationClock.hasClip(currentAnimation)) {
             animToRender = getAnimationName("run");
         }
         
-        if (GameApp.hasAnimation(animToRender)) {
-            GameApp.drawAnimation(animToRender, x, y, SPRITE_SIZE, SPRITE_SIZE);
-        } else {
-            GameApp.drawTexture("enemy", x, y, SPRITE_SIZE, SPRITE_SIZE);
-        }
+        AnimationClock.draw(animToRender, animationStartTime, x, y, SPRITE_SIZE, SPRITE_SIZE, false);
+    }
+
+    public float getAnimationStartTime() {
+        return animationStartTime;
     }
 
     public String getCurrentAnimation() {
@@ -472,9 +477,9 @@ public class Enemy {
             return true;
         }
 
-        // Check by GameApp API (if animation is finished)
+        // Check by animation clock (if this enemy's death animation is finished)
         String deathAnim = getAnimationName("death");
-        if (GameApp.hasAnimation(deathAnim) && GameApp.isAnimationFinished(deathAnim)) {
+        if (AnimationClock.isFinished(deathAnim, animationStartTime)) {
             return deathAnimationTimer >= 0.3f;
         }
 
@@ -539,6 +544,7 @@ public class Enemy {
         this.isDying = false;
         this.deathAnimationTimer = 0f;
         this.hitAnimationTimer = 0f;
+        this.animationStartTime = 0f;
         this.knockbackX = 0f;
         this.knockbackY = 0f;
         this.facingRight = true;
@@ -565,4 +571,58 @@ public class Enemy {
         this.damageHitBox.x = (int) (x + DAMAGE_OFFSET_X);
         this.damageHitBox.y = (int) (y + DAMAGE_OFFSET_Y);
     }
+
+    /**
+     * Write the run state of this enemy (see GameSnapshot).
+     */
+    public void writeState(DataOutputStream out) throws IOException {
+        out.writeFloat(x);
+        out.writeFloat(y);
+        out.writeFloat(speed);
+        out.writeInt(health);
+        out.writeInt(maxHealth);
+        out.writeByte(zombieType);
+        out.writeFloat(knockbackX);
+        out.writeFloat(knockbackY);
+        out.writeBoolean(isActive);
+        out.writeBoolean(isVisible);
+        out.writeUTF(currentAnimation);
+        out.writeBoolean(isDying);
+        out.writeFloat(deathAnimationTimer);
+        out.writeFloat(hitAnimationTimer);
+        // Stored as an age, the animation clock starts at 0 again after a restart
+        out.writeFloat(AnimationClock.now() - animationStartTime);
+        out.writeBoolean(facingRight);
+        out.writeByte(aiBehavior.ordinal());
+        out.writeFloat(flankTimer);
+        out.writeFloat(flankAngle);
+    }
+
+    /**
+     * Create an enemy from the state written by writeState().
+     */
+    public static Enemy readState(DataInputStream in) throws IOException {
+        float x = in.readFloat();
+        float y = in.readFloat();
+        float speed = in.readFloat();
+        int health = in.readInt();
+        int maxHealth = in.readInt();
+        Enemy enemy = new Enemy(x, y, speed, maxHealth, in.readByte());
+        enemy.health = health;
+        enemy.knockbackX = in.readFloat();
+        enemy.knockbackY = in.readFloat();
+        enemy.isActive = in.readBoolean();
+        enemy.isVisible = in.readBoolean();
+        enemy.currentAnimation = in.readUTF();
+        enemy.previousAnimation = enemy.currentAnimation;
+        enemy.isDying = in.readBoolean();
+        enemy.deathAnimationTimer = in.readFloat();
+        enemy.hitAnimationTimer = in.readFloat();
+        enemy.animationStartTime = AnimationClock.now() - in.readFloat();
+        enemy.facingRight = in.readBoolean();
+        enemy.aiBehavior = AIBehavior.values()[in.readByte()];
+        enemy.flankTimer = in.readFloat();
+        enemy.flankAngle = in.readFloat();
+        return enemy;
+    }
 }
@@ -1,6 +1,10 @@
 package nl.saxion.game.entities;
 
+import nl.saxion.game.systems.RenderQueue;
 import nl.saxion.gameapp.GameApp;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
 
 /**
  * Healing item (chicken) that drops from breakable objects.
@@ -85,11 +89,12 @@ public class HealingItem {
 
     /**
      * Renders the healing item (chicken texture) with pulsing animation.
-     * Requires sprite rendering to be active.
+     * The sprite is submitted to the render queue.
+     * @param queue Render queue
      * @param playerWorldX Player's world X position
      * @param playerWorldY Player's world Y position
      */
-    public void render(float playerWorldX, float playerWorldY) {
+    public void render(RenderQueue queue, float playerWorldX, float playerWorldY) {
         if (collected) return;
 
         float screenX = GameApp.getWorldWidth() / 2f + (x - playerWorldX);
@@ -100,15 +105,11 @@ public class HealingItem {
         float size = BASE_SIZE + (PULSE_MAX_SIZE - PULSE_MIN_SIZE) * 0.5f * (pulse + 1f) * 0.3f;
 
         // Draw chicken texture with pulsing effect
-        if (GameApp.hasTexture("chicken_item")) {
-            GameApp.drawTexture("chicken_item", 
+        if (GameApp.hasTexture("chicken")) {
+            queue.addTexture(RenderQueue.LAYER_PICKUPS, screenY - size / 2, "chicken",
                 screenX - size / 2, 
                 screenY - size / 2, 
                 size, size);
-        } else {
-            // Fallback: draw a red circle with cross (health symbol)
-            GameApp.setColor(255, 100, 100, 255);
-            GameApp.drawCircle(screenX, screenY, size / 2);
         }
     }
 
@@ -161,4 +162,33 @@ public class HealingItem {
     public float getY() {
         return y;
     }
+
+    /**
+     * Write the run state of this item (see GameSnapshot).
+     */
+    public void writeState(DataOutputStream out) throws IOException {
+        out.writeFloat(x);
+        out.writeFloat(y);
+        out.writeInt(healAmount);
+        out.writeFloat(lifetime);
+        out.writeBoolean(collected);
+        out.writeFloat(baseMagnetRange);
+        out.writeFloat(magnetSpeed);
+        out.writeFloat(animationTimer);
+    }
+
+    /**
+     * Create an item from the state written by writeState().
+     */
+    public static HealingItem readState(DataInputStream in) throws IOException {
+        float x = in.readFloat();
+        float y = in.readFloat();
+        HealingItem item = new HealingItem(x, y, in.readInt());
+        item.lifetime = in.readFloat();
+        item.collected = in.readBoolean();
+        item.baseMagnetRange = in.readFloat();
+        item.magnetSpeed = in.readFloat();
+        item.animationTimer = in.readFloat();
+        return item;
+    }
 }
@@ -2,11 +2,16 @@ package nl.saxion.game.entities;
 
 
 import nl.saxion.gameapp.GameApp;
+import nl.saxion.game.systems.AnimationClock;
 import nl.saxion.game.systems.InputController;
+import nl.saxion.game.systems.RenderQueue;
 import nl.saxion.game.utils.CollisionChecker;
 import com.badlogic.gdx.graphics.Color;
 import java.awt.Image;
 import java.awt.Rectangle;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
@@ -115,6 +120,7 @@ public class Player {
     // Animation
     private AnimationState animationState = AnimationState.IDLE;
     private float hitAnimationTimer = 0f;
+    private float animationStartTime = 0f; // AnimationClock time when hit/death animation started
     private boolean facingRight = true;
     private static final float HIT_ANIMATION_DURATION = 0.3f;
 
@@ -459,11 +465,11 @@ public class Player {
         if (health <= 0) {
             // Start death sequence
             isDying = true;
-            GameApp.resetAnimation("player_death");
+            animationStartTime = AnimationClock.now();
         } else {
-            // Trigger hit animation and reset to first frame
+            // Trigger hit animation and restart it from the first frame
             hitAnimationTimer = HIT_ANIMATION_DURATION;
-            GameApp.resetAnimation("player_hit");
+            animationStartTime = AnimationClock.now();
         }
     }
 
@@ -520,6 +526,26 @@ public class Player {
         GameApp.endShapeRendering();
     }
     
+    // Queue blood particles as tinted quads (sprite pass instead of a shape pass)
+    public void queueBloodParticles(RenderQueue queue, float playerWorldX, float playerWorldY) {
+        if (bloodParticles.isEmpty()) return;
+
+        float screenCenterX = GameApp.getWorldWidth() / 2f;
+        float screenCenterY = GameApp.getWorldHeight() / 2f;
+
+        for (BloodParticle p : bloodParticles) {
+            float alpha = Math.max(0f, Math.min(1f, p.color.a));
+
+            // Skip nearly invisible particles
+            if (alpha < 5f / 255f) continue;
+
+            float screenX = screenCenterX + (p.x - playerWorldX);
+            float screenY = screenCenterY + (p.y - playerWorldY);
+            queue.addRect(RenderQueue.LAYER_EFFECTS, screenY, screenX - p.size/2, screenY - p.size/2, p.size, p.size,
+                    p.color.r, p.color.g, p.color.b, alpha);
+        }
+    }
+
     public void heal(int amount) {
         int oldHealth = health;
         health += amount;
@@ -553,7 +579,7 @@ public class Player {
     // Check if death animation has finished playing
     public boolean isDeathAnimationFinished() {
         if (!isDying) return false;
-        return GameApp.isAnimationFinished("player_death");
+        return AnimationClock.isFinished("player_death", animationStartTime);
     }
 
     // Get current animation key for rendering
@@ -573,6 +599,11 @@ public class Player {
         }
     }
 
+    // Get AnimationClock start time of the current hit/death animation
+    public float getAnimationStartTime() {
+        return animationStartTime;
+    }
+
     // Get facing direction for sprite flipping
     public boolean isFacingRight() {
         return facingRight;
@@ -596,7 +627,7 @@ public class Player {
     // Render (now uses animations)
     public void render() {
         String animKey = getCurrentAnimation();
-        GameApp.drawAnimation(animKey, worldX, worldY, SPRITE_SIZE, SPRITE_SIZE);
+        AnimationClock.draw(animKey, animationStartTime, worldX, worldY, SPRITE_SIZE, SPRITE_SIZE, false);
     }
 
     // Helper: Binary search X to find closest safe position
@@ -968,4 +999,98 @@ public class Player {
         
         return available;
     }
+
+    // ===== RUN SNAPSHOT =====
+
+    /**
+     * Write the run state of the player (see GameSnapshot).
+     */
+    public void writeState(DataOutputStream out) throws IOException {
+        out.writeFloat(worldX);
+        out.writeFloat(worldY);
+        out.writeInt(currentLevel);
+        out.writeInt(currentXP);
+        out.writeInt(xpToNextLevel);
+        out.writeFloat(xpMagnetRange);
+        out.writeFloat(damageMultiplier);
+        out.writeByte(healthRegenLevel);
+        out.writeByte(maxHealthLevel);
+        out.writeByte(damageLevel);
+        out.writeByte(speedLevel);
+        out.writeByte(xpMagnetLevel);
+
+        out.writeByte(passiveItems.size());
+        for (PassiveItem item : passiveItems.values()) {
+            out.writeByte(item.getType().ordinal());
+            out.writeByte(item.getLevel());
+        }
+
+        out.writeFloat(healthRegenAccumulator);
+        out.writeFloat(healthRegenUpdateTimer);
+        out.writeFloat(damageReductionMultiplier);
+        out.writeFloat(baseSpeed);
+        out.writeInt(baseMaxHealth);
+        out.writeFloat(speed);
+        out.writeInt(health);
+        out.writeInt(maxHealth);
+
+        out.writeByte(animationState.ordinal());
+        out.writeFloat(hitAnimationTimer);
+        // Animation start is stored as an age, the animation clock starts at 0 again after a restart
+        out.writeFloat(AnimationClock.now() - animationStartTime);
+        out.writeBoolean(facingRight);
+        out.writeBoolean(isDying);
+        out.writeFloat(targetShootDirX);
+        out.writeFloat(targetShootDirY);
+        out.writeFloat(smoothShootDirX);
+        out.writeFloat(smoothShootDirY);
+    }
+
+    /**
+     * Restore the run state written by writeState().
+     */
+    public void readState(DataInputStream in) throws IOException {
+        float x = in.readFloat();
+        float y = in.readFloat();
+        currentLevel = in.readInt();
+        currentXP = in.readInt();
+        xpToNextLevel = in.readInt();
+        xpMagnetRange = in.readFloat();
+        damageMultiplier = in.readFloat();
+        healthRegenLevel = in.readByte();
+        maxHealthLevel = in.readByte();
+        damageLevel = in.readByte();
+        speedLevel = in.readByte();
+        xpMagnetLevel = in.readByte();
+
+        passiveItems.clear();
+        int itemCount = in.readByte();
+        PassiveItemType[] types = PassiveItemType.values();
+        for (int i = 0; i < itemCount; i++) {
+            PassiveItemType type = types[in.readByte()];
+            passiveItems.put(type, new PassiveItem(type, in.readByte()));
+        }
+
+        healthRegenAccumulator = in.readFloat();
+        healthRegenUpdateTimer = in.readFloat();
+        damageReductionMultiplier = in.readFloat();
+        baseSpeed = in.readFloat();
+        baseMaxHealth = in.readInt();
+        speed = in.readFloat();
+        health = in.readInt();
+        maxHealth = in.readInt();
+
+        animationState = AnimationState.values()[in.readByte()];
+        hitAnimationTimer = in.readFloat();
+        animationStartTime = AnimationClock.now() - in.readFloat();
+        facingRight = in.readBoolean();
+        isDying = in.readBoolean();
+        targetShootDirX = in.readFloat();
+        targetShootDirY = in.readFloat();
+        smoothShootDirX = in.readFloat();
+        smoothShootDirY = in.readFloat();
+
+        bloodParticles.clear();
+        setPosition(x, y);
+    }
 }
@@ -1,8 +1,13 @@
 package nl.saxion.game.entities;
 
+import nl.saxion.game.systems.AnimationClock;
+import nl.saxion.game.systems.RenderQueue;
 import nl.saxion.gameapp.GameApp;
 
 import java.awt.Rectangle;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
 
 /**
  * TreasureChest entity - spawns when MiniBoss is killed
@@ -107,11 +112,12 @@ public class TreasureChest {
      * - OPENING: open1 -> open2 (plays once)
      * - OPENED: shows open2 (stays on final frame)
      * 
-     * NOTE: Must be called within GameApp.startSpriteRendering() / endSpriteRendering() block
+     * The sprite is submitted to the render queue (drawn when the queue is flushed)
+     * @param queue Render queue
      * @param playerWorldX Player world X for camera offset
      * @param playerWorldY Player world Y for camera offset
      */
-    public void render(float playerWorldX, float playerWorldY) {
+    public void render(RenderQueue queue, float playerWorldX, float playerWorldY) {
         // Don't render collected chests
         if (state == ChestState.COLLECTED) {
             return;
@@ -137,13 +143,11 @@ public class TreasureChest {
         String textureKey = getTextureKeyForCurrentState();
         
         // Render the texture if it exists
-        if (textureKey != null && GameApp.hasTexture(textureKey)) {
-            GameApp.drawTexture(textureKey, screenX, screenY, SPRITE_SIZE, SPRITE_SIZE);
-        } else {
-            // Fallback: try to render any available texture
-            if (GameApp.hasTexture("chest_shiny_1")) {
-                GameApp.drawTexture("chest_shiny_1", screenX, screenY, SPRITE_SIZE, SPRITE_SIZE);
-            }
+        if (textureKey == null || !queue.addClip(RenderQueue.LAYER_ACTORS, screenY, textureKey, 0f,
+                screenX, screenY, SPRITE_SIZE, SPRITE_SIZE, false)) {
+            // Fallback: try to render any available frame
+            queue.addClip(RenderQueue.LAYER_ACTORS, screenY, "chest_shiny_1", 0f,
+                    screenX, screenY, SPRITE_SIZE, SPRITE_SIZE, false);
         }
     }
     
@@ -223,4 +227,32 @@ public class TreasureChest {
             (int)SPRITE_SIZE
         );
     }
+
+    /**
+     * Write the run state of this chest (see GameSnapshot).
+     */
+    public void writeState(DataOutputStream out) throws IOException {
+        out.writeFloat(x);
+        out.writeFloat(y);
+        out.writeByte(state.ordinal());
+        out.writeFloat(animTimer);
+        out.writeByte(currentShinyFrame);
+        out.writeByte(currentOpenFrame);
+        out.writeBoolean(gachaTriggered);
+    }
+
+    /**
+     * Create a chest from the state written by writeState().
+     */
+    public static TreasureChest readState(DataInputStream in) throws IOException {
+        float x = in.readFloat();
+        float y = in.readFloat();
+        TreasureChest chest = new TreasureChest(x, y);
+        chest.state = ChestState.values()[in.readByte()];
+        chest.animTimer = in.readFloat();
+        chest.currentShinyFrame = in.readByte();
+        chest.currentOpenFrame = in.readByte();
+        chest.gachaTriggered = in.readBoolean();
+        return chest;
+    }
 }
@@ -1,6 +1,9 @@
 package nl.saxion.game.entities;
 
 import nl.saxion.gameapp.GameApp;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
 import java.util.ArrayList;
 import java.util.List;
 
@@ -545,4 +548,38 @@ public class Weapon {
         }
         return "orange-500";
     }
+
+    /**
+     * Write the run state of the weapon: level, evolution and cooldowns (see GameSnapshot).
+     */
+    public void writeState(DataOutputStream out) throws IOException {
+        out.writeByte(type.ordinal());
+        out.writeFloat(baseFireRate);
+        out.writeFloat(fireCooldown);
+        out.writeInt(baseMinDamage);
+        out.writeInt(baseMaxDamage);
+        out.writeFloat(bulletSpeed);
+        out.writeFloat(bulletWidth);
+        out.writeFloat(bulletHeight);
+        out.writeByte(level);
+        out.writeBoolean(isEvolved);
+        out.writeFloat(evolvedRotationAngle);
+    }
+
+    /**
+     * Restore the run state written by writeState().
+     */
+    public void readState(DataInputStream in) throws IOException {
+        type = WeaponType.values()[in.readByte()];
+        baseFireRate = in.readFloat();
+        fireCooldown = in.readFloat();
+        baseMinDamage = in.readInt();
+        baseMaxDamage = in.readInt();
+        bulletSpeed = in.readFloat();
+        bulletWidth = in.readFloat();
+        bulletHeight = in.readFloat();
+        level = in.readByte();
+        isEvolved = in.readBoolean();
+        evolvedRotationAngle = in.readFloat();
+    }
 }
@@ -1,6 +1,10 @@
 package nl.saxion.game.entities;
 
+import nl.saxion.game.systems.RenderQueue;
 import nl.saxion.gameapp.GameApp;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
 
 public class XPOrb {
 
@@ -61,21 +65,16 @@ public class XPOrb {
         }
     }
 
-    // Render with texture - static, no animation (requires sprite rendering to be active)
-    public void renderWithTexture(float playerWorldX, float playerWorldY) {
+    // Render with texture - static, no animation (submitted to the render queue)
+    public void renderWithTexture(RenderQueue queue, float playerWorldX, float playerWorldY) {
         if (collected) return;
         
         float screenX = GameApp.getWorldWidth() / 2f + (x - playerWorldX);
         float screenY = GameApp.getWorldHeight() / 2f + (y - playerWorldY);
         
         // Draw orb texture based on type (static size, no pulsing)
-        String textureName = orbType.getTextureName();
-        if (GameApp.hasTexture(textureName)) {
-            GameApp.drawTexture(textureName, screenX - ORB_SIZE/2, screenY - ORB_SIZE/2, ORB_SIZE, ORB_SIZE);
-        } else {
-            // Fallback to circle if texture not loaded
-            renderWithCircle(playerWorldX, playerWorldY);
-        }
+        queue.addClip(RenderQueue.LAYER_PICKUPS, screenY - ORB_SIZE/2, orbType.getTextureName(), 0f,
+                screenX - ORB_SIZE/2, screenY - ORB_SIZE/2, ORB_SIZE, ORB_SIZE, false);
     }
 
     // Render with circle fallback - static, no animation (requires shape rendering to be active)
@@ -117,4 +116,31 @@ public class XPOrb {
         this.xpValue = orbType.getXpValue();
         this.collected = false;
     }
+
+    /**
+     * Write the run state of this orb (see GameSnapshot).
+     */
+    public void writeState(DataOutputStream out) throws IOException {
+        out.writeFloat(x);
+        out.writeFloat(y);
+        out.writeByte(orbType.ordinal());
+        out.writeInt(xpValue);
+        out.writeBoolean(collected);
+        out.writeFloat(baseMagnetRange);
+        out.writeFloat(magnetSpeed);
+    }
+
+    /**
+     * Create an orb from the state written by writeState().
+     */
+    public static XPOrb readState(DataInputStream in) throws IOException {
+        float x = in.readFloat();
+        float y = in.readFloat();
+        XPOrb orb = new XPOrb(x, y, OrbType.values()[in.readByte()]);
+        orb.xpValue = in.readInt();
+        orb.collected = in.readBoolean();
+        orb.baseMagnetRange = in.readFloat();
+        orb.magnetSpeed = in.readFloat();
+        return orb;
+    }
 }
@@ -1,5 +1,6 @@
 package nl.saxion.game.entities;
 
+import nl.saxion.game.systems.RenderQueue;
 import nl.saxion.gameapp.GameApp;
 
 /**
@@ -150,14 +151,16 @@ public class ZombieHand {
     }
     
     /**
-     * Render zombie hand tại vị trí screen (đã tính offset từ player)
+     * Render zombie hand tại vị trí screen (đã tính offset từ player) - submitted to the render queue
      */
-    public void render(float screenX, float screenY) {
+    public void render(RenderQueue queue, float screenX, float screenY) {
         if (GameApp.hasSpritesheet("zombie_hand_sheet")) {
             int currentColumn = getCurrentFrameColumn();
             
             // Render với kích thước nhỏ hơn một chút
-            GameApp.drawSpritesheetFrame(
+            queue.addSheetFrame(
+                RenderQueue.LAYER_GROUND,
+                screenY,
                 "zombie_hand_sheet",
                 0,              // row (chỉ có 1 hàng)
                 currentColumn,  // col (0 đến 24, tự động loop)
@@ -3,9 +3,10 @@ package nl.saxion.game.screens;
 import com.badlogic.gdx.Gdx;
 import com.badlogic.gdx.Input;
 import com.badlogic.gdx.graphics.Cursor;
-import com.badlogic.gdx.graphics.Pixmap;
 import nl.saxion.game.config.ConfigManager;
 import nl.saxion.game.config.GameConfig;
+import nl.saxion.game.systems.CursorCache;
+import nl.saxion.game.systems.FontRegistry;
 import nl.saxion.game.systems.SoundManager;
 import nl.saxion.game.ui.Button;
 import nl.saxion.gameapp.GameApp;
@@ -122,37 +123,10 @@ public class CreditsScreen extends ScalableGameScreen {
     }
 
     private void loadCursors() {
-        try {
-            String pointerPath = "assets/ui/pointer.png";
-            Pixmap pointerSource = new Pixmap(Gdx.files.internal(pointerPath));
-            int targetSize = 32;
-            Pixmap pointerPixmap = new Pixmap(targetSize, targetSize, pointerSource.getFormat());
-            pointerPixmap.drawPixmap(pointerSource,
-                    0, 0, pointerSource.getWidth(), pointerSource.getHeight(),
-                    0, 0, targetSize, targetSize);
-            cursorPointer = Gdx.graphics.newCursor(pointerPixmap, 0, 0);
-            pointerPixmap.dispose();
-            pointerSource.dispose();
-
-            String cursorPath = "assets/ui/cursor.png";
-            Pixmap cursorSource = new Pixmap(Gdx.files.internal(cursorPath));
-            Pixmap cursorPixmap = new Pixmap(targetSize, targetSize, cursorSource.getFormat());
-            cursorPixmap.drawPixmap(cursorSource,
-                    0, 0, cursorSource.getWidth(), cursorSource.getHeight(),
-                    0, 0, targetSize, targetSize);
-            cursorHover = Gdx.graphics.newCursor(cursorPixmap, 0, 0);
-            cursorPixmap.dispose();
-            cursorSource.dispose();
-
-            if (cursorPointer != null) {
-                Gdx.graphics.setCursor(cursorPointer);
-            } else {
-                GameApp.showCursor();
-            }
-        } catch (Exception e) {
-            GameApp.log("Failed to load cursors: " + e.getMessage());
-            GameApp.showCursor();
-        }
+        // Shared cursors, built once per session
+        cursorPointer = CursorCache.getPointer();
+        cursorHover = CursorCache.getHover();
+        CursorCache.showPointer();
     }
 
     private void loadResources() {
@@ -174,35 +148,10 @@ public class CreditsScreen extends ScalableGameScreen {
             GameApp.addTexture("saxion_logo", "assets/ui/saxion.png");
         }
 
-        // Fonts - Professional hierarchy
-        if (!GameApp.hasFont("creditsGameTitle")) {
-            GameApp.addStyledFont("creditsGameTitle", "fonts/upheavtt.ttf", 56,
-                    "yellow-400", 0f, "black", 4, 4, "gray-700", true);
-        }
-        if (!GameApp.hasFont("creditsSectionTitle")) {
-            GameApp.addStyledFont("creditsSectionTitle", "fonts/upheavtt.ttf", 28,
-                    "yellow-300", 0f, "black", 2, 2, "gray-700", true);
-        }
-        if (!GameApp.hasFont("creditsRole")) {
-            GameApp.addStyledFont("creditsRole", "fonts/PixelOperatorMono-Bold.ttf", 16,
-                    "gray-400", 0f, "black", 1, 1, "gray-700", true);
-        }
-        if (!GameApp.hasFont("creditsName")) {
-            GameApp.addStyledFont("creditsName", "fonts/PressStart2P-Regular.ttf", 18,
-                    "white", 0f, "black", 1, 1, "gray-700", true);
-        }
-        if (!GameApp.hasFont("creditsSmall")) {
-            GameApp.addStyledFont("creditsSmall", "fonts/PixelOperatorMono-Bold.ttf", 18,
-                    "gray-400", 0f, "black", 1, 1, "gray-700", true);
-        }
-        if (!GameApp.hasFont("creditsSpecial")) {
-            GameApp.addStyledFont("creditsSpecial", "fonts/upheavtt.ttf", 22,
-                    "cyan-400", 0f, "black", 2, 2, "gray-700", true);
-        }
-        if (!GameApp.hasFont("buttonFont")) {
-            GameApp.addStyledFont("buttonFont", "fonts/upheavtt.ttf", 40,
-                    "white", 0f, "black", 2, 2, "gray-700", true);
-        }
+        // Shared fonts (rasterized on the first visit only)
+        FontRegistry.require(FontRegistry.CREDITS_GAME_TITLE, FontRegistry.CREDITS_SECTION_TITLE,
+                FontRegistry.CREDITS_ROLE, FontRegistry.CREDITS_NAME, FontRegistry.CREDITS_SMALL,
+                FontRegistry.CREDITS_SPECIAL, FontRegistry.MENU_BUTTON);
 
         // Colors
         if (!GameApp.hasColor("button_red_text")) {
@@ -307,14 +256,6 @@ public class CreditsScreen extends ScalableGameScreen {
     public void hide() {
         // Don't stop music when leaving - keep it playing for other menu screens
         // Music will only stop when entering PlayScreen or quitting game
-        if (cursorPointer != null) {
-            cursorPointer.dispose();
-            cursorPointer = null;
-        }
-        if (cursorHover != null) {
-            cursorHover.dispose();
-            cursorHover = null;
-        }
     }
 
     @Override
@@ -496,7 +437,7 @@ public class CreditsScreen extends ScalableGameScreen {
         
         // Title at top
         GameApp.startSpriteRendering();
-        GameApp.drawTextCentered("creditsGameTitle", "CREDITS", centerX, panelY + panelHeight - 45f, "yellow-400");
+        GameApp.drawTextCentered(FontRegistry.CREDITS_GAME_TITLE, "CREDITS", centerX, panelY + panelHeight - 45f, "yellow-400");
         GameApp.endSpriteRendering();
     }
 
@@ -528,9 +469,9 @@ public class CreditsScreen extends ScalableGameScreen {
                 if (titleY <= visibleTop && titleY >= visibleBottom) {
                     // Special styling for different sections
                     if (section.title.equals("INSPIRED BY")) {
-                        GameApp.drawTextCentered("creditsSpecial", section.title, centerX, titleY, "cyan-400");
+                        GameApp.drawTextCentered(FontRegistry.CREDITS_SPECIAL, section.title, centerX, titleY, "cyan-400");
                     } else {
-                        GameApp.drawTextCentered("creditsSectionTitle", section.title, centerX, titleY, "yellow-300");
+                        GameApp.drawTextCentered(FontRegistry.CREDITS_SECTION_TITLE, section.title, centerX, titleY, "yellow-300");
                     }
                 }
                 currentY -= 50f; // Move up for next item
@@ -544,7 +485,7 @@ public class CreditsScreen extends ScalableGameScreen {
                 if (itemY <= visibleTop && itemY >= visibleBottom) {
                     if (name.equals("SAXION_LOGO")) {
                         // Draw "UNIVERSITY" title ABOVE the logo first (moved down to avoid overlap with Teacher)
-                        GameApp.drawTextCentered("creditsSectionTitle", "UNIVERSITY", centerX, itemY - 50f, "yellow-300");
+                        GameApp.drawTextCentered(FontRegistry.CREDITS_SECTION_TITLE, "UNIVERSITY", centerX, itemY - 50f, "yellow-300");
                         
                         // Draw Saxion logo BELOW the title
                         if (GameApp.hasTexture("saxion_logo")) {
@@ -556,9 +497,9 @@ public class CreditsScreen extends ScalableGameScreen {
                     } else {
                         // Special styling for legal notice
                         if (section.title.equals("LEGAL NOTICE")) {
-                            GameApp.drawTextCentered("creditsSmall", name, centerX, itemY, "gray-300");
+                            GameApp.drawTextCentered(FontRegistry.CREDITS_SMALL, name, centerX, itemY, "gray-300");
                         } else {
-                            GameApp.drawTextCentered("creditsName", name, centerX, itemY, "white");
+                            GameApp.drawTextCentered(FontRegistry.CREDITS_NAME, name, centerX, itemY, "white");
                         }
                         currentY -= 35f; // Move up for next item
                     }
@@ -585,10 +526,10 @@ public class CreditsScreen extends ScalableGameScreen {
             float buttonCenterX = button.getX() + button.getWidth() / 2;
             float buttonCenterY = button.getY() + button.getHeight() / 2;
 
-            float textHeight = GameApp.getTextHeight("buttonFont", "BACK");
+            float textHeight = GameApp.getTextHeight(FontRegistry.MENU_BUTTON, "BACK");
             float adjustedY = buttonCenterY + textHeight * 0.15f;
 
-            GameApp.drawTextCentered("buttonFont", "BACK", buttonCenterX, adjustedY, "button_red_text");
+            GameApp.drawTextCentered(FontRegistry.MENU_BUTTON, "BACK", buttonCenterX, adjustedY, "button_red_text");
         }
 
         GameApp.endSpriteRendering();
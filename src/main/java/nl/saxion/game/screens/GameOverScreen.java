@@ -1,5 +1,7 @@
 package nl.saxion.game.screens;
 
+import nl.saxion.game.systems.CursorCache;
+import nl.saxion.game.systems.FontRegistry;
 import nl.saxion.game.systems.SoundManager;
 import nl.saxion.game.ui.Button;
 import nl.saxion.game.utils.DebugLogger;
@@ -10,7 +12,6 @@ import com.badlogic.gdx.Gdx;
 import com.badlogic.gdx.graphics.Cursor;
 import com.badlogic.gdx.graphics.GL20;
 import com.badlogic.gdx.graphics.OrthographicCamera;
-import com.badlogic.gdx.graphics.Pixmap;
 import com.badlogic.gdx.graphics.Texture;
 import com.badlogic.gdx.graphics.g2d.SpriteBatch;
 import java.util.ArrayList;
@@ -120,16 +121,6 @@ public class GameOverScreen extends ScalableGameScreen {
         if (soundManager != null) {
             soundManager.stopMusic();
         }
-        
-        // Dispose cursors
-        if (cursorPointer != null) {
-            cursorPointer.dispose();
-            cursorPointer = null;
-        }
-        if (cursorHover != null) {
-            cursorHover.dispose();
-            cursorHover = null;
-        }
     }
     
     /**
@@ -138,10 +129,8 @@ public class GameOverScreen extends ScalableGameScreen {
     private void loadResources() {
         if (resourcesLoaded) return;
         
-        // Load game over fonts
-        GameApp.addStyledFont("gameOverTitle", "fonts/Emulogic-zrEw.ttf", 72,
-                "red-500", 2f, "black", 3, 3, "red-900", true);
-        GameApp.addFont("gameOverText", "fonts/PressStart2P-Regular.ttf", 16, true);
+        // Shared fonts (rasterized once per session)
+        FontRegistry.require(FontRegistry.GAME_OVER_TITLE, FontRegistry.GAME_OVER_TEXT, FontRegistry.GAME_OVER_BUTTON);
         
         // Register unified button text colors
         // GREEN button - dark green-gray for contrast on bright green
@@ -159,11 +148,6 @@ public class GameOverScreen extends ScalableGameScreen {
             GameApp.addColor("button_red_text", 60, 15, 30);
         }
         
-        // Button font for GameOverScreen (1280x720 world, half-size buttons)
-        // Size 28 fits well with medium buttons
-        GameApp.addStyledFont("gameOverButtonFont", "fonts/upheavtt.ttf", 28,
-                "white", 0f, "black", 2, 2, "gray-700", true);
-        
         // Load button sprites
         if (!GameApp.hasTexture("green_long")) {
             GameApp.addTexture("green_long", "assets/ui/green_long.png");
@@ -218,46 +202,10 @@ public class GameOverScreen extends ScalableGameScreen {
      * Load cursor images
      */
     private void loadCursors() {
-        try {
-            // Load pointer cursor
-            String pointerPath = "assets/ui/pointer.png";
-            Pixmap pointerSource = new Pixmap(Gdx.files.internal(pointerPath));
-            int pointerSourceWidth = pointerSource.getWidth();
-            int pointerSourceHeight = pointerSource.getHeight();
-            
-            int targetSize = 32;
-            Pixmap pointerPixmap = new Pixmap(targetSize, targetSize, pointerSource.getFormat());
-            pointerPixmap.drawPixmap(pointerSource,
-                    0, 0, pointerSourceWidth, pointerSourceHeight,
-                    0, 0, targetSize, targetSize);
-            cursorPointer = Gdx.graphics.newCursor(pointerPixmap, 0, 0);
-            pointerPixmap.dispose();
-            pointerSource.dispose();
-            
-            // Load hover cursor
-            String cursorPath = "assets/ui/cursor.png";
-            Pixmap cursorSource = new Pixmap(Gdx.files.internal(cursorPath));
-            int cursorSourceWidth = cursorSource.getWidth();
-            int cursorSourceHeight = cursorSource.getHeight();
-            
-            Pixmap cursorPixmap = new Pixmap(targetSize, targetSize, cursorSource.getFormat());
-            cursorPixmap.drawPixmap(cursorSource,
-                    0, 0, cursorSourceWidth, cursorSourceHeight,
-                    0, 0, targetSize, targetSize);
-            cursorHover = Gdx.graphics.newCursor(cursorPixmap, 0, 0);
-            cursorPixmap.dispose();
-            cursorSource.dispose();
-            
-            // Set default to pointer
-            if (cursorPointer != null) {
-                Gdx.graphics.setCursor(cursorPointer);
-            } else {
-                GameApp.showCursor();
-            }
-        } catch (Exception e) {
-            GameApp.log("Could not load cursors: " + e.getMessage());
-            GameApp.showCursor();
-        }
+        // Shared cursors, built once per session
+        cursorPointer = CursorCache.getPointer();
+        cursorHover = CursorCache.getHover();
+        CursorCache.showPointer();
     }
     
     /**
@@ -376,9 +324,9 @@ public class GameOverScreen extends ScalableGameScreen {
         } catch (Exception e) {
             // Use default if texture not available
         }
-        float scoreTextHeight = GameApp.getTextHeight("gameOverText", scoreText);
+        float scoreTextHeight = GameApp.getTextHeight(FontRegistry.GAME_OVER_TEXT, scoreText);
         float scoreY = titleY - titleHeight / 2 - scoreTextHeight * 2.2f; // Better spacing
-        GameApp.drawTextCentered("gameOverText", scoreText, centerX, scoreY, "white");
+        GameApp.drawTextCentered(FontRegistry.GAME_OVER_TEXT, scoreText, centerX, scoreY, "white");
         
         // Draw button text labels
         drawButtonText(centerX, centerY);
@@ -598,17 +546,17 @@ public class GameOverScreen extends ScalableGameScreen {
         Button playAgainButton = gameOverButtons.get(0);
         float playAgainCenterX = playAgainButton.getX() + playAgainButton.getWidth() / 2;
         float playAgainCenterY = playAgainButton.getY() + playAgainButton.getHeight() / 2;
-        float playAgainTextHeight = GameApp.getTextHeight("gameOverButtonFont", "PLAY AGAIN");
+        float playAgainTextHeight = GameApp.getTextHeight(FontRegistry.GAME_OVER_BUTTON, "PLAY AGAIN");
         float playAgainAdjustedY = playAgainCenterY + playAgainTextHeight * 0.15f; // Move up like main menu
-        GameApp.drawTextCentered("gameOverButtonFont", "PLAY AGAIN", playAgainCenterX, playAgainAdjustedY, "button_green_text");
+        GameApp.drawTextCentered(FontRegistry.GAME_OVER_BUTTON, "PLAY AGAIN", playAgainCenterX, playAgainAdjustedY, "button_green_text");
         
         // Back to Menu button text
         Button backToMenuButton = gameOverButtons.get(1);
         float backToMenuCenterX = backToMenuButton.getX() + backToMenuButton.getWidth() / 2;
         float backToMenuCenterY = backToMenuButton.getY() + backToMenuButton.getHeight() / 2;
-        float backToMenuTextHeight = GameApp.getTextHeight("gameOverButtonFont", "BACK TO MENU");
+        float backToMenuTextHeight = GameApp.getTextHeight(FontRegistry.GAME_OVER_BUTTON, "BACK TO MENU");
         float backToMenuAdjustedY = backToMenuCenterY + backToMenuTextHeight * 0.15f; // Move up like main menu
-        GameApp.drawTextCentered("gameOverButtonFont", "BACK TO MENU", backToMenuCenterX, backToMenuAdjustedY, "button_red_text");
+        GameApp.drawTextCentered(FontRegistry.GAME_OVER_BUTTON, "BACK TO MENU", backToMenuCenterX, backToMenuAdjustedY, "button_red_text");
     }
     
     /**
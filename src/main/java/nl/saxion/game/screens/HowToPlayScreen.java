@@ -2,7 +2,10 @@ package nl.saxion.game.screens;
 
 import nl.saxion.game.config.ConfigManager;
 import nl.saxion.game.config.GameConfig;
+import nl.saxion.game.systems.CursorCache;
+import nl.saxion.game.systems.FontRegistry;
 import nl.saxion.game.systems.SoundManager;
+import nl.saxion.game.systems.TextLayoutCache;
 import nl.saxion.game.ui.Button;
 import nl.saxion.gameapp.GameApp;
 import nl.saxion.gameapp.screens.ScalableGameScreen;
@@ -10,7 +13,6 @@ import nl.saxion.gameapp.screens.ScalableGameScreen;
 import com.badlogic.gdx.Gdx;
 import com.badlogic.gdx.Input;
 import com.badlogic.gdx.graphics.Cursor;
-import com.badlogic.gdx.graphics.Pixmap;
 import java.util.ArrayList;
 import java.util.List;
 
@@ -126,81 +128,20 @@ public class HowToPlayScreen extends ScalableGameScreen {
     }
     
     private void loadCursors() {
-        try {
-            String pointerPath = "assets/ui/pointer.png";
-            Pixmap pointerSource = new Pixmap(Gdx.files.internal(pointerPath));
-            int targetSize = 32;
-            Pixmap pointerPixmap = new Pixmap(targetSize, targetSize, pointerSource.getFormat());
-            pointerPixmap.drawPixmap(pointerSource,
-                    0, 0, pointerSource.getWidth(), pointerSource.getHeight(),
-                    0, 0, targetSize, targetSize);
-            cursorPointer = Gdx.graphics.newCursor(pointerPixmap, 0, 0);
-            pointerPixmap.dispose();
-            pointerSource.dispose();
-            
-            String cursorPath = "assets/ui/cursor.png";
-            Pixmap cursorSource = new Pixmap(Gdx.files.internal(cursorPath));
-            Pixmap cursorPixmap = new Pixmap(targetSize, targetSize, cursorSource.getFormat());
-            cursorPixmap.drawPixmap(cursorSource,
-                    0, 0, cursorSource.getWidth(), cursorSource.getHeight(),
-                    0, 0, targetSize, targetSize);
-            cursorHover = Gdx.graphics.newCursor(cursorPixmap, 0, 0);
-            cursorPixmap.dispose();
-            cursorSource.dispose();
-            
-            if (cursorPointer != null) {
-                Gdx.graphics.setCursor(cursorPointer);
-            } else {
-                GameApp.showCursor();
-            }
-        } catch (Exception e) {
-            GameApp.log("Could not load cursors: " + e.getMessage());
-            GameApp.showCursor();
-        }
+        // Shared cursors, built once per session
+        cursorPointer = CursorCache.getPointer();
+        cursorHover = CursorCache.getHover();
+        CursorCache.showPointer();
     }
     
     private void loadResources() {
         if (resourcesLoaded) return;
         
-        // Fonts
-        if (!GameApp.hasFont("howToPlayTitle")) {
-            GameApp.addStyledFont("howToPlayTitle", "fonts/upheavtt.ttf", 52,
-                    "white", 0f, "black", 3, 3, "gray-700", true);
-        }
-        if (!GameApp.hasFont("howToPlaySubtitle")) {
-            GameApp.addStyledFont("howToPlaySubtitle", "fonts/PressStart2P-Regular.ttf", 18,
-                    "yellow-300", 0f, "black", 2, 2, "gray-700", true);
-        }
-        if (!GameApp.hasFont("howToPlayText")) {
-            GameApp.addStyledFont("howToPlayText", "fonts/PressStart2P-Regular.ttf", 14,
-                    "white", 0f, "black", 1, 1, "gray-700", true);
-        }
-        if (!GameApp.hasFont("howToPlayItemTitle")) {
-            GameApp.addStyledFont("howToPlayItemTitle", "fonts/PixelOperatorMono-Bold.ttf", 16,
-                    "orange-400", 0f, "black", 1, 1, "gray-700", true);
-        }
-        if (!GameApp.hasFont("howToPlayItemDesc")) {
-            GameApp.addStyledFont("howToPlayItemDesc", "fonts/PressStart2P-Regular.ttf", 11,
-                    "gray-300", 0f, "black", 1, 1, "gray-700", true);
-        }
-        if (!GameApp.hasFont("howToPlayPageNum")) {
-            GameApp.addStyledFont("howToPlayPageNum", "fonts/PressStart2P-Regular.ttf", 16,
-                    "gray-400", 0f, "black", 1, 1, "gray-700", true);
-        }
-        if (!GameApp.hasFont("buttonFont")) {
-            GameApp.addStyledFont("buttonFont", "fonts/upheavtt.ttf", 36,
-                    "white", 0f, "black", 2, 2, "gray-700", true);
-        }
-        
-        // Page navigation fonts
-        if (!GameApp.hasFont("pageButtonFont")) {
-            GameApp.addStyledFont("pageButtonFont", "fonts/PressStart2P-Regular.ttf", 12,
-                    "white", 0f, "black", 1, 1, "gray-700", true);
-        }
-        if (!GameApp.hasFont("howToPlayPageInfo")) {
-            GameApp.addStyledFont("howToPlayPageInfo", "fonts/PressStart2P-Regular.ttf", 14,
-                    "gray-300", 0f, "black", 1, 1, "gray-700", true);
-        }
+        // Shared fonts (rasterized on the first visit only)
+        FontRegistry.require(FontRegistry.HOW_TO_PLAY_TITLE, FontRegistry.HOW_TO_PLAY_SUBTITLE,
+                FontRegistry.HOW_TO_PLAY_TEXT, FontRegistry.HOW_TO_PLAY_ITEM_TITLE, FontRegistry.HOW_TO_PLAY_ITEM_DESC,
+                FontRegistry.HOW_TO_PLAY_PAGE_NUM, FontRegistry.HOW_TO_PLAY_BUTTON,
+                FontRegistry.HOW_TO_PLAY_PAGE_BUTTON, FontRegistry.HOW_TO_PLAY_PAGE_INFO);
         
         // Colors
         if (!GameApp.hasColor("button_green_text")) {
@@ -314,14 +255,6 @@ public class HowToPlayScreen extends ScalableGameScreen {
     public void hide() {
         // Don't stop music when leaving - keep it playing for other menu screens
         // Music will only stop when entering PlayScreen or quitting game
-        if (cursorPointer != null) {
-            cursorPointer.dispose();
-            cursorPointer = null;
-        }
-        if (cursorHover != null) {
-            cursorHover.dispose();
-            cursorHover = null;
-        }
         
         // Dispose WASD sprite sheets to free memory
         GameApp.disposeSpritesheet("key_W");
@@ -463,12 +396,12 @@ public class HowToPlayScreen extends ScalableGameScreen {
         // Title area
         GameApp.startSpriteRendering();
         float titleY = panelY + panelHeight - 45f;
-        GameApp.drawTextCentered("howToPlayTitle", "HOW TO PLAY", centerX, titleY, "yellow-400");
+        GameApp.drawTextCentered(FontRegistry.HOW_TO_PLAY_TITLE, "HOW TO PLAY", centerX, titleY, "yellow-400");
         
         // Subtitle with page info
         String[] pageTitles = {"Game Basics", "Passive Items", "Weapon Upgrades"};
         String subtitle = pageTitles[currentPage - 1];
-        GameApp.drawTextCentered("howToPlaySubtitle", subtitle, centerX, titleY - 40f, "gray-400");
+        GameApp.drawTextCentered(FontRegistry.HOW_TO_PLAY_SUBTITLE, subtitle, centerX, titleY - 40f, "gray-400");
         GameApp.endSpriteRendering();
         
         // Content area
@@ -498,7 +431,7 @@ public class HowToPlayScreen extends ScalableGameScreen {
         
         // Section 1: Player Movement - use larger font size like "Game Basics"
         float sectionY = contentStartY;
-        GameApp.drawText("howToPlaySubtitle", "PLAYER MOVEMENT", contentStartX, sectionY - 20, "orange-400");
+        GameApp.drawText(FontRegistry.HOW_TO_PLAY_SUBTITLE, "PLAYER MOVEMENT", contentStartX, sectionY - 20, "orange-400");
         
         // WASD Keys Layout - Shift left to make room for descriptions on right
         float keyWidth = 19f;  // Sprite sheet width
@@ -538,15 +471,15 @@ public class HowToPlayScreen extends ScalableGameScreen {
         
         // Movement descriptions - positioned to the right of keys
         float descX = keysStartX + (scaledKeyWidth * 3) + (keySpacing * 2) + 40f;
-        GameApp.drawText("howToPlayText", "W - Move Up", descX, bottomRowY + 40f, "white");
-        GameApp.drawText("howToPlayText", "A - Move Left", descX, bottomRowY + 20f, "white");
-        GameApp.drawText("howToPlayText", "S - Move Down", descX, bottomRowY, "white");
-        GameApp.drawText("howToPlayText", "D - Move Right", descX, bottomRowY - 20f, "white");
-        GameApp.drawText("howToPlayItemDesc", "Use Arrow Keys as alternative", descX, bottomRowY - 40f, "gray-400");
+        GameApp.drawText(FontRegistry.HOW_TO_PLAY_TEXT, "W - Move Up", descX, bottomRowY + 40f, "white");
+        GameApp.drawText(FontRegistry.HOW_TO_PLAY_TEXT, "A - Move Left", descX, bottomRowY + 20f, "white");
+        GameApp.drawText(FontRegistry.HOW_TO_PLAY_TEXT, "S - Move Down", descX, bottomRowY, "white");
+        GameApp.drawText(FontRegistry.HOW_TO_PLAY_TEXT, "D - Move Right", descX, bottomRowY - 20f, "white");
+        GameApp.drawText(FontRegistry.HOW_TO_PLAY_ITEM_DESC, "Use Arrow Keys as alternative", descX, bottomRowY - 40f, "gray-400");
         
         // Section 2: Core Mechanics - use larger font size and add more items
         float mechanicsY = sectionY - 200f;
-        GameApp.drawText("howToPlaySubtitle", "CORE MECHANICS", contentStartX, mechanicsY, "green-400");
+        GameApp.drawText(FontRegistry.HOW_TO_PLAY_SUBTITLE, "CORE MECHANICS", contentStartX, mechanicsY, "green-400");
         
         String[] mechanics = {
             "- Your weapon fires automatically at nearby enemies",
@@ -560,7 +493,7 @@ public class HowToPlayScreen extends ScalableGameScreen {
         float lineHeight = 30f; // Reduced line height to fit better
         for (int i = 0; i < mechanics.length; i++) {
             float textY = mechanicsY - 35f - i * lineHeight;
-            GameApp.drawText("howToPlayText", mechanics[i], contentStartX + 30f, textY, "white");
+            GameApp.drawText(FontRegistry.HOW_TO_PLAY_TEXT, mechanics[i], contentStartX + 30f, textY, "white");
         }
         
         GameApp.endSpriteRendering();
@@ -604,7 +537,7 @@ public class HowToPlayScreen extends ScalableGameScreen {
             // Draw letter text
             GameApp.startSpriteRendering();
             String textColor = isPressed ? "blue-300" : "white";
-            GameApp.drawTextCentered("howToPlayItemTitle", keyLetter, x + width / 2, y - height / 2 + 5f, textColor);
+            GameApp.drawTextCentered(FontRegistry.HOW_TO_PLAY_ITEM_TITLE, keyLetter, x + width / 2, y - height / 2 + 5f, textColor);
         }
     }
     
@@ -612,7 +545,7 @@ public class HowToPlayScreen extends ScalableGameScreen {
         GameApp.startSpriteRendering();
         
         // Header - use larger font size like Page 1
-        GameApp.drawText("howToPlaySubtitle", "PASSIVE ITEMS", contentStartX, contentStartY - 20, "orange-400");
+        GameApp.drawText(FontRegistry.HOW_TO_PLAY_SUBTITLE, "PASSIVE ITEMS", contentStartX, contentStartY - 20, "orange-400");
         
         // Items in two columns with larger spacing
         float leftColumnX = contentStartX + 40f;
@@ -672,10 +605,10 @@ public class HowToPlayScreen extends ScalableGameScreen {
             }
             
             // Item name - larger font
-            GameApp.drawText("howToPlayText", PASSIVE_ITEMS[i], itemX + iconSize + 15f, itemY - 5f, "orange-300");
+            GameApp.drawText(FontRegistry.HOW_TO_PLAY_TEXT, PASSIVE_ITEMS[i], itemX + iconSize + 15f, itemY - 5f, "orange-300");
             
             // Item description - larger and more readable
-            GameApp.drawText("howToPlayItemDesc", PASSIVE_DESCRIPTIONS[i], itemX + iconSize + 15f, itemY - 25f, "gray-300");
+            GameApp.drawText(FontRegistry.HOW_TO_PLAY_ITEM_DESC, PASSIVE_DESCRIPTIONS[i], itemX + iconSize + 15f, itemY - 25f, "gray-300");
         }
         
         GameApp.endSpriteRendering();
@@ -685,12 +618,12 @@ public class HowToPlayScreen extends ScalableGameScreen {
         GameApp.startSpriteRendering();
         
         // Header - use larger font size like other pages
-        GameApp.drawText("howToPlaySubtitle", "WEAPON UPGRADES", contentStartX, contentStartY - 20, "orange-400");
+        GameApp.drawText(FontRegistry.HOW_TO_PLAY_SUBTITLE, "WEAPON UPGRADES", contentStartX, contentStartY - 20, "orange-400");
         
         // Left column: Piston Upgrades (actual data from WeaponUpgrade.java) - larger size
         float leftColumnX = contentStartX + 20f;
-        GameApp.drawText("howToPlayText", "PISTON UPGRADES (10 Levels)", leftColumnX, contentStartY - 60f, "blue-400");
-        GameApp.drawText("howToPlayItemDesc", "Level up your weapon for increased power", leftColumnX, contentStartY - 85f, "gray-400");
+        GameApp.drawText(FontRegistry.HOW_TO_PLAY_TEXT, "PISTON UPGRADES (10 Levels)", leftColumnX, contentStartY - 60f, "blue-400");
+        GameApp.drawText(FontRegistry.HOW_TO_PLAY_ITEM_DESC, "Level up your weapon for increased power", leftColumnX, contentStartY - 85f, "gray-400");
         
         // Real Piston upgrade levels from WeaponUpgrade.java - 10 levels with multi-shot
         String[] pistonLevels = {
@@ -711,13 +644,13 @@ public class HowToPlayScreen extends ScalableGameScreen {
             float textY = contentStartY - 115f - i * lineHeight;
             // Highlight multi-shot levels (now at index 2 and 7)
             String color = (i == 2 || i == 7) ? "green-400" : "white";
-            GameApp.drawText("howToPlayText", pistonLevels[i], leftColumnX + 10f, textY, color);
+            GameApp.drawText(FontRegistry.HOW_TO_PLAY_TEXT, pistonLevels[i], leftColumnX + 10f, textY, color);
         }
         
         // Right column: Evolution System (actual data from game) - larger size and improved content
         float rightColumnX = contentStartX + contentWidth / 2 + 40f;
-        GameApp.drawText("howToPlayText", "EVOLUTION SYSTEM", rightColumnX, contentStartY - 60f, "purple-400");
-        GameApp.drawText("howToPlayItemDesc", "Transform your weapon into its ultimate form", rightColumnX, contentStartY - 85f, "gray-400");
+        GameApp.drawText(FontRegistry.HOW_TO_PLAY_TEXT, "EVOLUTION SYSTEM", rightColumnX, contentStartY - 60f, "purple-400");
+        GameApp.drawText(FontRegistry.HOW_TO_PLAY_ITEM_DESC, "Transform your weapon into its ultimate form", rightColumnX, contentStartY - 85f, "gray-400");
         
         // Improved evolution info - updated with lifesteal nerf
         String[] evolutionInfo = {
@@ -743,7 +676,7 @@ public class HowToPlayScreen extends ScalableGameScreen {
             if (evolutionInfo[i].contains("LIFESTEAL")) {
                 color = "green-400";
             }
-            GameApp.drawText("howToPlayText", evolutionInfo[i], rightColumnX + 10f, textY, color);
+            GameApp.drawText(FontRegistry.HOW_TO_PLAY_TEXT, evolutionInfo[i], rightColumnX + 10f, textY, color);
         }
         
         GameApp.endSpriteRendering();
@@ -791,7 +724,7 @@ public class HowToPlayScreen extends ScalableGameScreen {
             GameApp.endShapeRendering();
             
             GameApp.startSpriteRendering();
-            GameApp.drawTextCentered("pageButtonFont", "< PREV", prevButtonX + prevButtonW / 2, prevButtonY + prevButtonH / 2 + 3f, "white");
+            GameApp.drawTextCentered(FontRegistry.HOW_TO_PLAY_PAGE_BUTTON, "< PREV", prevButtonX + prevButtonW / 2, prevButtonY + prevButtonH / 2 + 3f, "white");
             GameApp.endSpriteRendering();
         } else {
             // Disabled state
@@ -801,7 +734,7 @@ public class HowToPlayScreen extends ScalableGameScreen {
             GameApp.endShapeRendering();
             
             GameApp.startSpriteRendering();
-            GameApp.drawTextCentered("pageButtonFont", "< PREV", prevButtonX + prevButtonW / 2, prevButtonY + prevButtonH / 2 + 3f, "gray-600");
+            GameApp.drawTextCentered(FontRegistry.HOW_TO_PLAY_PAGE_BUTTON, "< PREV", prevButtonX + prevButtonW / 2, prevButtonY + prevButtonH / 2 + 3f, "gray-600");
             GameApp.endSpriteRendering();
         }
         
@@ -819,7 +752,7 @@ public class HowToPlayScreen extends ScalableGameScreen {
             GameApp.endShapeRendering();
             
             GameApp.startSpriteRendering();
-            GameApp.drawTextCentered("pageButtonFont", "NEXT >", nextButtonX + nextButtonW / 2, nextButtonY + nextButtonH / 2 + 3f, "white");
+            GameApp.drawTextCentered(FontRegistry.HOW_TO_PLAY_PAGE_BUTTON, "NEXT >", nextButtonX + nextButtonW / 2, nextButtonY + nextButtonH / 2 + 3f, "white");
             GameApp.endSpriteRendering();
         } else {
             // Disabled state
@@ -829,14 +762,14 @@ public class HowToPlayScreen extends ScalableGameScreen {
             GameApp.endShapeRendering();
             
             GameApp.startSpriteRendering();
-            GameApp.drawTextCentered("pageButtonFont", "NEXT >", nextButtonX + nextButtonW / 2, nextButtonY + nextButtonH / 2 + 3f, "gray-600");
+            GameApp.drawTextCentered(FontRegistry.HOW_TO_PLAY_PAGE_BUTTON, "NEXT >", nextButtonX + nextButtonW / 2, nextButtonY + nextButtonH / 2 + 3f, "gray-600");
             GameApp.endSpriteRendering();
         }
         
         // Page indicator in center
         GameApp.startSpriteRendering();
         String pageInfo = "Page " + currentPage + " of " + TOTAL_PAGES;
-        GameApp.drawTextCentered("howToPlayPageInfo", pageInfo, centerX, navButtonY + navButtonH / 2 + 3f, "gray-300");
+        GameApp.drawTextCentered(FontRegistry.HOW_TO_PLAY_PAGE_INFO, pageInfo, centerX, navButtonY + navButtonH / 2 + 3f, "gray-300");
         GameApp.endSpriteRendering();
     }
     
@@ -852,10 +785,10 @@ public class HowToPlayScreen extends ScalableGameScreen {
             float buttonCenterX = button.getX() + button.getWidth() / 2;
             float buttonCenterY = button.getY() + button.getHeight() / 2;
             
-            float textHeight = GameApp.getTextHeight("buttonFont", text);
+            float textHeight = TextLayoutCache.getHeight(FontRegistry.HOW_TO_PLAY_BUTTON, text);
             float adjustedY = buttonCenterY + textHeight * 0.15f;
             
-            GameApp.drawTextCentered("buttonFont", text, buttonCenterX, adjustedY, colorName);
+            GameApp.drawTextCentered(FontRegistry.HOW_TO_PLAY_BUTTON, text, buttonCenterX, adjustedY, colorName);
         }
         
         GameApp.endSpriteRendering();
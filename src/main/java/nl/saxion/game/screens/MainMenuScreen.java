@@ -2,15 +2,20 @@ package nl.saxion.game.screens;
 
 import nl.saxion.game.config.ConfigManager;
 import nl.saxion.game.config.GameConfig;
+import nl.saxion.game.systems.CursorCache;
+import nl.saxion.game.systems.FontRegistry;
+import nl.saxion.game.systems.LeaderboardManager;
+import nl.saxion.game.systems.ScreenRegistry;
 import nl.saxion.game.systems.SoundManager;
+import nl.saxion.game.systems.TextLayoutCache;
 import nl.saxion.game.ui.Button;
+import nl.saxion.game.utils.AssetPack;
 import nl.saxion.game.utils.DebugLogger;
 import nl.saxion.gameapp.GameApp;
 import nl.saxion.gameapp.screens.ScalableGameScreen;
 
 import com.badlogic.gdx.Gdx;
 import com.badlogic.gdx.graphics.Cursor;
-import com.badlogic.gdx.graphics.Pixmap;
 import java.util.ArrayList;
 import java.util.List;
 
@@ -56,6 +61,14 @@ public class MainMenuScreen extends ScalableGameScreen {
     public void show() {
         // Initialize debug logger
         DebugLogger.log("MainMenuScreen.show() called");
+
+        // Serve resources from the memory-mapped asset pack when one is shipped (first show only)
+        AssetPack.install();
+
+        // Read the leaderboard in the background so the ranks screen opens without a disk read
+        LeaderboardManager.preloadAsync();
+        // Most visitors press PLAY next
+        ScreenRegistry.prewarm("playerinput");
         
         // Apply fullscreen setting from config on first show
         if (!fullscreenApplied) {
@@ -87,50 +100,11 @@ public class MainMenuScreen extends ScalableGameScreen {
         DebugLogger.log("MainMenuScreen initialized with %d buttons", buttons.size());
     }
 
-    // Load cursor images (pointer.png and cursor.png)
     private void loadPusheenCursors() {
-        try {
-            // Load pointer cursor (for click/default state)
-            String pointerPath = "assets/ui/pointer.png";
-            Pixmap pointerSource = new Pixmap(Gdx.files.internal(pointerPath));
-            int pointerSourceWidth = pointerSource.getWidth();
-            int pointerSourceHeight = pointerSource.getHeight();
-
-            // Resize to 32x32
-            int targetSize = 32;
-            Pixmap pointerPixmap = new Pixmap(targetSize, targetSize, pointerSource.getFormat());
-            pointerPixmap.drawPixmap(pointerSource,
-                    0, 0, pointerSourceWidth, pointerSourceHeight,
-                    0, 0, targetSize, targetSize);
-            cursorPointer = Gdx.graphics.newCursor(pointerPixmap, 0, 0);
-            pointerPixmap.dispose();
-            pointerSource.dispose();
-
-            // Load hover cursor (for hover state)
-            String cursorPath = "assets/ui/cursor.png";
-            Pixmap cursorSource = new Pixmap(Gdx.files.internal(cursorPath));
-            int cursorSourceWidth = cursorSource.getWidth();
-            int cursorSourceHeight = cursorSource.getHeight();
-
-            // Resize to 32x32
-            Pixmap cursorPixmap = new Pixmap(targetSize, targetSize, cursorSource.getFormat());
-            cursorPixmap.drawPixmap(cursorSource,
-                    0, 0, cursorSourceWidth, cursorSourceHeight,
-                    0, 0, targetSize, targetSize);
-            cursorHover = Gdx.graphics.newCursor(cursorPixmap, 0, 0);
-            cursorPixmap.dispose();
-            cursorSource.dispose();
-
-            // Set default to pointer
-            if (cursorPointer != null) {
-                Gdx.graphics.setCursor(cursorPointer);
-            } else {
-                GameApp.showCursor();
-            }
-        } catch (Exception e) {
-            GameApp.log("Could not load cursors: " + e.getMessage());
-            GameApp.showCursor(); // Fallback to default
-        }
+        // Shared cursors, built once per session
+        cursorPointer = CursorCache.getPointer();
+        cursorHover = CursorCache.getHover();
+        CursorCache.showPointer();
     }
 
     private void loadResources() {
@@ -168,10 +142,8 @@ public class MainMenuScreen extends ScalableGameScreen {
                 GameApp.addColor("button_blue_text", 20, 30, 70); // Dark navy blue
             }
             
-            // Button font with subtle shadow (size 40 for smaller buttons)
-            GameApp.addStyledFont("buttonFont", "fonts/upheavtt.ttf", 40,
-                    "white", 0f, "black", 2, 2, "gray-700", true);
-            DebugLogger.log("Loaded buttonFont: upheavtt.ttf (size 32)");
+            // Shared fonts (rasterized once per session, kept between screens)
+            FontRegistry.require(FontRegistry.MENU_BUTTON, FontRegistry.VERSION);
 
             DebugLogger.log("Loading button sprites...");
 
@@ -267,12 +239,6 @@ public class MainMenuScreen extends ScalableGameScreen {
                 DebugLogger.log("Loaded hint_icon: %s", GameApp.hasTexture("hint_icon") ? "SUCCESS" : "FAILED");
             }
             
-            // Load version font (smaller, subtle)
-            if (!GameApp.hasFont("versionFont")) {
-                GameApp.addStyledFont("versionFont", "fonts/PixelOperator.ttf", 16,
-                        "white", 0f, "black", 1, 1, "gray-700", true);
-            }
-
             resourcesLoaded = true;
             DebugLogger.log("Resources loaded");
         }
@@ -366,19 +332,7 @@ public class MainMenuScreen extends ScalableGameScreen {
         // Don't stop music when leaving menu - keep it playing for other menu screens
         // Music will only stop when entering PlayScreen or quitting game
         // This prevents music from resetting when switching between menu screens
-        
-        // Dispose font
-        GameApp.disposeFont("buttonFont");
-
-        // Dispose cursors
-        if (cursorPointer != null) {
-            cursorPointer.dispose();
-            cursorPointer = null;
-        }
-        if (cursorHover != null) {
-            cursorHover.dispose();
-            cursorHover = null;
-        }
+        // Fonts are shared through FontRegistry and stay loaded
     }
 
     @Override
@@ -454,27 +408,27 @@ public class MainMenuScreen extends ScalableGameScreen {
     }
 
     // Draw text labels on buttons
+    private static final String[] BUTTON_TEXTS = {"PLAY", "RANKS", "SETTINGS", "CREDITS", "QUIT"};
+    private static final String[] BUTTON_TEXT_COLORS = {"button_green_text", "button_yellow_text", "button_orange_text", "button_blue_text", "button_red_text"};
+
     private void drawButtonText() {
         GameApp.startSpriteRendering();
 
-        String[] buttonTexts = {"PLAY", "RANKS", "SETTINGS", "CREDITS", "QUIT"};
-        String[] buttonColors = {"button_green_text", "button_yellow_text", "button_orange_text", "button_blue_text", "button_red_text"};
-
-        for (int i = 0; i < buttons.size() && i < buttonTexts.length; i++) {
+        for (int i = 0; i < buttons.size() && i < BUTTON_TEXTS.length; i++) {
             Button button = buttons.get(i);
-            String text = buttonTexts[i];
-            String colorName = buttonColors[i];
+            String text = BUTTON_TEXTS[i];
+            String colorName = BUTTON_TEXT_COLORS[i];
 
             // Calculate center of button
             float buttonCenterX = button.getX() + button.getWidth() / 2;
             float buttonCenterY = button.getY() + button.getHeight() / 2;
 
             // Adjust vertical position - move all buttons up
-            float textHeight = GameApp.getTextHeight("buttonFont", text);
+            float textHeight = TextLayoutCache.getHeight(FontRegistry.MENU_BUTTON, text);
             float adjustedY = buttonCenterY + textHeight * 0.15f;
 
             // Draw text centered on button with custom color
-            GameApp.drawTextCentered("buttonFont", text, buttonCenterX, adjustedY, colorName);
+            GameApp.drawTextCentered(FontRegistry.MENU_BUTTON, text, buttonCenterX, adjustedY, colorName);
         }
 
         GameApp.endSpriteRendering();
@@ -772,13 +726,13 @@ public class MainMenuScreen extends ScalableGameScreen {
         
         // Draw version text with subtle styling
         String versionText = GAME_VERSION;
-        float textWidth = GameApp.getTextWidth("versionFont", versionText);
+        float textWidth = TextLayoutCache.getWidth(FontRegistry.VERSION, versionText);
         float textX = screenWidth - textWidth - padding;
         float textY = padding + 10f;
         
         // Draw with semi-transparent white
         GameApp.setColor(200, 200, 200, 180);
-        GameApp.drawText("versionFont", versionText, textX, textY, "gray-400");
+        GameApp.drawText(FontRegistry.VERSION, versionText, textX, textY, "gray-400");
         
         GameApp.endSpriteRendering();
     }
@@ -873,8 +827,8 @@ public class MainMenuScreen extends ScalableGameScreen {
         
         // Title - BIGGER (use buttonFont which is larger)
         String title = "COMING SOON!";
-        float titleWidth = GameApp.getTextWidth("buttonFont", title);
-        GameApp.drawText("buttonFont", title, centerX - titleWidth/2, textY, "yellow-400");
+        float titleWidth = TextLayoutCache.getWidth(FontRegistry.MENU_BUTTON, title);
+        GameApp.drawText(FontRegistry.MENU_BUTTON, title, centerX - titleWidth/2, textY, "yellow-400");
         textY -= lineHeight + 30f;
         
         // Upcoming features list - use buttonFont for larger text
@@ -889,17 +843,17 @@ public class MainMenuScreen extends ScalableGameScreen {
         float textX = popupX + 80f;
         for (String feature : features) {
             // Draw bullet point
-            GameApp.drawText("buttonFont", "*", textX, textY, "yellow-400");
+            GameApp.drawText(FontRegistry.MENU_BUTTON, "*", textX, textY, "yellow-400");
             // Draw feature text
-            GameApp.drawText("buttonFont", feature, textX + 40f, textY, "white");
+            GameApp.drawText(FontRegistry.MENU_BUTTON, feature, textX + 40f, textY, "white");
             textY -= lineHeight;
         }
         
         // Close hint text at bottom
         textY = popupY + 50f;
         String closeText = "Click anywhere to close";
-        float closeWidth = GameApp.getTextWidth("buttonFont", closeText);
-        GameApp.drawText("buttonFont", closeText, centerX - closeWidth/2, textY, "gray-500");
+        float closeWidth = TextLayoutCache.getWidth(FontRegistry.MENU_BUTTON, closeText);
+        GameApp.drawText(FontRegistry.MENU_BUTTON, closeText, centerX - closeWidth/2, textY, "gray-500");
         
         GameApp.endSpriteRendering();
         
@@ -22,24 +22,38 @@ import nl.saxion.game.entities.Weapon;
 import nl.saxion.game.entities.WeaponUpgrade;
 import nl.saxion.game.entities.XPOrb;
 import nl.saxion.game.entities.OrbType;
+import nl.saxion.game.systems.CursorCache;
+import nl.saxion.game.systems.AnimationClock;
+import nl.saxion.game.systems.AssetLoadPipeline;
 import nl.saxion.game.systems.CollisionHandler;
 import nl.saxion.game.systems.DamageTextSystem;
 import nl.saxion.game.systems.EnemySpawner;
+import nl.saxion.game.systems.EntityRenderBenchmark;
+import nl.saxion.game.systems.EntitySpriteRenderer;
+import nl.saxion.game.systems.FontRegistry;
+import nl.saxion.game.systems.GameSnapshot;
 import nl.saxion.game.systems.GameRenderer;
 import nl.saxion.game.systems.GameStateManager;
+import nl.saxion.game.systems.RenderQueue;
 import nl.saxion.game.systems.InputController;
+import nl.saxion.game.systems.LazyResourceManager;
 import nl.saxion.game.systems.LeaderboardManager;
 import nl.saxion.game.systems.MapRenderer;
 import nl.saxion.game.systems.ResourceLoader;
+import nl.saxion.game.systems.ScreenRegistry;
 import nl.saxion.game.systems.SoundManager;
 import nl.saxion.game.systems.GachaSystem;
+import nl.saxion.game.systems.TextLayoutCache;
+import nl.saxion.game.systems.WorldSnapshot;
 import nl.saxion.game.ui.Button;
 import nl.saxion.game.ui.HUD;
+import nl.saxion.game.ui.HudLayer;
 import nl.saxion.game.ui.LevelUpMenuRenderer;
 import nl.saxion.game.entities.TreasureChest;
 import nl.saxion.game.utils.CollisionChecker;
 import nl.saxion.game.utils.DebugLogger;
 import nl.saxion.game.utils.TMXMapData;
+import nl.saxion.game.utils.TextFormat;
 import nl.saxion.gameapp.GameApp;
 import nl.saxion.gameapp.screens.ScalableGameScreen;
 import nl.saxion.game.entities.Boss;
@@ -48,9 +62,14 @@ import nl.saxion.game.entities.Boss;
 import com.badlogic.gdx.Gdx;
 import com.badlogic.gdx.Input;
 import com.badlogic.gdx.graphics.Cursor;
-import com.badlogic.gdx.graphics.Pixmap;
+import com.badlogic.gdx.graphics.g2d.SpriteBatch;
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
 import java.awt.*;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
 import java.util.ArrayList;
+import java.util.IdentityHashMap;
 import java.util.List;
 import java.util.Map;
 
@@ -101,11 +120,18 @@ public class PlayScreen extends ScalableGameScreen {
     // Late wave miniboss spawn timer
     private float lateWaveBossSpawnTimer = 0f;
     private static final float LATE_WAVE_BOSS_SPAWN_INTERVAL = 1.2f; // Spawn boss faster (was 2.0s)
+    private static final float LATE_WAVE_START = 420f; // Late waves start at minute 7 (seconds played)
     
     // Gacha system - triggers when chest is opened
     private GachaSystem gachaSystem;
     private boolean isGachaActive = false;
 
+    // Run snapshots: autosave for crash recovery, debug checkpoints (F6 save, F7 load)
+    private static final String RUN_SNAPSHOT_FILE = "run.snapshot";
+    private static final String CHECKPOINT_FILE = "checkpoint.snapshot";
+    private static final float AUTOSAVE_INTERVAL = 30f;
+    private float autosaveTimer = 0f;
+
     /**
      * Set flag to indicate returning from settings.
      */
@@ -148,6 +174,9 @@ public class PlayScreen extends ScalableGameScreen {
      * Save current game state before going to settings.
      */
     private void saveGameState() {
+        // Also on disk, in case the game is closed while in settings
+        saveRunSnapshot(RUN_SNAPSHOT_FILE);
+
         savedPlayer = player;
         savedWeapon = weapon;
         savedBullets = bullets;
@@ -214,6 +243,10 @@ public class PlayScreen extends ScalableGameScreen {
 
     private InputController input;
     private HUD hud;
+    private HudLayer hudLayer;
+
+    // World behind pause, gacha and level up menus, captured once per menu (with its dark overlay)
+    private final WorldSnapshot frozenWorld = new WorldSnapshot(this::renderFrozenGameBackground, 120);
     private LevelUpMenuRenderer levelUpMenuRenderer;
 
     // Cursor management
@@ -238,6 +271,9 @@ public class PlayScreen extends ScalableGameScreen {
     private EnemySpawner enemySpawner;
     private CollisionHandler collisionHandler;
     private GameRenderer gameRenderer;
+    private RenderQueue renderQueue; // Collects world sprites, drawn in one sorted batch pass
+    private EntitySpriteRenderer entitySpriteRenderer; // Direct SpriteBatch path for entity sprites
+    private boolean renderBenchmarkRequested = false; // Debug: F9
     private GameStateManager gameStateManager;
     private DamageTextSystem damageTextSystem;
     private SoundManager soundManager;
@@ -253,6 +289,22 @@ public class PlayScreen extends ScalableGameScreen {
     // Level up menu
     private boolean isLevelUpActive = false;
     private List<LevelUpOption> levelUpOptions = new ArrayList<>();
+
+    // Card texts, built once per level up instead of every frame (options are new objects each level up)
+    private static class LevelUpCardText {
+        String levelText;
+        float levelTextWidth;
+        String description;
+    }
+    private final Map<LevelUpOption, LevelUpCardText> levelUpCardTexts = new IdentityHashMap<>();
+
+    // Game over stats, rebuilt only when a value changes
+    private final TextFormat.IntText gameOverScoreText = new TextFormat.IntText(
+            (sb, value) -> TextFormat.appendGrouped(sb.append("SCORE: "), value));
+    private final TextFormat.IntText gameOverTimeText = new TextFormat.IntText(
+            (sb, seconds) -> TextFormat.appendClock(sb.append("TIME: "), seconds));
+    private final TextFormat.IntText gameOverRankText = new TextFormat.IntText(
+            (sb, value) -> sb.append("RANK: #").append(value));
     
     // Post-evolution bonus selection (null = not yet selected, after selection auto-applies on level up)
     private LevelUpOption.Type selectedPostEvolutionBonus = null;
@@ -304,6 +356,10 @@ public class PlayScreen extends ScalableGameScreen {
     private static final float INGAME_MUSIC_DELAY = 1.2f;
     private boolean ingameMusicStarted = false;
 
+    // Async resource loading (see ResourceLoader.createLoadPipeline)
+    private AssetLoadPipeline loadPipeline;
+    private static final float LOAD_UPLOAD_BUDGET_MS = 8f; // Render thread time per frame for uploads
+
     // Game over overlay
     private boolean isGameOver = false;
     private float gameOverFadeTimer = 0f;
@@ -335,21 +391,61 @@ public class PlayScreen extends ScalableGameScreen {
 
     @Override
     public void show() {
+        // Load resources in stages behind a progress bar; finishShow() runs when loading is done
+        resourceLoader = new ResourceLoader();
+        loadPipeline = resourceLoader.createLoadPipeline();
+        loadPipeline.start();
+    }
+
+    /**
+     * Render the loading progress bar and upload assets within the frame budget.
+     * Completes show() once every asset is loaded.
+     */
+    private void renderLoadingScreen() {
+        boolean done = loadPipeline.update(LOAD_UPLOAD_BUDGET_MS);
+
+        float screenWidth = GameApp.getWorldWidth();
+        float screenHeight = GameApp.getWorldHeight();
+        float barWidth = screenWidth * 0.5f;
+        float barHeight = 12f;
+        float barX = (screenWidth - barWidth) / 2f;
+        float barY = (screenHeight - barHeight) / 2f;
+
+        GameApp.clearScreen("black");
+        GameApp.startShapeRenderingFilled();
+        GameApp.setColor(60, 60, 60, 255);
+        GameApp.drawRect(barX, barY, barWidth, barHeight);
+        GameApp.setColor(132, 204, 22, 255);
+        GameApp.drawRect(barX, barY, barWidth * loadPipeline.getProgress(), barHeight);
+        GameApp.endShapeRendering();
+
+        if (done) {
+            loadPipeline = null;
+            finishShow();
+        }
+    }
+
+    /**
+     * Second half of show(): set up systems once the resources are loaded.
+     */
+    private void finishShow() {
         // Check if returning from settings - preserve game state
         if (returningFromSettings && savedPlayer != null) {
             returningFromSettings = false;
 
-            // Re-initialize systems (resources need to be reloaded)
-            resourceLoader = new ResourceLoader();
-            resourceLoader.loadGameResources();
+            // Re-initialize systems (resources were reloaded by the load pipeline)
             soundManager = resourceLoader.getSoundManager();
 
-            Map<Integer, TMXMapData> tmxMapDataByRoomIndex = resourceLoader.loadTMXMaps();
+            Map<Integer, TMXMapData> tmxMapDataByRoomIndex = resourceLoader.getLoadedTMXMaps();
             mapRenderer = new MapRenderer(tmxMapDataByRoomIndex);
             mapRenderer.setResourceLoader(resourceLoader); // Enable sharp rendering
             enemySpawner = new EnemySpawner();
             collisionHandler = new CollisionHandler();
             gameRenderer = new GameRenderer();
+            renderQueue = new RenderQueue();
+            entitySpriteRenderer = new EntitySpriteRenderer();
+            renderQueue.setEntityRenderer(entitySpriteRenderer);
+            gameRenderer.setRenderQueue(renderQueue);
             gameStateManager = new GameStateManager();
             damageTextSystem = new DamageTextSystem();
 
@@ -361,6 +457,7 @@ public class PlayScreen extends ScalableGameScreen {
 
             input = new InputController(MainGame.getConfig());
             hud = new HUD();
+            hudLayer = new HudLayer(hud);
             levelUpMenuRenderer = new LevelUpMenuRenderer();
 
             // Load fonts and textures
@@ -372,6 +469,14 @@ public class PlayScreen extends ScalableGameScreen {
             // Restore game state
             restoreGameState();
 
+            // Streamed groups were disposed with the other resources; restored bosses/chests need them now
+            if (bosses != null && !bosses.isEmpty()) {
+                LazyResourceManager.loadNow(ResourceLoader.RESOURCE_OWNER, LazyResourceManager.ResourceGroup.BOSS);
+            }
+            if (isGachaActive || (treasureChests != null && !treasureChests.isEmpty())) {
+                LazyResourceManager.loadNow(ResourceLoader.RESOURCE_OWNER, LazyResourceManager.ResourceGroup.TREASURE_CHEST);
+            }
+
             // Set game state to PLAYING
             gameStateManager.setCurrentState(GameState.PLAYING);
 
@@ -397,19 +502,20 @@ public class PlayScreen extends ScalableGameScreen {
         returningFromSettings = false;
         wasPausedBeforeSettings = false;
 
-        // Initialize systems
-        resourceLoader = new ResourceLoader();
-        resourceLoader.loadGameResources();
-
+        // Initialize systems (resources were loaded by the load pipeline)
         // Get SoundManager from ResourceLoader
         soundManager = resourceLoader.getSoundManager();
 
-        Map<Integer, TMXMapData> tmxMapDataByRoomIndex = resourceLoader.loadTMXMaps();
+        Map<Integer, TMXMapData> tmxMapDataByRoomIndex = resourceLoader.getLoadedTMXMaps();
         mapRenderer = new MapRenderer(tmxMapDataByRoomIndex);
         mapRenderer.setResourceLoader(resourceLoader); // Enable sharp rendering
         enemySpawner = new EnemySpawner();
         collisionHandler = new CollisionHandler();
         gameRenderer = new GameRenderer();
+        renderQueue = new RenderQueue();
+        entitySpriteRenderer = new EntitySpriteRenderer();
+        renderQueue.setEntityRenderer(entitySpriteRenderer);
+        gameRenderer.setRenderQueue(renderQueue);
         gameStateManager = new GameStateManager();
         damageTextSystem = new DamageTextSystem();
 
@@ -437,12 +543,12 @@ public class PlayScreen extends ScalableGameScreen {
 
         input = new InputController(MainGame.getConfig());
         hud = new HUD();
+        hudLayer = new HudLayer(hud);
         levelUpMenuRenderer = new LevelUpMenuRenderer();
 
-        // Load game over fonts - adjusted size for smaller world
-        GameApp.addStyledFont("gameOverTitle", "fonts/Emulogic-zrEw.ttf", 72,
-                "red-500", 2f, "black", 3, 3, "red-900", true);
-        GameApp.addFont("gameOverText", "fonts/PressStart2P-Regular.ttf", 16, true);
+        // Gameplay fonts are shared and rasterized once per session (not on every new run)
+        requireFonts();
+
         // Register unified button text colors for all menus
         // GREEN button text - dark gray for best contrast on bright green
         if (!GameApp.hasColor("button_green_text")) {
@@ -465,26 +571,6 @@ public class PlayScreen extends ScalableGameScreen {
             GameApp.addColor("gameover_back_menu_color", 60, 15, 30); // Same as red
         }
 
-        // === HUD & GAMEPLAY FONTS - Mixed hierarchy ===
-        // Button font: upheavtt for bold buttons - size 24
-        GameApp.addStyledFont("gameOverButtonFont", "fonts/upheavtt.ttf", 19,
-                "gray-200", 2f, "black", 2, 2, "gray-600", true);
-
-        // Load level font for XP bar (scaled up for 960x540 world view)
-        GameApp.addStyledFont("levelFont", "fonts/PressStart2P-Regular.ttf", 12,
-                "white", 1f, "black", 1, 1, "gray-800", true);
-
-        // Load score font (scaled up for better visibility)
-        GameApp.addStyledFont("scoreFont", "fonts/PressStart2P-Regular.ttf", 14,
-                "white", 1.5f, "black", 2, 2, "gray-700", true);
-
-        // Load timer font (larger for zoomed out view)
-        GameApp.addFont("timerFont", "fonts/PressStart2P-Regular.ttf", 20, true);
-
-        // Load damage font (larger for better visibility when zoomed out)
-        GameApp.addStyledFont("damageFont", "fonts/PixelOperatorMono-Bold.ttf", 18,
-                "orange-500", 0.4f, "black", 1, 1, "black", true);
-
         // Load game over button sprites
         if (!GameApp.hasTexture("green_long")) {
             GameApp.addTexture("green_long", "assets/ui/green_long.png");
@@ -518,36 +604,6 @@ public class PlayScreen extends ScalableGameScreen {
             GameApp.addColor("pause_quit_color", 60, 15, 30); // Same as button_red_text
         }
 
-        // Button font for PlayScreen (640x360 world, half-size buttons)
-        // Size 18 for better readability
-        if (!GameApp.hasFont("buttonFontSmall")) {
-            GameApp.addStyledFont("buttonFontSmall", "fonts/upheavtt.ttf", 20,
-                    "white", 0f, "black", 1, 1, "gray-700", true);
-        }
-
-        // Load level up menu fonts - improved readability and scaling
-        // IMPORTANT: Only load if not already loaded to prevent font size changes on screen transitions
-        if (!GameApp.hasFont("levelUpTitleFont")) {
-            GameApp.addStyledFont("levelUpTitleFont", "fonts/PressStart2P-Regular.ttf", 28,
-                "yellow-400", 2.5f, "black", 3, 3, "orange-800", true);
-        }
-        if (!GameApp.hasFont("levelUpItemFont")) {
-            GameApp.addStyledFont("levelUpItemFont", "fonts/PressStart2P-Regular.ttf", 16,
-                "white", 2.0f, "black", 2, 2, "gray-800", true);
-        }
-        if (!GameApp.hasFont("levelUpNewFont")) {
-            GameApp.addStyledFont("levelUpNewFont", "fonts/PressStart2P-Regular.ttf", 12,
-                "orange-400", 1.5f, "black", 2, 2, "orange-900", true);
-        }
-        if (!GameApp.hasFont("levelUpLevelFont")) {
-            GameApp.addStyledFont("levelUpLevelFont", "fonts/PressStart2P-Regular.ttf", 18,
-                "cyan-300", 2.0f, "black", 2, 2, "blue-900", true);
-        }
-        if (!GameApp.hasFont("levelUpDescFont")) {
-            GameApp.addStyledFont("levelUpDescFont", "fonts/PressStart2P-Regular.ttf", 6,
-                "gray-300", 0.8f, "black", 1, 1, "gray-800", false);
-        }
-
         // Load game over background image
         if (!GameApp.hasTexture("gameover_bg")) {
             GameApp.addTexture("gameover_bg", "assets/ui/gameover.png");
@@ -570,16 +626,31 @@ public class PlayScreen extends ScalableGameScreen {
         gameStateManager.setCurrentState(GameState.PLAYING);
 
         resetGame();
+
+        // Continue this player's run if the game was closed or crashed during it
+        if (GameSnapshot.exists(RUN_SNAPSHOT_FILE)) {
+            if (!GameSnapshot.load(RUN_SNAPSHOT_FILE, in -> readRunState(in, true))) {
+                GameSnapshot.delete(RUN_SNAPSHOT_FILE);
+            }
+        }
+    }
+
+    /**
+     * Fonts used by the play screen, the HUD, the overlays and the level up menu.
+     */
+    private void requireFonts() {
+        FontRegistry.require(FontRegistry.GAME_OVER_TITLE, FontRegistry.GAME_OVER_TEXT, FontRegistry.OVERLAY_BUTTON,
+                FontRegistry.LEVEL, FontRegistry.SCORE, FontRegistry.TIMER, FontRegistry.DAMAGE,
+                FontRegistry.BUTTON_SMALL, FontRegistry.LEVEL_UP_TITLE, FontRegistry.LEVEL_UP_ITEM,
+                FontRegistry.LEVEL_UP_NEW, FontRegistry.LEVEL_UP_LEVEL, FontRegistry.LEVEL_UP_DESC,
+                FontRegistry.WINNER_TITLE);
     }
 
     /**
      * Load fonts and textures needed for the play screen.
      */
     private void loadFontsAndTextures() {
-        // Load game over fonts - adjusted size for smaller world
-        GameApp.addStyledFont("gameOverTitle", "fonts/Emulogic-zrEw.ttf", 72,
-                "red-500", 2f, "black", 3, 3, "red-900", true);
-        GameApp.addFont("gameOverText", "fonts/PressStart2P-Regular.ttf", 16, true);
+        requireFonts();
 
         // Register custom button text colors for game over screen
         if (!GameApp.hasColor("gameover_play_again_color")) {
@@ -589,26 +660,6 @@ public class PlayScreen extends ScalableGameScreen {
             GameApp.addColor("gameover_back_menu_color", 79, 29, 76);
         }
 
-        // === HUD & GAMEPLAY FONTS - Mixed hierarchy ===
-        // Button font: upheavtt for bold buttons - size 24
-        GameApp.addStyledFont("gameOverButtonFont", "fonts/upheavtt.ttf", 19,
-                "gray-200", 2f, "black", 2, 2, "gray-600", true);
-
-        // Load level font for XP bar (scaled up for 960x540 world view)
-        GameApp.addStyledFont("levelFont", "fonts/PressStart2P-Regular.ttf", 12,
-                "white", 1f, "black", 1, 1, "gray-800", true);
-
-        // Load score font (scaled up for better visibility)
-        GameApp.addStyledFont("scoreFont", "fonts/PressStart2P-Regular.ttf", 14,
-                "white", 1.5f, "black", 2, 2, "gray-700", true);
-
-        // Load timer font (larger for zoomed out view)
-        GameApp.addFont("timerFont", "fonts/PressStart2P-Regular.ttf", 20, true);
-
-        // Load damage font (larger for better visibility when zoomed out)
-        GameApp.addStyledFont("damageFont", "fonts/PixelOperatorMono-Bold.ttf", 18,
-                "orange-500", 0.4f, "black", 1, 1, "black", true);
-
         // Load button sprites
         if (!GameApp.hasTexture("green_long")) {
             GameApp.addTexture("green_long", "assets/ui/green_long.png");
@@ -629,25 +680,8 @@ public class PlayScreen extends ScalableGameScreen {
             GameApp.addTexture("orange_pressed_long", "assets/ui/orange_pressed_long.png");
         }
         
-        // Load arrow texture for level up menu
-        if (!GameApp.hasTexture("arrow")) {
-            GameApp.addTexture("arrow", "assets/ui/arrow.png");
-        }
-        
-        // Load post-evolution bonus textures
-        if (!GameApp.hasTexture("star")) {
-            GameApp.addTexture("star", "assets/ui/star.png");
-        }
-        if (!GameApp.hasTexture("skull_icon")) {
-            GameApp.addTexture("skull_icon", "assets/ui/skull.png");
-        }
-        if (!GameApp.hasTexture("chicken")) {
-            GameApp.addTexture("chicken", "assets/ui/chicken.png");
-        }
+        // Arrow, star, skull and chicken icons are resource groups (see ResourceLoader)
         
-        // Level up menu fonts already loaded in constructor - no need to reload here
-        // This prevents font size changes when transitioning between screens
-
         // Unified button colors for all menus
         if (!GameApp.hasColor("button_green_text")) {
             GameApp.addColor("button_green_text", 25, 50, 25);
@@ -668,10 +702,6 @@ public class PlayScreen extends ScalableGameScreen {
             GameApp.addColor("pause_quit_color", 60, 15, 30);
         }
 
-        // Button font for PlayScreen (640x360 world, half-size buttons)
-        GameApp.addStyledFont("buttonFontSmall", "fonts/upheavtt.ttf", 20,
-                "white", 0f, "black", 1, 1, "gray-700", true);
-
         // Load game over background image
         if (!GameApp.hasTexture("gameover_bg")) {
             GameApp.addTexture("gameover_bg", "assets/ui/gameover.png");
@@ -686,58 +716,22 @@ public class PlayScreen extends ScalableGameScreen {
         }
     }
 
-    // Load cursor images (pointer.png and cursor.png)
     private void loadCursors() {
-        try {
-            // Load pointer cursor (for click/default state)
-            String pointerPath = "assets/ui/pointer.png";
-            Pixmap pointerSource = new Pixmap(Gdx.files.internal(pointerPath));
-            int pointerSourceWidth = pointerSource.getWidth();
-            int pointerSourceHeight = pointerSource.getHeight();
-
-            // Resize to 32x32
-            int targetSize = 32;
-            Pixmap pointerPixmap = new Pixmap(targetSize, targetSize, pointerSource.getFormat());
-            pointerPixmap.drawPixmap(pointerSource,
-                    0, 0, pointerSourceWidth, pointerSourceHeight,
-                    0, 0, targetSize, targetSize);
-            cursorPointer = Gdx.graphics.newCursor(pointerPixmap, 0, 0);
-            pointerPixmap.dispose();
-            pointerSource.dispose();
-
-            // Load hover cursor (for hover state)
-            String cursorPath = "assets/ui/cursor.png";
-            Pixmap cursorSource = new Pixmap(Gdx.files.internal(cursorPath));
-            int cursorSourceWidth = cursorSource.getWidth();
-            int cursorSourceHeight = cursorSource.getHeight();
-
-            // Resize to 32x32
-            Pixmap cursorPixmap = new Pixmap(targetSize, targetSize, cursorSource.getFormat());
-            cursorPixmap.drawPixmap(cursorSource,
-                    0, 0, cursorSourceWidth, cursorSourceHeight,
-                    0, 0, targetSize, targetSize);
-            cursorHover = Gdx.graphics.newCursor(cursorPixmap, 0, 0);
-            cursorPixmap.dispose();
-            cursorSource.dispose();
-
-            // Create invisible cursor (1x1 transparent pixel)
-            Pixmap invisiblePixmap = new Pixmap(1, 1, Pixmap.Format.RGBA8888);
-            invisiblePixmap.setColor(0, 0, 0, 0); // Fully transparent
-            invisiblePixmap.fill();
-            cursorInvisible = Gdx.graphics.newCursor(invisiblePixmap, 0, 0);
-            invisiblePixmap.dispose();
-
-            // Set default to pointer
-            if (cursorPointer != null) {
-                Gdx.graphics.setCursor(cursorPointer);
-            }
-        } catch (Exception e) {
-            GameApp.log("Could not load cursors: " + e.getMessage());
-        }
+        // Shared cursors, built once per session
+        cursorPointer = CursorCache.getPointer();
+        cursorHover = CursorCache.getHover();
+        cursorInvisible = CursorCache.getInvisible();
+        CursorCache.showPointer();
     }
 
     @Override
     public void hide() {
+        // Left before loading finished: stop the workers and free decoded assets
+        if (loadPipeline != null) {
+            loadPipeline.cancel();
+            loadPipeline = null;
+        }
+
         // Reset game over state when leaving screen
         isGameOver = false;
         gameOverFadeTimer = 0f;
@@ -762,29 +756,6 @@ public class PlayScreen extends ScalableGameScreen {
             pauseButtons.clear();
         }
 
-        // Dispose fonts
-        GameApp.disposeFont("gameOverTitle");
-        GameApp.disposeFont("gameOverText");
-        GameApp.disposeFont("gameOverButtonFont");
-        GameApp.disposeFont("levelFont");
-        GameApp.disposeFont("scoreFont");
-        GameApp.disposeFont("timerFont");
-        GameApp.disposeFont("damageFont");
-
-        // Dispose cursors
-        if (cursorPointer != null) {
-            cursorPointer.dispose();
-            cursorPointer = null;
-        }
-        if (cursorHover != null) {
-            cursorHover.dispose();
-            cursorHover = null;
-        }
-        if (cursorInvisible != null) {
-            cursorInvisible.dispose();
-            cursorInvisible = null;
-        }
-
         // Stop ingame music when leaving gameplay
         if (soundManager != null) {
             soundManager.stopIngameMusic();
@@ -795,6 +766,26 @@ public class PlayScreen extends ScalableGameScreen {
             mapRenderer.dispose();
         }
         
+        // Dispose entity sprite batch
+        if (entitySpriteRenderer != null) {
+            entitySpriteRenderer.dispose();
+            entitySpriteRenderer = null;
+        }
+
+        // Dispose frozen world snapshot buffer
+        frozenWorld.dispose();
+
+        // Dispose HUD layer buffer
+        if (hudLayer != null) {
+            hudLayer.dispose();
+            hudLayer = null;
+        }
+
+        // Dispose damage number atlas
+        if (damageTextSystem != null) {
+            damageTextSystem.dispose();
+        }
+
         if (resourceLoader != null) {
             resourceLoader.disposeGameResources();
         }
@@ -804,12 +795,32 @@ public class PlayScreen extends ScalableGameScreen {
     public void render(float delta) {
         super.render(delta);
 
+        // Still loading: only the progress bar is drawn
+        if (loadPipeline != null) {
+            renderLoadingScreen();
+            return;
+        }
+
         lastDelta = delta;
         // Handle F11 key to toggle fullscreen
         if (GameApp.isKeyJustPressed(com.badlogic.gdx.Input.Keys.F11)) {
             toggleFullscreen();
         }
 
+        // Debug: F9 runs the entity render benchmark (after the world is drawn this frame)
+        if (DebugLogger.isEnabled() && GameApp.isKeyJustPressed(Input.Keys.F9)) {
+            renderBenchmarkRequested = true;
+        }
+
+        // Debug: F6 saves a checkpoint of this run, F7 loads it (e.g. to benchmark a late wave)
+        if (DebugLogger.isEnabled() && !isGameOver && !isLevelUpActive && !isGachaActive) {
+            if (GameApp.isKeyJustPressed(Input.Keys.F6)) {
+                saveRunSnapshot(CHECKPOINT_FILE);
+            } else if (GameApp.isKeyJustPressed(Input.Keys.F7)) {
+                GameSnapshot.load(CHECKPOINT_FILE, in -> readRunState(in, false));
+            }
+        }
+
         // Handle ESC key to toggle pause menu (only when not game over and not level up)
         if (GameApp.isKeyJustPressed(Input.Keys.ESCAPE) && !isGameOver && !isLevelUpActive) {
             togglePause();
@@ -859,17 +870,8 @@ public class PlayScreen extends ScalableGameScreen {
             // Handle pause menu input
             handlePauseInput();
 
-            // Render frozen game background using unified method
-            renderFrozenGameBackground();
-            
-            // Add consistent dark overlay for pause menu
-            float screenWidth = GameApp.getWorldWidth();
-            float screenHeight = GameApp.getWorldHeight();
-            GameApp.enableTransparency();
-            GameApp.startShapeRenderingFilled();
-            GameApp.setColor(0, 0, 0, 120); // Semi-transparent overlay
-            GameApp.drawRect(0, 0, screenWidth, screenHeight);
-            GameApp.endShapeRendering();
+            // Frozen game background with dark overlay (snapshot taken when the menu opened)
+            frozenWorld.render();
 
             // Render HUD (keeps EXP bar and stats visible like level-up screen)
             renderHUD();
@@ -894,17 +896,8 @@ public class PlayScreen extends ScalableGameScreen {
                 
                 handleGachaInput();
                 
-                // Render frozen game background using unified method
-                renderFrozenGameBackground();
-                
-                // Add consistent dark overlay for gacha menu
-                float screenWidth = GameApp.getWorldWidth();
-                float screenHeight = GameApp.getWorldHeight();
-                GameApp.enableTransparency();
-                GameApp.startShapeRenderingFilled();
-                GameApp.setColor(0, 0, 0, 120); // Semi-transparent overlay
-                GameApp.drawRect(0, 0, screenWidth, screenHeight);
-                GameApp.endShapeRendering();
+                // Frozen game background with dark overlay (snapshot taken when the menu opened)
+                frozenWorld.render();
                 
                 // Render HUD (keeps EXP bar and stats visible like level-up screen)
                 renderHUD();
@@ -933,15 +926,8 @@ public class PlayScreen extends ScalableGameScreen {
             handleLevelUpCursor(worldMouseX, worldMouseY);
 
             handleLevelUpInput();
-            // Render frozen game background using unified method
-            renderFrozenGameBackground();
-            
-            // Add consistent dark overlay for level up menu
-            GameApp.enableTransparency();
-            GameApp.startShapeRenderingFilled();
-            GameApp.setColor(0, 0, 0, 120); // Semi-transparent overlay
-            GameApp.drawRect(0, 0, screenWidth, screenHeight);
-            GameApp.endShapeRendering();
+            // Frozen game background with dark overlay (snapshot taken when the menu opened)
+            frozenWorld.render();
             
             // Update rainbow timer for XP bar
             levelUpRainbowTimer += delta * 2f;
@@ -951,6 +937,9 @@ public class PlayScreen extends ScalableGameScreen {
             return; // Skip game updates
         }
 
+        // World is live again: the next menu needs a fresh snapshot
+        frozenWorld.invalidate();
+
         // Update countdown timer (only if not game over)
         if (!isGameOver && gameTime > 0) {
             gameTime -= delta;
@@ -964,6 +953,8 @@ public class PlayScreen extends ScalableGameScreen {
                     isVictoryTransition = true;
                     victoryTransitionTimer = 0f;
                     victoryFadeAlpha = 0f;
+                    // Winner screen is next: build it and load its textures during the fade
+                    ScreenRegistry.prewarm("winner");
                     
                     // Stop ingame music immediately
                     if (soundManager != null) {
@@ -1028,13 +1019,20 @@ public class PlayScreen extends ScalableGameScreen {
             handleGameOverInput();
             
             // Only update animations (for visual continuity) but skip game logic
-            updateAnimationsOnly();
+            updateAnimationsOnly(delta);
             
             // Skip to render section - don't update any game logic
             renderGameFrozen();
             return;
         }
 
+        // Autosave the run for crash recovery
+        autosaveTimer += delta;
+        if (autosaveTimer >= AUTOSAVE_INTERVAL && !isGachaActive && !player.isDying()) {
+            autosaveTimer = 0f;
+            saveRunSnapshot(RUN_SNAPSHOT_FILE);
+        }
+
         // Update player
         CollisionChecker collisionChecker = mapRenderer::checkWallCollision;
         player.update(delta, input, Integer.MAX_VALUE, Integer.MAX_VALUE, collisionChecker);
@@ -1080,48 +1078,9 @@ public class PlayScreen extends ScalableGameScreen {
         }
 
 
-        // Update player animations
-        GameApp.updateAnimation("player_idle");
-        GameApp.updateAnimation("player_run_left");
-        GameApp.updateAnimation("player_run_right");
-        GameApp.updateAnimation("player_hit");
-        GameApp.updateAnimation("player_death");
-
-        // Update zombie animations - Type 1
-        GameApp.updateAnimation("zombie_idle");
-        GameApp.updateAnimation("zombie_run");
-        GameApp.updateAnimation("zombie_hit");
-        GameApp.updateAnimation("zombie_death");
-
-        // Update zombie animations - Type 3
-        GameApp.updateAnimation("zombie3_idle");
-        GameApp.updateAnimation("zombie3_run");
-        GameApp.updateAnimation("zombie3_hit");
-        GameApp.updateAnimation("zombie3_death");
-
-        // Update zombie animations - Type 4
-        GameApp.updateAnimation("zombie4_idle");
-        GameApp.updateAnimation("zombie4_run");
-        GameApp.updateAnimation("zombie4_hit");
-        GameApp.updateAnimation("zombie4_death");
-
-        // Update boss animations
-        GameApp.updateAnimation("boss_idle");
-        GameApp.updateAnimation("boss_run");
-        GameApp.updateAnimation("boss_hit");
-        GameApp.updateAnimation("boss_death");
+        // Advance the shared animation clock (player, zombies, bosses, orbs, objects)
+        AnimationClock.tick(delta);
 
-
-        // Update XP orb animation
-        GameApp.updateAnimation("orb_animation");
-
-        // Update breakable object animations for ALL object types
-        String[] objectTypes = {"barrel", "box", "rock", "sign", "mushroom", "chest"};
-        for (String type : objectTypes) {
-            GameApp.updateAnimation(type + "_idle");
-            GameApp.updateAnimation(type + "_break");
-        }
-        
         // Update breakable objects
         for (BreakableObject obj : breakableObjects) {
             obj.update(delta);
@@ -1173,6 +1132,10 @@ public class PlayScreen extends ScalableGameScreen {
         // Pass elapsed time (not countdown) for difficulty scaling
         float elapsedTime = GAME_DURATION - gameTime;
 
+        // Stream boss and chest resources in before they are needed (late waves start at minute 7)
+        LazyResourceManager.prefetch(ResourceLoader.RESOURCE_OWNER, elapsedTime, ROUND_DURATION, LATE_WAVE_START, getLowestChestBossHealth());
+        LazyResourceManager.update();
+
         // MiniBoss spawn at end of each round (every 60 seconds)
         int expectedRound = (int)(elapsedTime / ROUND_DURATION);
         if (expectedRound > currentRound && expectedRound <= TOTAL_ROUNDS) {
@@ -1291,28 +1254,14 @@ public class PlayScreen extends ScalableGameScreen {
         // Render map background first (always render, even when game over)
         mapRenderer.render(playerWorldX, playerWorldY);
 
-        GameApp.startSpriteRendering();
-
-        // Render background cats first (render before everything else)
-        renderCats();
-        
-        // Render background zombie hands (render before objects)
-        renderZombieHands();
-        
-        // Render breakable objects (render before enemies so they appear behind)
-        renderBreakableObjects();
-
-        // Render entities
-        gameRenderer.renderPlayer();
-        gameRenderer.renderEnemies(enemies);
-        gameRenderer.renderStampedeZombies(enemySpawner.getStampedeZombies());
-        gameRenderer.renderBosses(bosses);
-        gameRenderer.renderBullets(bullets);
-        
-        // Render treasure chests
-        renderTreasureChests();
+        // Render all world sprites in one sorted batch pass
+        renderWorldSprites();
+        renderQueue.updateStats(delta);
 
-        GameApp.endSpriteRendering();
+        if (renderBenchmarkRequested) {
+            renderBenchmarkRequested = false;
+            EntityRenderBenchmark.run(entitySpriteRenderer, 2000, 30);
+        }
 
         // Render damage texts (after sprites, uses its own sprite batch)
         damageTextSystem.render(playerWorldX, playerWorldY);
@@ -1320,20 +1269,12 @@ public class PlayScreen extends ScalableGameScreen {
         // Render health bar below player (uses shape rendering)
         renderPlayerHealthBar();
         
-        // Render player blood particles (shape rendering)
-        if (player != null) {
-            player.renderBloodParticles(playerWorldX, playerWorldY);
-        }
+        // Render particles with shapes if the render queue could not take them
+        renderParticlesWithShapes();
 
-        // Render breakable object hit particles (shape rendering)
-        renderBreakableObjectParticles();
-
-        // Render XP orbs (uses shape rendering)
+        // Render XP orbs as circles if orb textures are missing (shape rendering)
         renderXPOrbs();
 
-        // Render healing items (chicken) with glow
-        renderHealingItems();
-
         // Render HUD after sprite rendering (HUD uses shapes and text)
         renderHUD();
 
@@ -1369,7 +1310,7 @@ public class PlayScreen extends ScalableGameScreen {
             GameApp.startSpriteRendering();
             float textAlpha = Math.min(1f, (victoryFadeAlpha - 0.3f) * 2f);
             // Use styled font for victory text
-            String fontKey = GameApp.hasFont("winnerTitle") ? "winnerTitle" : "default";
+            String fontKey = GameApp.hasFont(FontRegistry.WINNER_TITLE) ? FontRegistry.WINNER_TITLE : "default";
             float centerX = screenWidth / 2f;
             float centerY = screenHeight / 2f;
             GameApp.drawTextCentered(fontKey, "VICTORY!", centerX, centerY, "yellow-400");
@@ -1406,52 +1347,8 @@ public class PlayScreen extends ScalableGameScreen {
      * Update animations only (for frozen game state visual continuity).
      * Called when game is over but we still want animations to look alive.
      */
-    private void updateAnimationsOnly() {
-        // Update player animations (chỉ update nếu animation tồn tại)
-        if (GameApp.hasAnimation("player_idle")) {
-            GameApp.updateAnimation("player_idle");
-            GameApp.updateAnimation("player_run_left");
-            GameApp.updateAnimation("player_run_right");
-            GameApp.updateAnimation("player_hit");
-            GameApp.updateAnimation("player_death");
-        }
-
-        // Update zombie animations (chỉ update nếu animation tồn tại)
-        if (GameApp.hasAnimation("zombie_idle")) {
-            GameApp.updateAnimation("zombie_idle");
-            GameApp.updateAnimation("zombie_run");
-            GameApp.updateAnimation("zombie_hit");
-            GameApp.updateAnimation("zombie_death");
-        }
-        if (GameApp.hasAnimation("zombie3_idle")) {
-            GameApp.updateAnimation("zombie3_idle");
-            GameApp.updateAnimation("zombie3_run");
-            GameApp.updateAnimation("zombie3_hit");
-            GameApp.updateAnimation("zombie3_death");
-        }
-        if (GameApp.hasAnimation("zombie4_idle")) {
-            GameApp.updateAnimation("zombie4_idle");
-            GameApp.updateAnimation("zombie4_run");
-            GameApp.updateAnimation("zombie4_hit");
-            GameApp.updateAnimation("zombie4_death");
-        }
-
-        // Update boss animations (chỉ update nếu animation tồn tại)
-        if (GameApp.hasAnimation("boss_idle")) {
-            GameApp.updateAnimation("boss_idle");
-            GameApp.updateAnimation("boss_run");
-            GameApp.updateAnimation("boss_hit");
-            GameApp.updateAnimation("boss_death");
-        }
-
-        // Update object animations (chỉ update nếu animation tồn tại)
-        String[] objectTypes = {"barrel", "box", "rock", "sign", "mushroom", "chest"};
-        for (String type : objectTypes) {
-            if (GameApp.hasAnimation(type + "_idle")) {
-                GameApp.updateAnimation(type + "_idle");
-                GameApp.updateAnimation(type + "_break");
-            }
-        }
+    private void updateAnimationsOnly(float delta) {
+        AnimationClock.tick(delta);
     }
 
     /**
@@ -1485,23 +1382,13 @@ public class PlayScreen extends ScalableGameScreen {
         hud.setWeapon(weapon);
         hud.setPassiveItems(player.getOwnedPassiveItems());
         
-        // Render rainbow XP bar if level up active, otherwise normal HUD
+        // Rainbow XP bar animates every frame, so it is drawn directly under the HUD layer
         if (isLevelUpActive) {
-            // Render rainbow XP bar
             renderRainbowXPBar(status, levelUpRainbowTimer);
-            
-            // Render item icons first (manages its own rendering state)
-            hud.renderItemIconsOnly();
-            
-            // Render HUD text separately (score, level, timer, etc)
-            GameApp.startSpriteRendering();
-            hud.renderScoreOnly(status);
-            hud.renderXPTextOnly(status);
-            hud.renderSurvivalTimeOnly(gameTime);
-            GameApp.endSpriteRendering();
-        } else {
-            hud.render(status, gameTime);
         }
+
+        // Retained HUD: only widgets whose values changed are redrawn
+        hudLayer.render(status, gameTime, isLevelUpActive);
     }
     
     /**
@@ -1687,7 +1574,7 @@ public class PlayScreen extends ScalableGameScreen {
                     // Spawn damage text
                     if (damageTextSystem != null) {
                         boolean isCrit = damage > 15;
-                        damageTextSystem.spawnDamageText(sz.x, sz.y - 10, damage, isCrit);
+                        damageTextSystem.spawnDamageText(sz, sz.x, sz.y - 10, damage, isCrit);
                     }
                     
                     // Spawn XP orb if killed
@@ -1810,11 +1697,60 @@ public class PlayScreen extends ScalableGameScreen {
     // =========================
 
     /**
-     * Renders all breakable objects in the world.
+     * Submit all world sprites to the render queue and draw them in one batch pass.
+     * The queue sorts by layer (ground, pickups, actors, projectiles) and by Y inside a layer.
      */
+    private void renderWorldSprites() {
+        // Background props
+        renderCats();
+        renderZombieHands();
+
+        // Pickups
+        queueXPOrbs();
+        renderHealingItems();
+
+        // Actors (depth sorted together)
+        renderBreakableObjects();
+        gameRenderer.renderPlayer();
+        gameRenderer.renderEnemies(enemies);
+        gameRenderer.renderStampedeZombies(enemySpawner.getStampedeZombies());
+        gameRenderer.renderBosses(bosses);
+        renderTreasureChests();
+
+        // Projectiles
+        gameRenderer.renderBullets(bullets);
+
+        // Particles as tinted quads (same pass instead of extra shape passes)
+        if (renderQueue.canDrawRects()) {
+            if (player != null) {
+                player.queueBloodParticles(renderQueue, playerWorldX, playerWorldY);
+            }
+            for (BreakableObject obj : breakableObjects) {
+                if (obj.hasParticles()) {
+                    obj.queueParticles(renderQueue, playerWorldX, playerWorldY);
+                }
+            }
+        }
+
+        renderQueue.flush();
+    }
+
+    // Fallback particle rendering when the entity sprite renderer is not available
+    private void renderParticlesWithShapes() {
+        if (renderQueue != null && renderQueue.canDrawRects()) return;
+
+        // Player blood particles (shape rendering)
+        if (player != null) {
+            player.renderBloodParticles(playerWorldX, playerWorldY);
+        }
+
+        // Breakable object hit particles (shape rendering)
+        renderBreakableObjectParticles();
+    }
+
     private void renderBreakableObjects() {
         for (BreakableObject obj : breakableObjects) {
-            obj.render(playerWorldX, playerWorldY);
+            obj.render(renderQueue, playerWorldX, playerWorldY);
         }
     }
     
@@ -1841,7 +1777,7 @@ public class PlayScreen extends ScalableGameScreen {
             // Only render if in viewport (sử dụng RENDER_SIZE cho viewport check)
             if (screenX + Cat.RENDER_SIZE > 0 && screenX < worldW &&
                 screenY + Cat.RENDER_SIZE > 0 && screenY < worldH) {
-                cat.render(screenX, screenY);
+                cat.render(renderQueue, screenX, screenY);
             }
         }
     }
@@ -1869,7 +1805,7 @@ public class PlayScreen extends ScalableGameScreen {
             // Only render if in viewport
             if (screenX + ZombieHand.RENDER_SIZE > 0 && screenX < worldW &&
                 screenY + ZombieHand.RENDER_SIZE > 0 && screenY < worldH) {
-                hand.render(screenX, screenY);
+                hand.render(renderQueue, screenX, screenY);
             }
         }
     }
@@ -2390,43 +2326,37 @@ public class PlayScreen extends ScalableGameScreen {
     private void renderHealingItems() {
         if (healingItems == null || healingItems.isEmpty()) return;
         
-        // First render glow effects (shape rendering)
-        GameApp.startShapeRenderingFilled();
+        // Glow is disabled (HealingItem.renderGlow), only the chicken sprites are queued
         for (HealingItem item : healingItems) {
-            item.renderGlow(playerWorldX, playerWorldY);
+            item.render(renderQueue, playerWorldX, playerWorldY);
         }
-        GameApp.endShapeRendering();
-        
-        // Then render chicken sprites
-        GameApp.startSpriteRendering();
-        for (HealingItem item : healingItems) {
-            item.render(playerWorldX, playerWorldY);
+    }
+
+    private boolean hasOrbTextures() {
+        return AnimationClock.hasClip("orb_blue") &&
+                AnimationClock.hasClip("orb_green") &&
+                AnimationClock.hasClip("orb_red");
+    }
+
+    // Queue XP orbs using texture-based rendering (static, no animation)
+    private void queueXPOrbs() {
+        if (!hasOrbTextures()) return;
+        for (XPOrb orb : xpOrbs) {
+            orb.renderWithTexture(renderQueue, playerWorldX, playerWorldY);
         }
-        GameApp.endSpriteRendering();
     }
 
-    // Render XP orbs using texture-based rendering (static, no animation)
+    // Render XP orbs as circles when the orb textures are not loaded (shape rendering)
     private void renderXPOrbs() {
-        // Check if new orb textures are available
-        boolean hasOrbTextures = GameApp.hasTexture("orb_blue") && 
-                                  GameApp.hasTexture("orb_green") && 
-                                  GameApp.hasTexture("orb_red");
-        
-        if (hasOrbTextures) {
-            // Use texture-based rendering (static)
-            GameApp.startSpriteRendering();
-            for (XPOrb orb : xpOrbs) {
-                orb.renderWithTexture(playerWorldX, playerWorldY);
-            }
-            GameApp.endSpriteRendering();
-        } else {
-            // Fallback: use shape rendering for circles
-            GameApp.startShapeRenderingFilled();
-            for (XPOrb orb : xpOrbs) {
-                orb.renderWithCircle(playerWorldX, playerWorldY);
-            }
-            GameApp.endShapeRendering();
+        // Textured orbs are drawn by the render queue
+        if (hasOrbTextures()) return;
+
+        // Fallback: use shape rendering for circles
+        GameApp.startShapeRenderingFilled();
+        for (XPOrb orb : xpOrbs) {
+            orb.renderWithCircle(playerWorldX, playerWorldY);
         }
+        GameApp.endShapeRendering();
     }
 
     // =========================
@@ -2437,6 +2367,7 @@ public class PlayScreen extends ScalableGameScreen {
     // Now supports: Weapon upgrades, Passive items, Stat upgrades, Evolution, and Post-Evolution bonuses
     private void showLevelUpMenu() {
         levelUpOptions.clear();
+        levelUpCardTexts.clear();
 
         // ============================================
         // POST-EVOLUTION: AUTO-APPLY BONUS (no menu)
@@ -2559,6 +2490,7 @@ public class PlayScreen extends ScalableGameScreen {
      */
     private void activateLevelUpMenuWithSound() {
         isLevelUpActive = true;
+        frozenWorld.invalidate(); // Previous upgrade may have changed the player (e.g. health bar)
         levelUpMenuOpening = true;
         levelUpMenuAnimTimer = 0f;
         levelUpSelectedIndex = 0;
@@ -2874,7 +2806,7 @@ public class PlayScreen extends ScalableGameScreen {
         GameApp.startSpriteRendering();
         boolean hasEvolution = levelUpOptions.stream().anyMatch(LevelUpOption::isEvolution);
         float headerY = topY - 38f;
-        String headerFont = "levelUpTitleFont"; // PixelOperator font
+        String headerFont = FontRegistry.LEVEL_UP_TITLE; // PixelOperator font
         if (hasEvolution) {
             GameApp.drawTextCentered(headerFont, "EVOLUTION!", centerX, headerY, "purple-500");
         } else {
@@ -2924,17 +2856,17 @@ public class PlayScreen extends ScalableGameScreen {
                 
                 // Left arrow - pointing right toward option (use negative width to flip)
                 float leftArrowX = cardInnerX - arrowW - 8f - arrowOffset;
-                if (GameApp.hasTexture("arrow_icon")) {
+                if (GameApp.hasTexture("arrow")) {
                     // Flip horizontally by using negative width and offset
-                    GameApp.drawTexture("arrow_icon", leftArrowX + arrowW, arrowY, -arrowW, arrowH);
+                    GameApp.drawTexture("arrow", leftArrowX + arrowW, arrowY, -arrowW, arrowH);
                 } else {
                     GameApp.drawTextCentered("default", ">>", leftArrowX + arrowW/2, arrowY + arrowH/2 + 6f, "yellow-400");
                 }
                 
                 // Right arrow (original) - pointing left toward option
                 float rightArrowX = cardInnerX + cardInnerW + 8f + arrowOffset;
-                if (GameApp.hasTexture("arrow_icon")) {
-                    GameApp.drawTexture("arrow_icon", rightArrowX, arrowY, arrowW, arrowH);
+                if (GameApp.hasTexture("arrow")) {
+                    GameApp.drawTexture("arrow", rightArrowX, arrowY, arrowW, arrowH);
                 } else {
                     GameApp.drawTextCentered("default", "<<", rightArrowX + arrowW/2, arrowY + arrowH/2 + 6f, "yellow-400");
                 }
@@ -2970,27 +2902,28 @@ public class PlayScreen extends ScalableGameScreen {
             float descY = cardCenterY - 20f;  // Description slightly below center
 
             // Title with "New!" label - use diverse PixelOperator fonts
-            String titleFont = "levelUpItemFont"; // PixelOperator-Bold
-            String newFont = "levelUpNewFont";    // PixelOperatorHB8 for accent
-            String levelFont = "levelUpLevelFont"; // PixelOperatorSC-Bold for level
+            String titleFont = FontRegistry.LEVEL_UP_ITEM; // PixelOperator-Bold
+            String newFont = FontRegistry.LEVEL_UP_NEW;    // PixelOperatorHB8 for accent
+            String levelFont = FontRegistry.LEVEL_UP_LEVEL; // PixelOperatorSC-Bold for level
             boolean isNew = (option.isPassiveUpgrade() && option.passiveCurrentLevel == 0);
             
             // Calculate level text width first to position everything properly
-            String levelText = getLevelDisplayText(option);
-            float levelTextWidth = GameApp.getTextWidth(levelFont, levelText);
+            LevelUpCardText cardText = getLevelUpCardText(option, levelFont);
+            String levelText = cardText.levelText;
+            float levelTextWidth = cardText.levelTextWidth;
             float levelX = cardInnerX + cardInnerW - levelTextWidth - 15f; // More margin from right edge
             float levelY = cardCenterY; // Center the level text vertically
             
             if (isNew) {
                 String itemName = option.passiveItem.displayName;
-                float itemNameWidth = GameApp.getTextWidth(titleFont, itemName);
+                float itemNameWidth = TextLayoutCache.getWidth(titleFont, itemName);
                 
                 // Draw item name
                 GameApp.drawText(titleFont, itemName, textX, titleY, "white");
                 
                 // Position NEW! label to the right of item name with some spacing, but before level text
                 float newLabelX = textX + itemNameWidth + 10f;
-                float maxNewX = levelX - GameApp.getTextWidth(newFont, "NEW!") - 10f; // Leave space before level
+                float maxNewX = levelX - TextLayoutCache.getWidth(newFont, "NEW!") - 10f; // Leave space before level
                 newLabelX = Math.min(newLabelX, maxNewX); // Don't overlap with level text
                 
                 GameApp.drawText(newFont, "NEW!", newLabelX, titleY, "orange-400");
@@ -3004,8 +2937,8 @@ public class PlayScreen extends ScalableGameScreen {
             GameApp.drawText(levelFont, levelText, levelX, levelY, levelColor);
 
             // Description - larger and more readable
-            String descText = getFormattedDescription(option);
-            GameApp.drawText("levelUpDescFont", descText, textX, descY, "gray-200");
+            String descText = cardText.description;
+            GameApp.drawText(FontRegistry.LEVEL_UP_DESC, descText, textX, descY, "gray-200");
 
             GameApp.endSpriteRendering();
         }
@@ -3108,9 +3041,8 @@ public class PlayScreen extends ScalableGameScreen {
         GameApp.startSpriteRendering();
         
         // Check if new orb textures are available
-        boolean hasOrbTextures = GameApp.hasTexture("orb_blue") && 
-                                  GameApp.hasTexture("orb_green") && 
-                                  GameApp.hasTexture("orb_red");
+        boolean hasOrbTextures = hasOrbTextures();
+        SpriteBatch batch = GameApp.getSpriteBatch();
         
         for (FallingOrb orb : levelUpFallingOrbs) {
             if (orb.alpha <= 0.01f) continue; // Skip invisible orbs
@@ -3120,15 +3052,16 @@ public class PlayScreen extends ScalableGameScreen {
             GameApp.setColor(255, 255, 255, alpha);
             
             if (hasOrbTextures) {
-                // Use new orb textures with rotation
-                String textureName = orb.orbType.getTextureName();
-                GameApp.drawTexture(textureName, 
-                    orb.x - orb.size/2, orb.y - orb.size/2, 
-                    orb.size, orb.size, 
-                    orb.rotation, false, false);
-            } else if (GameApp.hasAnimation("orb_animation")) {
+                // Use new orb textures with rotation (rotated around the orb center)
+                TextureRegion frame = AnimationClock.getFrame(orb.orbType.getTextureName(), 0f);
+                batch.draw(frame,
+                    orb.x - orb.size/2, orb.y - orb.size/2,
+                    orb.size/2, orb.size/2,
+                    orb.size, orb.size,
+                    1f, 1f, orb.rotation);
+            } else {
                 // Fallback to legacy animation (no rotation support)
-                GameApp.drawAnimation("orb_animation", orb.x - orb.size/2, orb.y - orb.size/2, orb.size, orb.size);
+                AnimationClock.draw("orb_animation", 0f, orb.x - orb.size/2, orb.y - orb.size/2, orb.size, orb.size, false);
             }
         }
         // Reset color to full opacity
@@ -3136,6 +3069,18 @@ public class PlayScreen extends ScalableGameScreen {
         GameApp.endSpriteRendering();
     }
 
+    private LevelUpCardText getLevelUpCardText(LevelUpOption option, String levelFont) {
+        LevelUpCardText text = levelUpCardTexts.get(option);
+        if (text == null) {
+            text = new LevelUpCardText();
+            text.levelText = getLevelDisplayText(option);
+            text.levelTextWidth = TextLayoutCache.getWidth(levelFont, text.levelText);
+            text.description = getFormattedDescription(option);
+            levelUpCardTexts.put(option, text);
+        }
+        return text;
+    }
+
     /**
      * Format description text professionally for level up options.
      */
@@ -3292,6 +3237,9 @@ public class PlayScreen extends ScalableGameScreen {
         LeaderboardManager.addEntry(currentPlayer, score, survivalTime);
         scoreSaved = true;
 
+        // The run is over, nothing to resume
+        GameSnapshot.delete(RUN_SNAPSHOT_FILE);
+
     }
 
     // =========================
@@ -3353,14 +3301,7 @@ public class PlayScreen extends ScalableGameScreen {
         });
 
         bullets = new ArrayList<>();
-        // Weapon với random damage: 5-15 (enemy health 15, chết trong 1-3 hit)
-        // Increased fire rate from 1.5 to 2.5 shots per second for faster shooting
-        // BALANCED WEAPON STATS (Vampire Survivors feel):
-        // Fire rate 3.0 = moderate base (upgrades increase this significantly)
-        // Damage 8-15 = good base damage, scales well with upgrades
-        // Bullet speed 480 = fast bullets for responsive gameplay
-        // Bullet size 14x14 for good visibility
-        weapon = new Weapon(Weapon.WeaponType.PISTOL, 3.0f, 8, 15, 480f, 14f, 14f);
+        weapon = createStartingWeapon();
 
         enemies = new ArrayList<>();
         bosses = new ArrayList<>();
@@ -3437,6 +3378,7 @@ public class PlayScreen extends ScalableGameScreen {
         // Reset ingame music delay timer
         ingameMusicDelayTimer = 0f;
         ingameMusicStarted = false;
+        autosaveTimer = 0f;
 
         // Set initial player world position - RANDOM ROOM each game
         // Pick a random room from 0-15 (4x4 grid)
@@ -3523,6 +3465,206 @@ public class PlayScreen extends ScalableGameScreen {
         GameApp.log("Player starting at world position: (" + playerWorldX + ", " + playerWorldY + ")");
     }
 
+    // Weapon với random damage: 5-15 (enemy health 15, chết trong 1-3 hit)
+    // Increased fire rate from 1.5 to 2.5 shots per second for faster shooting
+    // BALANCED WEAPON STATS (Vampire Survivors feel):
+    // Fire rate 3.0 = moderate base (upgrades increase this significantly)
+    // Damage 8-15 = good base damage, scales well with upgrades
+    // Bullet speed 480 = fast bullets for responsive gameplay
+    // Bullet size 14x14 for good visibility
+    // Also the base a saved weapon's state is read into.
+    private Weapon createStartingWeapon() {
+        return new Weapon(Weapon.WeaponType.PISTOL, 3.0f, 8, 15, 480f, 14f, 14f);
+    }
+
+    // =========================
+    // RUN SNAPSHOT
+    // =========================
+
+    private void saveRunSnapshot(String fileName) {
+        if (player == null || isGameOver || isVictoryTransition) return;
+        int size = GameSnapshot.save(fileName, this::writeRunState);
+        if (size > 0 && fileName.equals(CHECKPOINT_FILE)) {
+            GameApp.log("Checkpoint saved (" + size + " bytes, " + enemies.size() + " enemies)");
+        }
+    }
+
+    /**
+     * Write the complete world state of this run (see GameSnapshot for the file format).
+     * Bullets, damage numbers and decorations are not saved, they are gone within seconds.
+     */
+    private void writeRunState(DataOutputStream out) throws IOException {
+        PlayerData currentPlayer = PlayerData.getCurrentPlayer();
+        out.writeUTF(currentPlayer != null ? currentPlayer.getUsername() : "");
+        out.writeUTF(currentPlayer != null ? currentPlayer.getStudentClass() : "");
+        out.writeUTF(currentPlayer != null ? currentPlayer.getGroupNumber() : "");
+
+        out.writeFloat(gameTime);
+        out.writeInt(score);
+        out.writeInt(killCount);
+        out.writeInt(currentRound);
+        out.writeFloat(lateWaveBossSpawnTimer);
+        out.writeFloat(gachaCooldown);
+        // Bonus chosen for level ups after evolution (-1 = not chosen yet)
+        out.writeByte(selectedPostEvolutionBonus != null ? selectedPostEvolutionBonus.ordinal() : -1);
+        out.writeFloat(playerWorldX);
+        out.writeFloat(playerWorldY);
+
+        player.writeState(out);
+        weapon.writeState(out);
+        enemySpawner.writeState(out);
+
+        out.writeInt(enemies.size());
+        for (Enemy enemy : enemies) {
+            enemy.writeState(out);
+        }
+        out.writeInt(bosses.size());
+        for (Boss boss : bosses) {
+            boss.writeState(out);
+            out.writeBoolean(bossesThatSpawnedChest.contains(boss));
+            out.writeBoolean(lateWaveBosses.contains(boss));
+        }
+        out.writeInt(xpOrbs.size());
+        for (XPOrb orb : xpOrbs) {
+            orb.writeState(out);
+        }
+        out.writeInt(treasureChests.size());
+        for (TreasureChest chest : treasureChests) {
+            chest.writeState(out);
+        }
+        out.writeInt(breakableObjects.size());
+        for (BreakableObject object : breakableObjects) {
+            object.writeState(out);
+        }
+        out.writeInt(healingItems.size());
+        for (HealingItem item : healingItems) {
+            item.writeState(out);
+        }
+    }
+
+    /**
+     * Replace the current run with a saved one. Everything is read before anything is replaced,
+     * so a damaged snapshot leaves the current run untouched.
+     * @param samePlayerOnly only accept a run of the current player (crash recovery)
+     */
+    private void readRunState(DataInputStream in, boolean samePlayerOnly) throws IOException {
+        String username = in.readUTF();
+        String studentClass = in.readUTF();
+        String groupNumber = in.readUTF();
+        PlayerData currentPlayer = PlayerData.getCurrentPlayer();
+        if (samePlayerOnly && (currentPlayer == null || !username.equals(currentPlayer.getUsername())
+                || !studentClass.equals(currentPlayer.getStudentClass())
+                || !groupNumber.equals(currentPlayer.getGroupNumber()))) {
+            throw new IOException("saved run belongs to another player (" + username + ")");
+        }
+
+        float savedGameTime = in.readFloat();
+        int savedScore = in.readInt();
+        int savedKillCount = in.readInt();
+        int savedRound = in.readInt();
+        float savedBossSpawnTimer = in.readFloat();
+        float savedGachaCooldown = in.readFloat();
+        int bonusOrdinal = in.readByte();
+        if (bonusOrdinal >= LevelUpOption.Type.values().length) {
+            throw new IOException("unknown post-evolution bonus " + bonusOrdinal);
+        }
+        LevelUpOption.Type savedBonus = bonusOrdinal >= 0 ? LevelUpOption.Type.values()[bonusOrdinal] : null;
+        float savedWorldX = in.readFloat();
+        float savedWorldY = in.readFloat();
+
+        Player savedPlayer = new Player(savedWorldX, savedWorldY, 1f, 1, null);
+        savedPlayer.readState(in);
+        Weapon savedWeapon = createStartingWeapon();
+        savedWeapon.readState(in);
+        EnemySpawner savedSpawner = new EnemySpawner();
+        savedSpawner.readState(in);
+
+        int count = in.readInt();
+        List<Enemy> savedEnemies = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            savedEnemies.add(Enemy.readState(in));
+        }
+        count = in.readInt();
+        List<Boss> savedBosses = new ArrayList<>(count);
+        java.util.Set<Boss> savedChestBosses = new java.util.HashSet<>();
+        java.util.Set<Boss> savedLateWaveBosses = new java.util.HashSet<>();
+        for (int i = 0; i < count; i++) {
+            Boss boss = Boss.readState(in);
+            savedBosses.add(boss);
+            if (in.readBoolean()) savedChestBosses.add(boss);
+            if (in.readBoolean()) savedLateWaveBosses.add(boss);
+        }
+        count = in.readInt();
+        List<XPOrb> savedOrbs = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            savedOrbs.add(XPOrb.readState(in));
+        }
+        count = in.readInt();
+        List<TreasureChest> savedChests = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            savedChests.add(TreasureChest.readState(in));
+        }
+        count = in.readInt();
+        List<BreakableObject> savedObjects = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            savedObjects.add(BreakableObject.readState(in));
+        }
+        count = in.readInt();
+        List<HealingItem> savedItems = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            savedItems.add(HealingItem.readState(in));
+        }
+
+        // Everything was read: replace the current run
+        gameTime = savedGameTime;
+        score = savedScore;
+        killCount = savedKillCount;
+        currentRound = savedRound;
+        lateWaveBossSpawnTimer = savedBossSpawnTimer;
+        gachaCooldown = savedGachaCooldown;
+        selectedPostEvolutionBonus = savedBonus;
+        playerWorldX = savedWorldX;
+        playerWorldY = savedWorldY;
+
+        player = savedPlayer;
+        player.setHealthTextCallback((amount, x, y) -> {
+            damageTextSystem.spawnHealthText(x, y, amount);
+        });
+        weapon = savedWeapon;
+        enemySpawner = savedSpawner;
+        enemies = savedEnemies;
+        bosses = savedBosses;
+        bossesThatSpawnedChest.clear();
+        bossesThatSpawnedChest.addAll(savedChestBosses);
+        lateWaveBosses.clear();
+        lateWaveBosses.addAll(savedLateWaveBosses);
+        xpOrbs = savedOrbs;
+        treasureChests = savedChests;
+        breakableObjects = savedObjects;
+        healingItems = savedItems;
+        bullets.clear();
+        damageTextSystem.reset();
+        autosaveTimer = 0f;
+
+        collisionHandler.setPlayer(player);
+        gameRenderer.setPlayer(player);
+        gameRenderer.setPlayerWorldPosition(playerWorldX, playerWorldY);
+        gachaSystem.setPlayer(player);
+        gachaSystem.setWeapon(weapon);
+        hud.setWeapon(weapon);
+        hud.setPassiveItems(player.getOwnedPassiveItems());
+
+        // Bosses and chests use streamed resource groups
+        if (!bosses.isEmpty()) {
+            LazyResourceManager.loadNow(ResourceLoader.RESOURCE_OWNER, LazyResourceManager.ResourceGroup.BOSS);
+        }
+        if (!treasureChests.isEmpty()) {
+            LazyResourceManager.loadNow(ResourceLoader.RESOURCE_OWNER, LazyResourceManager.ResourceGroup.TREASURE_CHEST);
+        }
+        GameApp.log("Run restored: " + (int) gameTime + "s left, round " + currentRound + ", "
+                + enemies.size() + " enemies, " + bosses.size() + " bosses");
+    }
+
     // =========================
     // GAME OVER OVERLAY
     // =========================
@@ -3728,9 +3870,6 @@ public class PlayScreen extends ScalableGameScreen {
 
         // Calculate survival time
         float survivalTime = GAME_DURATION - gameTime;
-        int survivalMinutes = (int) survivalTime / 60;
-        int survivalSeconds = (int) survivalTime % 60;
-        String survivalTimeStr = String.format("%02d:%02d", survivalMinutes, survivalSeconds);
 
         // Get player name for display
         String playerName = "PLAYER";
@@ -3741,7 +3880,6 @@ public class PlayScreen extends ScalableGameScreen {
 
         // Get rank
         int rank = LeaderboardManager.getRank(score, survivalTime);
-        String rankText = "#" + rank;
 
         // Load font and color if not loaded
         if (!GameApp.hasColor("gameover_play_again_color")) {
@@ -3756,23 +3894,23 @@ public class PlayScreen extends ScalableGameScreen {
         float statsSpacing = 25f;
 
         // Player name
-        GameApp.drawTextCentered("gameOverText", playerName, centerX, statsStartY, "yellow-400");
+        GameApp.drawTextCentered(FontRegistry.GAME_OVER_TEXT, playerName, centerX, statsStartY, "yellow-400");
 
         // Score
-        String scoreText = String.format("SCORE: %,d", score);
-        GameApp.drawTextCentered("gameOverText", scoreText, centerX, statsStartY - statsSpacing, "white");
+        String scoreText = gameOverScoreText.get(score);
+        GameApp.drawTextCentered(FontRegistry.GAME_OVER_TEXT, scoreText, centerX, statsStartY - statsSpacing, "white");
 
         // Survival time
-        String timeText = "TIME: " + survivalTimeStr;
-        GameApp.drawTextCentered("gameOverText", timeText, centerX, statsStartY - statsSpacing * 2, "green-400");
+        String timeText = gameOverTimeText.get((int) survivalTime);
+        GameApp.drawTextCentered(FontRegistry.GAME_OVER_TEXT, timeText, centerX, statsStartY - statsSpacing * 2, "green-400");
 
         // Rank
-        String rankDisplayText = "RANK: " + rankText;
+        String rankDisplayText = gameOverRankText.get(rank);
         String rankColor = "white";
         if (rank == 1) rankColor = "yellow-400";
         else if (rank == 2) rankColor = "gray-300";
         else if (rank == 3) rankColor = "orange-400";
-        GameApp.drawTextCentered("gameOverText", rankDisplayText, centerX, statsStartY - statsSpacing * 3, rankColor);
+        GameApp.drawTextCentered(FontRegistry.GAME_OVER_TEXT, rankDisplayText, centerX, statsStartY - statsSpacing * 3, rankColor);
 
         // Draw button text labels
         renderGameOverButtonText(centerX, centerY);
@@ -3821,13 +3959,13 @@ public class PlayScreen extends ScalableGameScreen {
     private void renderGameOverButtonText(float centerX, float centerY) {
         if (gameOverButtons == null || gameOverButtons.size() < 2) return;
 
-        String fontName = "buttonFontSmall"; // Small font for 640x360 world
+        String fontName = FontRegistry.BUTTON_SMALL; // Small font for 640x360 world
 
         // Play Again button text (green button)
         Button playAgainButton = gameOverButtons.get(0);
         float playAgainCenterX = playAgainButton.getX() + playAgainButton.getWidth() / 2;
         float playAgainCenterY = playAgainButton.getY() + playAgainButton.getHeight() / 2;
-        float playAgainTextHeight = GameApp.getTextHeight(fontName, "PLAY AGAIN");
+        float playAgainTextHeight = TextLayoutCache.getHeight(fontName, "PLAY AGAIN");
         float playAgainAdjustedY = playAgainCenterY + playAgainTextHeight * 0.15f;
         GameApp.drawTextCentered(fontName, "PLAY AGAIN", playAgainCenterX, playAgainAdjustedY, "button_green_text");
 
@@ -3835,7 +3973,7 @@ public class PlayScreen extends ScalableGameScreen {
         Button backToMenuButton = gameOverButtons.get(1);
         float backToMenuCenterX = backToMenuButton.getX() + backToMenuButton.getWidth() / 2;
         float backToMenuCenterY = backToMenuButton.getY() + backToMenuButton.getHeight() / 2;
-        float backToMenuTextHeight = GameApp.getTextHeight(fontName, "BACK TO MENU");
+        float backToMenuTextHeight = TextLayoutCache.getHeight(fontName, "BACK TO MENU");
         float backToMenuAdjustedY = backToMenuCenterY + backToMenuTextHeight * 0.15f;
         GameApp.drawTextCentered(fontName, "BACK TO MENU", backToMenuCenterX, backToMenuAdjustedY, "button_red_text");
     }
@@ -3867,6 +4005,9 @@ public class PlayScreen extends ScalableGameScreen {
             pauseFadeTimer = 0f;
             initializePauseButtons();
 
+            // Players often leave the kiosk from the pause menu
+            saveRunSnapshot(RUN_SNAPSHOT_FILE);
+
             // Reduce ingame music volume when paused
             if (soundManager != null) {
                 soundManager.setIngameMusicVolumeTemporary(0.3f);
@@ -4057,6 +4198,8 @@ public class PlayScreen extends ScalableGameScreen {
                     } else if (i == 2) {
                         // Quit button
                         pausePendingAction = () -> {
+                            // Run abandoned, don't resume it next time
+                            GameSnapshot.delete(RUN_SNAPSHOT_FILE);
                             // Stop ingame music and go to main menu
                             if (soundManager != null) {
                                 soundManager.stopIngameMusic();
@@ -4182,7 +4325,7 @@ public class PlayScreen extends ScalableGameScreen {
     private void renderPauseButtonText(float centerX, float centerY) {
         if (pauseButtons == null || pauseButtons.size() < 3) return;
 
-        String fontName = "buttonFontSmall"; // Small font for 640x360 world
+        String fontName = FontRegistry.BUTTON_SMALL; // Small font for 640x360 world
         
         // Enhanced button text rendering with improved visual hierarchy
         
@@ -4190,7 +4333,7 @@ public class PlayScreen extends ScalableGameScreen {
         Button resumeButton = pauseButtons.get(0);
         float resumeCenterX = resumeButton.getX() + resumeButton.getWidth() / 2;
         float resumeCenterY = resumeButton.getY() + resumeButton.getHeight() / 2;
-        float resumeTextHeight = GameApp.getTextHeight(fontName, "RESUME");
+        float resumeTextHeight = TextLayoutCache.getHeight(fontName, "RESUME");
         float resumeAdjustedY = resumeCenterY + resumeTextHeight * 0.15f;
         
         // Add text shadow for better readability
@@ -4201,7 +4344,7 @@ public class PlayScreen extends ScalableGameScreen {
         Button settingsButton = pauseButtons.get(1);
         float settingsCenterX = settingsButton.getX() + settingsButton.getWidth() / 2;
         float settingsCenterY = settingsButton.getY() + settingsButton.getHeight() / 2;
-        float settingsTextHeight = GameApp.getTextHeight(fontName, "SETTINGS");
+        float settingsTextHeight = TextLayoutCache.getHeight(fontName, "SETTINGS");
         float settingsAdjustedY = settingsCenterY + settingsTextHeight * 0.15f;
         
         // Add text shadow
@@ -4212,7 +4355,7 @@ public class PlayScreen extends ScalableGameScreen {
         Button quitButton = pauseButtons.get(2);
         float quitCenterX = quitButton.getX() + quitButton.getWidth() / 2;
         float quitCenterY = quitButton.getY() + quitButton.getHeight() / 2;
-        float quitTextHeight = GameApp.getTextHeight(fontName, "QUIT GAME");
+        float quitTextHeight = TextLayoutCache.getHeight(fontName, "QUIT GAME");
         float quitAdjustedY = quitCenterY + quitTextHeight * 0.15f;
         
         // Add text shadow
@@ -4252,30 +4395,17 @@ public class PlayScreen extends ScalableGameScreen {
                 mapRenderer.render(playerWorldX, playerWorldY);
             }
             
-            GameApp.startSpriteRendering();
-            
             // Render game entities
-            if (gameRenderer != null) {
-                gameRenderer.renderPlayer();
-                gameRenderer.renderEnemies(enemies);
-                gameRenderer.renderStampedeZombies(enemySpawner.getStampedeZombies());
-                gameRenderer.renderBosses(bosses);
-                gameRenderer.renderBullets(bullets);
+            if (gameRenderer != null && renderQueue != null) {
+                renderWorldSprites();
             }
             
-            GameApp.endSpriteRendering();
-            
             // Render additional game elements without HUD for cleaner background
             renderPlayerHealthBar();
             
-            // Render player blood particles
-            if (player != null) {
-                player.renderBloodParticles(playerWorldX, playerWorldY);
-            }
-            
-            renderBreakableObjectParticles();
+            // Render particles with shapes if the render queue could not take them
+            renderParticlesWithShapes();
             renderXPOrbs();
-            renderHealingItems();
             
         } catch (Exception e) {
             GameApp.log("Error rendering frozen game background: " + e.getMessage());
@@ -4291,6 +4421,20 @@ public class PlayScreen extends ScalableGameScreen {
         renderFrozenGameBackground();
     }
 
+    /**
+     * Lowest health fraction of a living boss that drops a chest (1 if there is none).
+     * Used to prefetch the treasure chest frames before the boss dies.
+     */
+    private float getLowestChestBossHealth() {
+        float lowest = 1f;
+        if (bosses == null) return lowest;
+        for (Boss boss : bosses) {
+            if (!boss.isAlive() || lateWaveBosses.contains(boss) || boss.getMaxHealth() <= 0) continue;
+            lowest = Math.min(lowest, (float) boss.getHealth() / boss.getMaxHealth());
+        }
+        return lowest;
+    }
+
     /**
      * Spawn MiniBoss at end of round with HP scaling
      */
@@ -4339,6 +4483,9 @@ public class PlayScreen extends ScalableGameScreen {
         }
         int hp = (int)(baseHP * hpMultiplier) + (int) (Math.random() * 301); // +0-300 random
 
+        // No-op when the prefetch finished in time
+        LazyResourceManager.loadNow(ResourceLoader.RESOURCE_OWNER, LazyResourceManager.ResourceGroup.BOSS);
+
         // Boss now uses random zombie type (handled in Boss constructor)
         Boss boss = new Boss(bx, by, hp);
 
@@ -4366,6 +4513,7 @@ public class PlayScreen extends ScalableGameScreen {
         float hpMultiplier = 1f + (elapsedTime / 60f) * 0.15f; // 15% more HP per minute
         int hp = (int)(baseHP * hpMultiplier) + (int) (Math.random() * 300);
         
+        LazyResourceManager.loadNow(ResourceLoader.RESOURCE_OWNER, LazyResourceManager.ResourceGroup.BOSS);
         Boss boss = new Boss(bx, by, hp);
         if (bosses != null) {
             bosses.add(boss);
@@ -4383,8 +4531,8 @@ public class PlayScreen extends ScalableGameScreen {
     private void updateLateWaveSpawning(float delta, float playerX, float playerY) {
         float elapsedTime = GAME_DURATION - gameTime; // Time played (0 to 600)
         
-        // Only active from minute 7 (420s) onwards
-        if (elapsedTime < 420f) return;
+        // Only active from minute 7 onwards
+        if (elapsedTime < LATE_WAVE_START) return;
         
         lateWaveBossSpawnTimer += delta;
         if (lateWaveBossSpawnTimer < LATE_WAVE_BOSS_SPAWN_INTERVAL) return;
@@ -4460,7 +4608,8 @@ public class PlayScreen extends ScalableGameScreen {
             return;
         }
         
-        // Spawn treasure chest at boss position
+        // Spawn treasure chest at boss position (no-op load when the prefetch finished in time)
+        LazyResourceManager.loadNow(ResourceLoader.RESOURCE_OWNER, LazyResourceManager.ResourceGroup.TREASURE_CHEST);
         TreasureChest chest = new TreasureChest(boss.getX(), boss.getY());
         treasureChests.add(chest);
         
@@ -4535,7 +4684,7 @@ public class PlayScreen extends ScalableGameScreen {
     }
 
     /**
-     * Render treasure chests (call within sprite rendering block)
+     * Render treasure chests (submitted to the render queue)
      * NOTE: Does not render chests when gacha is active
      */
     private void renderTreasureChests() {
@@ -4548,7 +4697,7 @@ public class PlayScreen extends ScalableGameScreen {
         for (TreasureChest chest : treasureChests) {
             // Double check - don't render collected or opened chests
             if (!chest.isCollected() && !chest.isReadyForGacha()) {
-                chest.render(playerWorldX, playerWorldY);
+                chest.render(renderQueue, playerWorldX, playerWorldY);
             }
         }
     }
@@ -3,6 +3,8 @@ package nl.saxion.game.screens;
 import nl.saxion.game.config.ConfigManager;
 import nl.saxion.game.config.GameConfig;
 import nl.saxion.game.core.PlayerData;
+import nl.saxion.game.systems.CursorCache;
+import nl.saxion.game.systems.FontRegistry;
 import nl.saxion.game.systems.SoundManager;
 import nl.saxion.game.ui.Button;
 import nl.saxion.game.utils.DebugLogger;
@@ -12,7 +14,6 @@ import nl.saxion.gameapp.screens.ScalableGameScreen;
 import com.badlogic.gdx.Gdx;
 import com.badlogic.gdx.Input;
 import com.badlogic.gdx.graphics.Cursor;
-import com.badlogic.gdx.graphics.Pixmap;
 import java.util.ArrayList;
 import java.util.List;
 
@@ -162,78 +163,19 @@ public class PlayerInputScreen extends ScalableGameScreen {
     }
     
     private void loadCursors() {
-        try {
-            String pointerPath = "assets/ui/pointer.png";
-            Pixmap pointerSource = new Pixmap(Gdx.files.internal(pointerPath));
-            int targetSize = 32;
-            Pixmap pointerPixmap = new Pixmap(targetSize, targetSize, pointerSource.getFormat());
-            pointerPixmap.drawPixmap(pointerSource,
-                    0, 0, pointerSource.getWidth(), pointerSource.getHeight(),
-                    0, 0, targetSize, targetSize);
-            cursorPointer = Gdx.graphics.newCursor(pointerPixmap, 0, 0);
-            pointerPixmap.dispose();
-            pointerSource.dispose();
-            
-            String cursorPath = "assets/ui/cursor.png";
-            Pixmap cursorSource = new Pixmap(Gdx.files.internal(cursorPath));
-            Pixmap cursorPixmap = new Pixmap(targetSize, targetSize, cursorSource.getFormat());
-            cursorPixmap.drawPixmap(cursorSource,
-                    0, 0, cursorSource.getWidth(), cursorSource.getHeight(),
-                    0, 0, targetSize, targetSize);
-            cursorHover = Gdx.graphics.newCursor(cursorPixmap, 0, 0);
-            cursorPixmap.dispose();
-            cursorSource.dispose();
-            
-            if (cursorPointer != null) {
-                Gdx.graphics.setCursor(cursorPointer);
-            } else {
-                GameApp.showCursor();
-            }
-        } catch (Exception e) {
-            GameApp.log("Could not load cursors: " + e.getMessage());
-            GameApp.showCursor();
-        }
+        // Shared cursors, built once per session
+        cursorPointer = CursorCache.getPointer();
+        cursorHover = CursorCache.getHover();
+        CursorCache.showPointer();
     }
     
     private void loadResources() {
         if (resourcesLoaded) return;
         
-        if (!GameApp.hasFont("inputTitle")) {
-            GameApp.addStyledFont("inputTitle", "fonts/upheavtt.ttf", 48,
-                    "white", 0f, "black", 3, 3, "gray-700", true);
-        }
-        if (!GameApp.hasFont("inputLabel")) {
-            GameApp.addStyledFont("inputLabel", "fonts/PressStart2P-Regular.ttf", 14,
-                    "white", 0f, "black", 1, 1, "gray-700", true);
-        }
-        if (!GameApp.hasFont("inputField")) {
-            GameApp.addStyledFont("inputField", "fonts/PressStart2P-Regular.ttf", 16,
-                    "white", 0f, "black", 1, 1, "gray-700", true);
-        }
-        if (!GameApp.hasFont("inputPlaceholder")) {
-            GameApp.addStyledFont("inputPlaceholder", "fonts/PressStart2P-Regular.ttf", 14,
-                    "gray-600", 0f, "black", 1, 1, "gray-700", true);
-        }
-        if (!GameApp.hasFont("inputError")) {
-            GameApp.addStyledFont("inputError", "fonts/PressStart2P-Regular.ttf", 12,
-                    "red-400", 0f, "black", 1, 1, "gray-700", true);
-        }
-        if (!GameApp.hasFont("inputCounter")) {
-            GameApp.addStyledFont("inputCounter", "fonts/PressStart2P-Regular.ttf", 10,
-                    "gray-500", 0f, "black", 1, 1, "gray-700", true);
-        }
-        if (!GameApp.hasFont("inputHint")) {
-            GameApp.addStyledFont("inputHint", "fonts/PressStart2P-Regular.ttf", 11,
-                    "gray-500", 0f, "black", 1, 1, "gray-700", true);
-        }
-        if (!GameApp.hasFont("dropdownItem")) {
-            GameApp.addStyledFont("dropdownItem", "fonts/PressStart2P-Regular.ttf", 20,
-                    "white", 0f, "black", 1, 1, "gray-700", true);
-        }
-        if (!GameApp.hasFont("buttonFont")) {
-            GameApp.addStyledFont("buttonFont", "fonts/upheavtt.ttf", 32,
-                    "white", 0f, "black", 2, 2, "gray-700", true);
-        }
+        // Shared fonts (rasterized on the first visit only)
+        FontRegistry.require(FontRegistry.INPUT_TITLE, FontRegistry.INPUT_LABEL, FontRegistry.INPUT_FIELD,
+                FontRegistry.INPUT_PLACEHOLDER, FontRegistry.INPUT_ERROR, FontRegistry.INPUT_COUNTER,
+                FontRegistry.INPUT_HINT, FontRegistry.DROPDOWN_ITEM, FontRegistry.INPUT_BUTTON);
         
         if (!GameApp.hasColor("button_green_text")) {
             GameApp.addColor("button_green_text", 25, 50, 25);
@@ -324,14 +266,6 @@ public class PlayerInputScreen extends ScalableGameScreen {
     public void hide() {
         // Don't stop music when leaving - keep it playing for other menu screens
         // Music will only stop when entering PlayScreen or quitting game
-        if (cursorPointer != null) {
-            cursorPointer.dispose();
-            cursorPointer = null;
-        }
-        if (cursorHover != null) {
-            cursorHover.dispose();
-            cursorHover = null;
-        }
     }
     
     @Override
@@ -464,11 +398,11 @@ public class PlayerInputScreen extends ScalableGameScreen {
         
         // Title
         float titleY = panelY + panelHeight - 55f;
-        GameApp.drawTextCentered("inputTitle", "ENTER YOUR INFO", centerX, titleY, "white");
+        GameApp.drawTextCentered(FontRegistry.INPUT_TITLE, "ENTER YOUR INFO", centerX, titleY, "white");
         
         // Subtitle - brighter for visibility
         float subtitleY = titleY - 30f;
-        GameApp.drawTextCentered("inputHint", "Fill in your details to join the leaderboard", centerX, subtitleY, "gray-300");
+        GameApp.drawTextCentered(FontRegistry.INPUT_HINT, "Fill in your details to join the leaderboard", centerX, subtitleY, "gray-300");
         
         // Field layout - improved spacing and sizing
         float fieldStartY = subtitleY - 70f;
@@ -487,7 +421,7 @@ public class PlayerInputScreen extends ScalableGameScreen {
             fieldYPositions[i] = fieldY - fieldHeight;
             
             // Label - moved down by 20f
-            GameApp.drawTextCentered("inputLabel", labels[i], centerX, fieldY + labelOffsetY - 20f, "white");
+            GameApp.drawTextCentered(FontRegistry.INPUT_LABEL, labels[i], centerX, fieldY + labelOffsetY - 20f, "white");
             
             GameApp.endSpriteRendering();
             
@@ -525,7 +459,7 @@ public class PlayerInputScreen extends ScalableGameScreen {
             if (i == 0) {
                 // Username field - text input
                 if (username.isEmpty() && activeField != 0) {
-                    GameApp.drawTextCentered("inputPlaceholder", "Enter your name...", centerX, textY, "gray-400");
+                    GameApp.drawTextCentered(FontRegistry.INPUT_PLACEHOLDER, "Enter your name...", centerX, textY, "gray-400");
                 } else {
                     String displayValue = username;
                     if (activeField == 0 && cursorVisible && !classDropdownOpen && !groupDropdownOpen) {
@@ -533,13 +467,13 @@ public class PlayerInputScreen extends ScalableGameScreen {
                     } else if (activeField == 0) {
                         displayValue = displayValue + " ";
                     }
-                    GameApp.drawTextCentered("inputField", displayValue, centerX, textY, "white");
+                    GameApp.drawTextCentered(FontRegistry.INPUT_FIELD, displayValue, centerX, textY, "white");
                 }
                 
                 // Character counter - brighter color
                 String counterText = username.length() + "/" + MAX_USERNAME_LENGTH;
                 String counterColor = username.length() >= MAX_USERNAME_LENGTH ? "red-400" : "gray-300";
-                GameApp.drawText("inputCounter", counterText, fieldX + fieldWidth - 60f, fieldY - fieldHeight - 15f, counterColor);
+                GameApp.drawText(FontRegistry.INPUT_COUNTER, counterText, fieldX + fieldWidth - 60f, fieldY - fieldHeight - 15f, counterColor);
                 
             } else if (i == 1) {
                 // Class field - dropdown or text input (Other mode)
@@ -556,18 +490,18 @@ public class PlayerInputScreen extends ScalableGameScreen {
                 }
                 
                 if (displayText.isEmpty() && activeField != 1) {
-                    GameApp.drawTextCentered("inputPlaceholder", "Click to select...", centerX, textY, "gray-400");
+                    GameApp.drawTextCentered(FontRegistry.INPUT_PLACEHOLDER, "Click to select...", centerX, textY, "gray-400");
                 } else {
-                    GameApp.drawTextCentered("inputField", displayText, centerX, textY, "white");
+                    GameApp.drawTextCentered(FontRegistry.INPUT_FIELD, displayText, centerX, textY, "white");
                 }
                 
                 // Dropdown arrow indicator - brighter
-                GameApp.drawText("inputField", classDropdownOpen ? "^" : "v", fieldX + fieldWidth - 35f, textY, "gray-200");
+                GameApp.drawText(FontRegistry.INPUT_FIELD, classDropdownOpen ? "^" : "v", fieldX + fieldWidth - 35f, textY, "gray-200");
                 
                 if (classOtherMode) {
                     String counterText = studentClass.length() + "/" + MAX_CLASS_LENGTH;
                     String counterColor = studentClass.length() >= MAX_CLASS_LENGTH ? "red-400" : "gray-300";
-                    GameApp.drawText("inputCounter", counterText, fieldX + fieldWidth - 60f, fieldY - fieldHeight - 15f, counterColor);
+                    GameApp.drawText(FontRegistry.INPUT_COUNTER, counterText, fieldX + fieldWidth - 60f, fieldY - fieldHeight - 15f, counterColor);
                 }
                 
             } else if (i == 2) {
@@ -585,18 +519,18 @@ public class PlayerInputScreen extends ScalableGameScreen {
                 }
                 
                 if (displayText.isEmpty() && activeField != 2) {
-                    GameApp.drawTextCentered("inputPlaceholder", "Click to select...", centerX, textY, "gray-400");
+                    GameApp.drawTextCentered(FontRegistry.INPUT_PLACEHOLDER, "Click to select...", centerX, textY, "gray-400");
                 } else {
-                    GameApp.drawTextCentered("inputField", displayText, centerX, textY, "white");
+                    GameApp.drawTextCentered(FontRegistry.INPUT_FIELD, displayText, centerX, textY, "white");
                 }
                 
                 // Dropdown arrow indicator - brighter
-                GameApp.drawText("inputField", groupDropdownOpen ? "^" : "v", fieldX + fieldWidth - 35f, textY, "gray-200");
+                GameApp.drawText(FontRegistry.INPUT_FIELD, groupDropdownOpen ? "^" : "v", fieldX + fieldWidth - 35f, textY, "gray-200");
                 
                 if (groupOtherMode) {
                     String counterText = groupNumber.length() + "/" + MAX_GROUP_LENGTH;
                     String counterColor = groupNumber.length() >= MAX_GROUP_LENGTH ? "red-400" : "gray-300";
-                    GameApp.drawText("inputCounter", counterText, fieldX + fieldWidth - 60f, fieldY - fieldHeight - 15f, counterColor);
+                    GameApp.drawText(FontRegistry.INPUT_COUNTER, counterText, fieldX + fieldWidth - 60f, fieldY - fieldHeight - 15f, counterColor);
                 }
             }
             
@@ -622,12 +556,12 @@ public class PlayerInputScreen extends ScalableGameScreen {
         
         // Hint text - brighter for visibility
         float hintY = fieldStartY - 3 * fieldSpacing - 10f;
-        GameApp.drawTextCentered("inputHint", "TAB to switch | ENTER to start", centerX, hintY, "gray-300");
+        GameApp.drawTextCentered(FontRegistry.INPUT_HINT, "TAB to switch | ENTER to start", centerX, hintY, "gray-300");
         
         // Error message - moved up by 20f
         if (!errorMessage.isEmpty()) {
             float errorY = hintY + 30f;
-            GameApp.drawTextCentered("inputError", errorMessage, centerX, errorY, "red-400");
+            GameApp.drawTextCentered(FontRegistry.INPUT_ERROR, errorMessage, centerX, errorY, "red-400");
         }
         
         // Progress indicator - brighter for visibility
@@ -639,7 +573,7 @@ public class PlayerInputScreen extends ScalableGameScreen {
         float progressY = panelY + 15f;
         String progressText = filledCount + "/3 fields completed";
         String progressColor = filledCount == 3 ? "green-400" : "gray-300";
-        GameApp.drawTextCentered("inputHint", progressText, centerX, progressY, progressColor);
+        GameApp.drawTextCentered(FontRegistry.INPUT_HINT, progressText, centerX, progressY, progressColor);
         
         GameApp.endSpriteRendering();
     }
@@ -687,7 +621,7 @@ public class PlayerInputScreen extends ScalableGameScreen {
                 if (i == CLASS_OPTIONS.length - 1) {
                     optionText = "Other (custom)";
                 }
-                GameApp.drawTextCentered("dropdownItem", optionText, centerX, itemY + dropdownItemHeight / 2 - 3f, "white");
+                GameApp.drawTextCentered(FontRegistry.DROPDOWN_ITEM, optionText, centerX, itemY + dropdownItemHeight / 2 - 3f, "white");
                 GameApp.endSpriteRendering();
             }
         }
@@ -739,7 +673,7 @@ public class PlayerInputScreen extends ScalableGameScreen {
                 if (i == GROUP_OPTIONS.length - 1) {
                     optionText = "Other (0-100)";
                 }
-                GameApp.drawTextCentered("dropdownItem", optionText, centerX, itemY + dropdownItemHeight / 2 - 3f, "white");
+                GameApp.drawTextCentered(FontRegistry.DROPDOWN_ITEM, optionText, centerX, itemY + dropdownItemHeight / 2 - 3f, "white");
                 GameApp.endSpriteRendering();
             }
         }
@@ -759,10 +693,10 @@ public class PlayerInputScreen extends ScalableGameScreen {
             float buttonCenterX = button.getX() + button.getWidth() / 2;
             float buttonCenterY = button.getY() + button.getHeight() / 2;
             
-            float textHeight = GameApp.getTextHeight("buttonFont", text);
+            float textHeight = GameApp.getTextHeight(FontRegistry.INPUT_BUTTON, text);
             float adjustedY = buttonCenterY + textHeight * 0.15f;
             
-            GameApp.drawTextCentered("buttonFont", text, buttonCenterX, adjustedY, colorName);
+            GameApp.drawTextCentered(FontRegistry.INPUT_BUTTON, text, buttonCenterX, adjustedY, colorName);
         }
         
         GameApp.endSpriteRendering();
@@ -4,24 +4,31 @@ import nl.saxion.game.config.ConfigManager;
 import nl.saxion.game.config.GameConfig;
 import nl.saxion.game.core.LeaderboardEntry;
 import nl.saxion.game.core.PlayerData;
+import nl.saxion.game.systems.CursorCache;
+import nl.saxion.game.systems.FontRegistry;
 import nl.saxion.game.systems.LeaderboardManager;
 import nl.saxion.game.systems.SoundManager;
 import nl.saxion.game.ui.Button;
+import nl.saxion.game.ui.LeaderboardTable;
 import nl.saxion.game.utils.DebugLogger;
 import nl.saxion.gameapp.GameApp;
 import nl.saxion.gameapp.screens.ScalableGameScreen;
 
 import com.badlogic.gdx.Gdx;
 import com.badlogic.gdx.Input;
+import com.badlogic.gdx.InputAdapter;
+import com.badlogic.gdx.InputMultiplexer;
+import com.badlogic.gdx.InputProcessor;
 import com.badlogic.gdx.graphics.Cursor;
-import com.badlogic.gdx.graphics.Pixmap;
 import java.util.ArrayList;
 import java.util.List;
 
 /**
  * Screen for displaying the leaderboard/ranking.
  * Shows top players sorted by score (and survival time as tiebreaker).
- * Supports pagination with 8 entries per page.
+ * The board is a virtualized table (see LeaderboardTable) that scrolls smoothly through any
+ * number of runs: mouse wheel or arrow keys by row, PREV/NEXT and Page Up/Down by page.
+ * TAB switches between the whole board, the current player's class and their group.
  */
 public class RanksScreen extends ScalableGameScreen {
 
@@ -45,12 +52,29 @@ public class RanksScreen extends ScalableGameScreen {
     private Cursor cursorHover;
     private boolean isHoveringButton = false;
     
-    // Leaderboard data
-    private List<LeaderboardEntry> entries;
-    private static final int ENTRIES_PER_PAGE = 8;
+    // Leaderboard data: entry count of the current view and the entries of the visible page
+    private int totalEntries = 0;
+    private final LeaderboardTable table = new LeaderboardTable();
+    private static final int VISIBLE_ROWS = 8;
+    private static final int WHEEL_ROWS = 3;
+    private InputProcessor previousInputProcessor;
+    private String rangeInfo = "";
+    private int rangeInfoRow = -1;
+    private int rangeInfoTotal = -1;
+    
+    // Board views (class/group views need a current player)
+    private static final int VIEW_ALL = 0;
+    private static final int VIEW_CLASS = 1;
+    private static final int VIEW_GROUP = 2;
+    private int view = VIEW_ALL;
+    private LeaderboardEntry personalBest;
+    private String subtitle = "";
+    
+    // Shared leaderboard: other kiosks' runs are merged every few seconds
+    private static final float SHARED_REFRESH_INTERVAL = 2f;
+    private float refreshTimer = 0f;
+    private int seenRevision = -1;
     
-    // Pagination
-    private int currentPage = 0;
     
     // Animation
     private float animTimer = 0f;
@@ -86,103 +110,42 @@ public class RanksScreen extends ScalableGameScreen {
         
         loadResources();
         createButtons();
+        view = VIEW_ALL;
         loadLeaderboardData();
-        findCurrentPlayerEntry();
         
-        // Set page to show current player if applicable
-        if (currentPlayerEntryIndex >= 0) {
-            currentPage = currentPlayerEntryIndex / ENTRIES_PER_PAGE;
-        } else {
-            currentPage = 0;
+        // Mouse wheel scrolls the board; the previous input processor keeps receiving all events
+        previousInputProcessor = Gdx.input.getInputProcessor();
+        InputMultiplexer input = new InputMultiplexer(new InputAdapter() {
+            @Override
+            public boolean scrolled(float amountX, float amountY) {
+                table.scrollBy(amountY * WHEEL_ROWS);
+                return false;
+            }
+        });
+        if (previousInputProcessor != null) {
+            input.addProcessor(previousInputProcessor);
         }
+        Gdx.input.setInputProcessor(input);
         
         animTimer = 0f;
         
-        DebugLogger.log("RanksScreen initialized with " + (entries != null ? entries.size() : 0) + " entries");
+        DebugLogger.log("RanksScreen initialized with " + totalEntries + " entries");
     }
     
     private void loadCursors() {
-        try {
-            String pointerPath = "assets/ui/pointer.png";
-            Pixmap pointerSource = new Pixmap(Gdx.files.internal(pointerPath));
-            int targetSize = 32;
-            Pixmap pointerPixmap = new Pixmap(targetSize, targetSize, pointerSource.getFormat());
-            pointerPixmap.drawPixmap(pointerSource,
-                    0, 0, pointerSource.getWidth(), pointerSource.getHeight(),
-                    0, 0, targetSize, targetSize);
-            cursorPointer = Gdx.graphics.newCursor(pointerPixmap, 0, 0);
-            pointerPixmap.dispose();
-            pointerSource.dispose();
-            
-            String cursorPath = "assets/ui/cursor.png";
-            Pixmap cursorSource = new Pixmap(Gdx.files.internal(cursorPath));
-            Pixmap cursorPixmap = new Pixmap(targetSize, targetSize, cursorSource.getFormat());
-            cursorPixmap.drawPixmap(cursorSource,
-                    0, 0, cursorSource.getWidth(), cursorSource.getHeight(),
-                    0, 0, targetSize, targetSize);
-            cursorHover = Gdx.graphics.newCursor(cursorPixmap, 0, 0);
-            cursorPixmap.dispose();
-            cursorSource.dispose();
-            
-            if (cursorPointer != null) {
-                Gdx.graphics.setCursor(cursorPointer);
-            } else {
-                GameApp.showCursor();
-            }
-        } catch (Exception e) {
-            GameApp.log("Could not load cursors: " + e.getMessage());
-            GameApp.showCursor();
-        }
+        // Shared cursors, built once per session
+        cursorPointer = CursorCache.getPointer();
+        cursorHover = CursorCache.getHover();
+        CursorCache.showPointer();
     }
     
     private void loadResources() {
         if (resourcesLoaded) return;
         
-        // Title
-        if (!GameApp.hasFont("ranksTitle")) {
-            GameApp.addStyledFont("ranksTitle", "fonts/upheavtt.ttf", 52,
-                    "yellow-400", 0f, "black", 3, 3, "gray-700", true);
-        }
-        // Subtitle (players count)
-        if (!GameApp.hasFont("ranksSubtitle")) {
-            GameApp.addStyledFont("ranksSubtitle", "fonts/PixelOperatorMono-Bold.ttf", 17,
-                    "gray-300", 0f, "black", 1, 1, "gray-700", true);
-        }
-        // Page info font
-        if (!GameApp.hasFont("ranksPageInfo")) {
-            GameApp.addStyledFont("ranksPageInfo", "fonts/PixelOperatorMono-Bold.ttf", 18,
-                    "gray-300", 0f, "black", 1, 1, "gray-700", true);
-        }
-        // Header
-        if (!GameApp.hasFont("ranksHeader")) {
-            GameApp.addStyledFont("ranksHeader", "fonts/PressStart2P-Regular.ttf", 14,
-                    "white", 0f, "black", 1, 1, "gray-700", true);
-        }
-        // Entry data
-        if (!GameApp.hasFont("ranksEntry")) {
-            GameApp.addStyledFont("ranksEntry", "fonts/PressStart2P-Regular.ttf", 18,
-                    "white", 0f, "black", 1, 1, "gray-700", true);
-        }
-        // Rank number
-        if (!GameApp.hasFont("ranksRank")) {
-            GameApp.addStyledFont("ranksRank", "fonts/upheavtt.ttf", 28,
-                    "white", 0f, "black", 2, 2, "gray-700", true);
-        }
-        // Empty state
-        if (!GameApp.hasFont("ranksEmpty")) {
-            GameApp.addStyledFont("ranksEmpty", "fonts/PixelOperatorMono-Bold.ttf", 16,
-                    "gray-400", 0f, "black", 1, 1, "gray-700", true);
-        }
-        // Button font
-        if (!GameApp.hasFont("buttonFont")) {
-            GameApp.addStyledFont("buttonFont", "fonts/upheavtt.ttf", 40,
-                    "white", 0f, "black", 2, 2, "gray-700", true);
-        }
-        // Page button font (smaller)
-        if (!GameApp.hasFont("pageButtonFont")) {
-            GameApp.addStyledFont("pageButtonFont", "fonts/upheavtt.ttf", 28,
-                    "white", 0f, "black", 2, 2, "gray-700", true);
-        }
+        // Shared fonts (rasterized on the first visit only)
+        FontRegistry.require(FontRegistry.RANKS_TITLE, FontRegistry.RANKS_SUBTITLE, FontRegistry.RANKS_PAGE_INFO,
+                FontRegistry.RANKS_HEADER, FontRegistry.RANKS_ENTRY, FontRegistry.RANKS_RANK,
+                FontRegistry.RANKS_EMPTY, FontRegistry.MENU_BUTTON, FontRegistry.RANKS_PAGE_BUTTON);
         
         // Colors
         if (!GameApp.hasColor("button_red_text")) {
@@ -247,65 +210,124 @@ public class RanksScreen extends ScalableGameScreen {
     }
     
     private void loadLeaderboardData() {
-        try {
-            LeaderboardManager.reload();
-            entries = LeaderboardManager.getEntries();
-            if (entries == null) {
-                entries = new ArrayList<>();
-            }
-        } catch (Exception e) {
-            GameApp.log("Error loading leaderboard: " + e.getMessage());
-            entries = new ArrayList<>();
-        }
+        // The board in memory is always current (new scores are indexed before they are written),
+        // so there is no need to re-read the files on every visit
+        selectView(view);
+        seenRevision = LeaderboardManager.getRevision();
+        refreshTimer = 0f;
+        LeaderboardManager.refreshShared();
     }
     
-    private void findCurrentPlayerEntry() {
-        currentPlayerEntryIndex = -1;
+    /**
+     * Shared mode: merge other kiosks' runs now and then, and update the board without scrolling.
+     */
+    private void refreshSharedBoard(float delta) {
+        if (!LeaderboardManager.isShared()) return;
         
-        PlayerData currentPlayer = PlayerData.getCurrentPlayer();
-        if (currentPlayer == null || entries == null || entries.isEmpty()) {
-            return;
+        refreshTimer += delta;
+        if (refreshTimer >= SHARED_REFRESH_INTERVAL) {
+            refreshTimer = 0f;
+            LeaderboardManager.refreshShared();
         }
         
-        long latestTimestamp = 0;
-        for (int i = 0; i < entries.size(); i++) {
-            LeaderboardEntry entry = entries.get(i);
-            if (entry.getUsername().equals(currentPlayer.getUsername()) &&
-                entry.getStudentClass().equals(currentPlayer.getStudentClass()) &&
-                entry.getGroupNumber().equals(currentPlayer.getGroupNumber())) {
-                if (entry.getTimestamp() > latestTimestamp) {
-                    latestTimestamp = entry.getTimestamp();
-                    currentPlayerEntryIndex = i;
-                }
+        int revision = LeaderboardManager.getRevision();
+        if (revision != seenRevision) {
+            seenRevision = revision;
+            updateCounts();
+            table.refresh(totalEntries);
+        }
+    }
+    
+    /**
+     * Switch board view, then jump to the current player's latest run.
+     */
+    private void selectView(int newView) {
+        view = PlayerData.getCurrentPlayer() != null ? newView : VIEW_ALL;
+        updateCounts();
+        
+        table.setSource(this::getRows, totalEntries);
+        table.centerOn(currentPlayerEntryIndex);
+    }
+    
+    /**
+     * Entry count, personal best and the player's position for the current view.
+     */
+    private void updateCounts() {
+        PlayerData currentPlayer = PlayerData.getCurrentPlayer();
+        LeaderboardEntry latest = null;
+        personalBest = null;
+        if (currentPlayer != null) {
+            latest = LeaderboardManager.getLatestEntry(currentPlayer.getUsername(),
+                    currentPlayer.getStudentClass(), currentPlayer.getGroupNumber());
+            personalBest = LeaderboardManager.getPersonalBest(currentPlayer.getUsername(),
+                    currentPlayer.getStudentClass(), currentPlayer.getGroupNumber());
+        }
+        
+        switch (view) {
+            case VIEW_CLASS -> {
+                totalEntries = LeaderboardManager.getClassEntryCount(currentPlayer.getStudentClass());
+                currentPlayerEntryIndex = LeaderboardManager.getClassPosition(latest);
+            }
+            case VIEW_GROUP -> {
+                totalEntries = LeaderboardManager.getGroupEntryCount(currentPlayer.getStudentClass(), currentPlayer.getGroupNumber());
+                currentPlayerEntryIndex = LeaderboardManager.getGroupPosition(latest);
+            }
+            default -> {
+                totalEntries = LeaderboardManager.getEntryCount();
+                currentPlayerEntryIndex = LeaderboardManager.getPosition(latest);
             }
         }
+        
+        subtitle = totalEntries + " run" + (totalEntries != 1 ? "s" : "") + " on the board";
+        if (personalBest != null) {
+            subtitle += "  -  your best: " + personalBest.getScore();
+        }
+        if (currentPlayer != null) {
+            subtitle += "  -  TAB: switch board";
+        }
+    }
+    
+    /**
+     * Rows of the current view, fetched from the leaderboard index when the table scrolls past them.
+     */
+    private List<LeaderboardEntry> getRows(int offset, int count) {
+        PlayerData currentPlayer = PlayerData.getCurrentPlayer();
+        if (view == VIEW_CLASS && currentPlayer != null) {
+            return LeaderboardManager.getClassPage(currentPlayer.getStudentClass(), offset, count);
+        }
+        if (view == VIEW_GROUP && currentPlayer != null) {
+            return LeaderboardManager.getGroupPage(currentPlayer.getStudentClass(),
+                    currentPlayer.getGroupNumber(), offset, count);
+        }
+        return LeaderboardManager.getPage(offset, count);
     }
     
-    private int getTotalPages() {
-        if (entries == null || entries.isEmpty()) return 1;
-        return (int) Math.ceil((double) entries.size() / ENTRIES_PER_PAGE);
+    private String getViewTitle() {
+        PlayerData currentPlayer = PlayerData.getCurrentPlayer();
+        if (view == VIEW_CLASS && currentPlayer != null) {
+            return "CLASS " + currentPlayer.getStudentClass();
+        }
+        if (view == VIEW_GROUP && currentPlayer != null) {
+            return "GROUP " + currentPlayer.getStudentClass() + "-" + currentPlayer.getGroupNumber();
+        }
+        return "LEADERBOARD";
     }
     
     private boolean hasPreviousPage() {
-        return currentPage > 0;
+        return table.canScrollUp();
     }
     
     private boolean hasNextPage() {
-        return currentPage < getTotalPages() - 1;
+        return table.canScrollDown();
     }
     
     @Override
     public void hide() {
         // Don't stop music when leaving - keep it playing for other menu screens
         // Music will only stop when entering PlayScreen or quitting game
-        if (cursorPointer != null) {
-            cursorPointer.dispose();
-            cursorPointer = null;
-        }
-        if (cursorHover != null) {
-            cursorHover.dispose();
-            cursorHover = null;
-        }
+        Gdx.input.setInputProcessor(previousInputProcessor);
+        previousInputProcessor = null;
+        table.logStats();
     }
     
     @Override
@@ -313,6 +335,8 @@ public class RanksScreen extends ScalableGameScreen {
         super.render(delta);
         
         animTimer += delta;
+        refreshSharedBoard(delta);
+        table.update(delta);
         
         if (GameApp.isKeyJustPressed(Input.Keys.F11)) {
             toggleFullscreen();
@@ -326,8 +350,8 @@ public class RanksScreen extends ScalableGameScreen {
             return;
         }
         
-        // Handle keyboard pagination
-        handleKeyboardPagination();
+        // Handle keyboard scrolling
+        handleKeyboardScrolling();
         
         GameApp.clearScreen("black");
         
@@ -358,33 +382,51 @@ public class RanksScreen extends ScalableGameScreen {
         drawButtonText();
     }
     
-    private void handleKeyboardPagination() {
-        if (entries == null || entries.isEmpty()) return;
+    private void handleKeyboardScrolling() {
+        // TAB cycles whole board / class / group
+        if (GameApp.isKeyJustPressed(Input.Keys.TAB) && PlayerData.getCurrentPlayer() != null) {
+            selectView((view + 1) % 3);
+            if (soundManager != null) {
+                soundManager.playSound("clickbutton", 0.5f);
+            }
+        }
         
-        // Left/Right arrows or A/D for page navigation
-        if (GameApp.isKeyJustPressed(Input.Keys.LEFT) || GameApp.isKeyJustPressed(Input.Keys.A)) {
+        if (totalEntries == 0) return;
+        
+        // Up/Down arrows or W/S scroll one row
+        if (GameApp.isKeyJustPressed(Input.Keys.UP) || GameApp.isKeyJustPressed(Input.Keys.W)) {
+            table.scrollBy(-1);
+        }
+        if (GameApp.isKeyJustPressed(Input.Keys.DOWN) || GameApp.isKeyJustPressed(Input.Keys.S)) {
+            table.scrollBy(1);
+        }
+        
+        // Left/Right arrows, A/D or Page Up/Down scroll one page
+        if (GameApp.isKeyJustPressed(Input.Keys.LEFT) || GameApp.isKeyJustPressed(Input.Keys.A)
+                || GameApp.isKeyJustPressed(Input.Keys.PAGE_UP)) {
             if (hasPreviousPage()) {
-                currentPage--;
+                table.scrollBy(-VISIBLE_ROWS);
                 if (soundManager != null) {
                     soundManager.playSound("clickbutton", 0.5f);
                 }
             }
         }
-        if (GameApp.isKeyJustPressed(Input.Keys.RIGHT) || GameApp.isKeyJustPressed(Input.Keys.D)) {
+        if (GameApp.isKeyJustPressed(Input.Keys.RIGHT) || GameApp.isKeyJustPressed(Input.Keys.D)
+                || GameApp.isKeyJustPressed(Input.Keys.PAGE_DOWN)) {
             if (hasNextPage()) {
-                currentPage++;
+                table.scrollBy(VISIBLE_ROWS);
                 if (soundManager != null) {
                     soundManager.playSound("clickbutton", 0.5f);
                 }
             }
         }
         
-        // Home/End for first/last page
+        // Home/End for top/bottom of the board
         if (GameApp.isKeyJustPressed(Input.Keys.HOME)) {
-            currentPage = 0;
+            table.scrollToTop();
         }
         if (GameApp.isKeyJustPressed(Input.Keys.END)) {
-            currentPage = getTotalPages() - 1;
+            table.scrollToBottom();
         }
     }
     
@@ -448,144 +490,25 @@ public class RanksScreen extends ScalableGameScreen {
         // Title area
         GameApp.startSpriteRendering();
         float titleY = panelY + panelHeight - 45f;
-        GameApp.drawTextCentered("ranksTitle", "LEADERBOARD", centerX, titleY, "yellow-400");
+        GameApp.drawTextCentered(FontRegistry.RANKS_TITLE, getViewTitle(), centerX, titleY, "yellow-400");
         
-        // Subtitle with total players
-        int totalPlayers = entries != null ? entries.size() : 0;
-        String subtitle = totalPlayers + " player" + (totalPlayers != 1 ? "s" : "") + " on the board";
-        GameApp.drawTextCentered("ranksSubtitle", subtitle, centerX, titleY - 28f, "gray-400");
+        // Subtitle with total runs and the current player's best
+        GameApp.drawTextCentered(FontRegistry.RANKS_SUBTITLE, subtitle, centerX, titleY - 28f, "gray-400");
         GameApp.endSpriteRendering();
         
-        // Column layout
+        // Table: header and the rows in view
         float tableStartX = panelX + 40f;
         float tableWidth = panelWidth - 80f;
-        
-        float colWidthRank = 90f;
-        float colWidthName = 280f;
-        float colWidthClass = 160f;
-        float colWidthGroup = 130f;
-        float colWidthScore = 140f;
-        float colWidthTime = 140f;
-        
-        float colRankX = tableStartX + colWidthRank / 2;
-        float colNameX = tableStartX + colWidthRank + colWidthName / 2;
-        float colClassX = tableStartX + colWidthRank + colWidthName + colWidthClass / 2;
-        float colGroupX = tableStartX + colWidthRank + colWidthName + colWidthClass + colWidthGroup / 2;
-        float colScoreX = tableStartX + colWidthRank + colWidthName + colWidthClass + colWidthGroup + colWidthScore / 2;
-        float colTimeX = tableStartX + colWidthRank + colWidthName + colWidthClass + colWidthGroup + colWidthScore + colWidthTime / 2;
-        
-        // Header row
         float headerY = titleY - 70f;
-        
-        GameApp.startSpriteRendering();
-        GameApp.drawTextCentered("ranksHeader", "RANK", colRankX, headerY, "white");
-        GameApp.drawTextCentered("ranksHeader", "PLAYER", colNameX, headerY, "white");
-        GameApp.drawTextCentered("ranksHeader", "CLASS", colClassX, headerY, "white");
-        GameApp.drawTextCentered("ranksHeader", "GROUP", colGroupX, headerY, "white");
-        GameApp.drawTextCentered("ranksHeader", "SCORE", colScoreX, headerY, "white");
-        GameApp.drawTextCentered("ranksHeader", "TIME", colTimeX, headerY, "white");
-        GameApp.endSpriteRendering();
-        
-        // Header separator
-        GameApp.startShapeRenderingFilled();
-        GameApp.setColor(100, 100, 150, 220);
-        GameApp.drawRect(tableStartX, headerY - 20f, tableWidth, 3f);
-        GameApp.endShapeRendering();
-        
-        // Calculate table area
         float rowStartY = headerY - 50f;
-        float rowHeight = 43f;
         
-        if (entries == null || entries.isEmpty()) {
+        table.render(tableStartX, headerY, tableWidth, VISIBLE_ROWS, currentPlayerEntryIndex, animTimer);
+        
+        if (totalEntries == 0) {
             GameApp.startSpriteRendering();
-            GameApp.drawTextCentered("ranksEmpty", "NO SCORES YET", centerX, rowStartY - 100f, "gray-500");
-            GameApp.drawTextCentered("ranksSubtitle", "Play the game to get on the leaderboard!", centerX, rowStartY - 135f, "gray-600");
+            GameApp.drawTextCentered(FontRegistry.RANKS_EMPTY, "NO SCORES YET", centerX, rowStartY - 100f, "gray-500");
+            GameApp.drawTextCentered(FontRegistry.RANKS_SUBTITLE, "Play the game to get on the leaderboard!", centerX, rowStartY - 135f, "gray-600");
             GameApp.endSpriteRendering();
-        } else {
-            int startIndex = currentPage * ENTRIES_PER_PAGE;
-            int endIndex = Math.min(startIndex + ENTRIES_PER_PAGE, entries.size());
-            int displayCount = endIndex - startIndex;
-            
-            for (int i = 0; i < displayCount; i++) {
-                int entryIndex = startIndex + i;
-                if (entryIndex >= entries.size()) break;
-                
-                LeaderboardEntry entry = entries.get(entryIndex);
-                float rowY = rowStartY - i * rowHeight;
-                int rank = entryIndex + 1;
-                boolean isCurrentPlayer = (entryIndex == currentPlayerEntryIndex);
-                
-                // Row background
-                GameApp.startShapeRenderingFilled();
-                
-                if (isCurrentPlayer) {
-                    float pulse = (float) (0.08f + 0.04f * Math.sin(animTimer * 3));
-                    GameApp.setColor(40, 80, 140, (int)(pulse * 255));
-                } else if (rank == 1) {
-                    GameApp.setColor(80, 65, 20, 60);
-                } else if (rank == 2) {
-                    GameApp.setColor(60, 60, 70, 50);
-                } else if (rank == 3) {
-                    GameApp.setColor(70, 50, 30, 50);
-                } else {
-                    if (i % 2 == 0) {
-                        GameApp.setColor(35, 35, 55, 120);
-                    } else {
-                        GameApp.setColor(25, 25, 40, 120);
-                    }
-                }
-                GameApp.drawRect(tableStartX, rowY - rowHeight + 8f, tableWidth, rowHeight - 2f);
-                GameApp.endShapeRendering();
-                
-                // Left border for current player
-                if (isCurrentPlayer) {
-                    GameApp.startShapeRenderingFilled();
-                    GameApp.setColor(100, 180, 255, 220);
-                    GameApp.drawRect(tableStartX, rowY - rowHeight + 8f, 5f, rowHeight - 2f);
-                    GameApp.endShapeRendering();
-                }
-                
-                // Rank color
-                String rankColor;
-                if (rank == 1) {
-                    rankColor = "rank_gold";
-                } else if (rank == 2) {
-                    rankColor = "rank_silver";
-                } else if (rank == 3) {
-                    rankColor = "rank_bronze";
-                } else {
-                    rankColor = "white";
-                }
-                
-                String textColor = isCurrentPlayer ? "current_player" : "white";
-                
-                GameApp.startSpriteRendering();
-                
-                float textCenterY = rowY - rowHeight / 2 + 2f;
-                
-                // Rank
-                GameApp.drawTextCentered("ranksRank", String.valueOf(rank), colRankX, textCenterY, rankColor);
-                
-                // Player name
-                String displayName = entry.getUsername();
-                if (displayName.length() > 16) {
-                    displayName = displayName.substring(0, 13) + "...";
-                }
-                if (isCurrentPlayer) {
-                    displayName = displayName + " *";
-                }
-                GameApp.drawTextCentered("ranksEntry", displayName, colNameX, textCenterY, textColor);
-                
-                // Class & Group
-                GameApp.drawTextCentered("ranksEntry", entry.getStudentClass(), colClassX, textCenterY, "gray-300");
-                GameApp.drawTextCentered("ranksEntry", entry.getGroupNumber(), colGroupX, textCenterY, "gray-300");
-                
-                // Score & Time
-                GameApp.drawTextCentered("ranksEntry", String.valueOf(entry.getScore()), colScoreX, textCenterY, "yellow-300");
-                GameApp.drawTextCentered("ranksEntry", entry.getFormattedSurvivalTime(), colTimeX, textCenterY, "green-300");
-                
-                GameApp.endSpriteRendering();
-            }
         }
         
         // Draw pagination controls in dedicated area at bottom of panel
@@ -593,8 +516,6 @@ public class RanksScreen extends ScalableGameScreen {
     }
     
     private void drawPaginationControls(float panelX, float panelY, float panelWidth, float tableStartX, float tableWidth, float centerX) {
-        int totalPages = getTotalPages();
-        
         // Pagination area - dedicated space at bottom of panel
         float paginationY = panelY + 10f;
         float paginationHeight = 45f;
@@ -605,11 +526,10 @@ public class RanksScreen extends ScalableGameScreen {
         GameApp.drawRect(tableStartX, paginationY + paginationHeight, tableWidth, 2f);
         GameApp.endShapeRendering();
         
-        // Only show navigation if multiple pages
-        if (totalPages <= 1) {
-            // Show single page indicator
+        // Only show navigation if the board does not fit
+        if (totalEntries <= VISIBLE_ROWS) {
             GameApp.startSpriteRendering();
-            GameApp.drawTextCentered("ranksPageInfo", "Page 1 / 1", centerX, paginationY + paginationHeight / 2 + 5f, "gray-500");
+            GameApp.drawTextCentered(FontRegistry.RANKS_PAGE_INFO, totalEntries + " / " + totalEntries, centerX, paginationY + paginationHeight / 2 + 5f, "gray-500");
             GameApp.endSpriteRendering();
             return;
         }
@@ -644,7 +564,7 @@ public class RanksScreen extends ScalableGameScreen {
             GameApp.endShapeRendering();
             
             GameApp.startSpriteRendering();
-            GameApp.drawTextCentered("pageButtonFont", "< PREV", prevButtonX + prevButtonW / 2, prevButtonY + prevButtonH / 2 + 3f, "white");
+            GameApp.drawTextCentered(FontRegistry.RANKS_PAGE_BUTTON, "< PREV", prevButtonX + prevButtonW / 2, prevButtonY + prevButtonH / 2 + 3f, "white");
             GameApp.endSpriteRendering();
         } else {
             // Disabled state
@@ -654,7 +574,7 @@ public class RanksScreen extends ScalableGameScreen {
             GameApp.endShapeRendering();
             
             GameApp.startSpriteRendering();
-            GameApp.drawTextCentered("pageButtonFont", "< PREV", prevButtonX + prevButtonW / 2, prevButtonY + prevButtonH / 2 + 3f, "gray-600");
+            GameApp.drawTextCentered(FontRegistry.RANKS_PAGE_BUTTON, "< PREV", prevButtonX + prevButtonW / 2, prevButtonY + prevButtonH / 2 + 3f, "gray-600");
             GameApp.endSpriteRendering();
         }
         
@@ -672,7 +592,7 @@ public class RanksScreen extends ScalableGameScreen {
             GameApp.endShapeRendering();
             
             GameApp.startSpriteRendering();
-            GameApp.drawTextCentered("pageButtonFont", "NEXT >", nextButtonX + nextButtonW / 2, nextButtonY + nextButtonH / 2 + 3f, "white");
+            GameApp.drawTextCentered(FontRegistry.RANKS_PAGE_BUTTON, "NEXT >", nextButtonX + nextButtonW / 2, nextButtonY + nextButtonH / 2 + 3f, "white");
             GameApp.endSpriteRendering();
         } else {
             // Disabled state
@@ -682,14 +602,21 @@ public class RanksScreen extends ScalableGameScreen {
             GameApp.endShapeRendering();
             
             GameApp.startSpriteRendering();
-            GameApp.drawTextCentered("pageButtonFont", "NEXT >", nextButtonX + nextButtonW / 2, nextButtonY + nextButtonH / 2 + 3f, "gray-600");
+            GameApp.drawTextCentered(FontRegistry.RANKS_PAGE_BUTTON, "NEXT >", nextButtonX + nextButtonW / 2, nextButtonY + nextButtonH / 2 + 3f, "gray-600");
             GameApp.endSpriteRendering();
         }
         
-        // Page indicator in center
+        // Visible rows in center (rebuilt only when the first visible row changes)
+        int firstRow = table.getFirstVisibleRow();
+        if (firstRow != rangeInfoRow || totalEntries != rangeInfoTotal) {
+            rangeInfoRow = firstRow;
+            rangeInfoTotal = totalEntries;
+            int lastRow = Math.min(totalEntries, firstRow + VISIBLE_ROWS);
+            rangeInfo = (firstRow + 1) + "-" + lastRow + " / " + totalEntries;
+        }
         GameApp.startSpriteRendering();
-        String pageInfo = "Page " + (currentPage + 1) + " / " + totalPages;
-        GameApp.drawTextCentered("ranksPageInfo", pageInfo, centerX, navButtonY + navButtonH / 2 + 3f, "gray-300");
+        String pageInfo = rangeInfo;
+        GameApp.drawTextCentered(FontRegistry.RANKS_PAGE_INFO, pageInfo, centerX, navButtonY + navButtonH / 2 + 3f, "gray-300");
         GameApp.endSpriteRendering();
     }
     
@@ -700,10 +627,10 @@ public class RanksScreen extends ScalableGameScreen {
             float buttonCenterX = button.getX() + button.getWidth() / 2;
             float buttonCenterY = button.getY() + button.getHeight() / 2;
             
-            float textHeight = GameApp.getTextHeight("buttonFont", "BACK");
+            float textHeight = GameApp.getTextHeight(FontRegistry.MENU_BUTTON, "BACK");
             float adjustedY = buttonCenterY + textHeight * 0.15f;
             
-            GameApp.drawTextCentered("buttonFont", "BACK", buttonCenterX, adjustedY, "button_red_text");
+            GameApp.drawTextCentered(FontRegistry.MENU_BUTTON, "BACK", buttonCenterX, adjustedY, "button_red_text");
         }
         
         GameApp.endSpriteRendering();
@@ -764,14 +691,14 @@ public class RanksScreen extends ScalableGameScreen {
         if (isMouseJustPressed) {
             // Check pagination button clicks first
             if (hoveringPrev) {
-                currentPage--;
+                table.scrollBy(-VISIBLE_ROWS);
                 if (soundManager != null) {
                     soundManager.playSound("clickbutton", 1.0f);
                 }
                 return;
             }
             if (hoveringNext) {
-                currentPage++;
+                table.scrollBy(VISIBLE_ROWS);
                 if (soundManager != null) {
                     soundManager.playSound("clickbutton", 1.0f);
                 }
@@ -2,9 +2,10 @@ package nl.saxion.game.screens;
 
 import com.badlogic.gdx.Gdx;
 import com.badlogic.gdx.graphics.Cursor;
-import com.badlogic.gdx.graphics.Pixmap;
 import nl.saxion.game.config.ConfigManager;
 import nl.saxion.game.config.GameConfig;
+import nl.saxion.game.systems.CursorCache;
+import nl.saxion.game.systems.FontRegistry;
 import nl.saxion.game.systems.SoundManager;
 import nl.saxion.gameapp.GameApp;
 import nl.saxion.gameapp.screens.ScalableGameScreen;
@@ -84,8 +85,6 @@ public class SettingsScreen extends ScalableGameScreen {
     private static final String[] TAB_LABELS = {"FULL SCREEN", "MASTER VOLUME", "MUSIC", "SOUND EFFECT"};
     
     // Font name for settings screen
-    private static final String SETTINGS_FONT = "settings_font";
-    private static final String SETTINGS_FONT_SMALL = "settings_font_small_large"; // Changed name to force reload
     
     // Toggle button position (between cells 37 and 38)
     // Row 4 (same as FULL SCREEN tab), columns 7-8
@@ -141,50 +140,11 @@ public class SettingsScreen extends ScalableGameScreen {
         loadSettingsFromConfig();
     }
 
-    // Load cursor images (pointer.png and cursor.png)
     private void loadPusheenCursors() {
-        try {
-            // Load pointer cursor (for click/default state)
-            String pointerPath = "assets/ui/pointer.png";
-            Pixmap pointerSource = new Pixmap(Gdx.files.internal(pointerPath));
-            int pointerSourceWidth = pointerSource.getWidth();
-            int pointerSourceHeight = pointerSource.getHeight();
-
-            // Resize to 32x32
-            int targetSize = 32;
-            Pixmap pointerPixmap = new Pixmap(targetSize, targetSize, pointerSource.getFormat());
-            pointerPixmap.drawPixmap(pointerSource,
-                    0, 0, pointerSourceWidth, pointerSourceHeight,
-                    0, 0, targetSize, targetSize);
-            cursorPointer = Gdx.graphics.newCursor(pointerPixmap, 0, 0);
-            pointerPixmap.dispose();
-            pointerSource.dispose();
-
-            // Load hover cursor (for hover state)
-            String cursorPath = "assets/ui/cursor.png";
-            Pixmap cursorSource = new Pixmap(Gdx.files.internal(cursorPath));
-            int cursorSourceWidth = cursorSource.getWidth();
-            int cursorSourceHeight = cursorSource.getHeight();
-
-            // Resize to 32x32
-            Pixmap cursorPixmap = new Pixmap(targetSize, targetSize, cursorSource.getFormat());
-            cursorPixmap.drawPixmap(cursorSource,
-                    0, 0, cursorSourceWidth, cursorSourceHeight,
-                    0, 0, targetSize, targetSize);
-            cursorHover = Gdx.graphics.newCursor(cursorPixmap, 0, 0);
-            cursorPixmap.dispose();
-            cursorSource.dispose();
-
-            // Set default to pointer
-            if (cursorPointer != null) {
-                Gdx.graphics.setCursor(cursorPointer);
-            } else {
-                GameApp.showCursor();
-            }
-        } catch (Exception e) {
-            GameApp.log("Could not load cursors: " + e.getMessage());
-            GameApp.showCursor(); // Fallback to default
-        }
+        // Shared cursors, built once per session
+        cursorPointer = CursorCache.getPointer();
+        cursorHover = CursorCache.getHover();
+        CursorCache.showPointer();
     }
 
     // Load settings from config file
@@ -227,19 +187,8 @@ public class SettingsScreen extends ScalableGameScreen {
             GameApp.addTexture("tab_1", "assets/ui/Tab_1.png");
         }
         
-        // Load custom font for settings screen title - ALWAYS reload to prevent scaling issues
-        if (GameApp.hasFont(SETTINGS_FONT)) {
-            GameApp.disposeFont(SETTINGS_FONT);
-        }
-        GameApp.addStyledFont(SETTINGS_FONT, "fonts/upheavtt.ttf", 42,
-                "yellow-400", 0f, "black", 3, 3, "gray-700", true);
-        
-        // Load smaller font for tab labels - ALWAYS reload to prevent scaling issues
-        // Font may get scaled incorrectly after returning from PlayScreen
-        if (GameApp.hasFont(SETTINGS_FONT_SMALL)) {
-            GameApp.disposeFont(SETTINGS_FONT_SMALL);
-        }
-        GameApp.addFont(SETTINGS_FONT_SMALL, "fonts/PixelOperatorMono-Bold.ttf", 22);
+        // Shared fonts (rasterized on the first visit only)
+        FontRegistry.require(FontRegistry.SETTINGS_TITLE, FontRegistry.SETTINGS_SMALL);
         
         // Load toggle button textures
         if (!GameApp.hasTexture("green_toggle")) {
@@ -314,16 +263,6 @@ public class SettingsScreen extends ScalableGameScreen {
         
         // Don't stop music when leaving settings - keep it playing for menu
         // Music will continue in MainMenuScreen
-
-        // Dispose cursors
-        if (cursorPointer != null) {
-            cursorPointer.dispose();
-            cursorPointer = null;
-        }
-        if (cursorHover != null) {
-            cursorHover.dispose();
-            cursorHover = null;
-        }
     }
 
     @Override
@@ -1079,24 +1018,24 @@ public class SettingsScreen extends ScalableGameScreen {
     // Draw text with styled font (already has outline built in)
     private void drawTextWithOutline(String text, float x, float y) {
         // Styled font already has shadow/outline built in - just draw yellow text
-        GameApp.drawTextCentered(SETTINGS_FONT, text, x, y, "yellow-400");
+        GameApp.drawTextCentered(FontRegistry.SETTINGS_TITLE, text, x, y, "yellow-400");
     }
     
     // Draw text with black outline (white text, black border) - left-aligned, smaller font
     private void drawTextWithOutlineLeft(String text, float x, float y) {
         // Draw black outline (8 directions)
         float offset = 1f;
-        GameApp.drawText(SETTINGS_FONT_SMALL, text, x - offset, y, "black");
-        GameApp.drawText(SETTINGS_FONT_SMALL, text, x + offset, y, "black");
-        GameApp.drawText(SETTINGS_FONT_SMALL, text, x, y - offset, "black");
-        GameApp.drawText(SETTINGS_FONT_SMALL, text, x, y + offset, "black");
-        GameApp.drawText(SETTINGS_FONT_SMALL, text, x - offset, y - offset, "black");
-        GameApp.drawText(SETTINGS_FONT_SMALL, text, x + offset, y - offset, "black");
-        GameApp.drawText(SETTINGS_FONT_SMALL, text, x - offset, y + offset, "black");
-        GameApp.drawText(SETTINGS_FONT_SMALL, text, x + offset, y + offset, "black");
+        GameApp.drawText(FontRegistry.SETTINGS_SMALL, text, x - offset, y, "black");
+        GameApp.drawText(FontRegistry.SETTINGS_SMALL, text, x + offset, y, "black");
+        GameApp.drawText(FontRegistry.SETTINGS_SMALL, text, x, y - offset, "black");
+        GameApp.drawText(FontRegistry.SETTINGS_SMALL, text, x, y + offset, "black");
+        GameApp.drawText(FontRegistry.SETTINGS_SMALL, text, x - offset, y - offset, "black");
+        GameApp.drawText(FontRegistry.SETTINGS_SMALL, text, x + offset, y - offset, "black");
+        GameApp.drawText(FontRegistry.SETTINGS_SMALL, text, x - offset, y + offset, "black");
+        GameApp.drawText(FontRegistry.SETTINGS_SMALL, text, x + offset, y + offset, "black");
         
         // Draw white text on top
-        GameApp.drawText(SETTINGS_FONT_SMALL, text, x, y, "white");
+        GameApp.drawText(FontRegistry.SETTINGS_SMALL, text, x, y, "white");
     }
     
     // Draw coordinate grid for debugging (optional - can be enabled/disabled)
@@ -1,5 +1,7 @@
 package nl.saxion.game.screens;
 
+import nl.saxion.game.systems.CursorCache;
+import nl.saxion.game.systems.FontRegistry;
 import nl.saxion.game.systems.SoundManager;
 import nl.saxion.game.ui.Button;
 import nl.saxion.gameapp.GameApp;
@@ -7,7 +9,6 @@ import nl.saxion.gameapp.screens.ScalableGameScreen;
 
 import com.badlogic.gdx.Gdx;
 import com.badlogic.gdx.graphics.Cursor;
-import com.badlogic.gdx.graphics.Pixmap;
 import java.util.ArrayList;
 import java.util.List;
 
@@ -53,7 +54,7 @@ public class WinnerScreen extends ScalableGameScreen {
     
     private List<Button> winnerButtons;
     private boolean buttonsInitialized = false;
-    private static boolean resourcesLoaded = false; // Static to prevent reloading on each screen show
+    private boolean resourcesLoaded = false; // The screen stays resident, see ScreenRegistry
     private SoundManager soundManager;
     
     private float pressDelay = 0.15f;
@@ -142,16 +143,9 @@ public class WinnerScreen extends ScalableGameScreen {
     private void loadResources() {
         if (resourcesLoaded) return;
         
-        // Only load fonts if not already loaded (prevents delays on screen transitions)
-        if (!GameApp.hasFont("winnerTitle")) {
-            GameApp.addStyledFont("winnerTitle", "fonts/upheavtt.ttf", 72, "yellow-400", 2f, "black", 4, 4, "yellow-700", true);
-        }
-        if (!GameApp.hasFont("winnerText")) {
-            GameApp.addFont("winnerText", "fonts/PressStart2P-Regular.ttf", 16, true);
-        }
-        if (!GameApp.hasFont("winnerSubtitle")) {
-            GameApp.addStyledFont("winnerSubtitle", "fonts/upheavtt.ttf", 32, "green-400", 1f, "black", 2, 2, "green-700", true);
-        }
+        // Shared fonts (rasterized on the first visit only)
+        FontRegistry.require(FontRegistry.WINNER_TITLE, FontRegistry.WINNER_TEXT, FontRegistry.WINNER_SUBTITLE,
+                FontRegistry.WINNER_BUTTON);
         
         if (!GameApp.hasColor("button_green_text")) GameApp.addColor("button_green_text", 25, 50, 25);
         if (!GameApp.hasColor("button_red_text")) GameApp.addColor("button_red_text", 60, 15, 30);
@@ -159,10 +153,6 @@ public class WinnerScreen extends ScalableGameScreen {
         if (!GameApp.hasColor("winner_gold")) GameApp.addColor("winner_gold", 255, 215, 0);
         if (!GameApp.hasColor("winner_green")) GameApp.addColor("winner_green", 50, 205, 50);
         
-        if (!GameApp.hasFont("winnerButtonFont")) {
-            GameApp.addStyledFont("winnerButtonFont", "fonts/upheavtt.ttf", 28, "white", 0f, "black", 2, 2, "gray-700", true);
-        }
-        
         if (!GameApp.hasTexture("green_long")) GameApp.addTexture("green_long", "assets/ui/green_long.png");
         if (!GameApp.hasTexture("green_pressed_long")) GameApp.addTexture("green_pressed_long", "assets/ui/green_pressed_long.png");
         if (!GameApp.hasTexture("red_long")) GameApp.addTexture("red_long", "assets/ui/red_long.png");
@@ -177,27 +167,10 @@ public class WinnerScreen extends ScalableGameScreen {
     }
     
     private void loadCursors() {
-        try {
-            Pixmap pointerSource = new Pixmap(Gdx.files.internal("assets/ui/pointer.png"));
-            int targetSize = 32;
-            Pixmap pointerPixmap = new Pixmap(targetSize, targetSize, pointerSource.getFormat());
-            pointerPixmap.drawPixmap(pointerSource, 0, 0, pointerSource.getWidth(), pointerSource.getHeight(), 0, 0, targetSize, targetSize);
-            cursorPointer = Gdx.graphics.newCursor(pointerPixmap, 0, 0);
-            pointerPixmap.dispose();
-            pointerSource.dispose();
-            
-            Pixmap cursorSource = new Pixmap(Gdx.files.internal("assets/ui/cursor.png"));
-            Pixmap cursorPixmap = new Pixmap(targetSize, targetSize, cursorSource.getFormat());
-            cursorPixmap.drawPixmap(cursorSource, 0, 0, cursorSource.getWidth(), cursorSource.getHeight(), 0, 0, targetSize, targetSize);
-            cursorHover = Gdx.graphics.newCursor(cursorPixmap, 0, 0);
-            cursorPixmap.dispose();
-            cursorSource.dispose();
-            
-            if (cursorPointer != null) Gdx.graphics.setCursor(cursorPointer);
-            else GameApp.showCursor();
-        } catch (Exception e) {
-            GameApp.showCursor();
-        }
+        // Shared cursors, built once per session
+        cursorPointer = CursorCache.getPointer();
+        cursorHover = CursorCache.getHover();
+        CursorCache.showPointer();
     }
     
     private void initializeCelebrationStars() {
@@ -256,8 +229,6 @@ public class WinnerScreen extends ScalableGameScreen {
             soundManager.stopWinnerMusic();
         }
         goingToCredits = false; // Reset flag
-        if (cursorPointer != null) { cursorPointer.dispose(); cursorPointer = null; }
-        if (cursorHover != null) { cursorHover.dispose(); cursorHover = null; }
     }
     
     @Override
@@ -320,15 +291,15 @@ public class WinnerScreen extends ScalableGameScreen {
         
         // Line 1: CONGRATULATION, USERNAME
         String congratsText = "CONGRATULATION, " + playerName + "!";
-        GameApp.drawTextCentered("winnerSubtitle", congratsText, centerX, textBaseY, "winner_green");
+        GameApp.drawTextCentered(FontRegistry.WINNER_SUBTITLE, congratsText, centerX, textBaseY, "winner_green");
         
         // Line 2: Final Score
         String scoreText = String.format("Final Score: %,d", score);
-        GameApp.drawTextCentered("winnerText", scoreText, centerX, textBaseY - 45, "winner_gold");
+        GameApp.drawTextCentered(FontRegistry.WINNER_TEXT, scoreText, centerX, textBaseY - 45, "winner_gold");
         
         // Line 3: Vote message (nice English)
         String voteText = "If you enjoyed our game, please vote for us :). Thank you!";
-        GameApp.drawTextCentered("winnerText", voteText, centerX, textBaseY - 85, "white");
+        GameApp.drawTextCentered(FontRegistry.WINNER_TEXT, voteText, centerX, textBaseY - 85, "white");
         
         drawButtonText(centerX);
         GameApp.endSpriteRendering();
@@ -437,8 +408,8 @@ public class WinnerScreen extends ScalableGameScreen {
             Button btn = winnerButtons.get(i);
             float btnCenterX = btn.getX() + btn.getWidth() / 2;
             float btnCenterY = btn.getY() + btn.getHeight() / 2;
-            float textHeight = GameApp.getTextHeight("winnerButtonFont", labels[i]);
-            GameApp.drawTextCentered("winnerButtonFont", labels[i], btnCenterX, btnCenterY + textHeight * 0.15f, colors[i]);
+            float textHeight = GameApp.getTextHeight(FontRegistry.WINNER_BUTTON, labels[i]);
+            GameApp.drawTextCentered(FontRegistry.WINNER_BUTTON, labels[i], btnCenterX, btnCenterY + textHeight * 0.15f, colors[i]);
         }
     }
     
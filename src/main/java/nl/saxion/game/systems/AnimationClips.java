@@ -0,0 +1,177 @@
+package nl.saxion.game.systems;
+
+import com.badlogic.gdx.graphics.Texture;
+import nl.saxion.game.systems.LazyResourceManager.ResourceGroup;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Animation Clips - The one table of entity animations and the sheets they are cut from.
+ *
+ * Every clip belongs to a LazyResourceManager resource group. Loading a group decodes the
+ * group's sheets (getSheetPaths, usually on a worker thread) and then registers its clips
+ * with AnimationClock (register); the sheets are held in the TextureRegistry under the
+ * group's owner name and released with the group (unregister). Entity sheets are not
+ * registered with GameApp, so each PNG is decoded and uploaded exactly once; to add or
+ * change an animation, edit this table.
+ */
+public class AnimationClips {
+
+    private static class Spec {
+        final ResourceGroup group;
+        final String name;
+        final String sheetPath;
+        final int frameSize;      // Square frames; 0 = the whole texture is one frame
+        final int row;
+        final int firstColumn;
+        final int frameCount;     // 0 = every frame of the sheet, row by row
+        final float frameDuration;
+        final boolean looping;
+
+        Spec(ResourceGroup group, String name, String sheetPath, int frameSize, int row, int firstColumn,
+             int frameCount, float frameDuration, boolean looping) {
+            this.group = group;
+            this.name = name;
+            this.sheetPath = sheetPath;
+            this.frameSize = frameSize;
+            this.row = row;
+            this.firstColumn = firstColumn;
+            this.frameCount = frameCount;
+            this.frameDuration = frameDuration;
+            this.looping = looping;
+        }
+    }
+
+    private static final List<Spec> SPECS = new ArrayList<>();
+
+    static {
+        // Player (32x32 frames)
+        strip(ResourceGroup.PLAYER, "player_idle", "assets/player/Rambo_Idle.png", 0.15f, true);
+        strip(ResourceGroup.PLAYER, "player_run_left", "assets/player/Rambo_Run(Left).png", 0.1f, true);
+        strip(ResourceGroup.PLAYER, "player_run_right", "assets/player/Rambo_Run(Right).png", 0.1f, true);
+        strip(ResourceGroup.PLAYER, "player_death", "assets/player/Rambo_Death.png", 0.2f, false);
+        strip(ResourceGroup.PLAYER, "player_hit", "assets/player/Player_Hit.png", 0.1f, false);
+        image(ResourceGroup.PLAYER, "bullet", "assets/Bullet/Bullet.png");
+
+        // Zombie type 1 - hit sheet is 96x32 (3 frames)
+        strip(ResourceGroup.ZOMBIE_TYPE1, "zombie_idle", "assets/enemy/Zombie_Idle.png", 0.2f, true);
+        strip(ResourceGroup.ZOMBIE_TYPE1, "zombie_run", "assets/enemy/Zombie_run.png", 0.1f, true);
+        frames(ResourceGroup.ZOMBIE_TYPE1, "zombie_hit", "assets/enemy/Zombie_Hit.png", 32, 0, 0, 3, 0.1f, false);
+        strip(ResourceGroup.ZOMBIE_TYPE1, "zombie_death", "assets/enemy/Zombie_Death_1.png", 0.2f, false);
+
+        // Zombie type 3
+        strip(ResourceGroup.ZOMBIE_TYPE3, "zombie3_idle", "assets/enemy/Zombie 3_idle .png", 0.2f, true);
+        strip(ResourceGroup.ZOMBIE_TYPE3, "zombie3_run", "assets/enemy/Zombie 3_run .png", 0.1f, true);
+        frames(ResourceGroup.ZOMBIE_TYPE3, "zombie3_hit", "assets/enemy/Zombie 3_Hit .png", 32, 0, 0, 3, 0.1f, false);
+        strip(ResourceGroup.ZOMBIE_TYPE3, "zombie3_death", "assets/enemy/Zombie 3_death.png", 0.2f, false);
+
+        // Zombie type 4 - no hit sprite, the hit clip uses the first run frames
+        strip(ResourceGroup.ZOMBIE_TYPE4, "zombie4_idle", "assets/enemy/Zombie 4_idle.png", 0.2f, true);
+        strip(ResourceGroup.ZOMBIE_TYPE4, "zombie4_run", "assets/enemy/Zombie 4_run.png", 0.1f, true);
+        frames(ResourceGroup.ZOMBIE_TYPE4, "zombie4_hit", "assets/enemy/Zombie 4_run.png", 32, 0, 0, 3, 0.1f, false);
+        strip(ResourceGroup.ZOMBIE_TYPE4, "zombie4_death", "assets/enemy/Zombie 4_death 4.png", 0.2f, false);
+
+        // Boss - death plays the hit frames slower (both cut from the one Boss_Hit sheet)
+        strip(ResourceGroup.BOSS, "boss_idle", "assets/enemy/Boss_Idle.png", 0.2f, true);
+        strip(ResourceGroup.BOSS, "boss_run", "assets/enemy/Boss_run.png", 0.1f, true);
+        frames(ResourceGroup.BOSS, "boss_hit", "assets/enemy/Boss_Hit.png", 32, 0, 0, 3, 0.1f, false);
+        frames(ResourceGroup.BOSS, "boss_death", "assets/enemy/Boss_Hit.png", 32, 0, 0, 3, 0.15f, false);
+
+        // XP orbs, plus the legacy animated orb (16x16 sheet, row 9, cols 19-22)
+        image(ResourceGroup.XP_ORBS, "orb_blue", "assets/ui/orbblue.png");
+        image(ResourceGroup.XP_ORBS, "orb_green", "assets/ui/orbgreen.png");
+        image(ResourceGroup.XP_ORBS, "orb_red", "assets/ui/orbred.png");
+        frames(ResourceGroup.XP_ORBS, "orb_animation", "assets/enemy/orb.png", 16, 9, 19, 4, 0.15f, true);
+
+        // Breakable objects (64x64): one row per type, idle cols 0-2 (looping), break cols 3-6
+        breakable("barrel", 1);
+        breakable("box", 3);
+        breakable("rock", 5);
+        breakable("sign", 7);
+        breakable("mushroom", 9);
+        breakable("chest", 11);
+
+        // Treasure chest frames (world chests and gacha), one image each
+        for (int i = 1; i <= 11; i++) {
+            image(ResourceGroup.TREASURE_CHEST, "chest_shiny_" + i, "assets/ui/shiny" + i + ".png");
+        }
+        image(ResourceGroup.TREASURE_CHEST, "chest_open_1", "assets/ui/open1.png");
+        image(ResourceGroup.TREASURE_CHEST, "chest_open_2", "assets/ui/open2.png");
+    }
+
+    private static void strip(ResourceGroup group, String name, String sheetPath, float frameDuration, boolean looping) {
+        SPECS.add(new Spec(group, name, sheetPath, 32, 0, 0, 0, frameDuration, looping));
+    }
+
+    private static void frames(ResourceGroup group, String name, String sheetPath, int frameSize, int row,
+                               int firstColumn, int frameCount, float frameDuration, boolean looping) {
+        SPECS.add(new Spec(group, name, sheetPath, frameSize, row, firstColumn, frameCount, frameDuration, looping));
+    }
+
+    private static void image(ResourceGroup group, String name, String path) {
+        SPECS.add(new Spec(group, name, path, 0, 0, 0, 1, 1f, true));
+    }
+
+    private static void breakable(String name, int row) {
+        frames(ResourceGroup.BREAKABLES, name + "_idle", "assets/tiles/object.png", 64, row, 0, 3, 0.2f, true);
+        frames(ResourceGroup.BREAKABLES, name + "_break", "assets/tiles/object.png", 64, row, 3, 4, 0.15f, false);
+    }
+
+    /**
+     * Sheet files used by a group's clips, each listed once.
+     */
+    public static List<String> getSheetPaths(ResourceGroup group) {
+        List<String> paths = new ArrayList<>();
+        for (Spec spec : SPECS) {
+            if (spec.group == group && !paths.contains(spec.sheetPath)) {
+                paths.add(spec.sheetPath);
+            }
+        }
+        return paths;
+    }
+
+    /**
+     * Whether a group has any clips in the table.
+     */
+    public static boolean hasClips(ResourceGroup group) {
+        for (Spec spec : SPECS) {
+            if (spec.group == group) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Register all clips of a group with AnimationClock (render thread).
+     * Sheets are acquired for the owner; ones already resident in the TextureRegistry are reused, not decoded again.
+     */
+    public static void register(ResourceGroup group, String owner) {
+        for (Spec spec : SPECS) {
+            if (spec.group != group) continue;
+            Texture sheet = TextureRegistry.acquire(owner, spec.sheetPath);
+            if (sheet == null) continue;
+            if (spec.frameSize == 0) {
+                AnimationClock.registerImage(spec.name, sheet);
+            } else if (spec.frameCount == 0) {
+                AnimationClock.registerStrip(spec.name, sheet, spec.frameSize, spec.frameSize,
+                        spec.frameDuration, spec.looping);
+            } else {
+                AnimationClock.registerFrames(spec.name, sheet, spec.frameSize, spec.frameSize,
+                        spec.row, spec.firstColumn, spec.frameCount, spec.frameDuration, spec.looping);
+            }
+        }
+    }
+
+    /**
+     * Remove all clips of a group from AnimationClock (the caller releases the sheets).
+     */
+    public static void unregister(ResourceGroup group) {
+        for (Spec spec : SPECS) {
+            if (spec.group == group) {
+                AnimationClock.removeClip(spec.name);
+            }
+        }
+    }
+}
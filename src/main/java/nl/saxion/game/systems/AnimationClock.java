@@ -0,0 +1,206 @@
+package nl.saxion.game.systems;
+
+import com.badlogic.gdx.graphics.Texture;
+import com.badlogic.gdx.graphics.g2d.SpriteBatch;
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
+import nl.saxion.gameapp.GameApp;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Animation Clock - One global time source for all sprite animations.
+ *
+ * Instead of advancing every named animation each frame, the clock only adds
+ * delta to a single elapsed time. The frame of a clip is computed on draw from
+ * (now - startTime) / frameDuration, so the per-frame cost does not grow when
+ * more animations (or enemy types) are registered.
+ *
+ * The clock does not own textures: sheets are acquired from the TextureRegistry by
+ * whoever registers the clips (AnimationClips, per resource group) and released with them.
+ *
+ * Usage:
+ * - Register clips when sprite sheets are loaded (registerStrip / registerFrames)
+ * - Call tick(delta) once per frame while the world is animating
+ * - Store now() when a one-shot clip (hit, death, break) starts and pass it to draw()
+ */
+public class AnimationClock {
+
+    // Global elapsed animation time in seconds
+    private static float elapsed = 0f;
+
+    // Registered clips by animation name
+    private static final Map<String, Clip> clips = new HashMap<>();
+
+    /**
+     * A registered animation: its frames and timing.
+     */
+    public static class Clip {
+        private final TextureRegion[] frames;
+        private final float frameDuration;
+        private final boolean looping;
+
+        Clip(TextureRegion[] frames, float frameDuration, boolean looping) {
+            this.frames = frames;
+            this.frameDuration = frameDuration;
+            this.looping = looping;
+        }
+
+        /**
+         * Frame index for a clip that started at startTime (O(1)).
+         */
+        public int getFrameIndex(float startTime) {
+            int index = (int) ((elapsed - startTime) / frameDuration);
+            if (index < 0) {
+                index = 0;
+            }
+            if (looping) {
+                return index % frames.length;
+            }
+            return Math.min(index, frames.length - 1);
+        }
+
+        public TextureRegion getFrame(float startTime) {
+            return frames[getFrameIndex(startTime)];
+        }
+
+        /**
+         * Check if a non-looping clip has played all its frames.
+         */
+        public boolean isFinished(float startTime) {
+            return !looping && (elapsed - startTime) >= getDuration();
+        }
+
+        public float getDuration() {
+            return frames.length * frameDuration;
+        }
+
+        public int getFrameCount() {
+            return frames.length;
+        }
+    }
+
+    /**
+     * Advance the global clock. Call once per frame.
+     */
+    public static void tick(float delta) {
+        elapsed += delta;
+    }
+
+    /**
+     * Current clock time - use as start time when a one-shot clip begins.
+     */
+    public static float now() {
+        return elapsed;
+    }
+
+    /**
+     * Register a clip using every frame of a sprite sheet (row by row).
+     * Matches GameApp.addAnimationFromSpritesheet.
+     */
+    public static void registerStrip(String name, Texture sheet, int frameWidth, int frameHeight,
+                                     float frameDuration, boolean looping) {
+
+        TextureRegion[][] grid = TextureRegion.split(sheet, frameWidth, frameHeight);
+        int rows = grid.length;
+        int cols = rows > 0 ? grid[0].length : 0;
+        TextureRegion[] frames = new TextureRegion[rows * cols];
+        int i = 0;
+        for (TextureRegion[] row : grid) {
+            for (TextureRegion frame : row) {
+                frames[i++] = frame;
+            }
+        }
+        if (frames.length == 0) return;
+
+        clips.put(name, new Clip(frames, frameDuration, looping));
+    }
+
+    /**
+     * Register a clip from consecutive columns of one sprite sheet row.
+     * Matches addEmptyAnimation followed by addAnimationFrameFromSpritesheet calls.
+     */
+    public static void registerFrames(String name, Texture sheet, int frameWidth, int frameHeight,
+                                      int row, int firstColumn, int frameCount,
+                                      float frameDuration, boolean looping) {
+
+        TextureRegion[] frames = new TextureRegion[frameCount];
+        for (int i = 0; i < frameCount; i++) {
+            frames[i] = new TextureRegion(sheet, (firstColumn + i) * frameWidth, row * frameHeight,
+                    frameWidth, frameHeight);
+        }
+
+        clips.put(name, new Clip(frames, frameDuration, looping));
+    }
+
+    /**
+     * Register a whole texture as a single-frame clip (static sprites like bullets and orbs).
+     * Lets hot render loops use a resolved TextureRegion instead of a GameApp texture key.
+     */
+    public static void registerImage(String name, Texture texture) {
+        clips.put(name, new Clip(new TextureRegion[] { new TextureRegion(texture) }, 1f, true));
+    }
+
+    /**
+     * Remove a clip (when its resource group is unloaded).
+     */
+    public static void removeClip(String name) {
+        clips.remove(name);
+    }
+
+    public static boolean hasClip(String name) {
+        return clips.containsKey(name);
+    }
+
+    public static Clip getClip(String name) {
+        return clips.get(name);
+    }
+
+    /**
+     * Current frame of a clip, or null if the clip is not registered.
+     */
+    public static TextureRegion getFrame(String name, float startTime) {
+        Clip clip = clips.get(name);
+        return clip != null ? clip.getFrame(startTime) : null;
+    }
+
+    /**
+     * Check if a non-looping clip that started at startTime has finished.
+     * Unknown clips count as finished so callers never wait forever.
+     */
+    public static boolean isFinished(String name, float startTime) {
+        Clip clip = clips.get(name);
+        return clip == null || clip.isFinished(startTime);
+    }
+
+    /**
+     * Draw the current frame of a clip with GameApp's sprite batch.
+     * Must be called between GameApp.startSpriteRendering() and endSpriteRendering().
+     * @return false if the clip is not registered (caller should use a fallback)
+     */
+    public static boolean draw(String name, float startTime, float x, float y,
+                               float width, float height, boolean flipX) {
+        Clip clip = clips.get(name);
+        if (clip == null) {
+            return false;
+        }
+
+        SpriteBatch batch = GameApp.getSpriteBatch();
+        TextureRegion frame = clip.getFrame(startTime);
+        if (flipX) {
+            // Negative width mirrors the quad around its right edge
+            batch.draw(frame, x + width, y, -width, height);
+        } else {
+            batch.draw(frame, x, y, width, height);
+        }
+        return true;
+    }
+
+    /**
+     * Forget all clips (when leaving gameplay); their sheets are released by their resource groups.
+     * The clock time is kept so start times stored in preserved entities stay valid.
+     */
+    public static void dispose() {
+        clips.clear();
+    }
+}
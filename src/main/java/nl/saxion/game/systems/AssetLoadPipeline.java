@@ -0,0 +1,266 @@
+package nl.saxion.game.systems;
+
+import nl.saxion.game.utils.DebugLogger;
+import nl.saxion.gameapp.GameApp;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+
+/**
+ * Asset Load Pipeline - Staged asynchronous loading with a per-frame upload budget.
+ *
+ * Each task has two stages:
+ * - prepare: runs on a worker thread (file reads, PNG decode into Pixmap, TMX parsing)
+ * - upload: runs on the render thread (GL texture upload, GameApp registration)
+ * Tasks without a prepare stage only run on the render thread (GameApp facade calls).
+ *
+ * update() is called once per frame (loading screen, background streaming). Uploads
+ * run in the order tasks were added until the frame budget is used up; at least one
+ * task runs per frame so large steps still make progress. Timing per asset is logged
+ * when the pipeline completes. All pipelines share one small pool of daemon workers.
+ */
+public class AssetLoadPipeline {
+
+    // Workers use the cores left over by the render thread (6 on an 8-core kiosk)
+    private static final int MAX_WORKERS = 6;
+
+    // Shared worker pool, created on first use
+    private static ExecutorService workers;
+    private static int workerCount = 0;
+
+    private static class Task {
+        final String name;
+        final Callable<Object> prepare;
+        final Consumer<Object> upload;
+        final Consumer<Object> discard;
+        Future<Object> future;
+        volatile long prepareNanos;
+        volatile long prepareEndNanos;
+        long uploadNanos;
+
+        Task(String name, Callable<Object> prepare, Consumer<Object> upload, Consumer<Object> discard) {
+            this.name = name;
+            this.prepare = prepare;
+            this.upload = upload;
+            this.discard = discard;
+        }
+    }
+
+    private final String name;
+    private final List<Task> tasks = new ArrayList<>();
+    private int nextTask = 0;
+    private int frames = 0;
+    private long startNanos;
+    private boolean started = false;
+    private boolean finished = false;
+
+    public AssetLoadPipeline(String name) {
+        this.name = name;
+    }
+
+    /**
+     * Add a task with a worker stage and a render thread stage.
+     * @param prepare runs on a worker thread, must not touch GL or GameApp registries
+     * @param upload receives the prepared result on the render thread
+     * @param discard frees a prepared result that is never uploaded (cancel), may be null
+     */
+    @SuppressWarnings("unchecked")
+    public <T> void add(String taskName, Callable<T> prepare, Consumer<T> upload, Consumer<T> discard) {
+        tasks.add(new Task(taskName, (Callable<Object>) prepare, (Consumer<Object>) upload, (Consumer<Object>) discard));
+    }
+
+    /**
+     * Add a task that only runs on the render thread (GameApp facade loading).
+     */
+    public void addMainThread(String taskName, Runnable step) {
+        tasks.add(new Task(taskName, null, prepared -> step.run(), null));
+    }
+
+    /**
+     * Submit all worker stages. Call once after all tasks are added.
+     */
+    public void start() {
+        if (started) return;
+        started = true;
+        startNanos = System.nanoTime();
+
+        ExecutorService pool = getWorkers();
+        for (Task task : tasks) {
+            if (task.prepare == null) continue;
+            task.future = pool.submit(() -> {
+                long start = System.nanoTime();
+                try {
+                    return task.prepare.call();
+                } finally {
+                    long end = System.nanoTime();
+                    task.prepareNanos = end - start;
+                    task.prepareEndNanos = end;
+                }
+            });
+        }
+    }
+
+    /**
+     * Run render thread stages until the frame budget is used up.
+     * @param budgetMillis time allowed for uploads this frame
+     * @return true when every task has completed
+     */
+    public boolean update(float budgetMillis) {
+        if (!started) start();
+        if (finished) return true;
+
+        frames++;
+        long frameStart = System.nanoTime();
+        long budgetNanos = (long) (budgetMillis * 1_000_000L);
+        boolean ranOne = false;
+
+        while (nextTask < tasks.size()) {
+            if (ranOne && System.nanoTime() - frameStart >= budgetNanos) {
+                break;
+            }
+
+            Task task = tasks.get(nextTask);
+            // Keep the order deterministic: wait for this task's worker stage before moving on
+            if (task.future != null && !task.future.isDone()) {
+                break;
+            }
+
+            runUpload(task);
+            nextTask++;
+            ranOne = true;
+        }
+
+        if (nextTask >= tasks.size()) {
+            finished = true;
+            logTimings();
+        }
+        return finished;
+    }
+
+    /**
+     * Complete all remaining tasks now, waiting for worker stages (synchronous fallback).
+     */
+    public void finishNow() {
+        if (!started) start();
+        if (finished) return;
+
+        while (nextTask < tasks.size()) {
+            runUpload(tasks.get(nextTask));
+            nextTask++;
+        }
+        finished = true;
+        logTimings();
+    }
+
+    private void runUpload(Task task) {
+        Object prepared = null;
+        if (task.future != null) {
+            try {
+                prepared = task.future.get();
+            } catch (ExecutionException e) {
+                GameApp.log("Warning: Could not load " + task.name + " - " + e.getCause());
+                return;
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+            // A failed decode is reported by the worker stage itself
+            if (prepared == null) return;
+        }
+
+        long start = System.nanoTime();
+        try {
+            task.upload.accept(prepared);
+        } catch (Exception e) {
+            GameApp.log("Warning: Could not upload " + task.name + " - " + e.getMessage());
+        }
+        task.uploadNanos = System.nanoTime() - start;
+    }
+
+    /**
+     * Stop loading (screen left before loading finished) and free prepared results.
+     */
+    public void cancel() {
+        if (finished) return;
+        finished = true;
+
+        for (int i = nextTask; i < tasks.size(); i++) {
+            Task task = tasks.get(i);
+            if (task.future == null) continue;
+            if (!task.future.cancel(false) && task.discard != null) {
+                try {
+                    Object prepared = task.future.get();
+                    if (prepared != null) {
+                        task.discard.accept(prepared);
+                    }
+                } catch (Exception e) {
+                    // Nothing to free
+                }
+            }
+        }
+        GameApp.log(name + " loading cancelled after " + nextTask + "/" + tasks.size() + " assets");
+    }
+
+    private static synchronized ExecutorService getWorkers() {
+        if (workers == null) {
+            int threads = Math.max(1, Math.min(MAX_WORKERS, Runtime.getRuntime().availableProcessors() - 1));
+            workerCount = threads;
+            AtomicInteger threadId = new AtomicInteger();
+            workers = Executors.newFixedThreadPool(threads, runnable -> {
+                Thread thread = new Thread(runnable, "asset-loader-" + threadId.incrementAndGet());
+                thread.setDaemon(true);
+                return thread;
+            });
+        }
+        return workers;
+    }
+
+    public boolean isFinished() {
+        return finished;
+    }
+
+    /**
+     * Loading progress from 0 to 1 (completed render thread stages).
+     */
+    public float getProgress() {
+        return tasks.isEmpty() ? 1f : (float) nextTask / tasks.size();
+    }
+
+    /**
+     * Name of the next asset to upload (for the loading screen).
+     */
+    public String getCurrentTaskName() {
+        return nextTask < tasks.size() ? tasks.get(nextTask).name : "";
+    }
+
+    private void logTimings() {
+        long totalPrepare = 0;
+        long totalUpload = 0;
+        long lastPrepareEnd = startNanos;
+        for (Task task : tasks) {
+            totalPrepare += task.prepareNanos;
+            totalUpload += task.uploadNanos;
+            if (task.future != null) {
+                lastPrepareEnd = Math.max(lastPrepareEnd, task.prepareEndNanos);
+            }
+            DebugLogger.log("  load %-40s worker %6.1f ms  render %6.1f ms",
+                    task.name, task.prepareNanos / 1_000_000f, task.uploadNanos / 1_000_000f);
+        }
+
+        // Parallel speedup of the worker stages: serial CPU time / wall time until the last one finished
+        long workerWall = lastPrepareEnd - startNanos;
+        float speedup = workerWall > 0 ? (float) totalPrepare / workerWall : 1f;
+
+        GameApp.log(String.format("%s loaded %d assets in %.0f ms over %d frames (worker %.0f ms in %.0f ms wall on %d threads, %.1fx; render thread %.0f ms)",
+                name, tasks.size(), (System.nanoTime() - startNanos) / 1_000_000f, frames,
+                totalPrepare / 1_000_000f, workerWall / 1_000_000f, workerCount, speedup,
+                totalUpload / 1_000_000f));
+    }
+}
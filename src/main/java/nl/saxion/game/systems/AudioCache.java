@@ -0,0 +1,210 @@
+package nl.saxion.game.systems;
+
+import com.badlogic.gdx.Gdx;
+import javazoom.jl.decoder.Bitstream;
+import javazoom.jl.decoder.Header;
+import javazoom.jl.decoder.MP3Decoder;
+import javazoom.jl.decoder.OutputBuffer;
+import nl.saxion.game.utils.AssetPack;
+import nl.saxion.game.utils.DebugLogger;
+import nl.saxion.gameapp.GameApp;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.security.MessageDigest;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Audio Cache - Decoded PCM for MP3 sound effects, kept between launches.
+ *
+ * LibGDX decodes an MP3 Sound completely into PCM every time it is created. The first
+ * launch decodes each effect once (same decoder and frame handling as LibGDX) and writes
+ * the PCM as a WAV file to cache/audio/, named after the source file and the SHA-256 of
+ * its content. Later launches give GameApp the WAV path, which loads without decoding.
+ * A changed source gets a new hash, so stale files are never used (and are deleted).
+ * If the cache cannot be written (read-only install, full disk) the failure is logged
+ * once and the decoded WAV is served from memory under the same path for the session
+ * (AssetPack.addMemoryFile), so the MP3 is not decoded a second time by LibGDX.
+ *
+ * Sounds are resolved in parallel on the load workers; only the shared maps, counters and
+ * the writable flag are thread-safe, the decode itself takes no lock.
+ *
+ * Music is not cached: LibGDX streams Music in small chunks and never decodes a whole track.
+ */
+public class AudioCache {
+
+    private static final String CACHE_DIR = "cache/audio";
+
+    // Resolved path by source path, so screens that reload sounds skip the hash
+    private static final Map<String, String> resolved = new ConcurrentHashMap<>();
+    private static final AtomicInteger cacheHits = new AtomicInteger();
+    private static final AtomicInteger decodeCount = new AtomicInteger();
+
+    // Cleared after the first failed write; later sounds go straight to memory
+    private static final AtomicBoolean cacheWritable = new AtomicBoolean(true);
+
+    /**
+     * Path to load a sound effect from: the cached PCM for MP3 files, the source otherwise.
+     * Falls back to the source path if decoding or writing the cache fails. Safe to call from several workers.
+     */
+    public static String resolveSound(String path) {
+        String cached = resolved.get(path);
+        if (cached != null) return cached;
+
+        String result = path;
+        if (path.toLowerCase().endsWith(".mp3")) {
+            try {
+                result = resolve(path);
+            } catch (Exception e) {
+                GameApp.log("Warning: Could not cache decoded audio for " + path + " - " + e.getMessage());
+            }
+        }
+        resolved.put(path, result);
+        return result;
+    }
+
+    private static String resolve(String path) throws Exception {
+        byte[] source = Gdx.files.internal(path).readBytes();
+        String name = path.substring(path.lastIndexOf('/') + 1, path.length() - 4);
+        String fileName = name + "-" + hashHex(source) + ".wav";
+        // Relative to the working directory, so GameApp can load it as an internal path
+        String cachePath = CACHE_DIR + "/" + fileName;
+
+        File file = new File(cachePath);
+        if (file.exists()) {
+            cacheHits.incrementAndGet();
+            return cachePath;
+        }
+
+        long start = System.currentTimeMillis();
+        byte[] wav = decodeToWav(source);
+        decodeCount.incrementAndGet();
+
+        if (cacheWritable.get()) {
+            try {
+                write(file, wav);
+                deleteStale(file.getParentFile(), name, fileName);
+                GameApp.log("Decoded " + path + " to PCM cache (" + (wav.length / 1024) + " KB) in "
+                        + (System.currentTimeMillis() - start) + "ms");
+                return cachePath;
+            } catch (IOException e) {
+                // Logged once, by the worker that failed first
+                if (cacheWritable.compareAndSet(true, false)) {
+                    GameApp.log("Warning: Could not write audio cache to " + CACHE_DIR + " (" + e.getMessage()
+                            + "), decoded sounds are kept in memory for this session");
+                }
+            }
+        }
+
+        AssetPack.addMemoryFile(cachePath, wav);
+        DebugLogger.log("Decoded %s to memory (%d KB) in %d ms", path, wav.length / 1024,
+                System.currentTimeMillis() - start);
+        return cachePath;
+    }
+
+    // Write to a temp file and move it in place so a crash never leaves a truncated file.
+    // The temp name is unique, so two workers writing the same sound do not collide.
+    private static void write(File file, byte[] wav) throws IOException {
+        Path target = file.toPath();
+        Files.createDirectories(target.getParent());
+        Path temp = Files.createTempFile(target.getParent(), file.getName(), ".tmp");
+        try {
+            Files.write(temp, wav);
+            Files.move(temp, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException e) {
+            Files.deleteIfExists(temp);
+            throw e;
+        }
+    }
+
+    /**
+     * Decode an MP3 to a 16-bit little-endian PCM WAV, frame by frame like LibGDX's Mp3.Sound.
+     */
+    private static byte[] decodeToWav(byte[] mp3) throws Exception {
+        Bitstream bitstream = new Bitstream(new ByteArrayInputStream(mp3));
+        ByteArrayOutputStream pcm = new ByteArrayOutputStream(mp3.length * 8);
+        MP3Decoder decoder = new MP3Decoder();
+        OutputBuffer outputBuffer = null;
+        int channels = 0;
+        int sampleRate = 0;
+
+        try {
+            while (true) {
+                Header header = bitstream.readFrame();
+                if (header == null) break;
+                if (outputBuffer == null) {
+                    channels = header.mode() == Header.SINGLE_CHANNEL ? 1 : 2;
+                    sampleRate = header.getSampleRate();
+                    outputBuffer = new OutputBuffer(channels, false);
+                    decoder.setOutputBuffer(outputBuffer);
+                }
+                try {
+                    decoder.decodeFrame(header, bitstream);
+                } catch (Exception ignored) {
+                    // Skip a bad frame, the same as LibGDX does
+                }
+                bitstream.closeFrame();
+                pcm.write(outputBuffer.getBuffer(), 0, outputBuffer.reset());
+            }
+        } finally {
+            bitstream.close();
+        }
+
+        if (outputBuffer == null) {
+            throw new IOException("no MP3 frames");
+        }
+
+        int dataLength = pcm.size();
+        ByteBuffer header = ByteBuffer.allocate(44).order(ByteOrder.LITTLE_ENDIAN);
+        header.put(new byte[]{'R', 'I', 'F', 'F'}).putInt(36 + dataLength);
+        header.put(new byte[]{'W', 'A', 'V', 'E', 'f', 'm', 't', ' '});
+        header.putInt(16).putShort((short) 1).putShort((short) channels); // PCM
+        header.putInt(sampleRate).putInt(sampleRate * channels * 2);
+        header.putShort((short) (channels * 2)).putShort((short) 16);
+        header.put(new byte[]{'d', 'a', 't', 'a'}).putInt(dataLength);
+
+        ByteArrayOutputStream wav = new ByteArrayOutputStream(44 + dataLength);
+        wav.write(header.array());
+        pcm.writeTo(wav);
+        return wav.toByteArray();
+    }
+
+    // Remove cache files of older versions of the same sound
+    private static void deleteStale(File dir, String name, String currentFileName) {
+        File[] files = dir.listFiles((d, fileName) -> fileName.startsWith(name + "-") && fileName.endsWith(".wav")
+                && !fileName.equals(currentFileName));
+        if (files == null) return;
+        for (File stale : files) {
+            if (!stale.delete()) {
+                GameApp.log("Warning: Could not delete stale audio cache " + stale.getPath());
+            }
+        }
+    }
+
+    private static String hashHex(byte[] source) throws Exception {
+        byte[] hash = MessageDigest.getInstance("SHA-256").digest(source);
+        StringBuilder hex = new StringBuilder(16);
+        for (int i = 0; i < 8; i++) {
+            hex.append(String.format("%02x", hash[i]));
+        }
+        return hex.toString();
+    }
+
+    public static int getCacheHits() {
+        return cacheHits.get();
+    }
+
+    public static int getDecodeCount() {
+        return decodeCount.get();
+    }
+}
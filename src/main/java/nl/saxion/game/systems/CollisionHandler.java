@@ -133,7 +133,7 @@ public class CollisionHandler {
                         float enemyCenterX = eX + eW / 2f;
                         float enemyCenterY = eY + eH / 2f;
                         // Crit shows yellow text, normal shows orange/red
-                        damageTextSystem.spawnDamageText(enemyCenterX, enemyCenterY, damage, isCrit);
+                        damageTextSystem.spawnDamageText(e, enemyCenterX, enemyCenterY, damage, isCrit);
                     }
 
                     if (e.isDead()) {
@@ -210,7 +210,7 @@ public class CollisionHandler {
                         float centerY = by + bh / 2f;
                         // Critical hit: 25% chance - shows yellow text
                         boolean isCrit = GameApp.random(0f, 1f) < 0.25f;
-                        damageTextSystem.spawnDamageText(centerX, centerY, damage, isCrit);
+                        damageTextSystem.spawnDamageText(boss, centerX, centerY, damage, isCrit);
                     }
 
                     // Boss killed
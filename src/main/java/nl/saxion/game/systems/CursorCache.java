@@ -0,0 +1,105 @@
+package nl.saxion.game.systems;
+
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.graphics.Cursor;
+import com.badlogic.gdx.graphics.Pixmap;
+import nl.saxion.game.utils.DebugLogger;
+import nl.saxion.gameapp.GameApp;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Cursor Cache - Builds the game's mouse cursors once and shares them between screens.
+ *
+ * Every screen uses the same pointer (pointer.png) and hover (cursor.png) cursors at
+ * 32x32. Each one is decoded, scaled and turned into a native cursor the first time it
+ * is asked for; after that screens only get the shared handle, so a screen switch does
+ * no pixmap work. The size is in screen points (GLFW scales cursors for HiDPI displays
+ * itself), so one variant per image is enough. The cursors live for the whole session;
+ * screens must not dispose them.
+ */
+public class CursorCache {
+
+    private static final String POINTER_FILE = "assets/ui/pointer.png";
+    private static final String HOVER_FILE = "assets/ui/cursor.png";
+    private static final int CURSOR_SIZE = 32;
+
+    // Image file -> native cursor
+    private static final Map<String, Cursor> cursors = new HashMap<>();
+    private static Cursor invisible;
+    private static int buildCount = 0;
+
+    /**
+     * Default cursor, or null if it could not be created (use GameApp.showCursor() then).
+     */
+    public static Cursor getPointer() {
+        return get(POINTER_FILE);
+    }
+
+    /**
+     * Cursor shown while hovering buttons, or null if it could not be created.
+     */
+    public static Cursor getHover() {
+        return get(HOVER_FILE);
+    }
+
+    /**
+     * Fully transparent cursor, used while playing.
+     */
+    public static Cursor getInvisible() {
+        if (invisible == null) {
+            try {
+                Pixmap pixmap = new Pixmap(1, 1, Pixmap.Format.RGBA8888);
+                pixmap.setColor(0, 0, 0, 0);
+                pixmap.fill();
+                invisible = Gdx.graphics.newCursor(pixmap, 0, 0);
+                pixmap.dispose();
+            } catch (Exception e) {
+                GameApp.log("Could not create invisible cursor: " + e.getMessage());
+            }
+        }
+        return invisible;
+    }
+
+    /**
+     * Show the pointer cursor, or the system cursor if it is not available.
+     */
+    public static void showPointer() {
+        Cursor pointer = getPointer();
+        if (pointer != null) {
+            Gdx.graphics.setCursor(pointer);
+        } else {
+            GameApp.showCursor();
+        }
+    }
+
+    private static Cursor get(String file) {
+        Cursor cursor = cursors.get(file);
+        if (cursor == null && !cursors.containsKey(file)) {
+            cursor = build(file, CURSOR_SIZE);
+            // A failed cursor is cached too (null), so it is not retried on every screen switch
+            cursors.put(file, cursor);
+        }
+        return cursor;
+    }
+
+    private static Cursor build(String file, int size) {
+        try {
+            Pixmap source = new Pixmap(Gdx.files.internal(file));
+            Pixmap scaled = new Pixmap(size, size, source.getFormat());
+            scaled.drawPixmap(source,
+                    0, 0, source.getWidth(), source.getHeight(),
+                    0, 0, size, size);
+            Cursor cursor = Gdx.graphics.newCursor(scaled, 0, 0);
+            scaled.dispose();
+            source.dispose();
+            buildCount++;
+            DebugLogger.log("Cursor %s built (%d cursors built)", file, buildCount);
+            return cursor;
+        } catch (Exception e) {
+            GameApp.log("Could not load cursor " + file + ": " + e.getMessage());
+            return null;
+        }
+    }
+}
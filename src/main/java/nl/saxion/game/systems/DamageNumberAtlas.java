@@ -0,0 +1,174 @@
+package nl.saxion.game.systems;
+
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.graphics.Color;
+import com.badlogic.gdx.graphics.g2d.BitmapFont;
+import com.badlogic.gdx.graphics.g2d.SpriteBatch;
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
+import com.badlogic.gdx.graphics.g2d.freetype.FreeTypeFontGenerator;
+import nl.saxion.gameapp.GameApp;
+
+/**
+ * Damage Number Atlas - Pre-rendered digit glyphs for floating numbers.
+ *
+ * Digits 0-9 are rasterized once per colour variant with the black outline
+ * baked into the glyph. A number is drawn as one quad per digit, so a damage
+ * number costs 1-4 quads instead of nine font draws and a String allocation.
+ */
+public class DamageNumberAtlas {
+
+    // Colour variants (fill colour, outline is always black)
+    public static final int NORMAL = 0;
+    public static final int CRIT = 1;
+    public static final int HEAL = 2;
+
+    private static final String FONT_PATH = "fonts/PixelOperatorMono-Bold.ttf";
+    private static final int FONT_SIZE = 18;
+    private static final String DIGITS = "0123456789";
+
+    // Widths are cached for values below this (covers almost all hits)
+    private static final int WIDTH_CACHE_SIZE = 10000;
+
+    private final BitmapFont[] fonts = new BitmapFont[3];
+    // [variant][digit] glyph quads, with offsets from the baseline
+    private final TextureRegion[][] glyphs = new TextureRegion[3][10];
+    private final float[][] glyphOffsetX = new float[3][10];
+    private final float[][] glyphOffsetY = new float[3][10];
+    private final float[] advance = new float[10];
+
+    private final float[] widthCache = new float[WIDTH_CACHE_SIZE];
+    // Scratch buffer for digit decomposition (int max has 10 digits)
+    private final int[] digitBuffer = new int[10];
+
+    private boolean ready = false;
+
+    public DamageNumberAtlas() {
+        FreeTypeFontGenerator generator = null;
+        try {
+            generator = new FreeTypeFontGenerator(Gdx.files.internal(FONT_PATH));
+            // Same colours as the old drawText path: orange-600, yellow-300, lime
+            fonts[NORMAL] = bake(generator, Color.valueOf("ea580c"));
+            fonts[CRIT] = bake(generator, Color.valueOf("fde047"));
+            fonts[HEAL] = bake(generator, Color.LIME);
+
+            for (int variant = 0; variant < fonts.length; variant++) {
+                BitmapFont font = fonts[variant];
+                for (int d = 0; d < 10; d++) {
+                    BitmapFont.Glyph glyph = font.getData().getGlyph(DIGITS.charAt(d));
+                    if (glyph == null) {
+                        throw new IllegalStateException("missing glyph " + d);
+                    }
+                    glyphs[variant][d] = new TextureRegion(font.getRegions().get(glyph.page),
+                            glyph.srcX, glyph.srcY, glyph.width, glyph.height);
+                    glyphOffsetX[variant][d] = glyph.xoffset;
+                    glyphOffsetY[variant][d] = glyph.yoffset;
+                    if (variant == NORMAL) {
+                        advance[d] = glyph.xadvance;
+                    }
+                }
+            }
+
+            for (int i = 0; i < WIDTH_CACHE_SIZE; i++) {
+                widthCache[i] = computeWidth(i);
+            }
+            ready = true;
+        } catch (Exception e) {
+            GameApp.log("Warning: Could not build damage number atlas - " + e.getMessage());
+            dispose();
+        } finally {
+            if (generator != null) {
+                generator.dispose();
+            }
+        }
+    }
+
+    private BitmapFont bake(FreeTypeFontGenerator generator, Color fill) {
+        FreeTypeFontGenerator.FreeTypeFontParameter parameter = new FreeTypeFontGenerator.FreeTypeFontParameter();
+        parameter.size = FONT_SIZE;
+        parameter.characters = DIGITS;
+        parameter.color = fill;
+        parameter.borderColor = Color.BLACK;
+        parameter.borderWidth = 1f;
+        parameter.borderStraight = true;
+        return generator.generateFont(parameter);
+    }
+
+    /**
+     * Check if the atlas was built (callers fall back to font drawing otherwise).
+     */
+    public boolean isReady() {
+        return ready;
+    }
+
+    /**
+     * Unscaled width of a number in pixels.
+     */
+    public float getWidth(int value) {
+        if (value >= 0 && value < WIDTH_CACHE_SIZE) {
+            return widthCache[value];
+        }
+        return computeWidth(value);
+    }
+
+    private float computeWidth(int value) {
+        int count = toDigits(value);
+        float width = 0f;
+        for (int i = 0; i < count; i++) {
+            width += advance[digitBuffer[i]];
+        }
+        return width;
+    }
+
+    /**
+     * Draw a number centered on centerX with its baseline at baselineY.
+     * Must be called between GameApp.startSpriteRendering() and endSpriteRendering().
+     */
+    public void draw(SpriteBatch batch, int variant, int value, float centerX, float baselineY,
+                     float scale, float alpha) {
+        float x = centerX - getWidth(value) * scale / 2f;
+        int count = toDigits(value);
+
+        batch.setColor(1f, 1f, 1f, alpha);
+        for (int i = 0; i < count; i++) {
+            int d = digitBuffer[i];
+            TextureRegion region = glyphs[variant][d];
+            batch.draw(region,
+                    x + glyphOffsetX[variant][d] * scale,
+                    baselineY + glyphOffsetY[variant][d] * scale,
+                    region.getRegionWidth() * scale,
+                    region.getRegionHeight() * scale);
+            x += advance[d] * scale;
+        }
+        batch.setColor(Color.WHITE);
+    }
+
+    // Fill digitBuffer with the digits of value (most significant first), return count
+    private int toDigits(int value) {
+        if (value < 0) {
+            value = 0;
+        }
+        int count = 0;
+        do {
+            digitBuffer[count++] = value % 10;
+            value /= 10;
+        } while (value > 0);
+
+        // Reverse in place
+        for (int i = 0, j = count - 1; i < j; i++, j--) {
+            int tmp = digitBuffer[i];
+            digitBuffer[i] = digitBuffer[j];
+            digitBuffer[j] = tmp;
+        }
+        return count;
+    }
+
+    public void dispose() {
+        for (int i = 0; i < fonts.length; i++) {
+            if (fonts[i] != null) {
+                fonts[i].dispose();
+                fonts[i] = null;
+            }
+        }
+        ready = false;
+    }
+}
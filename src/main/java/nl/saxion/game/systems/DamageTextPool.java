@@ -56,6 +56,19 @@ public class DamageTextPool {
         }
     }
 
+    // Least important live text: normal before crit, then the oldest (used when capping)
+    public DamageText getLowestPriority() {
+        DamageText lowest = null;
+        for (DamageText text : active) {
+            if (lowest == null
+                    || (lowest.isCrit && !text.isCrit)
+                    || (lowest.isCrit == text.isCrit && text.lifeTime > lowest.lifeTime)) {
+                lowest = text;
+            }
+        }
+        return lowest;
+    }
+
     // Get all active damage texts for rendering
     public List<DamageText> getActive() {
         return active;
@@ -4,24 +4,82 @@ import nl.saxion.game.entities.DamageText;
 import nl.saxion.game.entities.HealthText;
 import nl.saxion.gameapp.GameApp;
 
+import java.util.IdentityHashMap;
 import java.util.List;
+import java.util.Map;
 
 import com.badlogic.gdx.graphics.Color;
+import com.badlogic.gdx.graphics.g2d.SpriteBatch;
 
 // Manages damage text and health text spawning and rendering
 public class DamageTextSystem {
+    // Hard cap on live damage numbers (lowest priority is evicted first)
+    private static final int MAX_LIVE_DAMAGE_TEXTS = 80;
+    // Hits on the same target within this window add up into one number
+    private static final float AGGREGATE_WINDOW = 0.3f;
+
     private DamageTextPool damagePool;
     private HealthTextPool healthPool;
 
+    // Aggregation mode: one rising number per target instead of one per hit
+    private boolean aggregateHits = true;
+    private final Map<Object, DamageText> openTexts = new IdentityHashMap<>();
+
+    // Pre-rendered digit glyphs (null-safe fallback to font drawing)
+    private DamageNumberAtlas atlas;
+
     public DamageTextSystem() {
         damagePool = new DamageTextPool();
         healthPool = new HealthTextPool();
+        atlas = new DamageNumberAtlas();
     }
 
     // Spawn damage text when enemy is hit
     public void spawnDamageText(float enemyX, float enemyY, int damage, boolean isCrit) {
+        spawnDamageText(null, enemyX, enemyY, damage, isCrit);
+    }
+
+    // Spawn damage text for a specific target (enemy, boss...) so hits can be aggregated
+    public void spawnDamageText(Object target, float enemyX, float enemyY, int damage, boolean isCrit) {
+        // Add to the number already rising above this target
+        if (aggregateHits && target != null) {
+            DamageText open = openTexts.get(target);
+            if (open != null && open.isActive && open.target == target
+                    && open.aggregateTime < AGGREGATE_WINDOW) {
+                open.addHit(damage, isCrit);
+                return;
+            }
+        }
+
+        // Global cap: evict the least important text, or drop this one if it matters less
+        if (damagePool.getActive().size() >= MAX_LIVE_DAMAGE_TEXTS) {
+            DamageText lowest = damagePool.getLowestPriority();
+            if (lowest == null || (lowest.isCrit && !isCrit)) {
+                return;
+            }
+            if (lowest.target != null) {
+                openTexts.remove(lowest.target, lowest);
+            }
+            damagePool.free(lowest);
+        }
+
         DamageText text = damagePool.obtain();
         text.activate(damage, enemyX, enemyY, isCrit);
+        if (aggregateHits && target != null) {
+            text.target = target;
+            openTexts.put(target, text);
+        }
+    }
+
+    public void setAggregateHits(boolean aggregateHits) {
+        this.aggregateHits = aggregateHits;
+        if (!aggregateHits) {
+            openTexts.clear();
+        }
+    }
+
+    public boolean isAggregateHits() {
+        return aggregateHits;
     }
 
     // Spawn health text when player heals
@@ -34,6 +92,11 @@ public class DamageTextSystem {
     public void update(float delta) {
         damagePool.update(delta);
         healthPool.update(delta);
+
+        // Close aggregation for texts that expired or passed the window
+        if (!openTexts.isEmpty()) {
+            openTexts.values().removeIf(text -> !text.isActive || text.aggregateTime >= AGGREGATE_WINDOW);
+        }
     }
 
     // Render all active texts (damage and health)
@@ -48,7 +111,12 @@ public class DamageTextSystem {
         float worldW = GameApp.getWorldWidth();
         float worldH = GameApp.getWorldHeight();
 
+        // Use damage font (only needed when the glyph atlas is unavailable)
+        boolean useAtlas = atlas != null && atlas.isReady();
+        String fontName = GameApp.hasFont(FontRegistry.DAMAGE) ? FontRegistry.DAMAGE : "default";
+
         GameApp.startSpriteRendering();
+        SpriteBatch batch = GameApp.getSpriteBatch();
 
         // Render damage texts
         for (DamageText text : activeDamageTexts) {
@@ -66,11 +134,15 @@ public class DamageTextSystem {
                 continue;
             }
 
-            // Format damage value
-            String damageStr = String.valueOf(text.value);
+            if (useAtlas) {
+                // Pre-baked digits: one quad per digit, outline included
+                int variant = text.isCrit ? DamageNumberAtlas.CRIT : DamageNumberAtlas.NORMAL;
+                atlas.draw(batch, variant, text.value, screenX, screenY, text.scale, text.alpha);
+                continue;
+            }
 
-            // Use damage font
-            String fontName = GameApp.hasFont("damageFont") ? "damageFont" : "default";
+            // Fallback: font drawing
+            String damageStr = String.valueOf(text.value);
 
             // Color: cam đậm cho normal, vàng sáng cho crit (tăng saturation)
             String color = text.isCrit ? "yellow-300" : "orange-600";
@@ -81,18 +153,9 @@ public class DamageTextSystem {
             float centerX = screenX - scaledTextWidth / 2f;
 
             // Draw outline (black, 0.5px offset - gọn hơn, không dày)
-            float outlineOffset = 0.5f;
-            GameApp.drawText(fontName, damageStr, centerX - outlineOffset, screenY - outlineOffset, "black");
-            GameApp.drawText(fontName, damageStr, centerX + outlineOffset, screenY - outlineOffset, "black");
-            GameApp.drawText(fontName, damageStr, centerX - outlineOffset, screenY + outlineOffset, "black");
-            GameApp.drawText(fontName, damageStr, centerX + outlineOffset, screenY + outlineOffset, "black");
-            GameApp.drawText(fontName, damageStr, centerX - outlineOffset, screenY, "black");
-            GameApp.drawText(fontName, damageStr, centerX + outlineOffset, screenY, "black");
-            GameApp.drawText(fontName, damageStr, centerX, screenY - outlineOffset, "black");
-            GameApp.drawText(fontName, damageStr, centerX, screenY + outlineOffset, "black");
+            drawOutline(fontName, damageStr, centerX, screenY, 0.5f);
 
             // Draw main text (centered)
-            // Note: Scale effect is simulated by font size, alpha is handled by color fade
             GameApp.drawText(fontName, damageStr, centerX, screenY, color);
         }
 
@@ -112,11 +175,13 @@ public class DamageTextSystem {
                 continue;
             }
 
-            // Format health value (no prefix, just the number)
-            String healthStr = String.valueOf(text.value);
+            if (useAtlas) {
+                atlas.draw(batch, DamageNumberAtlas.HEAL, text.value, screenX, screenY, text.scale, text.alpha);
+                continue;
+            }
 
-            // Use damage font
-            String fontName = GameApp.hasFont("damageFont") ? "damageFont" : "default";
+            // Fallback: font drawing (no prefix, just the number)
+            String healthStr = String.valueOf(text.value);
 
             // Calculate text width for centering (account for scale)
             float baseTextWidth = GameApp.getTextWidth(fontName, healthStr);
@@ -124,15 +189,7 @@ public class DamageTextSystem {
             float centerX = screenX - scaledTextWidth / 2f;
 
             // Draw outline (black, 1px offset for better visibility)
-            float outlineOffset = 1f;
-            GameApp.drawText(fontName, healthStr, centerX - outlineOffset, screenY - outlineOffset, "black");
-            GameApp.drawText(fontName, healthStr, centerX + outlineOffset, screenY - outlineOffset, "black");
-            GameApp.drawText(fontName, healthStr, centerX - outlineOffset, screenY + outlineOffset, "black");
-            GameApp.drawText(fontName, healthStr, centerX + outlineOffset, screenY + outlineOffset, "black");
-            GameApp.drawText(fontName, healthStr, centerX - outlineOffset, screenY, "black");
-            GameApp.drawText(fontName, healthStr, centerX + outlineOffset, screenY, "black");
-            GameApp.drawText(fontName, healthStr, centerX, screenY - outlineOffset, "black");
-            GameApp.drawText(fontName, healthStr, centerX, screenY + outlineOffset, "black");
+            drawOutline(fontName, healthStr, centerX, screenY, 1f);
 
             // Draw main text (centered, lime green for healing - visible and bright)
             GameApp.drawText(fontName, healthStr, centerX, screenY, Color.LIME);
@@ -141,8 +198,29 @@ public class DamageTextSystem {
         GameApp.endSpriteRendering();
     }
 
+    // Draw black text in 8 directions around (x, y) as an outline
+    private void drawOutline(String fontName, String str, float x, float y, float offset) {
+        GameApp.drawText(fontName, str, x - offset, y - offset, "black");
+        GameApp.drawText(fontName, str, x + offset, y - offset, "black");
+        GameApp.drawText(fontName, str, x - offset, y + offset, "black");
+        GameApp.drawText(fontName, str, x + offset, y + offset, "black");
+        GameApp.drawText(fontName, str, x - offset, y, "black");
+        GameApp.drawText(fontName, str, x + offset, y, "black");
+        GameApp.drawText(fontName, str, x, y - offset, "black");
+        GameApp.drawText(fontName, str, x, y + offset, "black");
+    }
+
     public void reset() {
         damagePool.clear();
         healthPool.clear();
+        openTexts.clear();
+    }
+
+    // Release the digit atlas textures (when leaving gameplay)
+    public void dispose() {
+        if (atlas != null) {
+            atlas.dispose();
+            atlas = null;
+        }
     }
 }
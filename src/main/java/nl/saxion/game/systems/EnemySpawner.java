@@ -3,6 +3,9 @@ package nl.saxion.game.systems;
 import nl.saxion.game.entities.Enemy;
 import nl.saxion.gameapp.GameApp;
 
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
 import java.util.List;
 import java.util.ArrayList;
 import java.util.Iterator;
@@ -87,6 +90,7 @@ public class EnemySpawner {
         public float deathTimer = 0f;
         public int zombieType;
         public String currentAnimation;
+        public float animationStartTime = 0f; // AnimationClock time when death animation started
         public boolean facingRight = true;
         
         public StampedeZombie(float x, float y, float dirX, float dirY, float speed, int health) {
@@ -129,6 +133,7 @@ public class EnemySpawner {
                 isDead = true;
                 isDying = true;
                 deathTimer = 0f;
+                animationStartTime = AnimationClock.now();
             }
         }
         
@@ -875,6 +880,79 @@ public class EnemySpawner {
         nextSpecialPatternTime = 0f;
     }
 
+    /**
+     * Write wave counters, spawn timers and stampede zombies (see GameSnapshot).
+     */
+    public void writeState(DataOutputStream out) throws IOException {
+        out.writeInt(currentWave);
+        out.writeFloat(waveTimer);
+        out.writeInt(waveMinimum);
+        out.writeInt(waveMaximum);
+        out.writeFloat(enemySpawnTimer);
+        out.writeFloat(currentSpawnInterval);
+        out.writeFloat(enemyBaseSpeed);
+        out.writeInt(enemyBaseHealth);
+        out.writeFloat(stampedeCooldown);
+        out.writeFloat(nextStampedeTime);
+        out.writeFloat(nextSpecialPatternTime);
+        out.writeFloat(nextCirclePatternTime);
+
+        out.writeInt(stampedeZombies.size());
+        for (StampedeZombie sz : stampedeZombies) {
+            out.writeFloat(sz.x);
+            out.writeFloat(sz.y);
+            out.writeFloat(sz.dirX);
+            out.writeFloat(sz.dirY);
+            out.writeFloat(sz.speed);
+            out.writeInt(sz.health);
+            out.writeInt(sz.maxHealth);
+            out.writeBoolean(sz.isDead);
+            out.writeBoolean(sz.isDying);
+            out.writeFloat(sz.deathTimer);
+            out.writeByte(sz.zombieType);
+            out.writeUTF(sz.currentAnimation);
+            // Stored as an age, the animation clock starts at 0 again after a restart
+            out.writeFloat(AnimationClock.now() - sz.animationStartTime);
+        }
+    }
+
+    /**
+     * Restore the state written by writeState().
+     */
+    public void readState(DataInputStream in) throws IOException {
+        currentWave = in.readInt();
+        waveTimer = in.readFloat();
+        waveMinimum = in.readInt();
+        waveMaximum = in.readInt();
+        enemySpawnTimer = in.readFloat();
+        currentSpawnInterval = in.readFloat();
+        enemyBaseSpeed = in.readFloat();
+        enemyBaseHealth = in.readInt();
+        stampedeCooldown = in.readFloat();
+        nextStampedeTime = in.readFloat();
+        nextSpecialPatternTime = in.readFloat();
+        nextCirclePatternTime = in.readFloat();
+
+        stampedeZombies.clear();
+        int count = in.readInt();
+        for (int i = 0; i < count; i++) {
+            float x = in.readFloat();
+            float y = in.readFloat();
+            float dirX = in.readFloat();
+            float dirY = in.readFloat();
+            float speed = in.readFloat();
+            StampedeZombie sz = new StampedeZombie(x, y, dirX, dirY, speed, in.readInt());
+            sz.maxHealth = in.readInt();
+            sz.isDead = in.readBoolean();
+            sz.isDying = in.readBoolean();
+            sz.deathTimer = in.readFloat();
+            sz.zombieType = in.readByte();
+            sz.currentAnimation = in.readUTF();
+            sz.animationStartTime = AnimationClock.now() - in.readFloat();
+            stampedeZombies.add(sz);
+        }
+    }
+
     public float getEnemyBaseSpeed() {
         return enemyBaseSpeed;
     }
@@ -0,0 +1,143 @@
+package nl.saxion.game.systems;
+
+import com.badlogic.gdx.Gdx;
+import nl.saxion.gameapp.GameApp;
+
+import java.util.Arrays;
+
+/**
+ * Entity Render Benchmark - Compares the GameApp facade path with the entity renderer fast path.
+ *
+ * Draws the same set of sprites (half animated zombies, half bullets) both ways:
+ * - Facade: the keyed GameApp calls entities used before (hasAnimation + drawAnimation,
+ *   hasTexture + drawTexture), on benchmark-only GameApp keys loaded for the run
+ * - Fast: RenderQueue.addClip (resolved TextureRegions) flushed through EntitySpriteRenderer
+ * Both paths get the sprites in the order the render queue draws them (zombies, then
+ * bullets, each by descending Y), so neither gains from fewer texture switches.
+ * Each round ends with glFinish so GPU work is included. Results go to the log.
+ *
+ * Triggered from PlayScreen with F9 while debug mode is enabled.
+ */
+public class EntityRenderBenchmark {
+
+    private static final int WARMUP_ROUNDS = 3;
+
+    // GameApp keys of the facade path, loaded for one run and disposed afterwards
+    private static final String ZOMBIE_SHEET = "benchmark_zombie_run_sheet";
+    private static final String ZOMBIE_ANIMATION = "benchmark_zombie_run";
+    private static final String BULLET_TEXTURE = "benchmark_bullet";
+
+    /**
+     * Run the benchmark and log the average time per frame for both paths.
+     * Must be called outside any sprite/shape rendering block.
+     */
+    public static void run(EntitySpriteRenderer renderer, int spriteCount, int rounds) {
+        if (renderer == null || !renderer.isAvailable()
+                || !AnimationClock.hasClip("zombie_run") || !AnimationClock.hasClip("bullet")) {
+            GameApp.log("Entity render benchmark skipped: renderer or sprites not loaded");
+            return;
+        }
+
+        try {
+            GameApp.addSpriteSheet(ZOMBIE_SHEET, "assets/enemy/Zombie_run.png", 32, 32);
+            GameApp.addAnimationFromSpritesheet(ZOMBIE_ANIMATION, ZOMBIE_SHEET, 0.1f, true);
+            GameApp.addTexture(BULLET_TEXTURE, "assets/Bullet/Bullet.png");
+            measure(renderer, spriteCount, rounds);
+        } catch (Exception e) {
+            GameApp.log("Entity render benchmark failed: " + e.getMessage());
+        } finally {
+            GameApp.disposeAnimation(ZOMBIE_ANIMATION);
+            GameApp.disposeSpritesheet(ZOMBIE_SHEET);
+            GameApp.disposeTexture(BULLET_TEXTURE);
+        }
+    }
+
+    private static void measure(EntitySpriteRenderer renderer, int spriteCount, int rounds) {
+        RenderQueue queue = new RenderQueue();
+        queue.setEntityRenderer(renderer);
+        int[] order = sortedOrder(spriteCount);
+
+        long facadeNanos = 0;
+        long fastNanos = 0;
+        int facadeCalls = 0;
+        int fastCalls = 0;
+
+        // Alternate the two paths so both see the same GPU/driver state
+        for (int round = 0; round < WARMUP_ROUNDS + rounds; round++) {
+            long start = System.nanoTime();
+            GameApp.startSpriteRendering();
+            for (int i : order) {
+                float x = spriteX(i);
+                float y = spriteY(i);
+                if (i % 2 == 0) {
+                    if (GameApp.hasAnimation(ZOMBIE_ANIMATION)) {
+                        GameApp.drawAnimation(ZOMBIE_ANIMATION, x, y, 24f, 24f);
+                    }
+                } else if (GameApp.hasTexture(BULLET_TEXTURE)) {
+                    GameApp.drawTexture(BULLET_TEXTURE, x, y, 8f, 8f);
+                }
+            }
+            GameApp.endSpriteRendering();
+            Gdx.gl.glFinish();
+            long facade = System.nanoTime() - start;
+            int calls = GameApp.getSpriteBatch().renderCalls;
+
+            start = System.nanoTime();
+            for (int i : order) {
+                float x = spriteX(i);
+                float y = spriteY(i);
+                if (i % 2 == 0) {
+                    queue.addClip(RenderQueue.LAYER_ACTORS, y, "zombie_run", 0f, x, y, 24f, 24f, false);
+                } else {
+                    queue.addClip(RenderQueue.LAYER_PROJECTILES, y, "bullet", 0f, x, y, 8f, 8f, false);
+                }
+            }
+            queue.flush();
+            Gdx.gl.glFinish();
+            long fast = System.nanoTime() - start;
+
+            if (round >= WARMUP_ROUNDS) {
+                facadeNanos += facade;
+                fastNanos += fast;
+                facadeCalls = calls;
+                fastCalls = queue.getLastRenderCalls();
+            }
+        }
+
+        float facadeMs = facadeNanos / 1_000_000f / rounds;
+        float fastMs = fastNanos / 1_000_000f / rounds;
+        GameApp.log(String.format("Entity render benchmark (%d sprites, %d rounds): "
+                        + "GameApp facade %.3f ms (%d draw calls), fast path %.3f ms (%d draw calls), %.2fx",
+                spriteCount, rounds, facadeMs, facadeCalls, fastMs, fastCalls,
+                fastMs > 0f ? facadeMs / fastMs : 0f));
+    }
+
+    // Sprite indices in render queue order: zombies (actors layer) before bullets, higher Y first
+    private static int[] sortedOrder(int spriteCount) {
+        Integer[] indices = new Integer[spriteCount];
+        for (int i = 0; i < spriteCount; i++) {
+            indices[i] = i;
+        }
+        Arrays.sort(indices, (a, b) -> {
+            if (a % 2 != b % 2) {
+                return Integer.compare(a % 2, b % 2);
+            }
+            return Float.compare(spriteY(b), spriteY(a));
+        });
+
+        int[] order = new int[spriteCount];
+        for (int i = 0; i < spriteCount; i++) {
+            order[i] = indices[i];
+        }
+        return order;
+    }
+
+    // Deterministic grid positions covering the screen
+    private static float spriteX(int i) {
+        return (i * 37) % (int) GameApp.getWorldWidth();
+    }
+
+    private static float spriteY(int i) {
+        return (i * 53) % (int) GameApp.getWorldHeight();
+    }
+}
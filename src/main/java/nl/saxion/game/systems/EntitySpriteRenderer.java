@@ -0,0 +1,120 @@
+package nl.saxion.game.systems;
+
+import com.badlogic.gdx.graphics.OrthographicCamera;
+import com.badlogic.gdx.graphics.Pixmap;
+import com.badlogic.gdx.graphics.Texture;
+import com.badlogic.gdx.graphics.g2d.SpriteBatch;
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
+import nl.saxion.gameapp.GameApp;
+
+/**
+ * Entity Sprite Renderer - Direct LibGDX SpriteBatch path for hot entity sprites.
+ *
+ * Enemies, bullets, orbs and particles are drawn from resolved TextureRegions with
+ * our own SpriteBatch (same approach as MapRenderer's sharp batch), so the hot loop
+ * skips GameApp's string-keyed texture and animation lookups. The projection is set
+ * once per frame in begin(). GameApp is still used for UI and for anything that is
+ * only available by key.
+ */
+public class EntitySpriteRenderer {
+
+    private SpriteBatch batch;
+    private OrthographicCamera camera;
+    private float cameraWidth = -1f;
+    private float cameraHeight = -1f;
+
+    // 1x1 white texture for tinted rectangles (particles)
+    private Texture pixelTexture;
+    private TextureRegion pixel;
+
+    private boolean drawing = false;
+
+    public EntitySpriteRenderer() {
+        try {
+            // Large batch: a full wave of zombies plus bullets fits in one flush
+            batch = new SpriteBatch(4000);
+            camera = new OrthographicCamera();
+
+            Pixmap pixmap = new Pixmap(1, 1, Pixmap.Format.RGBA8888);
+            pixmap.setColor(1f, 1f, 1f, 1f);
+            pixmap.fill();
+            pixelTexture = new Texture(pixmap);
+            pixmap.dispose();
+            pixel = new TextureRegion(pixelTexture);
+        } catch (Exception e) {
+            GameApp.log("Warning: Could not create SpriteBatch for entity rendering - " + e.getMessage());
+            dispose();
+        }
+    }
+
+    /**
+     * Check if the fast path can be used (falls back to GameApp's batch otherwise).
+     */
+    public boolean isAvailable() {
+        return batch != null;
+    }
+
+    /**
+     * Start a pass. Camera and projection are only rebuilt when the world size changes.
+     */
+    public void begin() {
+        float worldWidth = GameApp.getWorldWidth();
+        float worldHeight = GameApp.getWorldHeight();
+        if (worldWidth != cameraWidth || worldHeight != cameraHeight) {
+            camera.setToOrtho(false, worldWidth, worldHeight);
+            camera.update();
+            cameraWidth = worldWidth;
+            cameraHeight = worldHeight;
+        }
+        batch.setProjectionMatrix(camera.combined);
+        batch.begin();
+        drawing = true;
+    }
+
+    public void draw(TextureRegion region, float x, float y, float width, float height, boolean flipX) {
+        if (flipX) {
+            // Negative width mirrors the quad around its right edge
+            batch.draw(region, x + width, y, -width, height);
+        } else {
+            batch.draw(region, x, y, width, height);
+        }
+    }
+
+    public void setColor(float r, float g, float b, float a) {
+        batch.setColor(r, g, b, a);
+    }
+
+    /**
+     * End the pass.
+     * @return number of draw calls (batch flushes) in this pass
+     */
+    public int end() {
+        batch.setColor(1f, 1f, 1f, 1f);
+        batch.end();
+        drawing = false;
+        return batch.renderCalls;
+    }
+
+    public boolean isDrawing() {
+        return drawing;
+    }
+
+    /**
+     * White 1x1 region, tint it to draw solid rectangles in a sprite pass.
+     */
+    public TextureRegion getPixel() {
+        return pixel;
+    }
+
+    public void dispose() {
+        if (batch != null) {
+            batch.dispose();
+            batch = null;
+        }
+        if (pixelTexture != null) {
+            pixelTexture.dispose();
+            pixelTexture = null;
+        }
+        pixel = null;
+    }
+}
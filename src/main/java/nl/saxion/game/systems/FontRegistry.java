@@ -0,0 +1,226 @@
+package nl.saxion.game.systems;
+
+import nl.saxion.game.utils.DebugLogger;
+import nl.saxion.gameapp.GameApp;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Font Registry - Every font of the game, rasterized once and shared between screens.
+ *
+ * Each font is defined here once by its face, size and style (color, border, shadow).
+ * The handle of a font is the GameApp font name, built from that spec, so two handles
+ * with the same spec are the same string and share one rasterized font. Screens draw
+ * with the handle constants (GameApp.drawText(FontRegistry.RANKS_TITLE, ...)) and call
+ * require() with the handles they use when loading; FreeType only runs the first time a
+ * spec is required; after that the glyph pages stay resident for the whole session.
+ * Screens must not dispose registry fonts.
+ *
+ * logReport() prints how many fonts were rasterized, how often a screen reused one, and
+ * the time spent in FreeType.
+ */
+public class FontRegistry {
+
+    private static final String UPHEAVAL = "fonts/upheavtt.ttf";
+    private static final String PRESS_START = "fonts/PressStart2P-Regular.ttf";
+    private static final String PIXEL_OPERATOR = "fonts/PixelOperator.ttf";
+    private static final String PIXEL_MONO = "fonts/PixelOperatorMono-Bold.ttf";
+    private static final String EMULOGIC = "fonts/Emulogic-zrEw.ttf";
+    private static final String VT323 = "fonts/VT323-Regular.ttf";
+
+    /**
+     * Face, size and style of a font. Plain fonts (no color) use GameApp.addFont.
+     */
+    private static class FontSpec {
+        final String file;
+        final int size;
+        final String color;
+        final float borderWidth;
+        final String borderColor;
+        final int shadowX;
+        final int shadowY;
+        final String shadowColor;
+        final Boolean smooth; // null: GameApp default filtering
+
+        FontSpec(String file, int size, String color, float borderWidth, String borderColor,
+                 int shadowX, int shadowY, String shadowColor, Boolean smooth) {
+            this.file = file;
+            this.size = size;
+            this.color = color;
+            this.borderWidth = borderWidth;
+            this.borderColor = borderColor;
+            this.shadowX = shadowX;
+            this.shadowY = shadowY;
+            this.shadowColor = shadowColor;
+            this.smooth = smooth;
+        }
+
+        String handle() {
+            String face = file.substring(file.lastIndexOf('/') + 1, file.lastIndexOf('.'));
+            String filter = smooth == null ? "" : smooth ? "-smooth" : "-nearest";
+            if (color == null) {
+                return face + "-" + size + filter;
+            }
+            return face + "-" + size + "-" + color + "-b" + borderWidth + "-" + borderColor
+                    + "-s" + shadowX + "x" + shadowY + "-" + shadowColor + filter;
+        }
+    }
+
+    // Handle -> spec, in definition order
+    private static final Map<String, FontSpec> specs = new LinkedHashMap<>();
+
+    // Totals for the report
+    private static int rasterizeCount = 0;
+    private static int reuseCount = 0;
+    private static long totalRasterizeNanos = 0;
+
+    // === Menus ===
+    public static final String MENU_BUTTON = styled(UPHEAVAL, 40, "white", 0f, "black", 2, 2, "gray-700");
+    public static final String VERSION = styled(PIXEL_OPERATOR, 16, "white", 0f, "black", 1, 1, "gray-700");
+    public static final String SETTINGS_TITLE = styled(UPHEAVAL, 42, "yellow-400", 0f, "black", 3, 3, "gray-700");
+    public static final String SETTINGS_SMALL = plain(PIXEL_MONO, 22, null);
+
+    // === Player input ===
+    public static final String INPUT_TITLE = styled(UPHEAVAL, 48, "white", 0f, "black", 3, 3, "gray-700");
+    public static final String INPUT_LABEL = styled(PRESS_START, 14, "white", 0f, "black", 1, 1, "gray-700");
+    public static final String INPUT_FIELD = styled(PRESS_START, 16, "white", 0f, "black", 1, 1, "gray-700");
+    public static final String INPUT_PLACEHOLDER = styled(PRESS_START, 14, "gray-600", 0f, "black", 1, 1, "gray-700");
+    public static final String INPUT_HINT = styled(PRESS_START, 11, "gray-500", 0f, "black", 1, 1, "gray-700");
+    public static final String INPUT_ERROR = styled(PRESS_START, 12, "red-400", 0f, "black", 1, 1, "gray-700");
+    public static final String INPUT_COUNTER = styled(PRESS_START, 10, "gray-500", 0f, "black", 1, 1, "gray-700");
+    public static final String INPUT_BUTTON = styled(UPHEAVAL, 32, "white", 0f, "black", 2, 2, "gray-700");
+    public static final String DROPDOWN_ITEM = styled(PRESS_START, 20, "white", 0f, "black", 1, 1, "gray-700");
+
+    // === How to play ===
+    public static final String HOW_TO_PLAY_TITLE = styled(UPHEAVAL, 52, "white", 0f, "black", 3, 3, "gray-700");
+    public static final String HOW_TO_PLAY_SUBTITLE = styled(PRESS_START, 18, "yellow-300", 0f, "black", 2, 2, "gray-700");
+    public static final String HOW_TO_PLAY_TEXT = styled(PRESS_START, 14, "white", 0f, "black", 1, 1, "gray-700");
+    public static final String HOW_TO_PLAY_ITEM_TITLE = styled(PIXEL_MONO, 16, "orange-400", 0f, "black", 1, 1, "gray-700");
+    public static final String HOW_TO_PLAY_ITEM_DESC = styled(PRESS_START, 11, "gray-300", 0f, "black", 1, 1, "gray-700");
+    public static final String HOW_TO_PLAY_PAGE_NUM = styled(PRESS_START, 16, "gray-400", 0f, "black", 1, 1, "gray-700");
+    public static final String HOW_TO_PLAY_PAGE_INFO = styled(PRESS_START, 14, "gray-300", 0f, "black", 1, 1, "gray-700");
+    public static final String HOW_TO_PLAY_PAGE_BUTTON = styled(PRESS_START, 12, "white", 0f, "black", 1, 1, "gray-700");
+    public static final String HOW_TO_PLAY_BUTTON = styled(UPHEAVAL, 36, "white", 0f, "black", 2, 2, "gray-700");
+
+    // === Ranks ===
+    public static final String RANKS_TITLE = styled(UPHEAVAL, 52, "yellow-400", 0f, "black", 3, 3, "gray-700");
+    public static final String RANKS_SUBTITLE = styled(PIXEL_MONO, 17, "gray-300", 0f, "black", 1, 1, "gray-700");
+    public static final String RANKS_PAGE_INFO = styled(PIXEL_MONO, 18, "gray-300", 0f, "black", 1, 1, "gray-700");
+    public static final String RANKS_HEADER = styled(PRESS_START, 14, "white", 0f, "black", 1, 1, "gray-700");
+    public static final String RANKS_ENTRY = styled(PRESS_START, 18, "white", 0f, "black", 1, 1, "gray-700");
+    public static final String RANKS_RANK = styled(UPHEAVAL, 28, "white", 0f, "black", 2, 2, "gray-700");
+    public static final String RANKS_EMPTY = styled(PIXEL_MONO, 16, "gray-400", 0f, "black", 1, 1, "gray-700");
+    public static final String RANKS_PAGE_BUTTON = styled(UPHEAVAL, 28, "white", 0f, "black", 2, 2, "gray-700");
+
+    // === Credits ===
+    public static final String CREDITS_GAME_TITLE = styled(UPHEAVAL, 56, "yellow-400", 0f, "black", 4, 4, "gray-700");
+    public static final String CREDITS_SECTION_TITLE = styled(UPHEAVAL, 28, "yellow-300", 0f, "black", 2, 2, "gray-700");
+    public static final String CREDITS_ROLE = styled(PIXEL_MONO, 16, "gray-400", 0f, "black", 1, 1, "gray-700");
+    public static final String CREDITS_NAME = styled(PRESS_START, 18, "white", 0f, "black", 1, 1, "gray-700");
+    public static final String CREDITS_SMALL = styled(PIXEL_MONO, 18, "gray-400", 0f, "black", 1, 1, "gray-700");
+    public static final String CREDITS_SPECIAL = styled(UPHEAVAL, 22, "cyan-400", 0f, "black", 2, 2, "gray-700");
+
+    // === Winner / game over ===
+    public static final String WINNER_TITLE = styled(UPHEAVAL, 72, "yellow-400", 2f, "black", 4, 4, "yellow-700");
+    public static final String WINNER_SUBTITLE = styled(UPHEAVAL, 32, "green-400", 1f, "black", 2, 2, "green-700");
+    public static final String WINNER_TEXT = plain(PRESS_START, 16, true);
+    public static final String WINNER_BUTTON = styled(UPHEAVAL, 28, "white", 0f, "black", 2, 2, "gray-700");
+    public static final String GAME_OVER_TITLE = styled(EMULOGIC, 72, "red-500", 2f, "black", 3, 3, "red-900");
+    public static final String GAME_OVER_TEXT = plain(PRESS_START, 16, true);
+    public static final String GAME_OVER_BUTTON = styled(UPHEAVAL, 28, "white", 0f, "black", 2, 2, "gray-700");
+
+    // === Gameplay (960x540 world) ===
+    public static final String LEVEL = styled(PRESS_START, 12, "white", 1f, "black", 1, 1, "gray-800");
+    public static final String SCORE = styled(PRESS_START, 14, "white", 1.5f, "black", 2, 2, "gray-700");
+    public static final String TIMER = plain(PRESS_START, 20, true);
+    public static final String DAMAGE = styled(PIXEL_MONO, 18, "orange-500", 0.4f, "black", 1, 1, "black");
+    public static final String BUTTON_SMALL = styled(UPHEAVAL, 20, "white", 0f, "black", 1, 1, "gray-700");
+    public static final String OVERLAY_BUTTON = styled(UPHEAVAL, 19, "gray-200", 2f, "black", 2, 2, "gray-600");
+    public static final String GACHA_BUTTON = styled(UPHEAVAL, 32, "white", 2f, "black", 2, 2, "gray-700");
+    public static final String GACHA_POINTS = styled(PRESS_START, 18, "yellow-500", 1.5f, "black", 2, 2, "orange-900");
+
+    // === Level up menu ===
+    public static final String LEVEL_UP_TITLE = styled(PRESS_START, 28, "yellow-400", 2.5f, "black", 3, 3, "orange-800");
+    public static final String LEVEL_UP_ITEM = styled(PRESS_START, 16, "white", 2.0f, "black", 2, 2, "gray-800");
+    public static final String LEVEL_UP_NEW = styled(PRESS_START, 12, "orange-400", 1.5f, "black", 2, 2, "orange-900");
+    public static final String LEVEL_UP_LEVEL = styled(PRESS_START, 18, "cyan-300", 2.0f, "black", 2, 2, "blue-900");
+    public static final String LEVEL_UP_DESC = define(new FontSpec(PRESS_START, 6, "gray-300", 0.8f, "black", 1, 1, "gray-800", false));
+    public static final String UPGRADE_ITEM = styled(PRESS_START, 14, "white", 2.0f, "black", 2, 2, "gray-800");
+    public static final String UPGRADE_NEW = styled(PRESS_START, 10, "black", 1.5f, "yellow-400", 1, 1, "orange-600");
+    public static final String UPGRADE_LEVEL = styled(PRESS_START, 16, "cyan-300", 2.0f, "black", 2, 2, "blue-900");
+    public static final String UPGRADE_DESC = styled(VT323, 28, "gray-200", 1.5f, "black", 1, 1, "gray-900");
+
+    private static String styled(String file, int size, String color, float borderWidth, String borderColor,
+                                 int shadowX, int shadowY, String shadowColor) {
+        return define(new FontSpec(file, size, color, borderWidth, borderColor, shadowX, shadowY, shadowColor, true));
+    }
+
+    private static String plain(String file, int size, Boolean smooth) {
+        return define(new FontSpec(file, size, null, 0f, null, 0, 0, null, smooth));
+    }
+
+    private static String define(FontSpec spec) {
+        String handle = spec.handle();
+        // Same spec defined twice: both constants get the same handle, so one font
+        specs.putIfAbsent(handle, spec);
+        return handle;
+    }
+
+    /**
+     * Make sure the fonts are rasterized. Cheap for fonts that are already resident.
+     */
+    public static void require(String... handles) {
+        for (String handle : handles) {
+            if (GameApp.hasFont(handle)) {
+                reuseCount++;
+                continue;
+            }
+            FontSpec spec = specs.get(handle);
+            if (spec == null) {
+                GameApp.log("FontRegistry: unknown font " + handle);
+                continue;
+            }
+            rasterize(handle, spec);
+        }
+    }
+
+    private static void rasterize(String handle, FontSpec spec) {
+        long start = System.nanoTime();
+        try {
+            if (spec.color == null && spec.smooth == null) {
+                GameApp.addFont(handle, spec.file, spec.size);
+            } else if (spec.color == null) {
+                GameApp.addFont(handle, spec.file, spec.size, spec.smooth);
+            } else {
+                GameApp.addStyledFont(handle, spec.file, spec.size, spec.color, spec.borderWidth, spec.borderColor,
+                        spec.shadowX, spec.shadowY, spec.shadowColor, spec.smooth);
+            }
+        } catch (Exception e) {
+            GameApp.log("FontRegistry: could not load " + spec.file + " at " + spec.size + "px: " + e.getMessage());
+            return;
+        }
+        long nanos = System.nanoTime() - start;
+        rasterizeCount++;
+        totalRasterizeNanos += nanos;
+        DebugLogger.log("FontRegistry: rasterized %s in %.1f ms", handle, nanos / 1_000_000f);
+    }
+
+    /**
+     * Number of distinct fonts defined (after merging identical specs).
+     */
+    public static int getDefinedCount() {
+        return specs.size();
+    }
+
+    public static void logReport() {
+        int resident = 0;
+        for (String handle : specs.keySet()) {
+            if (GameApp.hasFont(handle)) {
+                resident++;
+            }
+        }
+        GameApp.log(String.format("FontRegistry: %d/%d fonts resident, %d rasterized (%.1f ms), %d reused",
+                resident, specs.size(), rasterizeCount, totalRasterizeNanos / 1_000_000f, reuseCount));
+    }
+}
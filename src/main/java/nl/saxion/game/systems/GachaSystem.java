@@ -662,25 +662,7 @@ public class GachaSystem {
      * Ensure fonts are loaded
      */
     private void ensureFontsLoaded() {
-        // Load button font if not exists
-        if (!GameApp.hasFont("gachaButtonFont")) {
-            try {
-                GameApp.addStyledFont("gachaButtonFont", "fonts/upheavtt.ttf", 32,
-                    "white", 2f, "black", 2, 2, "gray-700", true);
-            } catch (Exception e) {
-                GameApp.log("Warning: Could not load gachaButtonFont");
-            }
-        }
-        
-        // Load points font if not exists
-        if (!GameApp.hasFont("gachaPointsFont")) {
-            try {
-                GameApp.addStyledFont("gachaPointsFont", "fonts/PressStart2P-Regular.ttf", 18,
-                    "yellow-500", 1.5f, "black", 2, 2, "orange-900", true);
-            } catch (Exception e) {
-                GameApp.log("Warning: Could not load gachaPointsFont");
-            }
-        }
+        FontRegistry.require(FontRegistry.GACHA_BUTTON, FontRegistry.GACHA_POINTS);
     }
     
     private GachaItem selectRandomItem() {
@@ -905,9 +887,7 @@ public class GachaSystem {
         int frame = 1 + (int)(stateTimer * 8) % 11;
         String textureKey = "chest_shiny_" + frame;
         float chestSize = 72f; // Larger chest
-        if (GameApp.hasTexture(textureKey)) {
-            GameApp.drawTexture(textureKey, chestX - chestSize/2, chestY - chestSize/2, chestSize, chestSize);
-        }
+        AnimationClock.draw(textureKey, 0f, chestX - chestSize/2, chestY - chestSize/2, chestSize, chestSize, false);
         GameApp.endSpriteRendering();
     }
     
@@ -918,9 +898,7 @@ public class GachaSystem {
         GameApp.startSpriteRendering();
         String textureKey = progress < 0.5f ? "chest_open_1" : "chest_open_2";
         float chestSize = 72f; // Larger chest
-        if (GameApp.hasTexture(textureKey)) {
-            GameApp.drawTexture(textureKey, chestX - chestSize/2, chestY - chestSize/2, chestSize, chestSize);
-        }
+        AnimationClock.draw(textureKey, 0f, chestX - chestSize/2, chestY - chestSize/2, chestSize, chestSize, false);
         GameApp.endSpriteRendering();
     }
     
@@ -962,9 +940,7 @@ public class GachaSystem {
         // Opened chest
         GameApp.startSpriteRendering();
         float chestSize = 72f;
-        if (GameApp.hasTexture("chest_open_2")) {
-            GameApp.drawTexture("chest_open_2", chestX - chestSize/2, chestY - chestSize/2, chestSize, chestSize);
-        }
+        AnimationClock.draw("chest_open_2", 0f, chestX - chestSize/2, chestY - chestSize/2, chestSize, chestSize, false);
         GameApp.endSpriteRendering();
     }
     
@@ -1043,10 +1019,8 @@ public class GachaSystem {
         }
         
         // Opened chest at bottom
-        if (GameApp.hasTexture("chest_open_2")) {
-            float chestSize = 72f; // Larger chest
-            GameApp.drawTexture("chest_open_2", chestX - chestSize/2, chestY - chestSize/2, chestSize, chestSize);
-        }
+        float chestSize = 72f; // Larger chest
+        AnimationClock.draw("chest_open_2", 0f, chestX - chestSize/2, chestY - chestSize/2, chestSize, chestSize, false);
         
         GameApp.endSpriteRendering();
     }
@@ -1096,9 +1070,7 @@ public class GachaSystem {
         
         // Render chest (at bottom of frame)
         float chestSize = 72f;
-        if (GameApp.hasTexture("chest_open_2")) {
-            GameApp.drawTexture("chest_open_2", chestX - chestSize/2, chestY - chestSize/2, chestSize, chestSize);
-        }
+        AnimationClock.draw("chest_open_2", 0f, chestX - chestSize/2, chestY - chestSize/2, chestSize, chestSize, false);
         
         GameApp.endSpriteRendering();
         
@@ -1187,7 +1159,7 @@ public class GachaSystem {
         }
         
         // Button text (styled font)
-        String fontKey = GameApp.hasFont("gachaButtonFont") ? "gachaButtonFont" : "default";
+        String fontKey = GameApp.hasFont(FontRegistry.GACHA_BUTTON) ? FontRegistry.GACHA_BUTTON : "default";
         GameApp.drawTextCentered(fontKey, "DONE", doneButtonX, doneButtonY, "white");
         GameApp.endSpriteRendering();
     }
@@ -1237,7 +1209,7 @@ public class GachaSystem {
         }
         
         // Use styled font for points
-        String fontKey = GameApp.hasFont("gachaPointsFont") ? "gachaPointsFont" : "default";
+        String fontKey = GameApp.hasFont(FontRegistry.GACHA_POINTS) ? FontRegistry.GACHA_POINTS : "default";
         float textWidth = GameApp.getTextWidth(fontKey, pointsText);
         
         // Draw score text and star icon centered together (matching HUD style)
@@ -1250,10 +1222,10 @@ public class GachaSystem {
         GameApp.drawText(fontKey, pointsText, startX + 8f, displayY, "yellow-500");
         
         // Draw star icon to the right of points (closer to text)
-        if (GameApp.hasTexture("star_icon")) {
+        if (GameApp.hasTexture("star")) {
             float iconX = startX + textWidth;
             float iconY = displayY - 20f; // Better vertical alignment
-            GameApp.drawTexture("star_icon", iconX, iconY, iconSize, iconSize);
+            GameApp.drawTexture("star", iconX, iconY, iconSize, iconSize);
         }
         
         GameApp.endSpriteRendering();
@@ -11,11 +11,12 @@ import nl.saxion.game.systems.EnemySpawner.StampedeZombie;
 
 import java.util.List;
 
-// Handles rendering of all game entities relative to viewport
+// Handles rendering of all game entities relative to viewport (submits to the render queue)
 public class GameRenderer {
     private float playerWorldX;
     private float playerWorldY;
     private Player player;
+    private RenderQueue renderQueue;
 
     public void setPlayerWorldPosition(float x, float y) {
         playerWorldX = x;
@@ -26,6 +27,11 @@ public class GameRenderer {
         this.player = player;
     }
 
+    // All entity sprites are submitted to this queue and drawn when it is flushed
+    public void setRenderQueue(RenderQueue renderQueue) {
+        this.renderQueue = renderQueue;
+    }
+
     public void renderPlayer() {
         float worldW = GameApp.getWorldWidth();
         float worldH = GameApp.getWorldHeight();
@@ -36,12 +42,13 @@ public class GameRenderer {
 
         // Get current animation from player state
         String animKey = (player != null) ? player.getCurrentAnimation() : "player_idle";
+        float startTime = (player != null) ? player.getAnimationStartTime() : 0f;
 
         // Check if animation exists before rendering (prevent crash if animation not loaded)
-        if (!GameApp.hasAnimation(animKey)) {
+        if (!AnimationClock.hasClip(animKey)) {
             // Fallback to idle if animation not available
             animKey = "player_idle";
-            if (!GameApp.hasAnimation(animKey)) {
+            if (!AnimationClock.hasClip(animKey)) {
                 // If even idle doesn't exist, skip rendering
                 return;
             }
@@ -58,14 +65,13 @@ public class GameRenderer {
             // player_run_left and player_run_right already have correct direction
         }
 
-        GameApp.drawAnimation(animKey,
+        float drawY = playerScreenY - Player.SPRITE_SIZE / 2f;
+        renderQueue.addClip(RenderQueue.LAYER_ACTORS, drawY, animKey, startTime,
                 playerScreenX - Player.SPRITE_SIZE / 2f,
-                playerScreenY - Player.SPRITE_SIZE / 2f,
+                drawY,
                 Player.SPRITE_SIZE,
                 Player.SPRITE_SIZE,
-                0,
-                flipX,
-                false
+                flipX
         );
     }
 
@@ -101,15 +107,12 @@ public class GameRenderer {
             boolean flipX = !boss.isFacingRight();
 
             // Fallback: if hit animation doesn't exist, use run animation
-            if (animationKey.endsWith("_hit") && !GameApp.hasAnimation(animationKey)) {
+            if (animationKey.endsWith("_hit") && !AnimationClock.hasClip(animationKey)) {
                 animationKey = "boss_run";
             }
 
-            if (GameApp.hasAnimation(animationKey)) {
-                GameApp.drawAnimation(animationKey, screenX, screenY, size, size, 0, flipX, false);
-            } else {
-                GameApp.drawTexture("enemy", screenX, screenY, size, size);
-            }
+            renderQueue.addClip(RenderQueue.LAYER_ACTORS, screenY, animationKey, boss.getAnimationStartTime(),
+                    screenX, screenY, size, size, flipX);
         }
 
     }
@@ -140,12 +143,8 @@ public class GameRenderer {
             // Flip sprite based on facing direction (flip when facing left)
             boolean flipX = !enemy.isFacingRight();
 
-            if (GameApp.hasAnimation(animationKey)) {
-                GameApp.drawAnimation(animationKey, screenX, screenY, Enemy.SPRITE_SIZE, Enemy.SPRITE_SIZE, 0, flipX, false);
-            } else {
-                // Fallback to static texture
-                GameApp.drawTexture("enemy", screenX, screenY, Enemy.SPRITE_SIZE, Enemy.SPRITE_SIZE);
-            }
+            renderQueue.addClip(RenderQueue.LAYER_ACTORS, screenY, animationKey, enemy.getAnimationStartTime(),
+                    screenX, screenY, Enemy.SPRITE_SIZE, Enemy.SPRITE_SIZE, flipX);
         }
     }
 
@@ -171,7 +170,9 @@ public class GameRenderer {
         if (screenX + bullet.getWidth() > 0 && screenX < worldW &&
                 screenY + bullet.getHeight() > 0 && screenY < worldH) {
 
-            GameApp.drawTexture("bullet", screenX, screenY, bullet.getWidth(), bullet.getHeight());
+            // Resolved region (entity renderer fast path)
+            renderQueue.addClip(RenderQueue.LAYER_PROJECTILES, screenY, "bullet", 0f,
+                    screenX, screenY, bullet.getWidth(), bullet.getHeight(), false);
         }
     }
     
@@ -199,11 +200,8 @@ public class GameRenderer {
                 String animKey = sz.currentAnimation;
                 boolean flipX = !sz.facingRight;
                 
-                if (GameApp.hasAnimation(animKey)) {
-                    GameApp.drawAnimation(animKey, screenX, screenY, spriteSize, spriteSize, 0, flipX, false);
-                } else {
-                    GameApp.drawTexture("enemy", screenX, screenY, spriteSize, spriteSize);
-                }
+                renderQueue.addClip(RenderQueue.LAYER_ACTORS, screenY, animKey, sz.animationStartTime,
+                        screenX, screenY, spriteSize, spriteSize, flipX);
             }
         }
     }
@@ -0,0 +1,182 @@
+package nl.saxion.game.systems;
+
+import nl.saxion.game.utils.DebugLogger;
+import nl.saxion.gameapp.GameApp;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.zip.CRC32;
+
+/**
+ * Game Snapshot - Versioned binary save of a run in progress.
+ *
+ * PlayScreen writes the whole world (player, weapon, enemies, bosses, stampede zombies,
+ * orbs, chests, breakables, spawner timers, round counters) into a byte array on the render
+ * thread; the file itself is written by the PersistenceWorker. Used for crash recovery
+ * (run.snapshot, kept while a run is in progress) and for debug checkpoints that start
+ * benchmarks from a late-wave state.
+ *
+ * Until the worker has written a save (or a delete), load() and exists() answer from the
+ * queued bytes, so the render thread never waits for the persistence queue.
+ *
+ * Layout (big-endian): magic, version, payload length, CRC32 of payload, payload.
+ * Each entity writes its own fields (writeState/readState); bump VERSION whenever a
+ * field is added, older snapshots are then ignored.
+ */
+public class GameSnapshot {
+
+    /**
+     * Writes or reads the snapshot payload.
+     */
+    public interface Body {
+        void write(DataOutputStream out) throws IOException;
+    }
+
+    public interface Reader {
+        void read(DataInputStream in) throws IOException;
+    }
+
+    private static final int MAGIC = 0x5A53534E; // "ZSSN"
+    public static final int VERSION = 2;
+    private static final int HEADER_SIZE = 16;
+
+    // Serializing runs on the render thread; longer saves are logged as a warning
+    private static final float SAVE_BUDGET_MS = 10f;
+
+    // Saves and deletes not written by the worker yet, by file name (DELETED marks a queued delete)
+    private static final byte[] DELETED = new byte[0];
+    private static final Map<String, byte[]> pending = new ConcurrentHashMap<>();
+
+    /**
+     * Serialize a snapshot now and write it to a file in the background.
+     * @return snapshot size in bytes, or -1 if it could not be created
+     */
+    public static int save(String fileName, Body body) {
+        long start = System.nanoTime();
+        byte[] data;
+        try {
+            ByteArrayOutputStream bytes = new ByteArrayOutputStream(32 * 1024);
+            DataOutputStream out = new DataOutputStream(bytes);
+            // Header is filled in below, once the payload length and CRC are known
+            out.write(new byte[HEADER_SIZE]);
+            body.write(out);
+            out.flush();
+            data = bytes.toByteArray();
+        } catch (IOException e) {
+            GameApp.log("Error creating snapshot: " + e.getMessage());
+            return -1;
+        }
+
+        CRC32 crc = new CRC32();
+        crc.update(data, HEADER_SIZE, data.length - HEADER_SIZE);
+        ByteBuffer.wrap(data).putInt(MAGIC).putInt(VERSION).putInt(data.length - HEADER_SIZE).putInt((int) crc.getValue());
+
+        float millis = (System.nanoTime() - start) / 1_000_000f;
+        if (millis > SAVE_BUDGET_MS) {
+            GameApp.log(String.format("Warning: Snapshot %s took %.2f ms on the render thread (%d bytes)",
+                    fileName, millis, data.length));
+        } else {
+            DebugLogger.log("Snapshot %s: %d bytes in %.2f ms", fileName, data.length, millis);
+        }
+        pending.put(fileName, data);
+        PersistenceWorker.submit(fileName, () -> {
+            writeFile(fileName, data);
+            // Kept in memory if every attempt fails: it is still the newest snapshot
+            pending.remove(fileName, data);
+        });
+        return data.length;
+    }
+
+    private static void writeFile(String fileName, byte[] data) throws IOException {
+        // Temp file + rename, so a crash while saving keeps the previous snapshot
+        Path target = Paths.get(fileName);
+        Path temp = Paths.get(fileName + ".tmp");
+        Files.write(temp, data);
+        try {
+            Files.move(temp, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (AtomicMoveNotSupportedException e) {
+            Files.move(temp, target, StandardCopyOption.REPLACE_EXISTING);
+        }
+    }
+
+    /**
+     * Read a snapshot file. The reader is only called for a complete snapshot of this version.
+     * @return true if the snapshot was loaded
+     */
+    public static boolean load(String fileName, Reader reader) {
+        long start = System.nanoTime();
+        try {
+            // A save that is still queued is read from memory instead of waiting for the worker
+            byte[] data = pending.get(fileName);
+            if (data == null) {
+                Path path = Paths.get(fileName);
+                if (!Files.exists(path)) {
+                    return false;
+                }
+                data = Files.readAllBytes(path);
+            } else if (data == DELETED) {
+                return false;
+            }
+            ByteBuffer header = ByteBuffer.wrap(data);
+            if (data.length < HEADER_SIZE || header.getInt() != MAGIC) {
+                GameApp.log("Ignoring " + fileName + ": not a snapshot");
+                return false;
+            }
+            int version = header.getInt();
+            if (version != VERSION) {
+                GameApp.log("Ignoring " + fileName + ": snapshot version " + version + ", expected " + VERSION);
+                return false;
+            }
+            int length = header.getInt();
+            int expectedCrc = header.getInt();
+            if (length != data.length - HEADER_SIZE) {
+                GameApp.log("Ignoring " + fileName + ": incomplete snapshot");
+                return false;
+            }
+            CRC32 crc = new CRC32();
+            crc.update(data, HEADER_SIZE, length);
+            if ((int) crc.getValue() != expectedCrc) {
+                GameApp.log("Ignoring " + fileName + ": snapshot is corrupt");
+                return false;
+            }
+
+            reader.read(new DataInputStream(new ByteArrayInputStream(data, HEADER_SIZE, length)));
+            GameApp.log(String.format("Snapshot %s loaded (%d bytes) in %.2f ms", fileName, data.length,
+                    (System.nanoTime() - start) / 1_000_000f));
+            return true;
+        } catch (IOException | RuntimeException e) {
+            GameApp.log("Error loading snapshot " + fileName + ": " + e.getMessage());
+            return false;
+        }
+    }
+
+    public static boolean exists(String fileName) {
+        byte[] data = pending.get(fileName);
+        if (data != null) {
+            return data != DELETED;
+        }
+        return Files.exists(Paths.get(fileName));
+    }
+
+    /**
+     * Delete a snapshot (run finished or abandoned). Queued behind pending saves.
+     */
+    public static void delete(String fileName) {
+        pending.put(fileName, DELETED);
+        PersistenceWorker.submit(fileName, () -> {
+            Files.deleteIfExists(Paths.get(fileName));
+            pending.remove(fileName, DELETED);
+        });
+    }
+}
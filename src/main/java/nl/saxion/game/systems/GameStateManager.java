@@ -3,6 +3,7 @@ package nl.saxion.game.systems;
 import nl.saxion.game.core.GameState;
 import nl.saxion.game.ui.Button;
 import nl.saxion.game.utils.DebugLogger;
+import nl.saxion.game.utils.TextFormat;
 import nl.saxion.gameapp.GameApp;
 
 import java.util.ArrayList;
@@ -19,6 +20,8 @@ public class GameStateManager {
     private List<Button> gameOverButtons;
     private boolean buttonsInitialized = false;
     private float colorPulseTimer = 0f;
+    private final TextFormat.IntText scoreText = new TextFormat.IntText(
+            (sb, value) -> TextFormat.appendGrouped(sb.append("SCORE: "), value));
     
     // Sound manager for button clicks
     private SoundManager soundManager;
@@ -206,14 +209,14 @@ public class GameStateManager {
 
         // Draw "GAME OVER" title - centered as single text
         float titleY = centerY + 120; // Better positioning
-        GameApp.drawTextCentered("gameOverTitle", "GAME OVER", centerX, titleY, "red-500");
+        GameApp.drawTextCentered(FontRegistry.GAME_OVER_TITLE, "GAME OVER", centerX, titleY, "red-500");
 
         // Draw score centered below title with better formatting
-        String scoreText = String.format("SCORE: %,d", score); // Format with commas
-        float titleHeight = GameApp.getTextHeight("gameOverTitle", "GAME OVER");
-        float scoreTextHeight = GameApp.getTextHeight("gameOverText", scoreText);
+        String scoreText = this.scoreText.get(score); // Format with commas
+        float titleHeight = TextLayoutCache.getHeight(FontRegistry.GAME_OVER_TITLE, "GAME OVER");
+        float scoreTextHeight = TextLayoutCache.getHeight(FontRegistry.GAME_OVER_TEXT, scoreText);
         float scoreY = titleY - titleHeight / 2 - scoreTextHeight * 2.2f; // Better spacing
-        GameApp.drawTextCentered("gameOverText", scoreText, centerX, scoreY, "white");
+        GameApp.drawTextCentered(FontRegistry.GAME_OVER_TEXT, scoreText, centerX, scoreY, "white");
 
         // Draw button text labels
         drawGameOverButtonText(centerX, centerY);
@@ -228,13 +231,13 @@ public class GameStateManager {
         Button playAgainButton = gameOverButtons.get(0);
         float playAgainCenterX = playAgainButton.getX() + playAgainButton.getWidth() / 2;
         float playAgainCenterY = playAgainButton.getY() + playAgainButton.getHeight() / 2;
-        GameApp.drawTextCentered("gameOverButtonFont", "PLAY AGAIN", playAgainCenterX, playAgainCenterY, "white");
+        GameApp.drawTextCentered(FontRegistry.OVERLAY_BUTTON, "PLAY AGAIN", playAgainCenterX, playAgainCenterY, "white");
 
         // Back to Menu button text - perfectly centered
         Button backToMenuButton = gameOverButtons.get(1);
         float backToMenuCenterX = backToMenuButton.getX() + backToMenuButton.getWidth() / 2;
         float backToMenuCenterY = backToMenuButton.getY() + backToMenuButton.getHeight() / 2;
-        GameApp.drawTextCentered("gameOverButtonFont", "BACK TO MENU", backToMenuCenterX, backToMenuCenterY, "white");
+        GameApp.drawTextCentered(FontRegistry.OVERLAY_BUTTON, "BACK TO MENU", backToMenuCenterX, backToMenuCenterY, "white");
     }
 
     // Draw smooth, eye-friendly gradient background with subtle animation
@@ -1,23 +1,54 @@
 package nl.saxion.game.systems;
 
+import com.badlogic.gdx.graphics.Pixmap;
 import nl.saxion.gameapp.GameApp;
 
+import java.util.EnumMap;
 import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
 import java.util.Set;
 
 /**
  * Lazy Resource Manager - Loads resources on demand instead of all at startup.
  * Helps reduce initial load time and memory usage.
+ *
+ * Groups are reference counted by owner name (e.g. ResourceLoader.RESOURCE_OWNER for the
+ * play screen). A group stays resident while any owner holds it; releasing the last owner
+ * removes its clips and releases its textures in the TextureRegistry, where the group's
+ * textures are held under groupOwner(group). GameApp texture keys of a group go through
+ * TextureRegistry.acquireKeyed, so a file shared with another group is loaded once.
  * 
  * Usage:
- * - Call ensureLoaded(ResourceType) before using a resource
- * - Resources are only loaded once, subsequent calls are no-ops
+ * - Call acquire(owner, group) before using a resource; it never blocks and starts
+ *   streaming the group in the background if it is not loaded yet
+ * - Call loadNow(owner, group) when the resource is needed this frame (synchronous fallback)
+ * - Call update() once per frame and prefetch() with the game state so groups are
+ *   streamed in before they are needed
+ * - Call releaseOwner(owner) when the owner is disposed
  */
 public class LazyResourceManager {
     
     // Track which resource groups have been loaded
     private static final Set<ResourceGroup> loadedGroups = new HashSet<>();
-    
+
+    // Owners holding each group (reference counts)
+    private static final Map<ResourceGroup, Set<String>> groupOwners = new EnumMap<>(ResourceGroup.class);
+
+    // Groups being streamed in (sheet decode on workers, uploads within the frame budget), in request order
+    private static final Map<ResourceGroup, AssetLoadPipeline> streamingGroups = new LinkedHashMap<>();
+
+    // Render thread time per frame for streamed uploads
+    private static final float STREAM_BUDGET_MS = 2f;
+
+    // Prefetch policy: boss sprites this long before a round boundary, chest frames once a boss is this hurt
+    private static final float BOSS_PREFETCH_LEAD = 15f;
+    private static final float CHEST_PREFETCH_HEALTH = 0.5f;
+
+    // Zombie cat and zombie hand sheets use 32x32 frames
+    private static final int DECORATION_FRAME_SIZE = 32;
+
     // Resource groups that can be loaded lazily
     public enum ResourceGroup {
         PLAYER,          // Player sprites and animations
@@ -38,326 +69,228 @@ public class LazyResourceManager {
     }
     
     /**
-     * Ensure a resource group is loaded. If already loaded, this is a no-op.
+     * Non-blocking acquire of a resource group for an owner.
+     * If the group is not loaded it is queued for background streaming.
+     * @param owner who holds the group until release/releaseOwner
      * @param group The resource group to load
+     * @return true if the group can be used this frame
      */
-    public static void ensureLoaded(ResourceGroup group) {
+    public static boolean acquire(String owner, ResourceGroup group) {
+        addOwner(owner, group);
+        if (loadedGroups.contains(group)) {
+            return true; // Already loaded
+        }
+        request(group);
+        return false;
+    }
+
+    /**
+     * Acquire and load a resource group synchronously (fallback when the prefetch did not finish in time).
+     * A group that is already streaming is completed immediately.
+     * @param owner who holds the group until release/releaseOwner
+     * @param group The resource group to load
+     */
+    public static void loadNow(String owner, ResourceGroup group) {
+        addOwner(owner, group);
         if (loadedGroups.contains(group)) {
             return; // Already loaded
         }
         
         long startTime = System.currentTimeMillis();
-        
-        switch (group) {
-            case PLAYER -> loadPlayerResources();
-            case ZOMBIE_TYPE1 -> loadZombieType1Resources();
-            case ZOMBIE_TYPE3 -> loadZombieType3Resources();
-            case ZOMBIE_TYPE4 -> loadZombieType4Resources();
-            case BOSS -> loadBossResources();
-            case XP_ORBS -> loadXPOrbResources();
-            case BREAKABLES -> loadBreakableResources();
-            case HEALING_ITEMS -> loadHealingItemResources();
-            case TREASURE_CHEST -> loadTreasureChestResources();
-            case PASSIVE_ITEMS -> loadPassiveItemResources();
-            case WEAPON_ICONS -> loadWeaponIconResources();
-            case UI_ICONS -> loadUIIconResources();
-            case CATS -> loadCatResources();
-            case ZOMBIE_HANDS -> loadZombieHandResources();
-            case MAPS -> {} // Maps are handled by ResourceLoader due to special filter requirements
+
+        AssetLoadPipeline pipeline = streamingGroups.remove(group);
+        if (pipeline != null) {
+            pipeline.finishNow();
+        } else {
+            loadGroup(group);
         }
         
         loadedGroups.add(group);
         long loadTime = System.currentTimeMillis() - startTime;
-        GameApp.log("LazyLoad: " + group.name() + " loaded in " + loadTime + "ms");
-    }
-    
-    /**
-     * Check if a resource group is loaded.
-     */
-    public static boolean isLoaded(ResourceGroup group) {
-        return loadedGroups.contains(group);
+        GameApp.log("LazyLoad: " + group.name() + " loaded synchronously in " + loadTime + "ms");
     }
-    
+
     /**
-     * Preload essential resources needed for gameplay.
-     * Call this during initial game load.
+     * Acquire a group for an owner and add its loading steps to another pipeline
+     * (e.g. the play screen loading screen). Sheets are decoded on the pipeline's workers.
      */
-    public static void preloadEssentials() {
-        ensureLoaded(ResourceGroup.PLAYER);
-        ensureLoaded(ResourceGroup.XP_ORBS);
-        ensureLoaded(ResourceGroup.UI_ICONS);
+    public static void addLoadTasks(AssetLoadPipeline pipeline, String owner, ResourceGroup group) {
+        addOwner(owner, group);
+        if (loadedGroups.contains(group) || streamingGroups.containsKey(group)) {
+            return;
+        }
+        addGroupTasks(pipeline, group);
+        pipeline.addMainThread(group.name() + " ready", () -> loadedGroups.add(group));
     }
-    
+
     /**
-     * Preload all combat-related resources.
-     * Call this before starting actual gameplay.
+     * Release one owner's hold on a group; the group is unloaded when no owners remain.
      */
-    public static void preloadCombat() {
-        ensureLoaded(ResourceGroup.ZOMBIE_TYPE1);
-        ensureLoaded(ResourceGroup.ZOMBIE_TYPE3);
-        ensureLoaded(ResourceGroup.ZOMBIE_TYPE4);
-        ensureLoaded(ResourceGroup.BOSS);
-        ensureLoaded(ResourceGroup.WEAPON_ICONS);
+    public static void release(String owner, ResourceGroup group) {
+        Set<String> owners = groupOwners.get(group);
+        if (owners == null || !owners.remove(owner)) return;
+        if (owners.isEmpty()) {
+            groupOwners.remove(group);
+            unload(group);
+        }
     }
-    
+
     /**
-     * Preload all resources. Useful for ensuring smooth gameplay.
+     * Release every group held by an owner (when a screen is disposed).
      */
-    public static void preloadAll() {
+    public static void releaseOwner(String owner) {
         for (ResourceGroup group : ResourceGroup.values()) {
-            if (group != ResourceGroup.MAPS) { // Maps handled separately
-                ensureLoaded(group);
-            }
+            release(owner, group);
         }
     }
-    
+
     /**
-     * Clear loaded state (for testing or reloading).
+     * TextureRegistry owner name under which a group's textures are held.
      */
-    public static void reset() {
-        loadedGroups.clear();
+    public static String groupOwner(ResourceGroup group) {
+        return "group:" + group.name();
     }
-    
-    // ==========================================
-    // Private resource loading methods
-    // ==========================================
-    
-    private static void loadPlayerResources() {
-        if (!GameApp.hasSpritesheet("player_idle_sheet")) {
-            GameApp.addSpriteSheet("player_idle_sheet", "assets/player/Rambo_Idle.png", 32, 32);
-            GameApp.addSpriteSheet("player_run_left_sheet", "assets/player/Rambo_Run(Left).png", 32, 32);
-            GameApp.addSpriteSheet("player_run_right_sheet", "assets/player/Rambo_Run(Right).png", 32, 32);
-            GameApp.addSpriteSheet("player_death_sheet", "assets/player/Rambo_Death.png", 32, 32);
-            GameApp.addSpriteSheet("player_hit_sheet", "assets/player/Player_Hit.png", 32, 32);
-            
-            GameApp.addAnimationFromSpritesheet("player_idle", "player_idle_sheet", 0.15f, true);
-            GameApp.addAnimationFromSpritesheet("player_run_left", "player_run_left_sheet", 0.1f, true);
-            GameApp.addAnimationFromSpritesheet("player_run_right", "player_run_right_sheet", 0.1f, true);
-            GameApp.addAnimationFromSpritesheet("player_death", "player_death_sheet", 0.2f, false);
-            GameApp.addAnimationFromSpritesheet("player_hit", "player_hit_sheet", 0.1f, false);
+
+    private static void addOwner(String owner, ResourceGroup group) {
+        groupOwners.computeIfAbsent(group, g -> new HashSet<>()).add(owner);
+    }
+
+    // Stop streaming, remove the group's clips and release its textures
+    private static void unload(ResourceGroup group) {
+        AssetLoadPipeline pipeline = streamingGroups.remove(group);
+        if (pipeline != null) {
+            pipeline.cancel();
         }
-        
-        if (!GameApp.hasTexture("bullet")) {
-            GameApp.addTexture("bullet", "assets/Bullet/Bullet.png");
+        if (AnimationClips.hasClips(group)) {
+            AnimationClips.unregister(group);
         }
+        TextureRegistry.releaseOwner(groupOwner(group));
+        loadedGroups.remove(group);
     }
-    
-    private static void loadZombieType1Resources() {
-        if (!GameApp.hasSpritesheet("zombie_run_sheet")) {
-            GameApp.addSpriteSheet("zombie_idle_sheet", "assets/enemy/Zombie_Idle.png", 32, 32);
-            GameApp.addSpriteSheet("zombie_run_sheet", "assets/enemy/Zombie_run.png", 32, 32);
-            GameApp.addSpriteSheet("zombie_hit_sheet", "assets/enemy/Zombie_Hit.png", 32, 32);
-            GameApp.addSpriteSheet("zombie_death1_sheet", "assets/enemy/Zombie_Death_1.png", 32, 32);
-            
-            GameApp.addAnimationFromSpritesheet("zombie_idle", "zombie_idle_sheet", 0.2f, true);
-            GameApp.addAnimationFromSpritesheet("zombie_run", "zombie_run_sheet", 0.1f, true);
-            // Hit animation: 96x32 sprite sheet = 3 frames (row 0, cols 0-2)
-            GameApp.addEmptyAnimation("zombie_hit", 0.1f, false);
-            GameApp.addAnimationFrameFromSpritesheet("zombie_hit", "zombie_hit_sheet", 0, 0);
-            GameApp.addAnimationFrameFromSpritesheet("zombie_hit", "zombie_hit_sheet", 0, 1);
-            GameApp.addAnimationFrameFromSpritesheet("zombie_hit", "zombie_hit_sheet", 0, 2);
-            GameApp.addAnimationFromSpritesheet("zombie_death", "zombie_death1_sheet", 0.2f, false);
+
+    // Start streaming a group in the background (no-op if loaded or already streaming)
+    private static void request(ResourceGroup group) {
+        if (loadedGroups.contains(group) || streamingGroups.containsKey(group)) {
+            return;
         }
+
+        AssetLoadPipeline pipeline = new AssetLoadPipeline("LazyLoad " + group.name());
+        addGroupTasks(pipeline, group);
+        pipeline.start();
+        streamingGroups.put(group, pipeline);
     }
-    
-    private static void loadZombieType3Resources() {
-        if (!GameApp.hasSpritesheet("zombie3_run_sheet")) {
-            GameApp.addSpriteSheet("zombie3_idle_sheet", "assets/enemy/Zombie 3_idle .png", 32, 32);
-            GameApp.addSpriteSheet("zombie3_run_sheet", "assets/enemy/Zombie 3_run .png", 32, 32);
-            GameApp.addSpriteSheet("zombie3_hit_sheet", "assets/enemy/Zombie 3_Hit .png", 32, 32);
-            GameApp.addSpriteSheet("zombie3_death_sheet", "assets/enemy/Zombie 3_death.png", 32, 32);
-            
-            GameApp.addAnimationFromSpritesheet("zombie3_idle", "zombie3_idle_sheet", 0.2f, true);
-            GameApp.addAnimationFromSpritesheet("zombie3_run", "zombie3_run_sheet", 0.1f, true);
-            // Hit animation: 96x32 sprite sheet = 3 frames (row 0, cols 0-2)
-            GameApp.addEmptyAnimation("zombie3_hit", 0.1f, false);
-            GameApp.addAnimationFrameFromSpritesheet("zombie3_hit", "zombie3_hit_sheet", 0, 0);
-            GameApp.addAnimationFrameFromSpritesheet("zombie3_hit", "zombie3_hit_sheet", 0, 1);
-            GameApp.addAnimationFrameFromSpritesheet("zombie3_hit", "zombie3_hit_sheet", 0, 2);
-            GameApp.addAnimationFromSpritesheet("zombie3_death", "zombie3_death_sheet", 0.2f, false);
+
+    private static void addGroupTasks(AssetLoadPipeline pipeline, ResourceGroup group) {
+        String owner = groupOwner(group);
+
+        // AnimationClock sheets are decoded on workers (skipped when already resident)
+        for (String sheetPath : AnimationClips.getSheetPaths(group)) {
+            if (TextureRegistry.isResident(sheetPath)) continue;
+            pipeline.add(sheetPath, () -> TextureRegistry.decode(sheetPath),
+                    pixmap -> TextureRegistry.upload(owner, sheetPath, pixmap, null), Pixmap::dispose);
         }
-    }
-    
-    private static void loadZombieType4Resources() {
-        if (!GameApp.hasSpritesheet("zombie4_run_sheet")) {
-            GameApp.addSpriteSheet("zombie4_idle_sheet", "assets/enemy/Zombie 4_idle.png", 32, 32);
-            GameApp.addSpriteSheet("zombie4_run_sheet", "assets/enemy/Zombie 4_run.png", 32, 32);
-            // Note: Zombie 4 has no hit sprite, fallback to run sprite
-            GameApp.addSpriteSheet("zombie4_hit_sheet", "assets/enemy/Zombie 4_run.png", 32, 32);
-            GameApp.addSpriteSheet("zombie4_death_sheet", "assets/enemy/Zombie 4_death 4.png", 32, 32);
-            
-            GameApp.addAnimationFromSpritesheet("zombie4_idle", "zombie4_idle_sheet", 0.2f, true);
-            GameApp.addAnimationFromSpritesheet("zombie4_run", "zombie4_run_sheet", 0.1f, true);
-            // Hit animation: 96x32 sprite sheet = 3 frames (row 0, cols 0-2)
-            GameApp.addEmptyAnimation("zombie4_hit", 0.1f, false);
-            GameApp.addAnimationFrameFromSpritesheet("zombie4_hit", "zombie4_hit_sheet", 0, 0);
-            GameApp.addAnimationFrameFromSpritesheet("zombie4_hit", "zombie4_hit_sheet", 0, 1);
-            GameApp.addAnimationFrameFromSpritesheet("zombie4_hit", "zombie4_hit_sheet", 0, 2);
-            GameApp.addAnimationFromSpritesheet("zombie4_death", "zombie4_death_sheet", 0.2f, false);
+
+        // GameApp registration runs on the render thread, one asset per step so the frame budget can spread them out
+        for (String[] texture : getKeyedTextures(group)) {
+            pipeline.addMainThread(texture[0], () -> TextureRegistry.acquireKeyed(owner, texture[0], texture[1]));
         }
-    }
-    
-    private static void loadBossResources() {
-        if (!GameApp.hasSpritesheet("boss_run_sheet")) {
-            GameApp.addSpriteSheet("boss_idle_sheet", "assets/enemy/Boss_Idle.png", 32, 32);
-            GameApp.addSpriteSheet("boss_run_sheet", "assets/enemy/Boss_run.png", 32, 32);
-            GameApp.addSpriteSheet("boss_hit_sheet", "assets/enemy/Boss_Hit.png", 32, 32);
-            GameApp.addSpriteSheet("boss_death_sheet", "assets/enemy/Boss_Hit.png", 32, 32);
-            
-            GameApp.addAnimationFromSpritesheet("boss_idle", "boss_idle_sheet", 0.2f, true);
-            GameApp.addAnimationFromSpritesheet("boss_run", "boss_run_sheet", 0.1f, true);
-            // Hit animation: 96x32 sprite sheet = 3 frames (row 0, cols 0-2)
-            GameApp.addEmptyAnimation("boss_hit", 0.1f, false);
-            GameApp.addAnimationFrameFromSpritesheet("boss_hit", "boss_hit_sheet", 0, 0);
-            GameApp.addAnimationFrameFromSpritesheet("boss_hit", "boss_hit_sheet", 0, 1);
-            GameApp.addAnimationFrameFromSpritesheet("boss_hit", "boss_hit_sheet", 0, 2);
-            // Death animation uses same hit sheet
-            GameApp.addEmptyAnimation("boss_death", 0.15f, false);
-            GameApp.addAnimationFrameFromSpritesheet("boss_death", "boss_death_sheet", 0, 0);
-            GameApp.addAnimationFrameFromSpritesheet("boss_death", "boss_death_sheet", 0, 1);
-            GameApp.addAnimationFrameFromSpritesheet("boss_death", "boss_death_sheet", 0, 2);
+        for (String[] sheet : getKeyedSheets(group)) {
+            pipeline.addMainThread(sheet[0], () -> TextureRegistry.acquireKeyedSheet(owner, sheet[0], sheet[1],
+                    DECORATION_FRAME_SIZE, DECORATION_FRAME_SIZE));
         }
-    }
-    
-    private static void loadXPOrbResources() {
-        try {
-            if (!GameApp.hasTexture("orb_blue")) {
-                GameApp.addTexture("orb_blue", "assets/ui/orbblue.png");
-            }
-            if (!GameApp.hasTexture("orb_green")) {
-                GameApp.addTexture("orb_green", "assets/ui/orbgreen.png");
-            }
-            if (!GameApp.hasTexture("orb_red")) {
-                GameApp.addTexture("orb_red", "assets/ui/orbred.png");
-            }
-        } catch (Exception e) {
-            GameApp.log("Warning: Could not load orb textures");
+        if (AnimationClips.hasClips(group)) {
+            // Sheets are resident by now, so this only cuts frames
+            pipeline.addMainThread(group.name() + " clips", () -> AnimationClips.register(group, owner));
         }
     }
-    
-    private static void loadBreakableResources() {
-        if (!GameApp.hasSpritesheet("object_sheet")) {
-            GameApp.addSpriteSheet("object_sheet", "assets/tiles/object.png", 64, 64);
-            
-            // Create animations for all 6 object types
-            createObjectAnimations("barrel", 1);
-            createObjectAnimations("box", 3);
-            createObjectAnimations("rock", 5);
-            createObjectAnimations("sign", 7);
-            createObjectAnimations("mushroom", 9);
-            createObjectAnimations("chest", 11);
+
+    /**
+     * Advance background streaming. Call once per frame from the render thread.
+     */
+    public static void update() {
+        Iterator<Map.Entry<ResourceGroup, AssetLoadPipeline>> it = streamingGroups.entrySet().iterator();
+        if (!it.hasNext()) return;
+
+        // Oldest request first; one group per frame keeps the cost inside the budget
+        Map.Entry<ResourceGroup, AssetLoadPipeline> entry = it.next();
+        if (entry.getValue().update(STREAM_BUDGET_MS)) {
+            loadedGroups.add(entry.getKey());
+            it.remove();
         }
     }
-    
-    private static void createObjectAnimations(String name, int row) {
-        String idleAnim = name + "_idle";
-        GameApp.addEmptyAnimation(idleAnim, 0.2f, true);
-        GameApp.addAnimationFrameFromSpritesheet(idleAnim, "object_sheet", row, 0);
-        GameApp.addAnimationFrameFromSpritesheet(idleAnim, "object_sheet", row, 1);
-        GameApp.addAnimationFrameFromSpritesheet(idleAnim, "object_sheet", row, 2);
-        
-        String breakAnim = name + "_break";
-        GameApp.addEmptyAnimation(breakAnim, 0.15f, false);
-        GameApp.addAnimationFrameFromSpritesheet(breakAnim, "object_sheet", row, 3);
-        GameApp.addAnimationFrameFromSpritesheet(breakAnim, "object_sheet", row, 4);
-        GameApp.addAnimationFrameFromSpritesheet(breakAnim, "object_sheet", row, 5);
-        GameApp.addAnimationFrameFromSpritesheet(breakAnim, "object_sheet", row, 6);
-    }
-    
-    private static void loadHealingItemResources() {
-        try {
-            if (!GameApp.hasTexture("chicken_item")) {
-                GameApp.addTexture("chicken_item", "assets/ui/chicken.png");
-            }
-            if (!GameApp.hasTexture("chicken")) {
-                GameApp.addTexture("chicken", "assets/ui/chicken.png");
+
+    /**
+     * Predict upcoming needs from the game state and start streaming them for an owner.
+     * @param owner who holds the prefetched groups
+     * @param elapsedTime seconds played
+     * @param roundDuration seconds per round (a miniboss spawns at every round boundary)
+     * @param lateWaveStart seconds played when late wave minibosses start spawning
+     * @param lowestBossHealth lowest health fraction of a chest-dropping boss (1 if none)
+     */
+    public static void prefetch(String owner, float elapsedTime, float roundDuration, float lateWaveStart,
+                                float lowestBossHealth) {
+        if (!loadedGroups.contains(ResourceGroup.BOSS)) {
+            float timeToRoundEnd = roundDuration - (elapsedTime % roundDuration);
+            if (timeToRoundEnd <= BOSS_PREFETCH_LEAD || elapsedTime >= lateWaveStart - BOSS_PREFETCH_LEAD) {
+                acquire(owner, ResourceGroup.BOSS);
             }
-        } catch (Exception e) {
-            GameApp.log("Warning: Could not load healing item textures");
         }
-    }
-    
-    private static void loadTreasureChestResources() {
-        try {
-            // Load shiny animation frames
-            for (int i = 1; i <= 11; i++) {
-                String key = "chest_shiny_" + i;
-                if (!GameApp.hasTexture(key)) {
-                    GameApp.addTexture(key, "assets/ui/shiny" + i + ".png");
-                }
-            }
-            // Load open animation frames
-            if (!GameApp.hasTexture("chest_open_1")) {
-                GameApp.addTexture("chest_open_1", "assets/ui/open1.png");
-            }
-            if (!GameApp.hasTexture("chest_open_2")) {
-                GameApp.addTexture("chest_open_2", "assets/ui/open2.png");
-            }
-        } catch (Exception e) {
-            GameApp.log("Warning: Could not load treasure chest textures");
+        if (!loadedGroups.contains(ResourceGroup.TREASURE_CHEST) && lowestBossHealth <= CHEST_PREFETCH_HEALTH) {
+            acquire(owner, ResourceGroup.TREASURE_CHEST);
         }
     }
     
-    private static void loadPassiveItemResources() {
-        try {
-            if (!GameApp.hasTexture("passive_powerherb")) {
-                GameApp.addTexture("passive_powerherb", "assets/ui/spinach.png");
-                GameApp.addTexture("passive_ironshield", "assets/ui/armor.png");
-                GameApp.addTexture("passive_swiftboots", "assets/ui/wings.png");
-                GameApp.addTexture("passive_luckycoin", "assets/ui/clover.png");
-                GameApp.addTexture("passive_magnetstone", "assets/ui/Attractorb.png");
-                GameApp.addTexture("passive_lifeessence", "assets/ui/pummarola.png");
-                GameApp.addTexture("passive_vitalitycore", "assets/ui/hollowhear.png");
-            }
-        } catch (Exception e) {
-            GameApp.log("Warning: Could not load passive item textures");
-        }
+    /**
+     * Check if a resource group is loaded.
+     */
+    public static boolean isLoaded(ResourceGroup group) {
+        return loadedGroups.contains(group);
     }
     
-    private static void loadWeaponIconResources() {
-        try {
-            if (!GameApp.hasTexture("weapon_icon")) {
-                GameApp.addTexture("weapon_icon", "assets/Bullet/Bullet.png");
-            }
-            if (!GameApp.hasTexture("piston_icon")) {
-                GameApp.addTexture("piston_icon", "assets/ui/piston.png");
-            }
-            if (!GameApp.hasTexture("pistonevo")) {
-                GameApp.addTexture("pistonevo", "assets/ui/pistonevo.png");
-            }
-        } catch (Exception e) {
-            GameApp.log("Warning: Could not load weapon icon textures");
+    private static void loadGroup(ResourceGroup group) {
+        String owner = groupOwner(group);
+        if (AnimationClips.hasClips(group)) {
+            AnimationClips.register(group, owner);
         }
-    }
-    
-    private static void loadUIIconResources() {
-        try {
-            if (!GameApp.hasTexture("arrow_icon")) {
-                GameApp.addTexture("arrow_icon", "assets/ui/arrow.png");
-            }
-            if (!GameApp.hasTexture("star_icon")) {
-                GameApp.addTexture("star_icon", "assets/ui/star.png");
-            }
-            if (!GameApp.hasTexture("skull_icon")) {
-                GameApp.addTexture("skull_icon", "assets/ui/skull.png");
-            }
-            if (!GameApp.hasTexture("star")) {
-                GameApp.addTexture("star", "assets/ui/star.png");
-            }
-        } catch (Exception e) {
-            GameApp.log("Warning: Could not load UI icon textures");
+        for (String[] texture : getKeyedTextures(group)) {
+            TextureRegistry.acquireKeyed(owner, texture[0], texture[1]);
         }
-    }
-    
-    private static void loadCatResources() {
-        if (!GameApp.hasSpritesheet("zombie_cats_sheet")) {
-            GameApp.addSpriteSheet("zombie_cats_sheet", "assets/ui/ZombieCatsSprites.png", 32, 32);
+        for (String[] sheet : getKeyedSheets(group)) {
+            TextureRegistry.acquireKeyedSheet(owner, sheet[0], sheet[1], DECORATION_FRAME_SIZE, DECORATION_FRAME_SIZE);
         }
+        // MAPS are handled by ResourceLoader due to special filter requirements
     }
-    
-    private static void loadZombieHandResources() {
-        if (!GameApp.hasSpritesheet("zombie_hand_sheet")) {
-            GameApp.addSpriteSheet("zombie_hand_sheet", "assets/ui/BONUSZombieHand.png", 32, 32);
-        }
+
+    // GameApp sprite sheet keys of a group as {key, path}
+    private static String[][] getKeyedSheets(ResourceGroup group) {
+        return switch (group) {
+            case CATS -> new String[][] { { "zombie_cats_sheet", "assets/ui/ZombieCatsSprites.png" } };
+            case ZOMBIE_HANDS -> new String[][] { { "zombie_hand_sheet", "assets/ui/BONUSZombieHand.png" } };
+            default -> new String[0][];
+        };
+    }
+
+    // GameApp texture keys of a group as {key, path}; each file has one key
+    private static String[][] getKeyedTextures(ResourceGroup group) {
+        return switch (group) {
+            case HEALING_ITEMS -> new String[][] { { "chicken", "assets/ui/chicken.png" } };
+            case PASSIVE_ITEMS -> new String[][] {
+                    { "passive_powerherb", "assets/ui/spinach.png" },
+                    { "passive_ironshield", "assets/ui/armor.png" },
+                    { "passive_swiftboots", "assets/ui/wings.png" },
+                    { "passive_luckycoin", "assets/ui/clover.png" },
+                    { "passive_magnetstone", "assets/ui/Attractorb.png" },
+                    { "passive_lifeessence", "assets/ui/pummarola.png" },
+                    { "passive_vitalitycore", "assets/ui/hollowhear.png" } };
+            // The plain weapon icon is the "bullet" clip (PLAYER group)
+            case WEAPON_ICONS -> new String[][] {
+                    { "piston_icon", "assets/ui/piston.png" },
+                    { "pistonevo", "assets/ui/pistonevo.png" } };
+            case UI_ICONS -> new String[][] {
+                    { "arrow", "assets/ui/arrow.png" },
+                    { "star", "assets/ui/star.png" },
+                    { "skull_icon", "assets/ui/skull.png" } };
+            default -> new String[0][];
+        };
     }
 }
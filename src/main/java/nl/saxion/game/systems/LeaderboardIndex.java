@@ -0,0 +1,204 @@
+package nl.saxion.game.systems;
+
+import nl.saxion.game.core.LeaderboardEntry;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+/**
+ * Order-statistics index of leaderboard entries (best first).
+ *
+ * A treap where every node also stores the size of its subtree, so insert, rank and
+ * "entry at position i" are O(log n). Entries are ordered by LeaderboardEntry.compareTo;
+ * equal scores keep the order in which they were added (same as the old stable sort).
+ */
+class LeaderboardIndex {
+
+    private static class Node {
+        final LeaderboardEntry entry;
+        final long order;
+        final int priority;
+        Node left;
+        Node right;
+        int size = 1;
+
+        Node(LeaderboardEntry entry, long order, int priority) {
+            this.entry = entry;
+            this.order = order;
+            this.priority = priority;
+        }
+    }
+
+    private Node root;
+    private long nextOrder = 0;
+    // Fixed seed: the same entries always give the same tree shape
+    private final Random random = new Random(0x5EED);
+    // Insertion order per entry, to find an entry's position again
+    private final Map<LeaderboardEntry, Long> orders = new IdentityHashMap<>();
+
+    void add(LeaderboardEntry entry) {
+        Node node = new Node(entry, nextOrder++, random.nextInt());
+        orders.put(entry, node.order);
+        root = insert(root, node);
+    }
+
+    private Node insert(Node tree, Node node) {
+        if (tree == null) return node;
+
+        if (compare(node.entry, node.order, tree) < 0) {
+            tree.left = insert(tree.left, node);
+            if (tree.left.priority > tree.priority) {
+                return rotateRight(tree);
+            }
+        } else {
+            tree.right = insert(tree.right, node);
+            if (tree.right.priority > tree.priority) {
+                return rotateLeft(tree);
+            }
+        }
+        update(tree);
+        return tree;
+    }
+
+    private Node rotateRight(Node tree) {
+        Node left = tree.left;
+        tree.left = left.right;
+        update(tree);
+        left.right = tree;
+        update(left);
+        return left;
+    }
+
+    private Node rotateLeft(Node tree) {
+        Node right = tree.right;
+        tree.right = right.left;
+        update(tree);
+        right.left = tree;
+        update(right);
+        return right;
+    }
+
+    /**
+     * Entry at a 0-based position (0 = best), or null if out of range.
+     */
+    LeaderboardEntry get(int index) {
+        if (index < 0 || index >= size()) return null;
+
+        Node node = root;
+        while (node != null) {
+            int leftSize = size(node.left);
+            if (index < leftSize) {
+                node = node.left;
+            } else if (index == leftSize) {
+                return node.entry;
+            } else {
+                index -= leftSize + 1;
+                node = node.right;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Entries from a 0-based offset, at most count of them.
+     */
+    List<LeaderboardEntry> page(int offset, int count) {
+        int end = Math.min(size(), Math.max(0, offset) + Math.max(0, count));
+        List<LeaderboardEntry> page = new ArrayList<>(Math.max(0, end - offset));
+        for (int i = Math.max(0, offset); i < end; i++) {
+            page.add(get(i));
+        }
+        return page;
+    }
+
+    /**
+     * Number of entries with a strictly better score/time than the given one.
+     */
+    int countBetter(int score, float survivalTime) {
+        int count = 0;
+        Node node = root;
+        while (node != null) {
+            LeaderboardEntry entry = node.entry;
+            boolean better = entry.getScore() > score
+                    || (entry.getScore() == score && entry.getSurvivalTime() > survivalTime);
+            if (better) {
+                count += size(node.left) + 1;
+                node = node.right;
+            } else {
+                node = node.left;
+            }
+        }
+        return count;
+    }
+
+    /**
+     * 0-based position of an entry in this index, or -1 if it is not in it.
+     */
+    int indexOf(LeaderboardEntry entry) {
+        Long order = orders.get(entry);
+        if (order == null) return -1;
+
+        int index = 0;
+        Node node = root;
+        while (node != null) {
+            int compare = compare(entry, order, node);
+            if (compare < 0) {
+                node = node.left;
+            } else if (compare > 0) {
+                index += size(node.left) + 1;
+                node = node.right;
+            } else {
+                return index + size(node.left);
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * All entries, best first.
+     */
+    List<LeaderboardEntry> toList() {
+        List<LeaderboardEntry> list = new ArrayList<>(size());
+        Deque<Node> stack = new ArrayDeque<>();
+        Node node = root;
+        while (node != null || !stack.isEmpty()) {
+            while (node != null) {
+                stack.push(node);
+                node = node.left;
+            }
+            node = stack.pop();
+            list.add(node.entry);
+            node = node.right;
+        }
+        return list;
+    }
+
+    int size() {
+        return size(root);
+    }
+
+    void clear() {
+        root = null;
+        orders.clear();
+        nextOrder = 0;
+        random.setSeed(0x5EED);
+    }
+
+    private static int compare(LeaderboardEntry entry, long order, Node node) {
+        int compare = entry.compareTo(node.entry);
+        return compare != 0 ? compare : Long.compare(order, node.order);
+    }
+
+    private static int size(Node node) {
+        return node != null ? node.size : 0;
+    }
+
+    private static void update(Node node) {
+        node.size = 1 + size(node.left) + size(node.right);
+    }
+}
@@ -0,0 +1,291 @@
+package nl.saxion.game.systems;
+
+import nl.saxion.game.core.LeaderboardEntry;
+import nl.saxion.gameapp.GameApp;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileLock;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.util.zip.CRC32;
+
+/**
+ * Append-only journal of leaderboard entries.
+ *
+ * Every new entry is appended as one record and forced to disk on the persistence worker,
+ * so a crash can lose at most the records still queued. LeaderboardManager periodically
+ * compacts the journal into the leaderboard.json snapshot and then resets it.
+ *
+ * Record layout (big-endian):
+ * marker byte, payload length, CRC32 of payload,
+ * payload (sequence, username, class, group, score, survival time, timestamp).
+ *
+ * Replay checks every record's CRC. Damaged bytes are skipped until the next valid record;
+ * a torn record at the end (crash mid-append) is cut off so later appends stay readable.
+ *
+ * The same format is used for the per-kiosk segments of a shared leaderboard directory
+ * (see LeaderboardSegments). Those are opened with locking on: appends hold an exclusive
+ * FileChannel lock, and readFrom() reads only new bytes under a shared lock.
+ */
+class LeaderboardJournal {
+
+    /**
+     * Receives replayed records in file order.
+     */
+    interface RecordConsumer {
+        void accept(long sequence, LeaderboardEntry entry);
+    }
+
+    private static final byte MARKER = (byte) 0xB7;
+    private static final int HEADER_SIZE = 9; // marker + length + crc
+    private static final int MAX_PAYLOAD = 4096;
+
+    // Bytes read per chunk by readFrom()
+    private static final int READ_CHUNK = 64 * 1024;
+
+    private final Path path;
+    private final boolean locking;
+    private int recordCount = 0;
+
+    LeaderboardJournal(String fileName) {
+        this(Paths.get(fileName), false);
+    }
+
+    LeaderboardJournal(Path path, boolean locking) {
+        this.path = path;
+        this.locking = locking;
+    }
+
+    /**
+     * Append one entry and fsync it.
+     */
+    void append(long sequence, LeaderboardEntry entry) throws IOException {
+        ByteArrayOutputStream payloadBytes = new ByteArrayOutputStream(128);
+        DataOutputStream payload = new DataOutputStream(payloadBytes);
+        payload.writeLong(sequence);
+        writeString(payload, entry.getUsername());
+        writeString(payload, entry.getStudentClass());
+        writeString(payload, entry.getGroupNumber());
+        payload.writeInt(entry.getScore());
+        payload.writeFloat(entry.getSurvivalTime());
+        payload.writeLong(entry.getTimestamp());
+        payload.flush();
+        byte[] data = payloadBytes.toByteArray();
+
+        CRC32 crc = new CRC32();
+        crc.update(data);
+
+        ByteBuffer record = ByteBuffer.allocate(HEADER_SIZE + data.length);
+        record.put(MARKER).putInt(data.length).putInt((int) crc.getValue()).put(data);
+        record.flip();
+
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.CREATE,
+                StandardOpenOption.WRITE, StandardOpenOption.APPEND);
+             FileLock lock = locking ? channel.lock() : null) {
+            while (record.hasRemaining()) {
+                channel.write(record);
+            }
+            channel.force(false);
+        }
+        recordCount++;
+    }
+
+    /**
+     * Read all valid records with a sequence number above afterSequence.
+     * @return the highest sequence number found (or afterSequence if none)
+     */
+    long replay(long afterSequence, RecordConsumer consumer) {
+        recordCount = 0;
+        if (!Files.exists(path)) {
+            return afterSequence;
+        }
+
+        byte[] bytes;
+        try {
+            bytes = Files.readAllBytes(path);
+        } catch (IOException e) {
+            GameApp.log("Error reading leaderboard journal: " + e.getMessage());
+            return afterSequence;
+        }
+
+        ByteBuffer buffer = ByteBuffer.wrap(bytes);
+        long lastSequence = afterSequence;
+        int skippedBytes = 0;
+        int position = 0;
+        int validEnd = 0;
+
+        while (position < bytes.length) {
+            int recordSize = readRecord(buffer, position, afterSequence, consumer);
+            if (recordSize > 0) {
+                recordCount++;
+                lastSequence = Math.max(lastSequence, buffer.getLong(position + HEADER_SIZE));
+                position += recordSize;
+                validEnd = position;
+            } else {
+                // Damaged byte: move on until the next record that passes its CRC check
+                position++;
+                skippedBytes++;
+            }
+        }
+
+        if (validEnd < bytes.length) {
+            // Everything after the last valid record is a torn append; cut it off
+            skippedBytes -= bytes.length - validEnd;
+            truncate(validEnd);
+            GameApp.log("Leaderboard journal: dropped " + (bytes.length - validEnd) + " bytes of incomplete record at the end");
+        }
+        if (skippedBytes > 0) {
+            GameApp.log("Leaderboard journal: skipped " + skippedBytes + " corrupt bytes");
+        }
+        return lastSequence;
+    }
+
+    /**
+     * Read the records after a byte offset, without changing the file (shared segments).
+     * Damaged bytes are skipped once a full record's worth of data follows them; anything
+     * shorter at the end may still be an append in progress and is read again next time.
+     * @return the offset to continue from on the next call
+     */
+    long readFrom(long offset, RecordConsumer consumer) throws IOException {
+        if (!Files.exists(path)) {
+            return offset;
+        }
+
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            long size = channel.size();
+            if (size < offset) {
+                // Segments only grow; a shorter file was replaced, keep the offset to avoid duplicates
+                GameApp.log("Leaderboard segment " + path.getFileName() + " shrank, ignoring it until it grows");
+                return offset;
+            }
+
+            ByteBuffer buffer = ByteBuffer.allocate((int) Math.min(size - offset, READ_CHUNK));
+            while (offset < size) {
+                buffer.clear();
+                buffer.limit((int) Math.min(size - offset, buffer.capacity()));
+                try (FileLock lock = locking ? channel.lock(offset, buffer.limit(), true) : null) {
+                    while (buffer.hasRemaining() && channel.read(buffer, offset + buffer.position()) > 0) {
+                        // Read until the chunk is full
+                    }
+                }
+                buffer.flip();
+
+                int consumed = scan(buffer, consumer);
+                if (consumed == 0) {
+                    break; // Only an incomplete record is left
+                }
+                offset += consumed;
+            }
+            return offset;
+        }
+    }
+
+    // Reads the records in a chunk, returns the number of bytes that never need to be read again
+    private int scan(ByteBuffer buffer, RecordConsumer consumer) {
+        int position = 0;
+        int skippedBytes = 0;
+        while (position < buffer.limit()) {
+            int recordSize = readRecord(buffer, position, 0, consumer);
+            if (recordSize > 0) {
+                position += recordSize;
+            } else if (buffer.limit() - position >= HEADER_SIZE + MAX_PAYLOAD) {
+                // A whole record would fit here, so this byte is damaged rather than not yet written
+                position++;
+                skippedBytes++;
+            } else {
+                break;
+            }
+        }
+        if (skippedBytes > 0) {
+            GameApp.log("Leaderboard segment " + path.getFileName() + ": skipped " + skippedBytes + " corrupt bytes");
+        }
+        return position;
+    }
+
+    // Returns the record size, or 0 if there is no valid record at this position
+    private int readRecord(ByteBuffer buffer, int position, long afterSequence, RecordConsumer consumer) {
+        if (buffer.limit() - position < HEADER_SIZE || buffer.get(position) != MARKER) {
+            return 0;
+        }
+        int length = buffer.getInt(position + 1);
+        if (length < 8 || length > MAX_PAYLOAD || buffer.limit() - position - HEADER_SIZE < length) {
+            return 0;
+        }
+
+        CRC32 crc = new CRC32();
+        crc.update(buffer.array(), position + HEADER_SIZE, length);
+        if ((int) crc.getValue() != buffer.getInt(position + 5)) {
+            return 0;
+        }
+
+        try {
+            ByteBuffer payload = ByteBuffer.wrap(buffer.array(), position + HEADER_SIZE, length).slice();
+            long sequence = payload.getLong();
+            String username = readString(payload);
+            String studentClass = readString(payload);
+            String groupNumber = readString(payload);
+            int score = payload.getInt();
+            float survivalTime = payload.getFloat();
+            long timestamp = payload.getLong();
+
+            if (sequence > afterSequence && !username.isEmpty()) {
+                consumer.accept(sequence, new LeaderboardEntry(username, studentClass, groupNumber,
+                        score, survivalTime, timestamp));
+            }
+            return HEADER_SIZE + length;
+        } catch (BufferUnderflowException | IllegalArgumentException e) {
+            return 0;
+        }
+    }
+
+    /**
+     * Empty the journal after its records were compacted into the snapshot.
+     */
+    void reset() {
+        truncate(0);
+        recordCount = 0;
+    }
+
+    /**
+     * Number of records in the journal since the last compaction.
+     */
+    int getRecordCount() {
+        return recordCount;
+    }
+
+    private void truncate(long size) {
+        if (!Files.exists(path)) return;
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.WRITE)) {
+            channel.truncate(size);
+            channel.force(false);
+        } catch (IOException e) {
+            GameApp.log("Error truncating leaderboard journal: " + e.getMessage());
+        }
+    }
+
+    // Strings are stored as a length followed by UTF-8 bytes
+    private static void writeString(DataOutputStream out, String value) throws IOException {
+        byte[] bytes = (value != null ? value : "").getBytes(StandardCharsets.UTF_8);
+        int length = Math.min(bytes.length, 1024);
+        out.writeShort(length);
+        out.write(bytes, 0, length);
+    }
+
+    private static String readString(ByteBuffer buffer) {
+        int length = buffer.getShort() & 0xFFFF;
+        if (length > buffer.remaining()) {
+            throw new BufferUnderflowException();
+        }
+        String value = new String(buffer.array(), buffer.arrayOffset() + buffer.position(), length, StandardCharsets.UTF_8);
+        buffer.position(buffer.position() + length);
+        return value;
+    }
+}
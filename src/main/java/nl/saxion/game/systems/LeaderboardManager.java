@@ -1,5 +1,7 @@
 package nl.saxion.game.systems;
 
+import nl.saxion.game.config.ConfigManager;
+import nl.saxion.game.config.GameConfig;
 import nl.saxion.game.core.LeaderboardEntry;
 import nl.saxion.game.core.PlayerData;
 import nl.saxion.gameapp.GameApp;
@@ -7,24 +9,101 @@ import nl.saxion.gameapp.GameApp;
 import java.io.BufferedReader;
 import java.io.BufferedWriter;
 import java.io.File;
-import java.io.FileReader;
-import java.io.FileWriter;
+import java.io.FileOutputStream;
 import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
 import java.util.ArrayList;
-import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicBoolean;
 
 /**
- * Manages the leaderboard - saving and loading scores from JSON file.
+ * Manages the leaderboard - saving and loading scores.
+ *
+ * leaderboard.json is a snapshot; new scores are appended to leaderboard.journal
+ * (one fsync'd record each, see LeaderboardJournal). Loading reads the snapshot and
+ * replays journal records newer than the snapshot's sequence number. After
+ * COMPACT_AFTER_RECORDS appends the journal is compacted into a new snapshot
+ * (temp file + atomic rename) and reset.
+ *
+ * Every run is kept. Entries live in order-statistics indexes (LeaderboardIndex) for the
+ * whole board, per class and per group, so adding, ranking and fetching a page are O(log n).
+ *
+ * The indexes are only used on the render thread. All file access (journal appends,
+ * compaction, reading the board) goes through the PersistenceWorker queue, so saving a
+ * score never blocks a frame and the files are always written in submit order. Reads are
+ * tagged with a generation; only the latest one is applied. Until the first read has been
+ * applied queries see an empty board (plus runs added meanwhile), and those runs are only
+ * written once the sequence number from disk is known.
+ *
+ * Shared mode (config sharedLeaderboardDir): at events several kiosks share one directory.
+ * New runs are appended to this kiosk's segment there instead of the local journal, and
+ * refreshShared() merges the runs other kiosks added (see LeaderboardSegments). Merged
+ * entries are indexed on the render thread the next time the board is queried.
  */
 public class LeaderboardManager {
     
     private static final String FILE_NAME = "leaderboard.json";
-    private static final int MAX_ENTRIES = 100; // Keep top 100 entries
+    private static final String JOURNAL_FILE_NAME = "leaderboard.journal";
+    private static final int COMPACT_AFTER_RECORDS = 25;
     
-    private static List<LeaderboardEntry> entries = new ArrayList<>();
+    // True once a board read from disk has been applied
     private static boolean loaded = false;
     
+    // Board read on the persistence worker, applied on the next query if it is from the latest read
+    private static volatile StoredBoard readResult;
+    private static int readGeneration = 0;
+    private static boolean readPending = false;
+    // Runs added since the latest read was queued (not in that read), and those not written yet
+    private static final List<LeaderboardEntry> addedSinceRead = new ArrayList<>();
+    private static final List<LeaderboardEntry> unrecordedEntries = new ArrayList<>();
+    
+    // Shared directory mode (null = local only), configured on first load
+    private static LeaderboardSegments segments;
+    private static boolean sharedConfigured = false;
+    // Entries merged from other kiosks on the worker, waiting to be indexed
+    private static final Queue<LeaderboardEntry> mergedEntries = new ConcurrentLinkedQueue<>();
+    private static final AtomicBoolean mergeQueued = new AtomicBoolean(false);
+    // Increases whenever entries are added, so screens know when to refresh
+    private static int revision = 0;
+    
+    // All entries, views per class and per group (within its class), and per-player lookups
+    private static final LeaderboardIndex allEntries = new LeaderboardIndex();
+    private static final Map<String, LeaderboardIndex> entriesByClass = new HashMap<>();
+    private static final Map<String, LeaderboardIndex> entriesByGroup = new HashMap<>();
+    private static final Map<String, LeaderboardEntry> personalBests = new HashMap<>();
+    private static final Map<String, LeaderboardEntry> latestEntries = new HashMap<>();
+    
+    private static final LeaderboardJournal journal = new LeaderboardJournal(JOURNAL_FILE_NAME);
+    // Sequence number of the last recorded entry (snapshot or journal)
+    private static long lastSequence = 0;
+    // Journal records written since the last compaction (counted on the render thread)
+    private static int recordsSinceCompaction = 0;
+    
+    /**
+     * Leaderboard as read from disk, before it is indexed on the render thread.
+     */
+    private static class StoredBoard {
+        final int generation;
+        final List<LeaderboardEntry> entries = new ArrayList<>();
+        long sequence = 0;
+        int journalRecords = 0;
+        int sharedEntries = 0;
+
+        StoredBoard(int generation) {
+            this.generation = generation;
+        }
+    }
+    
     /**
      * Add a new entry to the leaderboard.
      */
@@ -42,14 +121,7 @@ public class LeaderboardManager {
         }
         
         // Load existing entries if not loaded
-        if (!loaded) {
-            loadLeaderboard();
-        }
-        
-        // Ensure entries list is not null
-        if (entries == null) {
-            entries = new ArrayList<>();
-        }
+        ensureLoaded();
         
         // Create new entry with sanitized data
         LeaderboardEntry entry = new LeaderboardEntry(
@@ -60,32 +132,106 @@ public class LeaderboardManager {
             Math.max(0, survivalTime) // Ensure non-negative time
         );
         
-        entries.add(entry);
-        
-        // Sort entries (best first)
-        Collections.sort(entries);
+        index(entry);
+        if (readPending) {
+            addedSinceRead.add(entry);
+        }
+        if (!loaded) {
+            // Sequence numbers are only known once the board has been read
+            unrecordedEntries.add(entry);
+            return;
+        }
+        record(entry);
+    }
+    
+    /**
+     * Write a new run: journal append (or shared segment), compacting now and then.
+     */
+    private static void record(LeaderboardEntry entry) {
+        // Shared mode: append to this kiosk's segment, fall back to the local journal if the share is unreachable.
+        // The local files are not compacted in shared mode, the snapshot would then also hold other kiosks' runs.
+        if (segments != null) {
+            LeaderboardSegments shared = segments;
+            long localSequence = ++lastSequence;
+            PersistenceWorker.submit("shared leaderboard", () -> {
+                try {
+                    shared.append(entry);
+                } catch (IOException e) {
+                    GameApp.log("Shared leaderboard unavailable (" + e.getMessage() + "), saving run locally");
+                    journal.append(localSequence, entry);
+                }
+            });
+            return;
+        }
         
-        // Trim to max entries
-        while (entries.size() > MAX_ENTRIES) {
-            entries.remove(entries.size() - 1);
+        // Append to the journal in the background; compact into the snapshot now and then.
+        // If the append keeps failing the entry is still in memory and goes into the next snapshot.
+        long sequence = ++lastSequence;
+        PersistenceWorker.submit(JOURNAL_FILE_NAME, () -> journal.append(sequence, entry));
+        recordsSinceCompaction++;
+        if (recordsSinceCompaction >= COMPACT_AFTER_RECORDS) {
+            saveLeaderboard();
         }
+    }
+    
+    /**
+     * Add an entry to all indexes.
+     */
+    private static void index(LeaderboardEntry entry) {
+        revision++;
+        allEntries.add(entry);
+        entriesByClass.computeIfAbsent(entry.getStudentClass(), key -> new LeaderboardIndex()).add(entry);
+        entriesByGroup.computeIfAbsent(groupKey(entry.getStudentClass(), entry.getGroupNumber()),
+                key -> new LeaderboardIndex()).add(entry);
         
-        // Save to file
-        saveLeaderboard();
+        String player = playerKey(entry.getUsername(), entry.getStudentClass(), entry.getGroupNumber());
+        LeaderboardEntry best = personalBests.get(player);
+        if (best == null || entry.compareTo(best) < 0) {
+            personalBests.put(player, entry);
+        }
+        LeaderboardEntry latest = latestEntries.get(player);
+        if (latest == null || entry.getTimestamp() >= latest.getTimestamp()) {
+            latestEntries.put(player, entry);
+        }
+    }
+    
+    private static void ensureLoaded() {
+        if (!loaded && !readPending) {
+            configureShared();
+            requestRead();
+        }
+        StoredBoard board = readResult;
+        if (board != null) {
+            readResult = null;
+            // An older read finishing late is ignored, a newer one is still queued
+            if (board.generation == readGeneration) {
+                applyBoard(board);
+            }
+        }
+        // Index runs merged from other kiosks
+        LeaderboardEntry merged;
+        while ((merged = mergedEntries.poll()) != null) {
+            index(merged);
+        }
+    }
+    
+    // Group numbers are only unique within a class
+    private static String groupKey(String studentClass, String groupNumber) {
+        return studentClass + "\n" + groupNumber;
+    }
+    
+    private static String playerKey(String username, String studentClass, String groupNumber) {
+        return username + "\n" + studentClass + "\n" + groupNumber;
     }
     
     /**
      * Get all leaderboard entries (sorted best to worst).
      * Never returns null - returns empty list if no entries.
+     * Prefer getPage() for display; this copies the whole board.
      */
     public static List<LeaderboardEntry> getEntries() {
-        if (!loaded) {
-            loadLeaderboard();
-        }
-        if (entries == null) {
-            entries = new ArrayList<>();
-        }
-        return new ArrayList<>(entries); // Return copy
+        ensureLoaded();
+        return allEntries.toList();
     }
     
     /**
@@ -93,12 +239,45 @@ public class LeaderboardManager {
      * Never returns null - returns empty list if no entries.
      */
     public static List<LeaderboardEntry> getTopEntries(int count) {
-        List<LeaderboardEntry> all = getEntries();
-        if (all.isEmpty()) {
-            return new ArrayList<>();
-        }
-        int limit = Math.min(count, all.size());
-        return new ArrayList<>(all.subList(0, limit));
+        return getPage(0, count);
+    }
+    
+    /**
+     * Get a page of the whole board (offset 0 = best entry).
+     */
+    public static List<LeaderboardEntry> getPage(int offset, int count) {
+        ensureLoaded();
+        return allEntries.page(offset, count);
+    }
+    
+    /**
+     * Get a page of one class's board.
+     */
+    public static List<LeaderboardEntry> getClassPage(String studentClass, int offset, int count) {
+        ensureLoaded();
+        LeaderboardIndex classEntries = entriesByClass.get(studentClass);
+        return classEntries != null ? classEntries.page(offset, count) : new ArrayList<>();
+    }
+    
+    /**
+     * Get a page of one group's board.
+     */
+    public static List<LeaderboardEntry> getGroupPage(String studentClass, String groupNumber, int offset, int count) {
+        ensureLoaded();
+        LeaderboardIndex groupEntries = entriesByGroup.get(groupKey(studentClass, groupNumber));
+        return groupEntries != null ? groupEntries.page(offset, count) : new ArrayList<>();
+    }
+    
+    public static int getClassEntryCount(String studentClass) {
+        ensureLoaded();
+        LeaderboardIndex classEntries = entriesByClass.get(studentClass);
+        return classEntries != null ? classEntries.size() : 0;
+    }
+    
+    public static int getGroupEntryCount(String studentClass, String groupNumber) {
+        ensureLoaded();
+        LeaderboardIndex groupEntries = entriesByGroup.get(groupKey(studentClass, groupNumber));
+        return groupEntries != null ? groupEntries.size() : 0;
     }
     
     /**
@@ -106,53 +285,192 @@ public class LeaderboardManager {
      * Returns 1-based rank. Returns 1 if leaderboard is empty.
      */
     public static int getRank(int score, float survivalTime) {
-        if (!loaded) {
-            loadLeaderboard();
+        ensureLoaded();
+        return allEntries.countBetter(score, survivalTime) + 1;
+    }
+    
+    /**
+     * 0-based position of an entry on the whole board, or in its class/group board. -1 if not found.
+     */
+    public static int getPosition(LeaderboardEntry entry) {
+        ensureLoaded();
+        return entry != null ? allEntries.indexOf(entry) : -1;
+    }
+    
+    public static int getClassPosition(LeaderboardEntry entry) {
+        ensureLoaded();
+        if (entry == null) return -1;
+        LeaderboardIndex classEntries = entriesByClass.get(entry.getStudentClass());
+        return classEntries != null ? classEntries.indexOf(entry) : -1;
+    }
+    
+    public static int getGroupPosition(LeaderboardEntry entry) {
+        ensureLoaded();
+        if (entry == null) return -1;
+        LeaderboardIndex groupEntries = entriesByGroup.get(groupKey(entry.getStudentClass(), entry.getGroupNumber()));
+        return groupEntries != null ? groupEntries.indexOf(entry) : -1;
+    }
+    
+    /**
+     * Best entry of a player, or null if the player has no runs.
+     */
+    public static LeaderboardEntry getPersonalBest(String username, String studentClass, String groupNumber) {
+        ensureLoaded();
+        return personalBests.get(playerKey(username, studentClass, groupNumber));
+    }
+    
+    /**
+     * Most recent entry of a player, or null if the player has no runs.
+     */
+    public static LeaderboardEntry getLatestEntry(String username, String studentClass, String groupNumber) {
+        ensureLoaded();
+        return latestEntries.get(playerKey(username, studentClass, groupNumber));
+    }
+    
+    /**
+     * Get total number of entries in the leaderboard.
+     */
+    public static int getEntryCount() {
+        ensureLoaded();
+        return allEntries.size();
+    }
+    
+    /**
+     * Start reading the leaderboard files on the persistence worker (menu start-up),
+     * so the first ranking query does not have to wait for the board.
+     */
+    public static void preloadAsync() {
+        if (loaded || readPending) return;
+        configureShared();
+        requestRead();
+    }
+
+    // Read the files on the worker, behind any queued writes; the result is applied by ensureLoaded
+    private static void requestRead() {
+        int generation = ++readGeneration;
+        readPending = true;
+        addedSinceRead.clear();
+        PersistenceWorker.submit(FILE_NAME, () -> readResult = readStore(generation));
+    }
+
+    // Replace the indexes with a board read from disk (render thread)
+    private static void applyBoard(StoredBoard board) {
+        // Merges queued before the read are already in the board
+        mergedEntries.clear();
+        clearIndexes();
+        for (LeaderboardEntry entry : board.entries) {
+            index(entry);
+        }
+        // Runs added while the read was queued
+        for (LeaderboardEntry entry : addedSinceRead) {
+            index(entry);
+        }
+        addedSinceRead.clear();
+        readPending = false;
+        lastSequence = Math.max(lastSequence, board.sequence);
+        recordsSinceCompaction = Math.max(recordsSinceCompaction, board.journalRecords);
+        loaded = true;
+        if (board.sharedEntries > 0) {
+            GameApp.log("Leaderboard: " + board.sharedEntries + " entries from the shared directory");
         }
         
-        if (entries == null || entries.isEmpty()) {
-            return 1; // First place if no entries
+        // Runs added before the first read was applied can be written now
+        for (LeaderboardEntry entry : unrecordedEntries) {
+            record(entry);
         }
+        unrecordedEntries.clear();
         
-        int rank = 1;
-        for (LeaderboardEntry entry : entries) {
-            if (entry != null) {
-                if (entry.getScore() > score) {
-                    rank++;
-                } else if (entry.getScore() == score && entry.getSurvivalTime() > survivalTime) {
-                    rank++;
-                }
+        if (segments == null && recordsSinceCompaction >= COMPACT_AFTER_RECORDS) {
+            saveLeaderboard();
+        }
+    }
+    
+    /**
+     * Read the snapshot and replay the journal. Touches no indexes; persistence worker only.
+     */
+    private static StoredBoard readStore(int generation) {
+        StoredBoard board = new StoredBoard(generation);
+        loadSnapshot(board);
+        
+        // Replay entries recorded after the snapshot
+        int snapshotCount = board.entries.size();
+        board.sequence = journal.replay(board.sequence, (sequence, entry) -> board.entries.add(entry));
+        board.journalRecords = journal.getRecordCount();
+        if (board.entries.size() > snapshotCount) {
+            GameApp.log("Leaderboard: replayed " + (board.entries.size() - snapshotCount) + " journal entries");
+        }
+        
+        // Shared mode: runs from all kiosks (runs saved before shared mode stay in the local files)
+        if (segments != null) {
+            try {
+                board.sharedEntries = segments.loadAll((sequence, entry) -> board.entries.add(entry));
+            } catch (IOException e) {
+                GameApp.log("Error reading shared leaderboard: " + e.getMessage());
             }
         }
-        return rank;
+        return board;
     }
     
     /**
-     * Get total number of entries in the leaderboard.
+     * Check the config for a shared leaderboard directory (once).
      */
-    public static int getEntryCount() {
-        if (!loaded) {
-            loadLeaderboard();
+    private static void configureShared() {
+        if (sharedConfigured) return;
+        sharedConfigured = true;
+        
+        GameConfig config = ConfigManager.loadConfig();
+        if (config.sharedLeaderboardDir == null || config.sharedLeaderboardDir.isEmpty()) {
+            return;
         }
-        return entries != null ? entries.size() : 0;
+        // The kiosk id falls back to the computer name, looked up on the persistence worker
+        segments = new LeaderboardSegments(Paths.get(config.sharedLeaderboardDir),
+                config.kioskId != null ? config.kioskId : "");
+    }
+    
+    /**
+     * Shared mode: queue a merge of the runs other kiosks added since the last merge.
+     * Cheap to call often, at most one merge is queued at a time. New entries show up
+     * in queries (and getRevision()) once the merge has run.
+     */
+    public static void refreshShared() {
+        // A queued read loads all segments anyway
+        if (segments == null || !loaded || readPending || !mergeQueued.compareAndSet(false, true)) return;
+        
+        LeaderboardSegments shared = segments;
+        PersistenceWorker.submit("shared leaderboard", () -> {
+            try {
+                shared.merge((sequence, entry) -> mergedEntries.add(entry));
+            } finally {
+                mergeQueued.set(false);
+            }
+        });
+    }
+    
+    public static boolean isShared() {
+        return segments != null;
+    }
+    
+    /**
+     * Number that changes whenever entries are added (own runs or merged from other kiosks).
+     */
+    public static int getRevision() {
+        ensureLoaded();
+        return revision;
     }
     
     /**
-     * Load leaderboard from JSON file.
+     * Load the JSON snapshot (entries and the sequence number it includes).
      */
-    public static void loadLeaderboard() {
-        entries.clear();
+    private static void loadSnapshot(StoredBoard board) {
         File file = new File(FILE_NAME);
         
         if (!file.exists()) {
             GameApp.log("Leaderboard file not found - starting fresh");
-            loaded = true;
             return;
         }
         
         try {
-            FileReader fr = new FileReader(file);
-            BufferedReader br = new BufferedReader(fr);
+            BufferedReader br = Files.newBufferedReader(file.toPath(), StandardCharsets.UTF_8);
             
             StringBuilder content = new StringBuilder();
             String line;
@@ -161,18 +479,12 @@ public class LeaderboardManager {
             }
             
             br.close();
-            fr.close();
             
             // Parse JSON
-            parseJSON(content.toString());
-            
-            // Sort entries after loading
-            Collections.sort(entries);
-            
-            loaded = true;
+            parseJSON(content.toString(), board);
             
         } catch (Exception e) {
-            loaded = true;
+            GameApp.log("Error loading leaderboard: " + e.getMessage());
         }
     }
     
@@ -180,7 +492,7 @@ public class LeaderboardManager {
      * Parse JSON content into entries.
      * Format: {"entries": [{...}, {...}, ...]}
      */
-    private static void parseJSON(String json) {
+    private static void parseJSON(String json, StoredBoard board) {
         try {
             // Remove outer braces and whitespace
             json = json.trim();
@@ -188,6 +500,8 @@ public class LeaderboardManager {
                 return;
             }
             
+            board.sequence = parseSequence(json);
+            
             // Find the entries array
             int entriesStart = json.indexOf("[");
             int entriesEnd = json.lastIndexOf("]");
@@ -211,7 +525,7 @@ public class LeaderboardManager {
                 // Parse individual entry
                 LeaderboardEntry entry = parseEntry(entryStr);
                 if (entry != null) {
-                    entries.add(entry);
+                    board.entries.add(entry);
                 }
             }
             
@@ -219,6 +533,29 @@ public class LeaderboardManager {
         }
     }
     
+    /**
+     * Read the "sequence" field (0 for snapshots written before the journal existed).
+     */
+    private static long parseSequence(String json) {
+        int key = json.indexOf("\"sequence\"");
+        if (key == -1) {
+            return 0;
+        }
+        int start = json.indexOf(':', key) + 1;
+        while (start < json.length() && Character.isWhitespace(json.charAt(start))) {
+            start++;
+        }
+        int end = start;
+        while (end < json.length() && Character.isDigit(json.charAt(end))) {
+            end++;
+        }
+        try {
+            return Long.parseLong(json.substring(start, end));
+        } catch (NumberFormatException e) {
+            return 0;
+        }
+    }
+    
     /**
      * Parse a single entry from JSON string.
      */
@@ -277,14 +614,27 @@ public class LeaderboardManager {
     }
     
     /**
-     * Save leaderboard to JSON file.
+     * Compact: write all entries to a new snapshot and reset the journal (on the persistence worker).
+     * The snapshot goes to a temp file that is fsync'd and renamed over leaderboard.json,
+     * so a crash leaves either the old or the new snapshot. Journal records already in the
+     * snapshot are skipped on replay by their sequence number.
      */
     public static void saveLeaderboard() {
-        try {
-            FileWriter fw = new FileWriter(FILE_NAME);
-            BufferedWriter bw = new BufferedWriter(fw);
+        // Capture the board now; appends queued after this run after the snapshot is written
+        List<LeaderboardEntry> entries = allEntries.toList();
+        long sequence = lastSequence;
+        recordsSinceCompaction = 0;
+        PersistenceWorker.submit(FILE_NAME, () -> writeSnapshot(entries, sequence));
+    }
+    
+    private static void writeSnapshot(List<LeaderboardEntry> entries, long sequence) throws IOException {
+        Path target = Paths.get(FILE_NAME);
+        Path temp = Paths.get(FILE_NAME + ".tmp");
+        try (FileOutputStream fos = new FileOutputStream(temp.toFile());
+             BufferedWriter bw = new BufferedWriter(new OutputStreamWriter(fos, StandardCharsets.UTF_8))) {
             
             bw.write("{\n");
+            bw.write("  \"sequence\": " + sequence + ",\n");
             bw.write("  \"entries\": [\n");
             
             for (int i = 0; i < entries.size(); i++) {
@@ -308,12 +658,15 @@ public class LeaderboardManager {
             bw.write("}");
             
             bw.flush();
-            bw.close();
-            fw.close();
-            
-        } catch (IOException e) {
-            GameApp.log("Error saving leaderboard: " + e.getMessage());
+            fos.getFD().sync();
+        }
+        
+        try {
+            Files.move(temp, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (AtomicMoveNotSupportedException e) {
+            Files.move(temp, target, StandardCopyOption.REPLACE_EXISTING);
         }
+        journal.reset();
     }
     
     /**
@@ -332,16 +685,25 @@ public class LeaderboardManager {
      * Clear all entries (for testing).
      */
     public static void clearLeaderboard() {
-        entries.clear();
+        clearIndexes();
         saveLeaderboard();
         GameApp.log("Leaderboard cleared");
     }
     
+    private static void clearIndexes() {
+        allEntries.clear();
+        entriesByClass.clear();
+        entriesByGroup.clear();
+        personalBests.clear();
+        latestEntries.clear();
+    }
+    
     /**
-     * Reload leaderboard from file.
+     * Reload leaderboard from file. The files are read on the persistence worker after queued
+     * writes; queries keep using the current board until the read has been applied.
      */
     public static void reload() {
-        loaded = false;
-        loadLeaderboard();
+        configureShared();
+        requestRead();
     }
 }
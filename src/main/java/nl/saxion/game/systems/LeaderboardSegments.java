@@ -0,0 +1,127 @@
+package nl.saxion.game.systems;
+
+import nl.saxion.game.core.LeaderboardEntry;
+import nl.saxion.gameapp.GameApp;
+
+import java.io.IOException;
+import java.net.InetAddress;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Shared leaderboard directory for several kiosks (network share, or a local folder).
+ *
+ * Every kiosk appends its runs to its own segment file, "kiosk-id.segment", in the journal
+ * record format (see LeaderboardJournal) under an exclusive FileChannel lock. Segments are
+ * never rewritten, so merge() only reads the bytes other kiosks appended since the last
+ * merge, starting at the offset saved per segment. Without a configured kiosk id the
+ * computer name is used; the name lookup can be slow, so it runs on first use (worker).
+ *
+ * Only used from the persistence worker thread.
+ */
+class LeaderboardSegments {
+
+    private static final String SUFFIX = ".segment";
+
+    private final Path directory;
+    private final String kioskId;
+    private String ownFileName;
+    private LeaderboardJournal ownSegment;
+    private long ownSequence = 0;
+
+    // Segment file name -> journal reader and the offset of the first unread byte
+    private final Map<String, LeaderboardJournal> segments = new HashMap<>();
+    private final Map<String, Long> offsets = new HashMap<>();
+    private long bytesRead = 0;
+
+    /**
+     * @param kioskId name of this kiosk's segment ("" = computer name, resolved on first use)
+     */
+    LeaderboardSegments(Path directory, String kioskId) {
+        this.directory = directory;
+        this.kioskId = kioskId;
+    }
+
+    private void openOwnSegment() {
+        if (ownSegment != null) return;
+        String id = kioskId.isEmpty() ? getComputerName() : kioskId;
+        // Kiosk id becomes a file name
+        id = id.replaceAll("[^A-Za-z0-9_-]", "_");
+        ownFileName = id + SUFFIX;
+        ownSegment = new LeaderboardJournal(directory.resolve(ownFileName), true);
+        GameApp.log("Shared leaderboard: " + directory + " as kiosk " + id);
+    }
+
+    private static String getComputerName() {
+        try {
+            return InetAddress.getLocalHost().getHostName();
+        } catch (IOException e) {
+            return "kiosk";
+        }
+    }
+
+    /**
+     * Read every segment, including this kiosk's own runs from earlier sessions.
+     * @return number of entries read
+     */
+    int loadAll(LeaderboardJournal.RecordConsumer consumer) throws IOException {
+        openOwnSegment();
+        Files.createDirectories(directory);
+        offsets.clear();
+        int count = readSegment(ownFileName, (sequence, entry) -> {
+            ownSequence = Math.max(ownSequence, sequence);
+            consumer.accept(sequence, entry);
+        });
+        return count + merge(consumer);
+    }
+
+    /**
+     * Read the runs other kiosks added since the last merge.
+     * @return number of new entries
+     */
+    int merge(LeaderboardJournal.RecordConsumer consumer) throws IOException {
+        openOwnSegment();
+        int count = 0;
+        try (DirectoryStream<Path> files = Files.newDirectoryStream(directory, "*" + SUFFIX)) {
+            for (Path file : files) {
+                String fileName = file.getFileName().toString();
+                // This kiosk's own runs are already in memory
+                if (fileName.equals(ownFileName)) continue;
+                count += readSegment(fileName, consumer);
+            }
+        }
+        return count;
+    }
+
+    private int readSegment(String fileName, LeaderboardJournal.RecordConsumer consumer) throws IOException {
+        LeaderboardJournal segment = fileName.equals(ownFileName) ? ownSegment
+                : segments.computeIfAbsent(fileName, name -> new LeaderboardJournal(directory.resolve(name), true));
+        long offset = offsets.getOrDefault(fileName, 0L);
+
+        int[] count = {0};
+        long newOffset = segment.readFrom(offset, (sequence, entry) -> {
+            count[0]++;
+            consumer.accept(sequence, entry);
+        });
+        // Saved per segment, so a failure in a later segment does not read this one again
+        offsets.put(fileName, newOffset);
+        bytesRead += newOffset - offset;
+        return count[0];
+    }
+
+    /**
+     * Append one of this kiosk's runs to its segment.
+     */
+    void append(LeaderboardEntry entry) throws IOException {
+        openOwnSegment();
+        ownSegment.append(++ownSequence, entry);
+    }
+
+    void logStats() {
+        GameApp.log("Shared leaderboard " + directory + ": " + (segments.size() + 1) + " segments, "
+                + bytesRead + " bytes read");
+    }
+}
@@ -123,8 +123,10 @@ public class MapRenderer {
         mapIndex = wrapMapCoordinate(mapIndex, 16);
         String roomKey = getRoomTextureKey(mapIndex);
 
-        if (GameApp.hasTexture(roomKey)) {
-            GameApp.drawTexture(roomKey, screenX, screenY, MAP_TILE_WIDTH, MAP_TILE_HEIGHT);
+        // Room textures live in the TextureRegistry, draw them on GameApp's batch
+        Texture texture = resourceLoader != null ? resourceLoader.getMapTextureWithNearestFilter(roomKey) : null;
+        if (texture != null) {
+            GameApp.getSpriteBatch().draw(texture, screenX, screenY, MAP_TILE_WIDTH, MAP_TILE_HEIGHT);
         }
     }
     
@@ -140,15 +142,10 @@ public class MapRenderer {
         Texture sharpTexture = resourceLoader.getMapTextureWithNearestFilter(roomKey);
         
         if (sharpTexture != null && sharpBatch != null) {
+            // Shared texture: make sure the Nearest sampler state is active (no-op if already set)
+            TextureRegistry.applyFilter(sharpTexture, Texture.TextureFilter.Nearest);
             // Render with Nearest filter texture for sharp pixels
             sharpBatch.draw(sharpTexture, screenX, screenY, MAP_TILE_WIDTH, MAP_TILE_HEIGHT);
-        } else if (GameApp.hasTexture(roomKey)) {
-            // Fallback to GameApp rendering
-            sharpBatch.end();
-            GameApp.startSpriteRendering();
-            GameApp.drawTexture(roomKey, screenX, screenY, MAP_TILE_WIDTH, MAP_TILE_HEIGHT);
-            GameApp.endSpriteRendering();
-            sharpBatch.begin();
         }
     }
 
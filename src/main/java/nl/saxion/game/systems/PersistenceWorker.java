@@ -0,0 +1,179 @@
+package nl.saxion.game.systems;
+
+import nl.saxion.gameapp.GameApp;
+
+import java.io.IOException;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+
+/**
+ * Persistence Worker - Runs save-file writes off the render thread.
+ *
+ * Writes are queued with the file they belong to and run one at a time on a single
+ * daemon thread, so writes to the same file (journal append, snapshot, journal reset)
+ * always happen in the order they were submitted. A failed write (IOException) is
+ * retried a few times with a short back-off. The queue is unbounded, so submit() never
+ * blocks and never writes on the calling thread while the worker is alive; a long
+ * backlog is only logged. A shutdown hook drains the queue and stops the worker before
+ * the JVM exits; writes submitted after that run on the calling thread.
+ *
+ * Used for the leaderboard, the config and any other save data.
+ */
+public class PersistenceWorker {
+
+    /**
+     * A file write. Throw IOException to have it retried.
+     */
+    public interface Write {
+        void run() throws IOException;
+    }
+
+    private static class Job {
+        final String file;
+        final Write write;
+
+        Job(String file, Write write) {
+            this.file = file;
+            this.write = write;
+        }
+    }
+
+    private static final int BACKLOG_WARNING = 64;
+    // Queued by drain() to stop the worker once everything before it is written
+    private static final Job STOP = new Job("", () -> {});
+    private static final int MAX_ATTEMPTS = 3;
+    private static final long RETRY_DELAY_MS = 100;
+    private static final long DRAIN_TIMEOUT_MS = 5000;
+
+    private static final BlockingQueue<Job> queue = new LinkedBlockingQueue<>();
+    private static final Object idleLock = new Object();
+    private static int pendingJobs = 0;
+    private static boolean backlogWarned = false;
+    private static Thread worker;
+    // Set by drain() once the worker has stopped (guarded by idleLock)
+    private static boolean stopped = false;
+
+    /**
+     * Queue a write for a file. Always returns immediately.
+     */
+    public static void submit(String file, Write write) {
+        ensureStarted();
+        Job job = new Job(file, write);
+        synchronized (idleLock) {
+            if (!stopped) {
+                pendingJobs++;
+                queue.add(job);
+                if (pendingJobs >= BACKLOG_WARNING && !backlogWarned) {
+                    backlogWarned = true;
+                    GameApp.log("Warning: " + pendingJobs + " persistence writes queued");
+                } else if (pendingJobs < BACKLOG_WARNING / 2) {
+                    backlogWarned = false;
+                }
+                return;
+            }
+        }
+
+        // Worker has stopped (JVM exit): nothing else writes any more, so write now
+        runWithRetry(job);
+    }
+
+    /**
+     * Finish all queued writes and stop the worker. Writes submitted after the worker has
+     * stopped are written on the calling thread.
+     */
+    public static void drain() {
+        Thread running;
+        synchronized (PersistenceWorker.class) {
+            running = worker;
+        }
+        if (running == null) return;
+
+        queue.add(STOP);
+        try {
+            running.join(DRAIN_TIMEOUT_MS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        if (running.isAlive()) {
+            // Still writing: running the rest here could reorder writes to the same file
+            GameApp.log("Warning: Persistence writes still pending at shutdown: " + getPendingCount());
+            return;
+        }
+
+        synchronized (idleLock) {
+            stopped = true;
+        }
+        // Writes queued behind STOP: the worker is gone, so they can run here in order
+        Job job;
+        while ((job = queue.poll()) != null) {
+            if (job != STOP) {
+                runWithRetry(job);
+                jobDone();
+            }
+        }
+    }
+
+    public static int getPendingCount() {
+        synchronized (idleLock) {
+            return pendingJobs;
+        }
+    }
+
+    private static synchronized void ensureStarted() {
+        if (worker != null) return;
+
+        worker = new Thread(PersistenceWorker::runWorker, "persistence-writer");
+        worker.setDaemon(true);
+        worker.start();
+        // The worker is a daemon thread, so finish queued writes when the game exits
+        Runtime.getRuntime().addShutdownHook(new Thread(PersistenceWorker::drain, "persistence-drain"));
+    }
+
+    private static void runWorker() {
+        while (true) {
+            Job job;
+            try {
+                job = queue.take();
+            } catch (InterruptedException e) {
+                return;
+            }
+            if (job == STOP) {
+                return;
+            }
+            runWithRetry(job);
+            jobDone();
+        }
+    }
+
+    private static void runWithRetry(Job job) {
+        for (int attempt = 1; attempt <= MAX_ATTEMPTS; attempt++) {
+            try {
+                job.write.run();
+                return;
+            } catch (IOException e) {
+                if (attempt == MAX_ATTEMPTS) {
+                    GameApp.log("Error writing " + job.file + " after " + MAX_ATTEMPTS + " attempts: " + e.getMessage());
+                    return;
+                }
+                try {
+                    Thread.sleep(RETRY_DELAY_MS * attempt);
+                } catch (InterruptedException interrupted) {
+                    Thread.currentThread().interrupt();
+                    return;
+                }
+            } catch (RuntimeException e) {
+                GameApp.log("Error writing " + job.file + ": " + e);
+                return;
+            }
+        }
+    }
+
+    private static void jobDone() {
+        synchronized (idleLock) {
+            pendingJobs--;
+            if (pendingJobs == 0) {
+                idleLock.notifyAll();
+            }
+        }
+    }
+}
@@ -0,0 +1,393 @@
+package nl.saxion.game.systems;
+
+import com.badlogic.gdx.graphics.Texture;
+import com.badlogic.gdx.graphics.g2d.SpriteBatch;
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
+import nl.saxion.game.utils.DebugLogger;
+import nl.saxion.gameapp.GameApp;
+
+/**
+ * Render Queue - Collects world sprites from all systems and draws them in one pass.
+ *
+ * Systems submit sprite commands (layer, depth Y, what to draw) instead of opening
+ * their own startSpriteRendering/endSpriteRendering block. flush() radix-sorts the
+ * commands by layer, then by Y (higher on screen first, so lower sprites overlap
+ * them), and submits everything with as few batch passes as possible.
+ *
+ * Commands and sort buffers are reused between frames (no per-frame allocation).
+ * Resolved regions go through the EntitySpriteRenderer fast path when it is set;
+ * key-based commands (GameApp textures, sheets, animations) use GameApp's batch.
+ */
+public class RenderQueue {
+
+    // Layers (drawn in this order)
+    public static final int LAYER_GROUND = 0;      // Background props: cats, zombie hands
+    public static final int LAYER_PICKUPS = 1;     // XP orbs, healing items
+    public static final int LAYER_ACTORS = 2;      // Player, enemies, bosses, objects, chests
+    public static final int LAYER_PROJECTILES = 3; // Bullets
+    public static final int LAYER_EFFECTS = 4;     // Particles
+
+    // Command types
+    private static final int TYPE_REGION = 0;  // Resolved TextureRegion (animation clock frames)
+    private static final int TYPE_TEXTURE = 1; // GameApp texture by key
+    private static final int TYPE_SHEET = 2;   // GameApp spritesheet frame by key
+
+    // Sort key: 4 bits layer, 20 bits Y (quarter pixels, inverted so higher Y sorts first)
+    private static final int Y_BITS = 20;
+    private static final int Y_MAX = (1 << Y_BITS) - 1;
+    private static final float Y_OFFSET = 4096f;
+
+    // Which batch is currently open during flush
+    private static final int BATCH_NONE = 0;
+    private static final int BATCH_ENTITY = 1;
+    private static final int BATCH_GAMEAPP = 2;
+
+    // How often the instrumentation is written to the debug log (seconds)
+    private static final float STATS_LOG_INTERVAL = 5f;
+
+    private static class Command {
+        int type;
+        TextureRegion region;
+        String key;
+        int row;
+        int col;
+        float x, y, width, height;
+        boolean flipX;
+        float r, g, b, a;
+    }
+
+    // Direct SpriteBatch path for resolved regions (null = always use GameApp's batch)
+    private EntitySpriteRenderer entityRenderer;
+
+    private Command[] commands = new Command[256];
+    private int size = 0;
+
+    // Radix sort buffers
+    private int[] keys = new int[256];
+    private int[] order = new int[256];
+    private int[] tempKeys = new int[256];
+    private int[] tempOrder = new int[256];
+    private final int[] counts = new int[256];
+
+    // Instrumentation (last flush)
+    private int lastCommandCount = 0;
+    private int lastRenderCalls = 0;
+    private int lastTextureSwitches = 0;
+    private int lastSpritePasses = 0;
+
+    // Instrumentation (accumulated for the periodic debug log)
+    private float statsTimer = 0f;
+    private int statsFrames = 0;
+    private long statsCommands = 0;
+    private long statsRenderCalls = 0;
+
+    public RenderQueue() {
+        for (int i = 0; i < commands.length; i++) {
+            commands[i] = new Command();
+        }
+    }
+
+    public void setEntityRenderer(EntitySpriteRenderer entityRenderer) {
+        this.entityRenderer = entityRenderer;
+    }
+
+    /**
+     * Check if addRect can be used (needs the entity renderer's white pixel).
+     */
+    public boolean canDrawRects() {
+        return entityRenderer != null && entityRenderer.isAvailable();
+    }
+
+    /**
+     * Queue a solid coloured rectangle (particles). Requires canDrawRects().
+     */
+    public void addRect(int layer, float sortY, float x, float y, float width, float height,
+                        float r, float g, float b, float a) {
+        if (!canDrawRects()) return;
+        addRegion(layer, sortY, entityRenderer.getPixel(), x, y, width, height, false, r, g, b, a);
+    }
+
+    /**
+     * Queue a resolved texture region.
+     */
+    public void addRegion(int layer, float sortY, TextureRegion region,
+                          float x, float y, float width, float height, boolean flipX) {
+        addRegion(layer, sortY, region, x, y, width, height, flipX, 1f, 1f, 1f, 1f);
+    }
+
+    /**
+     * Queue a resolved texture region with a colour tint (values above 1 brighten).
+     */
+    public void addRegion(int layer, float sortY, TextureRegion region,
+                          float x, float y, float width, float height, boolean flipX,
+                          float r, float g, float b, float a) {
+        if (region == null) return;
+        Command cmd = next(layer, sortY, TYPE_REGION, x, y, width, height);
+        cmd.region = region;
+        cmd.flipX = flipX;
+        cmd.r = r;
+        cmd.g = g;
+        cmd.b = b;
+        cmd.a = a;
+    }
+
+    /**
+     * Queue a clip frame from the animation clock.
+     * @return false if the clip is not registered (caller should use a fallback)
+     */
+    public boolean addClip(int layer, float sortY, String clipName, float startTime,
+                           float x, float y, float width, float height, boolean flipX) {
+        TextureRegion frame = AnimationClock.getFrame(clipName, startTime);
+        if (frame == null) {
+            return false;
+        }
+        addRegion(layer, sortY, frame, x, y, width, height, flipX);
+        return true;
+    }
+
+    /**
+     * Queue a GameApp texture by key.
+     */
+    public void addTexture(int layer, float sortY, String key, float x, float y, float width, float height) {
+        Command cmd = next(layer, sortY, TYPE_TEXTURE, x, y, width, height);
+        cmd.key = key;
+    }
+
+    /**
+     * Queue a GameApp spritesheet frame by key.
+     */
+    public void addSheetFrame(int layer, float sortY, String sheetKey, int row, int col,
+                              float x, float y, float width, float height) {
+        Command cmd = next(layer, sortY, TYPE_SHEET, x, y, width, height);
+        cmd.key = sheetKey;
+        cmd.row = row;
+        cmd.col = col;
+    }
+
+    private Command next(int layer, float sortY, int type, float x, float y, float width, float height) {
+        if (size == commands.length) {
+            grow();
+        }
+        Command cmd = commands[size];
+        cmd.type = type;
+        cmd.region = null;
+        cmd.key = null;
+        cmd.x = x;
+        cmd.y = y;
+        cmd.width = width;
+        cmd.height = height;
+        cmd.flipX = false;
+
+        int quantizedY = (int) ((sortY + Y_OFFSET) * 4f);
+        if (quantizedY < 0) quantizedY = 0;
+        if (quantizedY > Y_MAX) quantizedY = Y_MAX;
+        keys[size] = (layer << Y_BITS) | (Y_MAX - quantizedY);
+        order[size] = size;
+        size++;
+        return cmd;
+    }
+
+    private void grow() {
+        int newLength = commands.length * 2;
+        Command[] newCommands = new Command[newLength];
+        System.arraycopy(commands, 0, newCommands, 0, commands.length);
+        for (int i = commands.length; i < newLength; i++) {
+            newCommands[i] = new Command();
+        }
+        commands = newCommands;
+
+        int[] newKeys = new int[newLength];
+        System.arraycopy(keys, 0, newKeys, 0, size);
+        keys = newKeys;
+        int[] newOrder = new int[newLength];
+        System.arraycopy(order, 0, newOrder, 0, size);
+        order = newOrder;
+        tempKeys = new int[newLength];
+        tempOrder = new int[newLength];
+    }
+
+    // LSD radix sort of order[] by keys[] (3 passes of 8 bits, stable so submit order breaks ties)
+    private void sort() {
+        for (int shift = 0; shift < 24; shift += 8) {
+            java.util.Arrays.fill(counts, 0);
+            for (int i = 0; i < size; i++) {
+                counts[(keys[i] >>> shift) & 0xFF]++;
+            }
+            int total = 0;
+            for (int i = 0; i < 256; i++) {
+                int c = counts[i];
+                counts[i] = total;
+                total += c;
+            }
+            for (int i = 0; i < size; i++) {
+                int dest = counts[(keys[i] >>> shift) & 0xFF]++;
+                tempKeys[dest] = keys[i];
+                tempOrder[dest] = order[i];
+            }
+            int[] swap = keys;
+            keys = tempKeys;
+            tempKeys = swap;
+            swap = order;
+            order = tempOrder;
+            tempOrder = swap;
+        }
+    }
+
+    /**
+     * Sort and draw all queued commands, then clear the queue.
+     * Consecutive region commands share one entity batch pass; the batch only switches
+     * to GameApp's for key-based commands (normally one switch for the ground layer).
+     */
+    public void flush() {
+        lastCommandCount = size;
+        lastTextureSwitches = 0;
+        lastSpritePasses = 0;
+        lastRenderCalls = 0;
+
+        if (size == 0) {
+            return;
+        }
+
+        sort();
+
+        boolean useEntityBatch = entityRenderer != null && entityRenderer.isAvailable();
+        SpriteBatch gameAppBatch = GameApp.getSpriteBatch();
+        int activeBatch = BATCH_NONE;
+        Texture lastTexture = null;
+        boolean tinted = false;
+
+        for (int i = 0; i < size; i++) {
+            Command cmd = commands[order[i]];
+
+            // Pick the batch for this command and switch if needed
+            int wanted = (useEntityBatch && cmd.type == TYPE_REGION) ? BATCH_ENTITY : BATCH_GAMEAPP;
+            if (wanted != activeBatch) {
+                endBatch(activeBatch, tinted);
+                beginBatch(wanted);
+                activeBatch = wanted;
+                tinted = false;
+                lastTexture = null;
+                lastSpritePasses++;
+            }
+
+            switch (cmd.type) {
+                case TYPE_REGION -> {
+                    Texture texture = cmd.region.getTexture();
+                    if (texture != lastTexture) {
+                        lastTextureSwitches++;
+                        lastTexture = texture;
+                    }
+                    boolean needsTint = cmd.r != 1f || cmd.g != 1f || cmd.b != 1f || cmd.a != 1f;
+                    if (activeBatch == BATCH_ENTITY) {
+                        if (needsTint || tinted) {
+                            entityRenderer.setColor(cmd.r, cmd.g, cmd.b, cmd.a);
+                        }
+                        entityRenderer.draw(cmd.region, cmd.x, cmd.y, cmd.width, cmd.height, cmd.flipX);
+                    } else {
+                        if (needsTint || tinted) {
+                            gameAppBatch.setColor(cmd.r, cmd.g, cmd.b, cmd.a);
+                        }
+                        if (cmd.flipX) {
+                            // Negative width mirrors the quad around its right edge
+                            gameAppBatch.draw(cmd.region, cmd.x + cmd.width, cmd.y, -cmd.width, cmd.height);
+                        } else {
+                            gameAppBatch.draw(cmd.region, cmd.x, cmd.y, cmd.width, cmd.height);
+                        }
+                    }
+                    tinted = needsTint;
+                }
+                case TYPE_TEXTURE, TYPE_SHEET -> {
+                    // Key-based commands always run on GameApp's batch; clear any region tint first
+                    if (tinted) {
+                        gameAppBatch.setColor(1f, 1f, 1f, 1f);
+                        tinted = false;
+                    }
+                    drawKeyed(cmd);
+                    lastTexture = null;
+                }
+            }
+        }
+        endBatch(activeBatch, tinted);
+
+        clear();
+    }
+
+    // Draw a key-based command through the GameApp facade
+    private void drawKeyed(Command cmd) {
+        lastTextureSwitches++; // Unknown texture, count as a switch
+        switch (cmd.type) {
+            case TYPE_TEXTURE -> GameApp.drawTexture(cmd.key, cmd.x, cmd.y, cmd.width, cmd.height);
+            case TYPE_SHEET -> GameApp.drawSpritesheetFrame(cmd.key, cmd.row, cmd.col,
+                    cmd.x, cmd.y, cmd.width, cmd.height);
+        }
+    }
+
+    private void beginBatch(int batch) {
+        if (batch == BATCH_ENTITY) {
+            entityRenderer.begin();
+        } else if (batch == BATCH_GAMEAPP) {
+            GameApp.startSpriteRendering();
+        }
+    }
+
+    // End a pass and add its draw calls (batch flushes) to the frame total
+    private void endBatch(int batch, boolean tinted) {
+        if (batch == BATCH_ENTITY) {
+            lastRenderCalls += entityRenderer.end();
+        } else if (batch == BATCH_GAMEAPP) {
+            SpriteBatch gameAppBatch = GameApp.getSpriteBatch();
+            if (tinted) {
+                gameAppBatch.setColor(1f, 1f, 1f, 1f);
+            }
+            GameApp.endSpriteRendering();
+            lastRenderCalls += gameAppBatch.renderCalls;
+        }
+    }
+
+    /**
+     * Drop all queued commands without drawing.
+     */
+    public void clear() {
+        for (int i = 0; i < size; i++) {
+            commands[i].region = null;
+            commands[i].key = null;
+        }
+        size = 0;
+    }
+
+    /**
+     * Accumulate instrumentation and write an average to the debug log every few seconds.
+     */
+    public void updateStats(float delta) {
+        statsTimer += delta;
+        statsFrames++;
+        statsCommands += lastCommandCount;
+        statsRenderCalls += lastRenderCalls;
+
+        if (statsTimer >= STATS_LOG_INTERVAL) {
+            DebugLogger.log("RenderQueue: %.1f sprites/frame, %.1f draw calls/frame, %d texture switches, %d batch passes (last frame)",
+                    statsCommands / (float) statsFrames, statsRenderCalls / (float) statsFrames,
+                    lastTextureSwitches, lastSpritePasses);
+            statsTimer = 0f;
+            statsFrames = 0;
+            statsCommands = 0;
+            statsRenderCalls = 0;
+        }
+    }
+
+    public int getLastCommandCount() {
+        return lastCommandCount;
+    }
+
+    public int getLastRenderCalls() {
+        return lastRenderCalls;
+    }
+
+    public int getLastTextureSwitches() {
+        return lastTextureSwitches;
+    }
+
+    public int getLastSpritePasses() {
+        return lastSpritePasses;
+    }
+}
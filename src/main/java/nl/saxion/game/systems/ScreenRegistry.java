@@ -0,0 +1,278 @@
+package nl.saxion.game.systems;
+
+import com.badlogic.gdx.Gdx;
+import nl.saxion.game.utils.DebugLogger;
+import nl.saxion.gameapp.GameApp;
+import nl.saxion.gameapp.screens.ScalableGameScreen;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Supplier;
+
+/**
+ * Screen Registry - Lazy screen construction and per-screen asset lifecycle.
+ *
+ * Screens are registered with a factory and the assets they load themselves (textures,
+ * sprite sheets). GameApp only sees a lightweight placeholder; the real screen is
+ * constructed the first time it is shown. After every screen switch the estimated memory
+ * of all resident screens is compared with the budget from the config
+ * (screenAssetBudgetMb); above it, the least recently visited screens are unloaded: their
+ * assets are disposed (unless a resident screen declares them too) and the screen object
+ * is dropped, so the next visit starts fresh and loads everything again. Fonts are not
+ * declared here: they are shared by many screens and stay in FontRegistry.
+ *
+ * Pinned screens (menu, play) are never unloaded. Only declare assets the screen itself
+ * loads and nothing else depends on; assets shared with gameplay systems stay undeclared.
+ * prewarm() builds a screen and loads its textures ahead of time (e.g. winner during the
+ * victory transition).
+ */
+public class ScreenRegistry {
+
+    /**
+     * A registered screen and its declared assets.
+     */
+    public static class ScreenEntry {
+        private final String name;
+        private final float worldWidth;
+        private final float worldHeight;
+        private final Supplier<ScalableGameScreen> factory;
+        private final Map<String, String> textures = new LinkedHashMap<>(); // key -> file
+        private final List<String> spriteSheets = new ArrayList<>();
+        private boolean pinned = false;
+
+        private ScalableGameScreen screen;
+
+        private ScreenEntry(String name, float worldWidth, float worldHeight, Supplier<ScalableGameScreen> factory) {
+            this.name = name;
+            this.worldWidth = worldWidth;
+            this.worldHeight = worldHeight;
+            this.factory = factory;
+        }
+
+        public ScreenEntry texture(String key, String file) {
+            textures.put(key, file);
+            return this;
+        }
+
+        public ScreenEntry spriteSheets(String... keys) {
+            spriteSheets.addAll(List.of(keys));
+            return this;
+        }
+
+        /**
+         * Never unload this screen (it keeps run state or is visited all the time).
+         */
+        public ScreenEntry pinned() {
+            pinned = true;
+            return this;
+        }
+    }
+
+    /**
+     * What GameApp holds for a registered screen: builds the real screen on first show
+     * and forwards every call to it.
+     */
+    private static class LazyScreen extends ScalableGameScreen {
+        private final ScreenEntry entry;
+
+        LazyScreen(ScreenEntry entry) {
+            super(entry.worldWidth, entry.worldHeight);
+            this.entry = entry;
+        }
+
+        @Override
+        public void show() {
+            ScalableGameScreen screen = construct(entry);
+            screen.resize(Gdx.graphics.getWidth(), Gdx.graphics.getHeight());
+            screen.show();
+            visited(entry);
+        }
+
+        @Override
+        public void render(float delta) {
+            super.render(delta);
+            entry.screen.render(delta);
+        }
+
+        @Override
+        public void resize(int width, int height) {
+            super.resize(width, height);
+            if (entry.screen != null) {
+                entry.screen.resize(width, height);
+            }
+        }
+
+        @Override
+        public void hide() {
+            if (entry.screen != null) {
+                entry.screen.hide();
+            }
+        }
+
+        @Override
+        public void pause() {
+            if (entry.screen != null) {
+                entry.screen.pause();
+            }
+        }
+
+        @Override
+        public void resume() {
+            if (entry.screen != null) {
+                entry.screen.resume();
+            }
+        }
+
+        @Override
+        public void dispose() {
+            if (entry.screen != null) {
+                entry.screen.dispose();
+            }
+        }
+    }
+
+    // Estimates for assets whose size GameApp does not expose
+    private static final long SPRITE_SHEET_BYTES = 64L * 1024L;
+
+    private static final Map<String, ScreenEntry> entries = new LinkedHashMap<>();
+    // Resident screens, least recently visited first
+    private static final LinkedHashMap<String, ScreenEntry> resident = new LinkedHashMap<>(16, 0.75f, true);
+    private static long budgetBytes = 48L * 1024L * 1024L;
+
+    private static int constructCount = 0;
+    private static int evictCount = 0;
+
+    /**
+     * Register a screen with GameApp without constructing it.
+     * @param worldWidth  world size of the screen (same as its ScalableGameScreen constructor)
+     */
+    public static ScreenEntry register(String name, float worldWidth, float worldHeight, Supplier<ScalableGameScreen> factory) {
+        ScreenEntry entry = new ScreenEntry(name, worldWidth, worldHeight, factory);
+        entries.put(name, entry);
+        GameApp.addScreen(name, new LazyScreen(entry));
+        return entry;
+    }
+
+    public static void setBudgetMb(int megabytes) {
+        budgetBytes = megabytes * 1024L * 1024L;
+    }
+
+    /**
+     * Construct a screen and load its declared textures before it is shown.
+     */
+    public static void prewarm(String name) {
+        ScreenEntry entry = entries.get(name);
+        if (entry == null) return;
+
+        long start = System.nanoTime();
+        construct(entry);
+        for (Map.Entry<String, String> texture : entry.textures.entrySet()) {
+            if (!GameApp.hasTexture(texture.getKey())) {
+                GameApp.addTexture(texture.getKey(), texture.getValue());
+            }
+        }
+        // Counts as a visit, so it is the last screen to be unloaded
+        resident.get(name);
+        DebugLogger.log("ScreenRegistry: prewarmed %s in %.1f ms", name, (System.nanoTime() - start) / 1_000_000f);
+    }
+
+    public static boolean isConstructed(String name) {
+        ScreenEntry entry = entries.get(name);
+        return entry != null && entry.screen != null;
+    }
+
+    private static ScalableGameScreen construct(ScreenEntry entry) {
+        if (entry.screen == null) {
+            long start = System.nanoTime();
+            entry.screen = entry.factory.get();
+            resident.put(entry.name, entry);
+            constructCount++;
+            DebugLogger.log("ScreenRegistry: constructed %s in %.1f ms", entry.name, (System.nanoTime() - start) / 1_000_000f);
+        }
+        return entry.screen;
+    }
+
+    private static void visited(ScreenEntry current) {
+        resident.get(current.name);
+        evictOverBudget(current);
+        if (DebugLogger.isEnabled()) {
+            logReport();
+            FontRegistry.logReport();
+            TextLayoutCache.logReport();
+        }
+    }
+
+    /**
+     * Unload least recently visited screens until the resident assets fit in the budget.
+     */
+    private static void evictOverBudget(ScreenEntry current) {
+        long total = getResidentBytes();
+        if (total <= budgetBytes) return;
+
+        for (ScreenEntry entry : new ArrayList<>(resident.values())) {
+            if (total <= budgetBytes) break;
+            if (entry == current || entry.pinned) continue;
+
+            long before = total;
+            evict(entry);
+            total = getResidentBytes();
+            GameApp.log(String.format("ScreenRegistry: unloaded %s (%.1f MB freed, %.1f MB resident)",
+                    entry.name, (before - total) / (1024f * 1024f), total / (1024f * 1024f)));
+        }
+    }
+
+    private static void evict(ScreenEntry entry) {
+        resident.remove(entry.name);
+        entry.screen.dispose();
+        entry.screen = null;
+        evictCount++;
+
+        // Keep assets another resident screen declares too
+        Set<String> stillUsed = new HashSet<>();
+        for (ScreenEntry other : resident.values()) {
+            stillUsed.addAll(other.textures.keySet());
+            stillUsed.addAll(other.spriteSheets);
+        }
+        for (String key : entry.textures.keySet()) {
+            if (!stillUsed.contains(key) && GameApp.hasTexture(key)) {
+                GameApp.disposeTexture(key);
+            }
+        }
+        for (String key : entry.spriteSheets) {
+            if (!stillUsed.contains(key) && GameApp.hasSpritesheet(key)) {
+                GameApp.disposeSpritesheet(key);
+            }
+        }
+    }
+
+    /**
+     * Estimated memory of the loaded assets declared by resident screens (shared assets counted once).
+     */
+    public static long getResidentBytes() {
+        Set<String> counted = new HashSet<>();
+        long total = 0;
+        for (ScreenEntry entry : resident.values()) {
+            for (String key : entry.textures.keySet()) {
+                if (counted.add(key) && GameApp.hasTexture(key)) {
+                    total += (long) GameApp.getTextureWidth(key) * GameApp.getTextureHeight(key) * 4L;
+                }
+            }
+            for (String key : entry.spriteSheets) {
+                if (counted.add(key) && GameApp.hasSpritesheet(key)) {
+                    total += SPRITE_SHEET_BYTES;
+                }
+            }
+        }
+        return total;
+    }
+
+    public static void logReport() {
+        GameApp.log(String.format("ScreenRegistry: %d/%d screens resident %s, %.1f of %.1f MB, %d constructed, %d unloaded",
+                resident.size(), entries.size(), resident.keySet(), getResidentBytes() / (1024f * 1024f),
+                budgetBytes / (1024f * 1024f), constructCount, evictCount));
+    }
+}
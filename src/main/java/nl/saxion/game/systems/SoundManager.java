@@ -9,12 +9,25 @@ import java.util.Map;
 /**
  * Manages all game audio (sound effects and background music).
  * Uses GameApp audio methods for loading and playback.
+ * MP3 sound effects load from the decoded PCM cache (AudioCache); music is streamed and opened on first play.
  * Supports 3-track ingame music cycling: ingame.mp3 → ingame2.mp3 → ingame3.mp3 → loop
  */
 public class SoundManager {
     // Sound effect keys mapping
     private Map<String, String> soundKeys;
     
+    // Sound effects as {name, path}
+    private static final String[][] SOUND_EFFECTS = {
+            { "clickbutton", "audio/clickbutton.mp3" },
+            { "pickupitem", "audio/pickupitem.mp3" },
+            { "shooting", "audio/shooting.mp3" },
+            { "levelup", "audio/levelup.mp3" },
+            { "damaged", "audio/damaged.mp3" },
+            { "gameover", "audio/gameover.mp3" },
+            { "jackpot", "audio/jackpot.mp3" },  // Gacha jackpot sound
+            { "meoww", "audio/meoww.mp3" }       // Cat healing easter egg sound
+    };
+
     // Music keys
     private static final String WINNER_MUSIC_KEY = "winner_music";  // Victory music for winner screen
     
@@ -44,80 +57,64 @@ public class SoundManager {
     }
     
     /**
-     * Load all sound effects and background music.
+     * Load all sound effects (music is opened on first play).
      * Should be called during game initialization.
      */
     public void loadAllSounds() {
-        // Load sound effects
-        loadSound("clickbutton", "audio/clickbutton.mp3");
-        loadSound("pickupitem", "audio/pickupitem.mp3");
-        loadSound("shooting", "audio/shooting.mp3");
-        loadSound("levelup", "audio/levelup.mp3");
-        loadSound("damaged", "audio/damaged.mp3");
-        loadSound("gameover", "audio/gameover.mp3");
-        loadSound("jackpot", "audio/jackpot.mp3"); // Gacha jackpot sound
-        loadSound("meoww", "audio/meoww.mp3"); // Cat healing easter egg sound
-        
-        // Load all 3 menu background music tracks
-        for (int i = 0; i < MENU_MUSIC_KEYS.length; i++) {
-            String key = MENU_MUSIC_KEYS[i];
-            String file = MENU_MUSIC_FILES[i];
-            if (!GameApp.hasMusic(key)) {
-                try {
-                    GameApp.addMusic(key, file);
-                    if (GameApp.hasMusic(key)) {
-                        GameApp.log("Menu music track " + (i + 1) + " loaded: " + file);
-                    }
-                } catch (Exception e) {
-                    GameApp.log("Warning: Could not load menu music " + file + ": " + e.getMessage());
-                }
-            } else {
-                GameApp.log("Menu music track " + (i + 1) + " already loaded");
-            }
-        }
-        
-        // Load winner music (victory screen)
-        if (!GameApp.hasMusic(WINNER_MUSIC_KEY)) {
-            try {
-                GameApp.addMusic(WINNER_MUSIC_KEY, "audio/winner.mp3");
-                if (GameApp.hasMusic(WINNER_MUSIC_KEY)) {
-                    GameApp.log("Winner music loaded successfully");
-                }
-            } catch (Exception e) {
-                GameApp.log("Warning: Could not load winner music: " + e.getMessage());
-            }
+        for (String[] effect : SOUND_EFFECTS) {
+            loadSound(effect[0], effect[1]);
         }
         
-        // Load all 3 ingame background music tracks for cycling
-        // Track order: ingame.mp3 → ingame2.mp3 → ingame3.mp3 → loop back
-        for (int i = 0; i < INGAME_MUSIC_KEYS.length; i++) {
-            String key = INGAME_MUSIC_KEYS[i];
-            String file = INGAME_MUSIC_FILES[i];
-            if (!GameApp.hasMusic(key)) {
-                try {
-                    GameApp.addMusic(key, file);
-                    if (GameApp.hasMusic(key)) {
-                        GameApp.log("Ingame music track " + (i + 1) + " loaded: " + file);
-                    }
-                } catch (Exception e) {
-                    GameApp.log("Warning: Could not load ingame music " + file + ": " + e.getMessage());
-                }
-            } else {
-                GameApp.log("Ingame music track " + (i + 1) + " already loaded");
-            }
-        }
+        // Music tracks are streamed by LibGDX and only opened when they are first played (ensureMusic)
         
-        GameApp.log("SoundManager: Loaded " + soundKeys.size() + " sound effects");
+        logLoaded();
+    }
+
+    /**
+     * Add one task per sound effect to a load pipeline: the MP3 is decoded (or found in the
+     * PCM cache) on a worker, GameApp registers the sound on the render thread.
+     */
+    public void addLoadTasks(AssetLoadPipeline pipeline) {
+        for (String[] effect : SOUND_EFFECTS) {
+            String name = effect[0];
+            String path = effect[1];
+            pipeline.add("sound " + name, () -> AudioCache.resolveSound(path),
+                    loadPath -> addSound(name, path, loadPath), null);
+        }
+        pipeline.addMainThread("sounds", this::logLoaded);
+    }
+
+    private void logLoaded() {
+        GameApp.log("SoundManager: Loaded " + soundKeys.size() + " sound effects ("
+                + AudioCache.getCacheHits() + " from PCM cache, " + AudioCache.getDecodeCount() + " decoded)");
     }
     
     /**
-     * Load a single sound effect.
+     * Load a single sound effect (decoded PCM from AudioCache for MP3 files).
+     * Sounds already loaded by another screen are reused.
      * @param name Internal name for the sound
      * @param path Path to the sound file
      */
     private void loadSound(String name, String path) {
+        if (GameApp.hasSound(name)) {
+            soundKeys.put(name, name);
+            return;
+        }
+        addSound(name, path, AudioCache.resolveSound(path));
+    }
+
+    // Register a sound with GameApp from the path resolved by AudioCache (render thread)
+    private void addSound(String name, String path, String loadPath) {
+        if (GameApp.hasSound(name)) {
+            soundKeys.put(name, name);
+            return;
+        }
         try {
-            GameApp.addSound(name, path);
+            GameApp.addSound(name, loadPath);
+            if (!GameApp.hasSound(name) && !loadPath.equals(path)) {
+                // Cached file could not be loaded, use the original
+                GameApp.addSound(name, path);
+            }
             if (GameApp.hasSound(name)) {
                 soundKeys.put(name, name);
                 GameApp.log("✅ Loaded sound: " + name + " from " + path);
@@ -130,6 +127,24 @@ public class SoundManager {
         }
     }
     
+    /**
+     * Open a music track on first use. Music is streamed, so only tracks that are played cost anything.
+     * @return true if the track is available
+     */
+    private boolean ensureMusic(String key, String file) {
+        if (GameApp.hasMusic(key)) return true;
+        try {
+            GameApp.addMusic(key, file);
+            if (GameApp.hasMusic(key)) {
+                GameApp.log("Music loaded: " + file);
+                return true;
+            }
+        } catch (Exception e) {
+            GameApp.log("Warning: Could not load music " + file + ": " + e.getMessage());
+        }
+        return false;
+    }
+    
     /**
      * Play a sound effect with current SFX volume.
      * @param name Sound name (e.g., "shoot", "enemy_death")
@@ -222,12 +237,12 @@ public class SoundManager {
         
         String key = MENU_MUSIC_KEYS[currentMenuTrackIndex];
         
-        if (!GameApp.hasMusic(key)) {
+        if (!ensureMusic(key, MENU_MUSIC_FILES[currentMenuTrackIndex])) {
             GameApp.log("Menu music track " + (currentMenuTrackIndex + 1) + " not loaded: " + key);
             // Fallback to first track
             currentMenuTrackIndex = 0;
             key = MENU_MUSIC_KEYS[0];
-            if (!GameApp.hasMusic(key)) {
+            if (!ensureMusic(key, MENU_MUSIC_FILES[0])) {
                 GameApp.log("No menu music available");
                 return;
             }
@@ -274,12 +289,6 @@ public class SoundManager {
      * @param loop Whether to loop (ignored - we handle looping via track cycling)
      */
     public void playIngameMusic(boolean loop) {
-        // Check if at least first track is loaded
-        if (!GameApp.hasMusic(INGAME_MUSIC_KEYS[0])) {
-            GameApp.log("Ingame music not loaded, cannot play");
-            return;
-        }
-        
         // Stop menu music if playing
         stopMusic();
         
@@ -312,19 +321,11 @@ public class SoundManager {
     private void playSelectedTrack() {
         String key = INGAME_MUSIC_KEYS[currentTrackIndex];
         
-        if (!GameApp.hasMusic(key)) {
+        if (!ensureMusic(key, INGAME_MUSIC_FILES[currentTrackIndex])) {
             GameApp.log("Track " + (currentTrackIndex + 1) + " not loaded: " + key);
-            // Try to load it now
-            String file = INGAME_MUSIC_FILES[currentTrackIndex];
-            try {
-                GameApp.addMusic(key, file);
-                GameApp.log("Late-loaded track: " + file);
-            } catch (Exception e) {
-                GameApp.log("Failed to late-load track: " + e.getMessage());
-                // Try another track
-                currentTrackIndex = (currentTrackIndex + 1) % INGAME_MUSIC_KEYS.length;
-                return;
-            }
+            // Try another track
+            currentTrackIndex = (currentTrackIndex + 1) % INGAME_MUSIC_KEYS.length;
+            return;
         }
         
         try {
@@ -408,7 +409,7 @@ public class SoundManager {
      * @param loop Whether to loop the music
      */
     public void playWinnerMusic(boolean loop) {
-        if (!GameApp.hasMusic(WINNER_MUSIC_KEY)) {
+        if (!ensureMusic(WINNER_MUSIC_KEY, "audio/winner.mp3")) {
             GameApp.log("Winner music not loaded, cannot play");
             return;
         }
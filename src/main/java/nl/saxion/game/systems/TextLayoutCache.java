@@ -0,0 +1,87 @@
+package nl.saxion.game.systems;
+
+import nl.saxion.gameapp.GameApp;
+
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Text Layout Cache - Measured text sizes per (font, string), so text is laid out once.
+ *
+ * GameApp.getTextWidth/getTextHeight lay out the whole string with the font's glyphs on
+ * every call. Most measured text changes rarely (button labels, the score, the timer,
+ * level up cards), so the size is measured the first time a string is seen and looked up
+ * after that. The key is the string value itself: a changed value is simply a new entry,
+ * and old values fall out of the per-font LRU (ENTRIES_PER_FONT), which keeps memory
+ * bounded for text that counts up every frame.
+ *
+ * Lookups do not allocate. Fonts from FontRegistry stay loaded for the session, so the
+ * cache never has to be invalidated for a font change; call clear() if a font is ever
+ * rebuilt under the same name.
+ */
+public class TextLayoutCache {
+
+    private static final int ENTRIES_PER_FONT = 256;
+
+    private static class Layout {
+        final float width;
+        final float height;
+
+        Layout(float width, float height) {
+            this.width = width;
+            this.height = height;
+        }
+    }
+
+    // Font name -> (text -> layout), least recently used first
+    private static final Map<String, LinkedHashMap<String, Layout>> fonts = new HashMap<>();
+
+    private static int hits = 0;
+    private static int misses = 0;
+
+    public static float getWidth(String font, String text) {
+        return get(font, text).width;
+    }
+
+    public static float getHeight(String font, String text) {
+        return get(font, text).height;
+    }
+
+    private static Layout get(String font, String text) {
+        LinkedHashMap<String, Layout> layouts = fonts.get(font);
+        if (layouts == null) {
+            layouts = new LinkedHashMap<>(64, 0.75f, true) {
+                @Override
+                protected boolean removeEldestEntry(Map.Entry<String, Layout> eldest) {
+                    return size() > ENTRIES_PER_FONT;
+                }
+            };
+            fonts.put(font, layouts);
+        }
+
+        Layout layout = layouts.get(text);
+        if (layout != null) {
+            hits++;
+            return layout;
+        }
+        misses++;
+        layout = new Layout(GameApp.getTextWidth(font, text), GameApp.getTextHeight(font, text));
+        layouts.put(text, layout);
+        return layout;
+    }
+
+    public static void clear() {
+        fonts.clear();
+    }
+
+    public static void logReport() {
+        int entries = 0;
+        for (LinkedHashMap<String, Layout> layouts : fonts.values()) {
+            entries += layouts.size();
+        }
+        int lookups = hits + misses;
+        GameApp.log(String.format("TextLayoutCache: %d layouts in %d fonts, %d lookups, %.1f%% hits",
+                entries, fonts.size(), lookups, lookups == 0 ? 0f : hits * 100f / lookups));
+    }
+}
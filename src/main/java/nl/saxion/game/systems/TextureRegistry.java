@@ -0,0 +1,320 @@
+package nl.saxion.game.systems;
+
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.graphics.Pixmap;
+import com.badlogic.gdx.graphics.Texture;
+import com.badlogic.gdx.graphics.Texture.TextureFilter;
+import nl.saxion.game.utils.DebugLogger;
+import nl.saxion.gameapp.GameApp;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Texture Registry - Decodes each texture file once and shares it between users.
+ *
+ * Textures are keyed by file path. Every user (a screen, a resource group...)
+ * acquires a texture under an owner name; the texture is
+ * disposed when the last owner releases it. Filtering is sampler state on the
+ * shared texture: callers apply the filter they need with applyFilter() right
+ * before drawing instead of loading a second copy with another filter.
+ *
+ * Textures that are drawn by GameApp key go through acquireKeyed / acquireKeyedSheet:
+ * the registry calls GameApp.addTexture once per key, counts owners the same way and
+ * disposes the key with the last owner. A file loaded both by path and by key (or under
+ * two keys) is logged as a duplicate, so double uploads show up in the log.
+ *
+ * Usage:
+ * - acquire(owner, path) when loading, releaseOwner(owner) when the owner is disposed
+ * - decode(path) on a worker thread + upload(owner, path, pixmap, filter) on the render thread for async loading
+ * - acquireKeyed(owner, key, path) for GameApp texture keys
+ * - logReport() to print resident texture memory
+ */
+public class TextureRegistry {
+
+    private static class Entry {
+        final String path;
+        final Texture texture;
+        final Set<String> owners = new HashSet<>();
+        final long bytes;
+        final long decodeMillis;
+
+        Entry(String path, Texture texture, long decodeMillis) {
+            this.path = path;
+            this.texture = texture;
+            // RGBA8888 estimate (4 bytes per pixel)
+            this.bytes = (long) texture.getWidth() * texture.getHeight() * 4L;
+            this.decodeMillis = decodeMillis;
+        }
+    }
+
+    private static class KeyedEntry {
+        final String path;
+        final boolean sheet;
+        final boolean external; // Added to GameApp outside the registry: shared, never disposed here
+        final Set<String> owners = new HashSet<>();
+
+        KeyedEntry(String path, boolean sheet, boolean external) {
+            this.path = path;
+            this.sheet = sheet;
+            this.external = external;
+        }
+    }
+
+    // Resident textures by file path
+    private static final Map<String, Entry> entries = new HashMap<>();
+
+    // GameApp textures and sprite sheets by key
+    private static final Map<String, KeyedEntry> keyedEntries = new HashMap<>();
+
+    // Totals for the report
+    private static int decodeCount = 0;
+    private static int reuseCount = 0;
+    private static long totalDecodeMillis = 0;
+
+    /**
+     * Acquire a texture for an owner, decoding it only if it is not resident yet.
+     * @return the shared texture, or null if the file could not be loaded
+     */
+    public static Texture acquire(String owner, String path) {
+        Entry entry = entries.get(path);
+        if (entry != null) {
+            if (entry.owners.add(owner)) {
+                reuseCount++;
+            }
+            return entry.texture;
+        }
+
+        long start = System.currentTimeMillis();
+        return create(owner, path, decode(path), start);
+    }
+
+    /**
+     * Decode a texture file into a Pixmap. Safe to call from a worker thread.
+     * @return the pixmap, or null if the file could not be read
+     */
+    public static Pixmap decode(String path) {
+        try {
+            return new Pixmap(Gdx.files.internal(path));
+        } catch (Exception e) {
+            GameApp.log("Warning: TextureRegistry could not load " + path + " - " + e.getMessage());
+            return null;
+        }
+    }
+
+    /**
+     * Upload a pixmap decoded with decode() and register it for an owner (render thread only).
+     * The pixmap is always disposed; if the path is already resident the shared texture is returned.
+     */
+    public static Texture upload(String owner, String path, Pixmap pixmap, TextureFilter filter) {
+        Entry entry = entries.get(path);
+        if (entry != null) {
+            if (pixmap != null) {
+                pixmap.dispose();
+            }
+            if (entry.owners.add(owner)) {
+                reuseCount++;
+            }
+            applyFilter(entry.texture, filter);
+            return entry.texture;
+        }
+
+        Texture texture = create(owner, path, pixmap, System.currentTimeMillis());
+        applyFilter(texture, filter);
+        return texture;
+    }
+
+    private static Texture create(String owner, String path, Pixmap pixmap, long startMillis) {
+        if (pixmap == null) return null;
+        warnIfDuplicate(null, path);
+        try {
+            Texture texture = new Texture(pixmap);
+            long decodeMillis = System.currentTimeMillis() - startMillis;
+
+            Entry entry = new Entry(path, texture, decodeMillis);
+            entry.owners.add(owner);
+            entries.put(path, entry);
+
+            decodeCount++;
+            totalDecodeMillis += decodeMillis;
+            return texture;
+        } catch (Exception e) {
+            GameApp.log("Warning: TextureRegistry could not upload " + path + " - " + e.getMessage());
+            return null;
+        } finally {
+            pixmap.dispose();
+        }
+    }
+
+    /**
+     * Acquire a GameApp texture key for an owner; GameApp.addTexture runs only for the first owner.
+     * @return true if the key can be drawn
+     */
+    public static boolean acquireKeyed(String owner, String key, String path) {
+        return acquireKeyed(owner, key, path, 0, 0);
+    }
+
+    /**
+     * Acquire a GameApp sprite sheet key for an owner (see acquireKeyed).
+     */
+    public static boolean acquireKeyedSheet(String owner, String key, String path, int frameWidth, int frameHeight) {
+        return acquireKeyed(owner, key, path, frameWidth, frameHeight);
+    }
+
+    private static boolean acquireKeyed(String owner, String key, String path, int frameWidth, int frameHeight) {
+        KeyedEntry entry = keyedEntries.get(key);
+        if (entry != null) {
+            if (entry.owners.add(owner)) {
+                reuseCount++;
+            }
+            return true;
+        }
+
+        boolean sheet = frameWidth > 0;
+        boolean external = sheet ? GameApp.hasSpritesheet(key) : GameApp.hasTexture(key);
+        if (!external) {
+            warnIfDuplicate(key, path);
+            long start = System.currentTimeMillis();
+            try {
+                if (sheet) {
+                    GameApp.addSpriteSheet(key, path, frameWidth, frameHeight);
+                } else {
+                    GameApp.addTexture(key, path);
+                }
+            } catch (Exception e) {
+                GameApp.log("Warning: TextureRegistry could not load " + path + " - " + e.getMessage());
+                return false;
+            }
+            decodeCount++;
+            totalDecodeMillis += System.currentTimeMillis() - start;
+        }
+
+        entry = new KeyedEntry(path, sheet, external);
+        entry.owners.add(owner);
+        keyedEntries.put(key, entry);
+        return true;
+    }
+
+    // The same file uploaded a second time (by path or under another GameApp key)
+    private static void warnIfDuplicate(String key, String path) {
+        boolean duplicate = entries.containsKey(path);
+        for (KeyedEntry entry : keyedEntries.values()) {
+            if (entry.path.equals(path) && !entry.external) {
+                duplicate = true;
+            }
+        }
+        if (duplicate) {
+            GameApp.log("Warning: TextureRegistry loads " + path + " twice" + (key != null ? " (key " + key + ")" : ""));
+        }
+    }
+
+    /**
+     * Acquire a texture and apply a filter (the filter is shared sampler state, see applyFilter).
+     */
+    public static Texture acquire(String owner, String path, TextureFilter filter) {
+        Texture texture = acquire(owner, path);
+        applyFilter(texture, filter);
+        return texture;
+    }
+
+    /**
+     * Set the filter of a shared texture only if it differs from the current one.
+     * Call before drawing when a user needs a specific filter variant.
+     */
+    public static void applyFilter(Texture texture, TextureFilter filter) {
+        if (texture == null || filter == null) return;
+        if (texture.getMinFilter() != filter || texture.getMagFilter() != filter) {
+            texture.setFilter(filter, filter);
+        }
+    }
+
+    /**
+     * Release one owner's reference; disposes the texture when no owners remain.
+     */
+    public static void release(String owner, String path) {
+        Entry entry = entries.get(path);
+        if (entry == null) return;
+
+        entry.owners.remove(owner);
+        if (entry.owners.isEmpty()) {
+            entry.texture.dispose();
+            entries.remove(path);
+        }
+    }
+
+    /**
+     * Release every texture held by an owner (when a screen or group is unloaded).
+     */
+    public static void releaseOwner(String owner) {
+        Iterator<Entry> it = entries.values().iterator();
+        while (it.hasNext()) {
+            Entry entry = it.next();
+            if (entry.owners.remove(owner) && entry.owners.isEmpty()) {
+                entry.texture.dispose();
+                it.remove();
+            }
+        }
+
+        Iterator<Map.Entry<String, KeyedEntry>> keyed = keyedEntries.entrySet().iterator();
+        while (keyed.hasNext()) {
+            Map.Entry<String, KeyedEntry> next = keyed.next();
+            KeyedEntry entry = next.getValue();
+            if (entry.owners.remove(owner) && entry.owners.isEmpty()) {
+                if (!entry.external) {
+                    if (entry.sheet) {
+                        GameApp.disposeSpritesheet(next.getKey());
+                    } else {
+                        GameApp.disposeTexture(next.getKey());
+                    }
+                }
+                keyed.remove();
+            }
+        }
+    }
+
+    public static boolean isResident(String path) {
+        return entries.containsKey(path);
+    }
+
+    public static int getResidentCount() {
+        return entries.size();
+    }
+
+    /**
+     * Estimated GPU memory of all resident textures in bytes.
+     */
+    public static long getResidentBytes() {
+        long total = 0;
+        for (Entry entry : entries.values()) {
+            total += entry.bytes;
+        }
+        return total;
+    }
+
+    /**
+     * Log resident texture memory. The per-texture list is only written in debug mode.
+     */
+    public static void logReport() {
+        GameApp.log(String.format("TextureRegistry: %d textures resident, %.1f MB, %d GameApp keys, %d loaded (%d ms on render thread), %d shared reuses",
+                entries.size(), getResidentBytes() / (1024f * 1024f), keyedEntries.size(),
+                decodeCount, totalDecodeMillis, reuseCount));
+
+        if (!DebugLogger.isEnabled()) return;
+
+        List<Entry> sorted = new ArrayList<>(entries.values());
+        sorted.sort((a, b) -> Long.compare(b.bytes, a.bytes));
+        for (Entry entry : sorted) {
+            DebugLogger.log("  %-45s %6.1f KB  %3d ms  owners=%s",
+                    entry.path, entry.bytes / 1024f, entry.decodeMillis, entry.owners);
+        }
+        for (Map.Entry<String, KeyedEntry> keyed : keyedEntries.entrySet()) {
+            DebugLogger.log("  %-45s key=%s  owners=%s",
+                    keyed.getValue().path, keyed.getKey(), keyed.getValue().owners);
+        }
+    }
+}
@@ -0,0 +1,131 @@
+package nl.saxion.game.systems;
+
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.graphics.GL20;
+import com.badlogic.gdx.graphics.Pixmap;
+import com.badlogic.gdx.graphics.Texture;
+import com.badlogic.gdx.graphics.glutils.FrameBuffer;
+import com.badlogic.gdx.utils.BufferUtils;
+import nl.saxion.game.utils.DebugLogger;
+import nl.saxion.gameapp.GameApp;
+
+import java.nio.IntBuffer;
+
+/**
+ * Viewport Frame Buffer - An offscreen buffer the size of the screen viewport in pixels.
+ *
+ * Shared by the retained render layers (HudLayer, WorldSnapshot). ensure() creates the
+ * buffer, or a new one after a resize, and calls the onCreated callback so the owner can
+ * redraw its content. If no buffer can be created, ensure() keeps returning false and
+ * the owner draws directly instead.
+ *
+ * The screen viewport is the pixel rectangle ScalableGameScreen renders the world into.
+ * It only changes when the window is resized, so it is read from GL once per back buffer
+ * size (getScreenViewport) instead of every frame. Scissor code uses the same rectangle.
+ */
+public class ViewportFrameBuffer {
+
+    // Screen viewport: x, y, width, height in pixels, read again when the back buffer size changes
+    private static final IntBuffer glViewport = BufferUtils.newIntBuffer(16);
+    private static final int[] screenViewport = new int[4];
+    private static int viewportBackBufferWidth = -1;
+    private static int viewportBackBufferHeight = -1;
+
+    private final String name;
+    private final Runnable onCreated;
+
+    private FrameBuffer frameBuffer;
+    private boolean failed = false;
+
+    /**
+     * @param name      used in log messages
+     * @param onCreated called after a new (empty) buffer was created, with the buffer not bound
+     */
+    public ViewportFrameBuffer(String name, Runnable onCreated) {
+        this.name = name;
+        this.onCreated = onCreated;
+    }
+
+    /**
+     * Screen viewport in pixels: {x, y, width, height}. Do not modify the returned array.
+     * Call while the screen renders (the screen's viewport is applied), not inside a buffer.
+     */
+    public static int[] getScreenViewport() {
+        int backBufferWidth = Gdx.graphics.getBackBufferWidth();
+        int backBufferHeight = Gdx.graphics.getBackBufferHeight();
+        if (backBufferWidth != viewportBackBufferWidth || backBufferHeight != viewportBackBufferHeight) {
+            glViewport.clear();
+            Gdx.gl.glGetIntegerv(GL20.GL_VIEWPORT, glViewport);
+            for (int i = 0; i < 4; i++) {
+                screenViewport[i] = glViewport.get(i);
+            }
+            viewportBackBufferWidth = backBufferWidth;
+            viewportBackBufferHeight = backBufferHeight;
+        }
+        return screenViewport;
+    }
+
+    /**
+     * Make sure a buffer matching the screen viewport exists.
+     * @return false if there is no buffer (window minimized or creation failed): draw directly
+     */
+    public boolean ensure() {
+        if (failed) {
+            return false;
+        }
+        int[] viewport = getScreenViewport();
+        int width = viewport[2];
+        int height = viewport[3];
+        if (width <= 0 || height <= 0) {
+            return false;
+        }
+        if (frameBuffer != null && frameBuffer.getWidth() == width && frameBuffer.getHeight() == height) {
+            return true;
+        }
+
+        dispose();
+        try {
+            frameBuffer = new FrameBuffer(Pixmap.Format.RGBA8888, width, height, false);
+            frameBuffer.getColorBufferTexture().setFilter(Texture.TextureFilter.Nearest, Texture.TextureFilter.Nearest);
+        } catch (Exception e) {
+            GameApp.log("Could not create " + name + " buffer, drawing directly: " + e.getMessage());
+            failed = true;
+            frameBuffer = null;
+            return false;
+        }
+        DebugLogger.log("%s buffer created: %dx%d", name, width, height);
+        onCreated.run();
+        return true;
+    }
+
+    public void begin() {
+        frameBuffer.begin();
+    }
+
+    /**
+     * Unbind the buffer and restore the screen viewport.
+     */
+    public void end() {
+        int[] viewport = getScreenViewport();
+        frameBuffer.end(viewport[0], viewport[1], viewport[2], viewport[3]);
+    }
+
+    public Texture getTexture() {
+        return frameBuffer.getColorBufferTexture();
+    }
+
+    public int getWidth() {
+        return frameBuffer.getWidth();
+    }
+
+    public int getHeight() {
+        return frameBuffer.getHeight();
+    }
+
+    public void dispose() {
+        if (frameBuffer != null) {
+            frameBuffer.dispose();
+            frameBuffer = null;
+        }
+    }
+}
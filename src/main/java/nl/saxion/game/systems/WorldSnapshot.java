@@ -0,0 +1,101 @@
+package nl.saxion.game.systems;
+
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.graphics.GL20;
+import com.badlogic.gdx.graphics.Texture;
+import com.badlogic.gdx.graphics.g2d.SpriteBatch;
+import nl.saxion.game.utils.DebugLogger;
+import nl.saxion.gameapp.GameApp;
+
+/**
+ * World Snapshot - The frozen game world behind pause, level up and gacha menus.
+ *
+ * While such a menu is open nothing in the world moves, so the world (map, entities,
+ * orbs, health bar) is rendered once into a FrameBuffer together with the menu's dark
+ * overlay, and every following frame only draws that texture as one opaque quad.
+ * invalidate() throws the snapshot away (PlayScreen does this on every live frame and
+ * when a new level up menu opens); the next render() captures it again. The buffer is a
+ * ViewportFrameBuffer, so a resize creates a new one and triggers a new capture.
+ * If no buffer can be created the world is drawn directly every frame as before.
+ */
+public class WorldSnapshot {
+
+    private final Runnable drawWorld;
+    private final int dimAlpha;
+
+    private final ViewportFrameBuffer frameBuffer = new ViewportFrameBuffer("World snapshot", this::invalidate);
+    private boolean valid = false;
+
+    private int captureCount = 0;
+
+    /**
+     * @param drawWorld renders the world in screen space (e.g. PlayScreen.renderFrozenGameBackground)
+     * @param dimAlpha  alpha (0-255) of the black overlay baked into the snapshot
+     */
+    public WorldSnapshot(Runnable drawWorld, int dimAlpha) {
+        this.drawWorld = drawWorld;
+        this.dimAlpha = dimAlpha;
+    }
+
+    /**
+     * Draw the frozen, dimmed world, capturing it first if needed.
+     */
+    public void render() {
+        if (!frameBuffer.ensure()) {
+            drawWorld.run();
+            drawDim();
+            return;
+        }
+        if (!valid) {
+            capture();
+        }
+
+        SpriteBatch batch = GameApp.getSpriteBatch();
+        Texture texture = frameBuffer.getTexture();
+        GameApp.startSpriteRendering();
+        // Snapshot is opaque: no blending needed
+        batch.disableBlending();
+        batch.setColor(1f, 1f, 1f, 1f);
+        batch.draw(texture, 0, 0, GameApp.getWorldWidth(), GameApp.getWorldHeight(),
+                0, 0, texture.getWidth(), texture.getHeight(), false, true);
+        batch.enableBlending();
+        GameApp.endSpriteRendering();
+    }
+
+    public void invalidate() {
+        valid = false;
+    }
+
+    public void dispose() {
+        frameBuffer.dispose();
+        valid = false;
+    }
+
+    private void capture() {
+        long start = System.nanoTime();
+
+        frameBuffer.begin();
+        Gdx.gl.glClearColor(0f, 0f, 0f, 1f);
+        Gdx.gl.glClear(GL20.GL_COLOR_BUFFER_BIT);
+        try {
+            drawWorld.run();
+            drawDim();
+        } finally {
+            frameBuffer.end();
+        }
+
+        valid = true;
+        captureCount++;
+        DebugLogger.log("World snapshot %dx%d captured in %.2f ms (%d captures)",
+                frameBuffer.getWidth(), frameBuffer.getHeight(),
+                (System.nanoTime() - start) / 1_000_000f, captureCount);
+    }
+
+    private void drawDim() {
+        GameApp.enableTransparency();
+        GameApp.startShapeRenderingFilled();
+        GameApp.setColor(0, 0, 0, dimAlpha);
+        GameApp.drawRect(0, 0, GameApp.getWorldWidth(), GameApp.getWorldHeight());
+        GameApp.endShapeRendering();
+    }
+}
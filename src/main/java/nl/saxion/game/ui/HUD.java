@@ -3,9 +3,14 @@ package nl.saxion.game.ui;
 import nl.saxion.game.core.PlayerStatus;
 import nl.saxion.game.entities.PassiveItem;
 import nl.saxion.game.entities.Weapon;
+import nl.saxion.game.systems.AnimationClock;
+import nl.saxion.game.systems.FontRegistry;
+import nl.saxion.game.systems.TextLayoutCache;
+import nl.saxion.game.utils.TextFormat;
 import nl.saxion.gameapp.GameApp;
 
 import java.util.List;
+import java.util.Objects;
 
 /**
  * HUD class for displaying game information.
@@ -21,6 +26,16 @@ public class HUD {
     // Reference to player's passive items
     private List<PassiveItem> passiveItems;
 
+    // Set by HudLayer while it renders widgets into its offscreen buffer
+    boolean renderingToLayer = false;
+
+    // Counter texts, rebuilt only when the value changes
+    private final TextFormat.IntText scoreText = new TextFormat.IntText(
+            (sb, score) -> TextFormat.appendGrouped(sb.append("SCORE: "), score));
+    private final TextFormat.IntText killText = new TextFormat.IntText((sb, kills) -> sb.append(kills));
+    private final TextFormat.IntText levelText = new TextFormat.IntText((sb, level) -> sb.append("LV ").append(level));
+    private final TextFormat.IntText timeText = new TextFormat.IntText(TextFormat::appendClock);
+
     public void render(PlayerStatus status, float gameTime) {
         // Draw shapes first (XP bar)
         renderXPBar(status);
@@ -52,7 +67,7 @@ public class HUD {
     }
 
     // Draw XP bar shapes - scaled for 960x540 world view
-    private void renderXPBar(PlayerStatus status) {
+    void renderXPBar(PlayerStatus status) {
         float percent = status.currentXP / (float) status.xpToNext;
         percent = GameApp.clamp(percent, 0f, 1f);
 
@@ -83,19 +98,15 @@ public class HUD {
         GameApp.endShapeRendering();
     }
 
-    private void renderSurvivalTime(float gameTime) {
-        int totalSeconds = (int) gameTime;
-        int minutes = totalSeconds / 60;
-        int seconds = totalSeconds % 60;
-
-        String timeText = String.format("%02d:%02d", minutes, seconds);
+    void renderSurvivalTime(float gameTime) {
+        String timeText = this.timeText.get((int) gameTime);
 
         float screenWidth = GameApp.getWorldWidth();
         float screenHeight = GameApp.getWorldHeight();
 
         // Position: centered horizontally, below XP bar - adjusted for larger bar
-        String fontName = GameApp.hasFont("timerFont") ? "timerFont" : "default";
-        float textWidth = GameApp.getTextWidth(fontName, timeText);
+        String fontName = GameApp.hasFont(FontRegistry.TIMER) ? FontRegistry.TIMER : "default";
+        float textWidth = TextLayoutCache.getWidth(fontName, timeText);
         float x = (screenWidth - textWidth) / 2f; // Center horizontally
         float y = screenHeight - 40f; // Adjusted for thicker XP bar
 
@@ -103,17 +114,17 @@ public class HUD {
     }
 
     // Draw XP level text - right side, vertically centered with bar
-    private void renderXPText(PlayerStatus status) {
+    void renderXPText(PlayerStatus status) {
         float screenWidth = GameApp.getWorldWidth();
         float screenHeight = GameApp.getWorldHeight();
         float barHeight = 18f; // Match the thicker bar height
         float barY = screenHeight - barHeight;
         float textY = barY + barHeight - 14f; // Adjusted for larger bar
 
-        String levelText = "LV " + status.level;
-        String fontName = GameApp.hasFont("levelFont") ? "levelFont" : "default";
+        String levelText = this.levelText.get(status.level);
+        String fontName = GameApp.hasFont(FontRegistry.LEVEL) ? FontRegistry.LEVEL : "default";
 
-        float textWidth = GameApp.getTextWidth(fontName, levelText);
+        float textWidth = TextLayoutCache.getWidth(fontName, levelText);
         float textX = screenWidth - textWidth - 8f; // More padding from edge
 
         GameApp.drawText(fontName, levelText, textX, textY, "white");
@@ -123,17 +134,17 @@ public class HUD {
      * Render kill count with skull icon (left of score, right side of screen).
      * Format: "xxxx <SkullIcon>"
      */
-    private void renderKillCount(PlayerStatus status) {
+    void renderKillCount(PlayerStatus status) {
         float screenWidth = GameApp.getWorldWidth();
         float screenHeight = GameApp.getWorldHeight();
         float barHeight = 18f;
         float barY = screenHeight - barHeight;
 
         float killY = barY - 22f; // Same line as score
-        String killText = String.valueOf(status.killCount);
+        String killText = this.killText.get(status.killCount);
 
-        String fontName = GameApp.hasFont("scoreFont") ? "scoreFont" : "default";
-        float textWidth = GameApp.getTextWidth(fontName, killText);
+        String fontName = GameApp.hasFont(FontRegistry.SCORE) ? FontRegistry.SCORE : "default";
+        float textWidth = TextLayoutCache.getWidth(fontName, killText);
         
         // Skull icon size and position (same style as star icon)
         float iconSize = 20f; // 2x larger to match star icon
@@ -141,7 +152,7 @@ public class HUD {
         
         // Calculate score total width to position kill count to its left
         String scoreText = formatScore(status.score);
-        float scoreTextWidth = GameApp.getTextWidth(fontName, scoreText);
+        float scoreTextWidth = TextLayoutCache.getWidth(fontName, scoreText);
         float starIconSize = 45f; // Match the 2x larger star icon
         float starIconGap = 4f;
         float scoreTotalWidth = scoreTextWidth + starIconGap + starIconSize + 10f; // 10f is edge padding
@@ -162,7 +173,7 @@ public class HUD {
         }
     }
 
-    private void renderScore(PlayerStatus status) {
+    void renderScore(PlayerStatus status) {
         float screenWidth = GameApp.getWorldWidth();
         float screenHeight = GameApp.getWorldHeight();
         float barHeight = 18f; // Match the thicker bar height
@@ -171,8 +182,8 @@ public class HUD {
         float scoreY = barY - 22f; // Adjusted spacing below XP bar
         String scoreText = formatScore(status.score);
 
-        String fontName = GameApp.hasFont("scoreFont") ? "scoreFont" : "default";
-        float textWidth = GameApp.getTextWidth(fontName, scoreText);
+        String fontName = GameApp.hasFont(FontRegistry.SCORE) ? FontRegistry.SCORE : "default";
+        float textWidth = TextLayoutCache.getWidth(fontName, scoreText);
         
         // Star icon size and position (2x larger for better visibility)
         float iconSize = 44f; // 2x larger icon size
@@ -185,10 +196,10 @@ public class HUD {
         GameApp.drawText(fontName, scoreText, scoreX, scoreY, "white");
         
         // Draw star icon to the right of score (aligned with text baseline)
-        if (GameApp.hasTexture("star_icon")) {
+        if (GameApp.hasTexture("star")) {
             float iconX = scoreX + textWidth;
             float iconY = scoreY - 18f; // Better vertical alignment with text
-            GameApp.drawTexture("star_icon", iconX, iconY, iconSize, iconSize);
+            GameApp.drawTexture("star", iconX, iconY, iconSize, iconSize);
         }
     }
     
@@ -237,7 +248,7 @@ public class HUD {
             float boxY = startY - row * (boxSize + gap);
             
             // Draw semi-transparent border only (no filled background)
-            GameApp.enableTransparency();
+            enableTransparency();
             GameApp.startShapeRenderingOutlined();
             GameApp.setLineWidth(1.5f);
             if (weapon.isEvolved()) {
@@ -256,10 +267,11 @@ public class HUD {
                 float iconX = boxX + (boxSize - pistonSize) / 2f;
                 float iconY = boxY + (boxSize - pistonSize) / 2f;
                 GameApp.drawTexture("piston_icon", iconX, iconY, pistonSize, pistonSize);
-            } else if (GameApp.hasTexture("weapon_icon")) {
+            } else {
+                // Plain bullet sprite (shared with the bullet clip)
                 float iconX = boxX + (boxSize - iconSize) / 2f;
                 float iconY = boxY + (boxSize - iconSize) / 2f;
-                GameApp.drawTexture("weapon_icon", iconX, iconY, iconSize, iconSize);
+                AnimationClock.draw("bullet", 0f, iconX, iconY, iconSize, iconSize, false);
             }
             GameApp.endSpriteRendering();
             
@@ -275,7 +287,7 @@ public class HUD {
                 float boxY = startY - row * (boxSize + gap);
                 
                 // Draw semi-transparent border only (no filled background)
-                GameApp.enableTransparency();
+                enableTransparency();
                 GameApp.startShapeRenderingOutlined();
                 GameApp.setLineWidth(1.5f);
                 if (item.getLevel() >= item.getMaxLevel()) {
@@ -304,8 +316,37 @@ public class HUD {
         GameApp.startSpriteRendering();
     }
 
+    /**
+     * Key for the item icon row: changes whenever an icon, its frame color or the number
+     * of slots changes (used by HudLayer to decide when the icons must be redrawn).
+     */
+    long getItemIconsKey() {
+        long key = 17;
+        if (weapon != null) {
+            key = key * 31 + System.identityHashCode(weapon);
+            key = key * 31 + (weapon.isEvolved() ? 2 : weapon.isMaxLevel() ? 1 : 0);
+        }
+        if (passiveItems != null) {
+            for (int i = 0; i < passiveItems.size(); i++) {
+                PassiveItem item = passiveItems.get(i);
+                key = key * 31 + Objects.hashCode(item.getTextureKey());
+                key = key * 31 + (item.getLevel() >= item.getMaxLevel() ? 1 : 0);
+            }
+            key = key * 31 + passiveItems.size();
+        }
+        return key;
+    }
+
+    // Shapes drawn into the HUD layer keep a correct alpha channel (see HudLayer)
+    private void enableTransparency() {
+        GameApp.enableTransparency();
+        if (renderingToLayer) {
+            HudLayer.useLayerBlending();
+        }
+    }
+
     private String formatScore(int score) {
-        return String.format("SCORE: %,d", score);
+        return scoreText.get(score);
     }
 
     // (Optional old helpers - safe to keep if other code uses them)
@@ -322,7 +363,7 @@ public class HUD {
 
     public void renderTextOnly(PlayerStatus status) {
         renderScore(status);
-        GameApp.drawText("default", "LV " + status.level, 230, 95, "white");
+        GameApp.drawText("default", levelText.get(status.level), 230, 95, "white");
     }
     
     // Public methods for rendering individual HUD components (for level up menu)
@@ -381,7 +422,7 @@ public class HUD {
             float boxY = startY - row * (boxSize + gap);
             
             // Draw semi-transparent border only (no filled background)
-            GameApp.enableTransparency();
+            enableTransparency();
             GameApp.startShapeRenderingOutlined();
             GameApp.setLineWidth(1.5f);
             if (weapon.isEvolved()) {
@@ -400,10 +441,11 @@ public class HUD {
                 float iconX = boxX + (boxSize - pistonSize) / 2f;
                 float iconY = boxY + (boxSize - pistonSize) / 2f;
                 GameApp.drawTexture("piston_icon", iconX, iconY, pistonSize, pistonSize);
-            } else if (GameApp.hasTexture("weapon_icon")) {
+            } else {
+                // Plain bullet sprite (shared with the bullet clip)
                 float iconX = boxX + (boxSize - iconSize) / 2f;
                 float iconY = boxY + (boxSize - iconSize) / 2f;
-                GameApp.drawTexture("weapon_icon", iconX, iconY, iconSize, iconSize);
+                AnimationClock.draw("bullet", 0f, iconX, iconY, iconSize, iconSize, false);
             }
             GameApp.endSpriteRendering();
             
@@ -419,7 +461,7 @@ public class HUD {
                 float boxY = startY - row * (boxSize + gap);
                 
                 // Draw semi-transparent border only (no filled background)
-                GameApp.enableTransparency();
+                enableTransparency();
                 GameApp.startShapeRenderingOutlined();
                 GameApp.setLineWidth(1.5f);
                 if (item.getLevel() >= item.getMaxLevel()) {
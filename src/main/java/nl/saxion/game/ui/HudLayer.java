@@ -0,0 +1,270 @@
+package nl.saxion.game.ui;
+
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.graphics.GL20;
+import com.badlogic.gdx.graphics.Texture;
+import com.badlogic.gdx.graphics.g2d.SpriteBatch;
+import nl.saxion.game.core.PlayerStatus;
+import nl.saxion.game.systems.ViewportFrameBuffer;
+import nl.saxion.game.utils.DebugLogger;
+import nl.saxion.gameapp.GameApp;
+
+/**
+ * HUD Layer - Keeps the HUD in an offscreen buffer and redraws only what changed.
+ *
+ * The HUD is split into widgets (XP bar, item icons, score + kills, level, timer). Each
+ * widget has a fixed region in world coordinates and a key built from the values it
+ * shows; a widget is dirty when its key differs from the one it was last drawn with.
+ * Dirty regions are merged into one damage rectangle, which is cleared in the buffer
+ * (scissored) and every widget overlapping it is drawn again - widgets overlap (the star
+ * icon reaches into the XP bar), so clearing one means redrawing its neighbours too.
+ * Every frame the whole buffer is put on screen as a single quad.
+ *
+ * Most frames nothing changes (the timer ticks once a second, score and XP on kills),
+ * so the HUD costs one textured quad instead of its shapes, glyphs and icon lookups.
+ * The buffer is a ViewportFrameBuffer: it matches the screen viewport in pixels and is
+ * rebuilt when the window is resized. If no buffer can be created the HUD is drawn directly.
+ */
+public class HudLayer {
+
+    // Widgets in draw order (later widgets are drawn on top)
+    private static final int XP_BAR = 0;
+    private static final int ITEM_ICONS = 1;
+    private static final int SCORE_ROW = 2;
+    private static final int LEVEL = 3;
+    private static final int TIMER = 4;
+    private static final int WIDGET_COUNT = 5;
+
+    private static final int STATS_INTERVAL_FRAMES = 600;
+
+    private final HUD hud;
+
+    private final ViewportFrameBuffer frameBuffer = new ViewportFrameBuffer("HUD layer", this::clearLayer);
+
+    // Region per widget: x, y, width, height in world coordinates
+    private final float[] regions = new float[WIDGET_COUNT * 4];
+    private final long[] keys = new long[WIDGET_COUNT];
+    private final boolean[] drawn = new boolean[WIDGET_COUNT];
+    private final boolean[] dirty = new boolean[WIDGET_COUNT];
+
+    // Redraw counters (debug stats)
+    private int lastFrameRedraws = 0;
+    private long totalRedraws = 0;
+    private int statsFrames = 0;
+    private int statsRedraws = 0;
+
+    public HudLayer(HUD hud) {
+        this.hud = hud;
+    }
+
+    /**
+     * Draw the HUD. With rainbowBar set the XP bar itself is left out (the level up menu
+     * draws its animated bar underneath) and so is the kill count, as before.
+     */
+    public void render(PlayerStatus status, float gameTime, boolean rainbowBar) {
+        if (!frameBuffer.ensure()) {
+            renderDirect(status, gameTime, rainbowBar);
+            return;
+        }
+
+        updateRegions();
+        int rainbow = rainbowBar ? 1 : 0;
+        markIfChanged(XP_BAR, ((long) rainbow << 32) | xpFillPixels(status));
+        markIfChanged(ITEM_ICONS, hud.getItemIconsKey());
+        markIfChanged(SCORE_ROW, ((long) status.score << 32) | ((long) status.killCount << 1) | rainbow);
+        markIfChanged(LEVEL, status.level);
+        markIfChanged(TIMER, (int) gameTime);
+
+        redrawDirty(status, gameTime, rainbowBar);
+        composite();
+    }
+
+    /**
+     * Force every widget to be drawn again next frame (e.g. after icons were reloaded).
+     */
+    public void invalidate() {
+        for (int i = 0; i < WIDGET_COUNT; i++) {
+            drawn[i] = false;
+        }
+    }
+
+    public int getLastFrameRedraws() {
+        return lastFrameRedraws;
+    }
+
+    public void dispose() {
+        frameBuffer.dispose();
+    }
+
+    /**
+     * Blend function for shapes drawn into the layer: color blends as usual, alpha adds up
+     * (so the buffer ends up premultiplied and can be drawn with ONE, ONE_MINUS_SRC_ALPHA).
+     */
+    static void useLayerBlending() {
+        Gdx.gl.glBlendFuncSeparate(GL20.GL_SRC_ALPHA, GL20.GL_ONE_MINUS_SRC_ALPHA,
+                GL20.GL_ONE, GL20.GL_ONE_MINUS_SRC_ALPHA);
+    }
+
+    // New buffer is empty: clear it once and draw everything
+    private void clearLayer() {
+        frameBuffer.begin();
+        Gdx.gl.glClearColor(0f, 0f, 0f, 0f);
+        Gdx.gl.glClear(GL20.GL_COLOR_BUFFER_BIT);
+        frameBuffer.end();
+        invalidate();
+    }
+
+    // Widget regions - must cover everything the matching HUD method draws
+    private void updateRegions() {
+        float w = GameApp.getWorldWidth();
+        float h = GameApp.getWorldHeight();
+        setRegion(XP_BAR, 0, h - 22f, w, 22f);
+        setRegion(ITEM_ICONS, 0, h / 2f, 170f, h / 2f - 22f);
+        setRegion(SCORE_ROW, w / 2f + 70f, h - 66f, w / 2f - 70f, 66f);
+        setRegion(LEVEL, w - 120f, h - 22f, 120f, 22f);
+        setRegion(TIMER, w / 2f - 70f, h - 80f, 140f, 58f);
+    }
+
+    private void setRegion(int widget, float x, float y, float width, float height) {
+        int i = widget * 4;
+        regions[i] = x;
+        regions[i + 1] = y;
+        regions[i + 2] = width;
+        regions[i + 3] = height;
+    }
+
+    // XP fill in buffer pixels: XP gains smaller than a pixel do not redraw the bar
+    private long xpFillPixels(PlayerStatus status) {
+        float percent = GameApp.clamp(status.currentXP / (float) status.xpToNext, 0f, 1f);
+        return (long) (percent * frameBuffer.getWidth());
+    }
+
+    private void markIfChanged(int widget, long key) {
+        if (!drawn[widget] || keys[widget] != key) {
+            dirty[widget] = true;
+            keys[widget] = key;
+        }
+    }
+
+    private void redrawDirty(PlayerStatus status, float gameTime, boolean rainbowBar) {
+        // Union of the dirty regions
+        float left = Float.MAX_VALUE;
+        float bottom = Float.MAX_VALUE;
+        float right = -Float.MAX_VALUE;
+        float top = -Float.MAX_VALUE;
+        for (int i = 0; i < WIDGET_COUNT; i++) {
+            if (dirty[i]) {
+                left = Math.min(left, regions[i * 4]);
+                bottom = Math.min(bottom, regions[i * 4 + 1]);
+                right = Math.max(right, regions[i * 4] + regions[i * 4 + 2]);
+                top = Math.max(top, regions[i * 4 + 1] + regions[i * 4 + 3]);
+            }
+        }
+
+        int redraws = 0;
+        if (left < right) {
+            // Every widget touching the damage rect is cleared with it, so all of them are redrawn
+            for (int i = 0; i < WIDGET_COUNT; i++) {
+                if (regions[i * 4] < right && regions[i * 4] + regions[i * 4 + 2] > left
+                        && regions[i * 4 + 1] < top && regions[i * 4 + 1] + regions[i * 4 + 3] > bottom) {
+                    dirty[i] = true;
+                }
+            }
+
+            float scaleX = frameBuffer.getWidth() / GameApp.getWorldWidth();
+            float scaleY = frameBuffer.getHeight() / GameApp.getWorldHeight();
+            int x = Math.max(0, (int) Math.floor(left * scaleX));
+            int y = Math.max(0, (int) Math.floor(bottom * scaleY));
+            int x2 = Math.min(frameBuffer.getWidth(), (int) Math.ceil(right * scaleX));
+            int y2 = Math.min(frameBuffer.getHeight(), (int) Math.ceil(top * scaleY));
+
+            SpriteBatch batch = GameApp.getSpriteBatch();
+            frameBuffer.begin();
+            Gdx.gl.glEnable(GL20.GL_SCISSOR_TEST);
+            Gdx.gl.glScissor(x, y, x2 - x, y2 - y);
+            Gdx.gl.glClearColor(0f, 0f, 0f, 0f);
+            Gdx.gl.glClear(GL20.GL_COLOR_BUFFER_BIT);
+
+            batch.setBlendFunctionSeparate(GL20.GL_SRC_ALPHA, GL20.GL_ONE_MINUS_SRC_ALPHA,
+                    GL20.GL_ONE, GL20.GL_ONE_MINUS_SRC_ALPHA);
+            useLayerBlending();
+            hud.renderingToLayer = true;
+            try {
+                for (int i = 0; i < WIDGET_COUNT; i++) {
+                    if (dirty[i]) {
+                        drawWidget(i, status, gameTime, rainbowBar);
+                        dirty[i] = false;
+                        drawn[i] = true;
+                        redraws++;
+                    }
+                }
+            } finally {
+                hud.renderingToLayer = false;
+                batch.setBlendFunction(GL20.GL_SRC_ALPHA, GL20.GL_ONE_MINUS_SRC_ALPHA);
+                Gdx.gl.glBlendFunc(GL20.GL_SRC_ALPHA, GL20.GL_ONE_MINUS_SRC_ALPHA);
+                Gdx.gl.glDisable(GL20.GL_SCISSOR_TEST);
+                frameBuffer.end();
+            }
+        }
+
+        lastFrameRedraws = redraws;
+        totalRedraws += redraws;
+        statsRedraws += redraws;
+        statsFrames++;
+        if (statsFrames >= STATS_INTERVAL_FRAMES) {
+            DebugLogger.log("HUD layer: %d widget redraws in %d frames (%.2f per frame, %d total)",
+                    statsRedraws, statsFrames, statsRedraws / (float) statsFrames, totalRedraws);
+            statsFrames = 0;
+            statsRedraws = 0;
+        }
+    }
+
+    private void drawWidget(int widget, PlayerStatus status, float gameTime, boolean rainbowBar) {
+        switch (widget) {
+            case XP_BAR -> {
+                if (!rainbowBar) {
+                    hud.renderXPBar(status);
+                }
+            }
+            case ITEM_ICONS -> hud.renderItemIconsOnly();
+            case SCORE_ROW -> {
+                GameApp.startSpriteRendering();
+                if (!rainbowBar) {
+                    hud.renderKillCount(status);
+                }
+                hud.renderScore(status);
+                GameApp.endSpriteRendering();
+            }
+            case LEVEL -> {
+                GameApp.startSpriteRendering();
+                hud.renderXPText(status);
+                GameApp.endSpriteRendering();
+            }
+            case TIMER -> {
+                GameApp.startSpriteRendering();
+                hud.renderSurvivalTime(gameTime);
+                GameApp.endSpriteRendering();
+            }
+        }
+    }
+
+    // Whole layer as one quad; the buffer holds premultiplied alpha
+    private void composite() {
+        SpriteBatch batch = GameApp.getSpriteBatch();
+        Texture texture = frameBuffer.getTexture();
+        GameApp.startSpriteRendering();
+        batch.setColor(1f, 1f, 1f, 1f);
+        batch.setBlendFunction(GL20.GL_ONE, GL20.GL_ONE_MINUS_SRC_ALPHA);
+        batch.draw(texture, 0, 0, GameApp.getWorldWidth(), GameApp.getWorldHeight(),
+                0, 0, texture.getWidth(), texture.getHeight(), false, true);
+        batch.setBlendFunction(GL20.GL_SRC_ALPHA, GL20.GL_ONE_MINUS_SRC_ALPHA);
+        GameApp.endSpriteRendering();
+    }
+
+    // Fallback without a buffer: same output as the retained path
+    private void renderDirect(PlayerStatus status, float gameTime, boolean rainbowBar) {
+        for (int i = 0; i < WIDGET_COUNT; i++) {
+            drawWidget(i, status, gameTime, rainbowBar);
+        }
+    }
+}
@@ -0,0 +1,374 @@
+package nl.saxion.game.ui;
+
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.graphics.GL20;
+import com.badlogic.gdx.math.Vector3;
+import nl.saxion.game.core.LeaderboardEntry;
+import nl.saxion.game.systems.FontRegistry;
+import nl.saxion.game.systems.ViewportFrameBuffer;
+import nl.saxion.game.utils.DebugLogger;
+import nl.saxion.gameapp.GameApp;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Virtualized, smoothly scrolling leaderboard table.
+ *
+ * Only the rows inside the viewport are fetched (through a RowSource, backed by the
+ * leaderboard index) and drawn, so a frame costs the same with 10 or 10,000 entries.
+ * The strings of a row (name, class, score, time) and their measured sizes are built once
+ * per entry and kept in a small LRU cache; row backgrounds are drawn in one shape pass and
+ * all row text in one sprite pass. Rows are clipped to the viewport with a scissor rectangle.
+ */
+public class LeaderboardTable {
+
+    /**
+     * Supplies rows of the current board, best first.
+     */
+    public interface RowSource {
+        List<LeaderboardEntry> getRows(int offset, int count);
+    }
+
+    // Cached text of one row, built once per entry
+    private static class RowText {
+        String name;
+        String markedName; // name + " *" for the current player, built on first use
+        float nameWidth, markedNameWidth;
+        float classWidth, groupWidth;
+        String score;
+        float scoreWidth;
+        String time;
+        float timeWidth;
+        int rank = -1; // rank the rank text was built for (changes with the view)
+        String rankText;
+        float rankWidth;
+    }
+
+    public static final float ROW_HEIGHT = 43f;
+    private static final float SCROLL_SPEED = 14f; // fraction of the remaining distance per second
+    private static final int FETCH_MARGIN = 8; // extra rows fetched above and below the viewport
+    private static final int ROW_CACHE_SIZE = 512;
+
+    private static final String ENTRY_FONT = FontRegistry.RANKS_ENTRY;
+    private static final String RANK_FONT = FontRegistry.RANKS_RANK;
+    private static final String HEADER_FONT = FontRegistry.RANKS_HEADER;
+
+    // Column widths: rank, player, class, group, score, time
+    private static final float[] COLUMN_WIDTHS = {90f, 280f, 160f, 130f, 140f, 140f};
+    private static final String[] COLUMN_TITLES = {"RANK", "PLAYER", "CLASS", "GROUP", "SCORE", "TIME"};
+
+    private RowSource source;
+    private int totalRows = 0;
+    private int visibleRows = 8;
+
+    // Scroll position in rows: the row at the top of the viewport (fraction = partly scrolled out)
+    private float scroll = 0f;
+    private float targetScroll = 0f;
+
+    // Rows fetched around the viewport
+    private List<LeaderboardEntry> window = Collections.emptyList();
+    private int windowStart = 0;
+    private boolean windowValid = false;
+
+    private final Map<LeaderboardEntry, RowText> rowCache = new LinkedHashMap<>(ROW_CACHE_SIZE, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<LeaderboardEntry, RowText> eldest) {
+            return size() > ROW_CACHE_SIZE;
+        }
+    };
+
+    private final float[] columnCenters = new float[COLUMN_WIDTHS.length];
+    private float textHeight = -1f;
+    private float rankTextHeight = -1f;
+
+    private final Vector3 corner = new Vector3();
+
+    // Debug counters
+    private int fetchCount = 0;
+    private int rowBuildCount = 0;
+
+    /**
+     * Show another board (view switch). The row cache is kept, entries are shared between views.
+     */
+    public void setSource(RowSource source, int totalRows) {
+        this.source = source;
+        this.totalRows = totalRows;
+        windowValid = false;
+        scroll = targetScroll = clampScroll(targetScroll);
+    }
+
+    /**
+     * The board changed (runs added or merged): fetch the visible rows again, keep the scroll position.
+     */
+    public void refresh(int totalRows) {
+        this.totalRows = totalRows;
+        windowValid = false;
+        targetScroll = clampScroll(targetScroll);
+        scroll = Math.min(scroll, getMaxScroll());
+    }
+
+    public void scrollBy(float rows) {
+        targetScroll = clampScroll(targetScroll + rows);
+    }
+
+    public void scrollToTop() {
+        targetScroll = 0f;
+    }
+
+    public void scrollToBottom() {
+        targetScroll = getMaxScroll();
+    }
+
+    /**
+     * Jump (without animation) so that a row is in the middle of the viewport.
+     */
+    public void centerOn(int row) {
+        targetScroll = row < 0 ? 0f : clampScroll(Math.round(row - (visibleRows - 1) / 2f));
+        scroll = targetScroll;
+    }
+
+    public void update(float delta) {
+        float distance = targetScroll - scroll;
+        if (Math.abs(distance) < 0.002f) {
+            scroll = targetScroll;
+        } else {
+            scroll += distance * Math.min(1f, delta * SCROLL_SPEED);
+        }
+    }
+
+    public boolean canScrollUp() {
+        return targetScroll > 0f;
+    }
+
+    public boolean canScrollDown() {
+        return targetScroll < getMaxScroll();
+    }
+
+    public int getFirstVisibleRow() {
+        return Math.round(scroll);
+    }
+
+    public int getVisibleRows() {
+        return visibleRows;
+    }
+
+    private float getMaxScroll() {
+        return Math.max(0, totalRows - visibleRows);
+    }
+
+    private float clampScroll(float value) {
+        return GameApp.clamp(value, 0f, getMaxScroll());
+    }
+
+    /**
+     * Draw the column headers, the header separator and the visible rows.
+     * @param x           left edge of the table
+     * @param headerY     center of the header row
+     * @param width       table width
+     * @param rows        number of rows that fit in the viewport
+     * @param highlightRow row of the current player's run, or -1
+     */
+    public void render(float x, float headerY, float width, int rows, int highlightRow, float animTimer) {
+        visibleRows = rows;
+        layoutColumns(x);
+
+        GameApp.startSpriteRendering();
+        for (int i = 0; i < COLUMN_TITLES.length; i++) {
+            GameApp.drawTextCentered(HEADER_FONT, COLUMN_TITLES[i], columnCenters[i], headerY, "white");
+        }
+        GameApp.endSpriteRendering();
+
+        // Header separator
+        GameApp.startShapeRenderingFilled();
+        GameApp.setColor(100, 100, 150, 220);
+        GameApp.drawRect(x, headerY - 20f, width, 3f);
+        GameApp.endShapeRendering();
+
+        if (totalRows == 0 || source == null) return;
+
+        float viewportTop = headerY - 44f;
+        float viewportHeight = rows * ROW_HEIGHT;
+        int firstRow = (int) scroll;
+        int lastRow = Math.min(totalRows - 1, (int) Math.ceil(scroll + rows) - 1);
+        ensureWindow(firstRow, lastRow);
+
+        beginClip(x, viewportTop - viewportHeight, width, viewportHeight);
+
+        // Row backgrounds, one shape pass
+        GameApp.startShapeRenderingFilled();
+        for (int row = firstRow; row <= lastRow; row++) {
+            float rowTop = viewportTop - (row - scroll) * ROW_HEIGHT;
+            float rectY = rowTop - ROW_HEIGHT + 2f;
+            int rank = row + 1;
+
+            if (row == highlightRow) {
+                float pulse = (float) (0.08f + 0.04f * Math.sin(animTimer * 3));
+                GameApp.setColor(40, 80, 140, (int) (pulse * 255));
+            } else if (rank == 1) {
+                GameApp.setColor(80, 65, 20, 60);
+            } else if (rank == 2) {
+                GameApp.setColor(60, 60, 70, 50);
+            } else if (rank == 3) {
+                GameApp.setColor(70, 50, 30, 50);
+            } else if (row % 2 == 0) {
+                GameApp.setColor(35, 35, 55, 120);
+            } else {
+                GameApp.setColor(25, 25, 40, 120);
+            }
+            GameApp.drawRect(x, rectY, width, ROW_HEIGHT - 2f);
+
+            // Left border for current player
+            if (row == highlightRow) {
+                GameApp.setColor(100, 180, 255, 220);
+                GameApp.drawRect(x, rectY, 5f, ROW_HEIGHT - 2f);
+            }
+        }
+        GameApp.endShapeRendering();
+
+        // Row text, one sprite pass
+        GameApp.startSpriteRendering();
+        for (int row = firstRow; row <= lastRow; row++) {
+            LeaderboardEntry entry = getRow(row);
+            if (entry == null) continue;
+
+            RowText text = getRowText(entry, row + 1);
+            boolean isCurrentPlayer = row == highlightRow;
+            float rowTop = viewportTop - (row - scroll) * ROW_HEIGHT;
+            float centerY = rowTop - ROW_HEIGHT / 2 - 4f;
+
+            drawCentered(RANK_FONT, text.rankText, text.rankWidth, rankTextHeight, 0, centerY, getRankColor(row + 1));
+            if (isCurrentPlayer) {
+                if (text.markedName == null) {
+                    text.markedName = text.name + " *";
+                    text.markedNameWidth = GameApp.getTextWidth(ENTRY_FONT, text.markedName);
+                }
+                drawCentered(ENTRY_FONT, text.markedName, text.markedNameWidth, textHeight, 1, centerY, "current_player");
+            } else {
+                drawCentered(ENTRY_FONT, text.name, text.nameWidth, textHeight, 1, centerY, "white");
+            }
+            drawCentered(ENTRY_FONT, entry.getStudentClass(), text.classWidth, textHeight, 2, centerY, "gray-300");
+            drawCentered(ENTRY_FONT, entry.getGroupNumber(), text.groupWidth, textHeight, 3, centerY, "gray-300");
+            drawCentered(ENTRY_FONT, text.score, text.scoreWidth, textHeight, 4, centerY, "yellow-300");
+            drawCentered(ENTRY_FONT, text.time, text.timeWidth, textHeight, 5, centerY, "green-300");
+        }
+        GameApp.endSpriteRendering();
+
+        endClip();
+
+        drawScrollBar(x + width + 12f, viewportTop - viewportHeight, viewportHeight);
+    }
+
+    private void layoutColumns(float x) {
+        float left = x;
+        for (int i = 0; i < COLUMN_WIDTHS.length; i++) {
+            columnCenters[i] = left + COLUMN_WIDTHS[i] / 2;
+            left += COLUMN_WIDTHS[i];
+        }
+        if (textHeight < 0f) {
+            textHeight = GameApp.getTextHeight(ENTRY_FONT, "0");
+            rankTextHeight = GameApp.getTextHeight(RANK_FONT, "0");
+        }
+    }
+
+    // Same placement as drawTextCentered, without measuring the text again
+    private void drawCentered(String font, String text, float width, float height, int column, float centerY, String color) {
+        GameApp.drawText(font, text, columnCenters[column] - width / 2, centerY + height / 2, color);
+    }
+
+    private String getRankColor(int rank) {
+        return switch (rank) {
+            case 1 -> "rank_gold";
+            case 2 -> "rank_silver";
+            case 3 -> "rank_bronze";
+            default -> "white";
+        };
+    }
+
+    private void drawScrollBar(float x, float y, float height) {
+        if (totalRows <= visibleRows) return;
+
+        float thumbHeight = Math.max(24f, height * visibleRows / totalRows);
+        float thumbY = y + (height - thumbHeight) * (1f - scroll / getMaxScroll());
+
+        GameApp.startShapeRenderingFilled();
+        GameApp.setColor(40, 40, 65, 200);
+        GameApp.drawRect(x, y, 6f, height);
+        GameApp.setColor(110, 110, 170, 230);
+        GameApp.drawRect(x, thumbY, 6f, thumbHeight);
+        GameApp.endShapeRendering();
+    }
+
+    /**
+     * Fetch the rows around the viewport when the viewport moved outside the fetched window.
+     */
+    private void ensureWindow(int firstRow, int lastRow) {
+        if (windowValid && firstRow >= windowStart && lastRow < windowStart + window.size()) {
+            return;
+        }
+        windowStart = Math.max(0, firstRow - FETCH_MARGIN);
+        int count = Math.min(totalRows, lastRow + 1 + FETCH_MARGIN) - windowStart;
+        window = source.getRows(windowStart, count);
+        windowValid = true;
+        fetchCount++;
+    }
+
+    private LeaderboardEntry getRow(int row) {
+        int index = row - windowStart;
+        return index >= 0 && index < window.size() ? window.get(index) : null;
+    }
+
+    private RowText getRowText(LeaderboardEntry entry, int rank) {
+        RowText text = rowCache.get(entry);
+        if (text == null) {
+            text = new RowText();
+            String name = entry.getUsername();
+            text.name = name.length() > 16 ? name.substring(0, 13) + "..." : name;
+            text.nameWidth = GameApp.getTextWidth(ENTRY_FONT, text.name);
+            text.classWidth = GameApp.getTextWidth(ENTRY_FONT, entry.getStudentClass());
+            text.groupWidth = GameApp.getTextWidth(ENTRY_FONT, entry.getGroupNumber());
+            text.score = String.valueOf(entry.getScore());
+            text.scoreWidth = GameApp.getTextWidth(ENTRY_FONT, text.score);
+            text.time = entry.getFormattedSurvivalTime();
+            text.timeWidth = GameApp.getTextWidth(ENTRY_FONT, text.time);
+            rowCache.put(entry, text);
+            rowBuildCount++;
+        }
+        if (text.rank != rank) {
+            text.rank = rank;
+            text.rankText = String.valueOf(rank);
+            text.rankWidth = GameApp.getTextWidth(RANK_FONT, text.rankText);
+        }
+        return text;
+    }
+
+    // Clip to a world-space rectangle; the projection of the sprite batch maps it to the screen viewport
+    private void beginClip(float x, float y, float width, float height) {
+        int[] viewport = ViewportFrameBuffer.getScreenViewport();
+        int viewX = viewport[0];
+        int viewY = viewport[1];
+        int viewWidth = viewport[2];
+        int viewHeight = viewport[3];
+
+        corner.set(x, y, 0f).prj(GameApp.getSpriteBatch().getProjectionMatrix());
+        float left = viewX + (corner.x + 1f) / 2f * viewWidth;
+        float bottom = viewY + (corner.y + 1f) / 2f * viewHeight;
+        corner.set(x + width, y + height, 0f).prj(GameApp.getSpriteBatch().getProjectionMatrix());
+        float right = viewX + (corner.x + 1f) / 2f * viewWidth;
+        float top = viewY + (corner.y + 1f) / 2f * viewHeight;
+
+        Gdx.gl.glEnable(GL20.GL_SCISSOR_TEST);
+        Gdx.gl.glScissor(Math.round(left), Math.round(bottom), Math.round(right - left), Math.round(top - bottom));
+    }
+
+    private void endClip() {
+        Gdx.gl.glDisable(GL20.GL_SCISSOR_TEST);
+    }
+
+    public void logStats() {
+        DebugLogger.log("Leaderboard table: %d rows, %d fetches, %d row texts built, %d cached",
+                totalRows, fetchCount, rowBuildCount, rowCache.size());
+    }
+}
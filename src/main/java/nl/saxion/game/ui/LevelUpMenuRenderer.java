@@ -3,6 +3,8 @@ package nl.saxion.game.ui;
 import nl.saxion.game.entities.LevelUpOption;
 import nl.saxion.game.entities.Player;
 import nl.saxion.game.entities.Weapon;
+import nl.saxion.game.systems.FontRegistry;
+import nl.saxion.game.systems.TextLayoutCache;
 import nl.saxion.gameapp.GameApp;
 
 import java.util.List;
@@ -12,9 +14,6 @@ import java.util.List;
  */
 public class LevelUpMenuRenderer {
     
-    // Font loading flag to ensure fonts are loaded only once
-    private static boolean fontsLoaded = false;
-    
     /**
      * Render level up menu with VS style
      */
@@ -79,7 +78,7 @@ public class LevelUpMenuRenderer {
         // Position from bottom: menuY + totalH - 40f (40f from top)
         GameApp.startSpriteRendering();
         float titleY = menuY + totalH - 40f;
-        String titleFont = GameApp.hasFont("levelUpTitleFont") ? "levelUpTitleFont" : "default";
+        String titleFont = GameApp.hasFont(FontRegistry.LEVEL_UP_TITLE) ? FontRegistry.LEVEL_UP_TITLE : "default";
         GameApp.drawTextCentered(titleFont, "LEVEL UP!", centerX, titleY, "yellow-400");
         GameApp.endSpriteRendering();
         
@@ -167,18 +166,18 @@ public class LevelUpMenuRenderer {
         }
         
         // Use better font for title
-        String titleFont = GameApp.hasFont("upgradeItemFont") ? "upgradeItemFont" : "default";
+        String titleFont = GameApp.hasFont(FontRegistry.UPGRADE_ITEM) ? FontRegistry.UPGRADE_ITEM : "default";
         GameApp.drawText(titleFont, titleText, textX, titleY, "white");
         
         // "NEW!" label with highlight (for new passive items)
         if (isNew) {
-            String newFont = GameApp.hasFont("upgradeNewFont") ? "upgradeNewFont" : "default";
-            float newLabelX = textX + GameApp.getTextWidth(titleFont, titleText) + 15f;
+            String newFont = GameApp.hasFont(FontRegistry.UPGRADE_NEW) ? FontRegistry.UPGRADE_NEW : "default";
+            float newLabelX = textX + TextLayoutCache.getWidth(titleFont, titleText) + 15f;
             // Draw background highlight for NEW label
             GameApp.endSpriteRendering();
             GameApp.startShapeRenderingFilled();
             GameApp.setColor(255, 215, 0, (int)(180 * menuAlpha)); // Gold background
-            float newBgWidth = GameApp.getTextWidth(newFont, "NEW!") + 8f;
+            float newBgWidth = TextLayoutCache.getWidth(newFont, "NEW!") + 8f;
             GameApp.drawRect(newLabelX - 4f, titleY - 2f, newBgWidth, 18f);
             GameApp.endShapeRendering();
             GameApp.startSpriteRendering();
@@ -187,13 +186,13 @@ public class LevelUpMenuRenderer {
         
         // Description with better font and spacing
         float descY = y + 30f; // Adjusted spacing for larger fonts
-        String descFont = GameApp.hasFont("upgradeDescFont") ? "upgradeDescFont" : "default";
+        String descFont = GameApp.hasFont(FontRegistry.UPGRADE_DESC) ? FontRegistry.UPGRADE_DESC : "default";
         GameApp.drawText(descFont, option.description, textX, descY, "gray-200");
         
         // Level text (right side) with better font
         String levelText = getLevelText(option, player, weapon);
-        String levelFont = GameApp.hasFont("upgradeLevelFont") ? "upgradeLevelFont" : "default";
-        float levelX = x + width - GameApp.getTextWidth(levelFont, levelText) - 25f;
+        String levelFont = GameApp.hasFont(FontRegistry.UPGRADE_LEVEL) ? FontRegistry.UPGRADE_LEVEL : "default";
+        float levelX = x + width - TextLayoutCache.getWidth(levelFont, levelText) - 25f;
         GameApp.drawText(levelFont, levelText, levelX, titleY, "cyan-300");
         
         GameApp.endSpriteRendering();
@@ -222,49 +221,8 @@ public class LevelUpMenuRenderer {
      * Ensure all fonts for the upgrade menu are loaded
      */
     private void ensureFontsLoaded() {
-        // Force reload fonts for testing
-        if (fontsLoaded) {
-            fontsLoaded = false;
-        }
-        
-        try {
-            // Title font - large and bold for "LEVEL UP!"
-            // NOTE: Size should match PlayScreen (28) to prevent font size inconsistencies
-            if (!GameApp.hasFont("levelUpTitleFont")) {
-                GameApp.addStyledFont("levelUpTitleFont", "fonts/PressStart2P-Regular.ttf", 28,
-                    "yellow-400", 2.5f, "black", 3, 3, "orange-800", true);
-            }
-            
-            // Item name font - larger size, very readable
-            if (!GameApp.hasFont("upgradeItemFont")) {
-                GameApp.addStyledFont("upgradeItemFont", "fonts/PressStart2P-Regular.ttf", 14,
-                    "white", 2.0f, "black", 2, 2, "gray-800", true);
-            }
-            
-            // Description font - readable size for descriptions
-            if (!GameApp.hasFont("upgradeDescFont")) {
-                GameApp.addStyledFont("upgradeDescFont", "fonts/VT323-Regular.ttf", 28,
-                    "gray-200", 1.5f, "black", 1, 1, "gray-900", true);
-            }
-            
-            // Level font - larger, more visible for level indicators
-            if (!GameApp.hasFont("upgradeLevelFont")) {
-                GameApp.addStyledFont("upgradeLevelFont", "fonts/PressStart2P-Regular.ttf", 16,
-                    "cyan-300", 2.0f, "black", 2, 2, "blue-900", true);
-            }
-            
-            // NEW label font - attention-grabbing
-            if (!GameApp.hasFont("upgradeNewFont")) {
-                GameApp.addStyledFont("upgradeNewFont", "fonts/PressStart2P-Regular.ttf", 10,
-                    "black", 1.5f, "yellow-400", 1, 1, "orange-600", true);
-            }
-            
-            fontsLoaded = true;
-            GameApp.log("Upgrade menu fonts loaded successfully");
-            
-        } catch (Exception e) {
-            GameApp.log("Warning: Could not load some upgrade menu fonts: " + e.getMessage());
-            fontsLoaded = true; // Set to true anyway to avoid repeated attempts
-        }
+        // Shared fonts: only rasterized the first time, cheap lookups after that
+        FontRegistry.require(FontRegistry.LEVEL_UP_TITLE, FontRegistry.UPGRADE_ITEM, FontRegistry.UPGRADE_DESC,
+                FontRegistry.UPGRADE_LEVEL, FontRegistry.UPGRADE_NEW);
     }
 }
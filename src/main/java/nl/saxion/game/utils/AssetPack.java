@@ -0,0 +1,244 @@
+package nl.saxion.game.utils;
+
+import com.badlogic.gdx.Gdx;
+import nl.saxion.gameapp.GameApp;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.StandardOpenOption;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.zip.CRC32;
+
+/**
+ * Asset Pack - Serves game resources from one memory-mapped file instead of loose jar entries.
+ *
+ * The pack is built by AssetPacker (gradle packAssets) and shipped as assets.pack next to
+ * the jar; it is looked up in the jar's directory, so a launcher or shortcut with another
+ * working directory still finds it. install() maps it read-only and wraps Gdx.files, so Gdx.files.internal(path)
+ * returns a PackFileHandle for packed paths and the normal handle for everything else.
+ * Without a pack file (running from the IDE) nothing changes.
+ *
+ * Each entry is checked against its CRC32 the first time it is read; a corrupt entry is
+ * logged and read from the loose resources instead.
+ *
+ * Files generated at runtime can be served from memory the same way (addMemoryFile), e.g.
+ * decoded audio when the AudioCache directory is not writable; this wraps Gdx.files even
+ * without a pack.
+ *
+ * Layout (big-endian): magic, version, entry count, index length,
+ * index (path length + UTF-8 path, data offset, size, crc32) and the file data.
+ */
+public class AssetPack {
+
+    public static final String PACK_FILE = "assets.pack";
+    static final int MAGIC = 0x5A535041; // "ZSPA"
+    static final int VERSION = 1;
+
+    private static class Entry {
+        final int offset;
+        final int size;
+        final int crc;
+        volatile boolean verified;
+        volatile boolean corrupt;
+
+        Entry(int offset, int size, int crc) {
+            this.offset = offset;
+            this.size = size;
+            this.crc = crc;
+        }
+    }
+
+    // Packed files by resource path ("assets/ui/pointer.png")
+    private static final Map<String, Entry> index = new HashMap<>();
+    private static MappedByteBuffer data;
+    private static boolean installed = false;
+
+    // Runtime generated files by path, served for the rest of the session
+    private static final Map<String, ByteBuffer> memoryFiles = new ConcurrentHashMap<>();
+
+    // Stats for the startup trace
+    private static int hitCount = 0;
+    private static long bytesServed = 0;
+
+    /**
+     * Map the pack file (if present) and route Gdx.files through it. Safe to call more than once.
+     * Must be called on the render thread after the application has started.
+     * @return true if a pack is in use
+     */
+    public static synchronized boolean install() {
+        if (installed) return data != null;
+        installed = true;
+
+        File file = findPackFile();
+        if (file == null) {
+            DebugLogger.log("No " + PACK_FILE + " found, loading loose resources");
+            return false;
+        }
+
+        long start = System.nanoTime();
+        if (!open(file)) {
+            return false;
+        }
+        wrapFiles();
+        GameApp.log(String.format("Asset pack: %s, %d files, %.1f MB mapped in %.1f ms",
+                file.getPath(), index.size(), data.capacity() / (1024f * 1024f), (System.nanoTime() - start) / 1_000_000f));
+        return true;
+    }
+
+    // Next to the jar (or the classes directory), then the working directory
+    private static File findPackFile() {
+        try {
+            File codeSource = new File(AssetPack.class.getProtectionDomain().getCodeSource().getLocation().toURI());
+            File dir = codeSource.isFile() ? codeSource.getParentFile() : codeSource;
+            File file = new File(dir, PACK_FILE);
+            if (file.isFile()) {
+                return file;
+            }
+        } catch (Exception e) {
+            // No code source (e.g. a custom class loader): fall back to the working directory
+            DebugLogger.log("Could not resolve the jar location for " + PACK_FILE + " - " + e);
+        }
+        File file = new File(PACK_FILE);
+        return file.isFile() ? file : null;
+    }
+
+    private static synchronized void wrapFiles() {
+        if (!(Gdx.files instanceof PackedFiles)) {
+            Gdx.files = new PackedFiles(Gdx.files);
+        }
+    }
+
+    /**
+     * Serve a file from memory for the rest of the session (internal and classpath paths).
+     * Safe to call from worker threads.
+     */
+    public static void addMemoryFile(String path, byte[] bytes) {
+        memoryFiles.put(normalize(path), ByteBuffer.wrap(bytes).asReadOnlyBuffer());
+        wrapFiles();
+    }
+
+    private static boolean open(File file) {
+        try (FileChannel channel = FileChannel.open(file.toPath(), StandardOpenOption.READ)) {
+            // The mapping stays valid after the channel is closed
+            MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+            if (buffer.getInt() != MAGIC || buffer.getInt() != VERSION) {
+                GameApp.log("Warning: Ignoring " + PACK_FILE + " with unknown format");
+                return false;
+            }
+
+            int count = buffer.getInt();
+            int indexLength = buffer.getInt();
+            int dataStart = buffer.position() + indexLength;
+            for (int i = 0; i < count; i++) {
+                byte[] pathBytes = new byte[buffer.getShort() & 0xFFFF];
+                buffer.get(pathBytes);
+                int offset = buffer.getInt();
+                int size = buffer.getInt();
+                int crc = buffer.getInt();
+                if (offset < 0 || size < 0 || (long) dataStart + offset + size > buffer.capacity()) {
+                    throw new IllegalArgumentException("entry outside pack");
+                }
+                index.put(new String(pathBytes, StandardCharsets.UTF_8), new Entry(dataStart + offset, size, crc));
+            }
+            data = buffer;
+            return true;
+        } catch (IOException | BufferUnderflowException | IllegalArgumentException e) {
+            GameApp.log("Warning: Could not open " + PACK_FILE + " - " + e);
+            index.clear();
+            return false;
+        }
+    }
+
+    /**
+     * Whether a resource path is served from the pack or from memory.
+     */
+    public static boolean contains(String path) {
+        String normalized = normalize(path);
+        return memoryFiles.containsKey(normalized) || (data != null && index.containsKey(normalized));
+    }
+
+    /**
+     * Read-only view of a packed or memory file, or null if it is not packed (or failed its CRC check).
+     * Safe to call from worker threads.
+     */
+    public static ByteBuffer slice(String path) {
+        ByteBuffer memory = memoryFiles.get(normalize(path));
+        if (memory != null) {
+            return memory.duplicate();
+        }
+        if (data == null) return null;
+        Entry entry = index.get(normalize(path));
+        if (entry == null || entry.corrupt) return null;
+
+        // Each caller gets its own view, the shared buffer's position is never changed
+        ByteBuffer view = data.duplicate();
+        view.position(entry.offset).limit(entry.offset + entry.size);
+        view = view.slice();
+
+        if (!entry.verified) {
+            CRC32 crc = new CRC32();
+            crc.update(view.duplicate());
+            if ((int) crc.getValue() != entry.crc) {
+                entry.corrupt = true;
+                GameApp.log("Warning: " + path + " is corrupt in " + PACK_FILE + ", using loose file");
+                return null;
+            }
+            entry.verified = true;
+        }
+
+        synchronized (AssetPack.class) {
+            hitCount++;
+            bytesServed += entry.size;
+        }
+        return view;
+    }
+
+    /**
+     * Copy of a packed file's bytes, or null if it is not packed.
+     */
+    public static byte[] readBytes(String path) {
+        ByteBuffer view = slice(path);
+        if (view == null) return null;
+        byte[] bytes = new byte[view.remaining()];
+        view.get(bytes);
+        return bytes;
+    }
+
+    /**
+     * Size of a packed file, or -1 if it is not packed.
+     */
+    public static long length(String path) {
+        ByteBuffer memory = memoryFiles.get(normalize(path));
+        if (memory != null) {
+            return memory.capacity();
+        }
+        if (data == null) return -1;
+        Entry entry = index.get(normalize(path));
+        return entry != null ? entry.size : -1;
+    }
+
+    public static synchronized void logStats() {
+        if (data == null) return;
+        GameApp.log(String.format("Asset pack: served %d reads, %.1f MB from %d packed files",
+                hitCount, bytesServed / (1024f * 1024f), index.size()));
+    }
+
+    // Backslashes become "/", leading "./" and "/" are removed: "/assets/ui/x.png" -> "assets/ui/x.png"
+    static String normalize(String path) {
+        String normalized = path.replace('\\', '/');
+        while (normalized.startsWith("./")) {
+            normalized = normalized.substring(2);
+        }
+        while (normalized.startsWith("/")) {
+            normalized = normalized.substring(1);
+        }
+        return normalized;
+    }
+}
@@ -0,0 +1,101 @@
+package nl.saxion.game.utils;
+
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import java.util.zip.CRC32;
+
+/**
+ * Build-time tool that writes the asset pack read by AssetPack.
+ * Run through gradle: ./gradlew packAssets (writes build/libs/assets.pack).
+ *
+ * Usage: AssetPacker <resources dir> <output pack file>
+ * Files are stored uncompressed, sorted by path, so the same resources always give the same pack.
+ */
+public class AssetPacker {
+
+    public static void main(String[] args) throws IOException {
+        if (args.length != 2) {
+            System.err.println("Usage: AssetPacker <resources dir> <output pack file>");
+            System.exit(1);
+        }
+        pack(Paths.get(args[0]), Paths.get(args[1]));
+    }
+
+    public static void pack(Path root, Path output) throws IOException {
+        List<Path> files;
+        try (Stream<Path> walk = Files.walk(root)) {
+            files = walk.filter(Files::isRegularFile)
+                    .filter(file -> !isIgnored(root.relativize(file)))
+                    .sorted()
+                    .collect(Collectors.toList());
+        }
+
+        // Index first (offsets are relative to the start of the data section)
+        ByteArrayOutputStream indexBytes = new ByteArrayOutputStream();
+        DataOutputStream index = new DataOutputStream(indexBytes);
+        long offset = 0;
+        for (Path file : files) {
+            byte[] path = toResourcePath(root.relativize(file)).getBytes(StandardCharsets.UTF_8);
+            long size = Files.size(file);
+            if (offset + size > Integer.MAX_VALUE) {
+                throw new IOException("Asset pack larger than 2 GB");
+            }
+
+            CRC32 crc = new CRC32();
+            crc.update(Files.readAllBytes(file));
+
+            index.writeShort(path.length);
+            index.write(path);
+            index.writeInt((int) offset);
+            index.writeInt((int) size);
+            index.writeInt((int) crc.getValue());
+            offset += size;
+        }
+        index.flush();
+
+        // Write to a temp file and move it in place so a failed build never leaves a broken pack
+        Path parent = output.toAbsolutePath().getParent();
+        Files.createDirectories(parent);
+        Path temp = parent.resolve(output.getFileName() + ".tmp");
+        try (OutputStream stream = Files.newOutputStream(temp);
+             DataOutputStream out = new DataOutputStream(new BufferedOutputStream(stream, 1 << 16))) {
+            out.writeInt(AssetPack.MAGIC);
+            out.writeInt(AssetPack.VERSION);
+            out.writeInt(files.size());
+            out.writeInt(indexBytes.size());
+            indexBytes.writeTo(out);
+            for (Path file : files) {
+                Files.copy(file, out);
+            }
+        }
+        Files.move(temp, output, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+
+        System.out.printf("Packed %d files (%.1f MB) into %s%n", files.size(), offset / (1024f * 1024f), output);
+    }
+
+    // Skip OS metadata that ends up in the resources folder
+    private static boolean isIgnored(Path relative) {
+        for (Path part : relative) {
+            String name = part.toString();
+            if (name.startsWith(".") || name.equals("__MACOSX") || name.equals("Thumbs.db")) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static String toResourcePath(Path relative) {
+        return relative.toString().replace('\\', '/');
+    }
+}
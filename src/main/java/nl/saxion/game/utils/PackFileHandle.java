@@ -0,0 +1,116 @@
+package nl.saxion.game.utils;
+
+import com.badlogic.gdx.Files.FileType;
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.files.FileHandle;
+
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+
+/**
+ * FileHandle for a file inside the asset pack.
+ * Reads come straight from the memory-mapped pack (no jar lookup, no inflation).
+ * If the entry fails its CRC check the loose file handle is used instead; exists() and
+ * isDirectory() also fall back to it when the pack and memory overlay lack the entry.
+ * Navigation (child/parent/sibling) goes back through Gdx.files so related files
+ * (font pages, sheet images) are also served from the pack.
+ */
+public class PackFileHandle extends FileHandle {
+
+    private final FileHandle fallback;
+
+    PackFileHandle(String path, FileType type, FileHandle fallback) {
+        super(AssetPack.normalize(path), type);
+        this.fallback = fallback;
+    }
+
+    @Override
+    public InputStream read() {
+        ByteBuffer view = AssetPack.slice(path());
+        return view != null ? new ByteBufferInputStream(view) : fallback.read();
+    }
+
+    @Override
+    public byte[] readBytes() {
+        byte[] bytes = AssetPack.readBytes(path());
+        return bytes != null ? bytes : fallback.readBytes();
+    }
+
+    @Override
+    public ByteBuffer map(FileChannel.MapMode mode) {
+        if (mode != FileChannel.MapMode.READ_ONLY) {
+            return fallback.map(mode);
+        }
+        ByteBuffer view = AssetPack.slice(path());
+        return view != null ? view.asReadOnlyBuffer() : fallback.map(mode);
+    }
+
+    @Override
+    public long length() {
+        long length = AssetPack.length(path());
+        return length >= 0 ? length : fallback.length();
+    }
+
+    @Override
+    public boolean exists() {
+        return AssetPack.contains(path()) || fallback.exists();
+    }
+
+    @Override
+    public boolean isDirectory() {
+        return !AssetPack.contains(path()) && fallback.isDirectory();
+    }
+
+    @Override
+    public FileHandle child(String name) {
+        return Gdx.files.getFileHandle(path() + "/" + name, type);
+    }
+
+    @Override
+    public FileHandle sibling(String name) {
+        return parent().child(name);
+    }
+
+    @Override
+    public FileHandle parent() {
+        String path = path();
+        int slash = path.lastIndexOf('/');
+        return Gdx.files.getFileHandle(slash >= 0 ? path.substring(0, slash) : "", type);
+    }
+
+    // InputStream over a mapped view, no copying until read
+    private static class ByteBufferInputStream extends InputStream {
+        private final ByteBuffer buffer;
+
+        ByteBufferInputStream(ByteBuffer buffer) {
+            this.buffer = buffer;
+        }
+
+        @Override
+        public int read() {
+            return buffer.hasRemaining() ? buffer.get() & 0xFF : -1;
+        }
+
+        @Override
+        public int read(byte[] bytes, int offset, int length) {
+            if (length == 0) return 0;
+            if (!buffer.hasRemaining()) return -1;
+            int count = Math.min(length, buffer.remaining());
+            buffer.get(bytes, offset, count);
+            return count;
+        }
+
+        @Override
+        public long skip(long n) {
+            int count = (int) Math.max(0, Math.min(n, buffer.remaining()));
+            buffer.position(buffer.position() + count);
+            return count;
+        }
+
+        @Override
+        public int available() {
+            return buffer.remaining();
+        }
+    }
+}
@@ -0,0 +1,72 @@
+package nl.saxion.game.utils;
+
+import com.badlogic.gdx.Files;
+import com.badlogic.gdx.Files.FileType;
+import com.badlogic.gdx.files.FileHandle;
+
+/**
+ * Gdx.files wrapper installed by AssetPack.
+ * Internal and classpath paths that are in the pack get a PackFileHandle;
+ * every other request goes to the backend's own Files implementation.
+ */
+public class PackedFiles implements Files {
+
+    private final Files base;
+
+    public PackedFiles(Files base) {
+        this.base = base;
+    }
+
+    @Override
+    public FileHandle getFileHandle(String path, FileType type) {
+        if ((type == FileType.Internal || type == FileType.Classpath) && AssetPack.contains(path)) {
+            return new PackFileHandle(path, type, base.getFileHandle(path, type));
+        }
+        return base.getFileHandle(path, type);
+    }
+
+    @Override
+    public FileHandle classpath(String path) {
+        return getFileHandle(path, FileType.Classpath);
+    }
+
+    @Override
+    public FileHandle internal(String path) {
+        return getFileHandle(path, FileType.Internal);
+    }
+
+    @Override
+    public FileHandle external(String path) {
+        return base.external(path);
+    }
+
+    @Override
+    public FileHandle absolute(String path) {
+        return base.absolute(path);
+    }
+
+    @Override
+    public FileHandle local(String path) {
+        return base.local(path);
+    }
+
+    @Override
+    public String getExternalStoragePath() {
+        return base.getExternalStoragePath();
+    }
+
+    @Override
+    public boolean isExternalStorageAvailable() {
+        return base.isExternalStorageAvailable();
+    }
+
+    @Override
+    public String getLocalStoragePath() {
+        return base.getLocalStoragePath();
+    }
+
+    @Override
+    public boolean isLocalStorageAvailable() {
+        return base.isLocalStorageAvailable();
+    }
+}
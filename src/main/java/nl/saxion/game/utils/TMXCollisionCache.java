@@ -0,0 +1,251 @@
+package nl.saxion.game.utils;
+
+import nl.saxion.gameapp.GameApp;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.zip.CRC32;
+
+import static nl.saxion.game.utils.TMXMapObjects.PolygonObject;
+import static nl.saxion.game.utils.TMXMapObjects.RectangleObject;
+
+/**
+ * Binary cache for TMX collision data.
+ *
+ * One file per map in cache/collision/, keyed by the SHA-256 of the TMX content.
+ * It holds the wall tile map and the baked (flipped and offset) wall rectangles and
+ * polygons, plus the object rectangles/polygons. A warm start reads the file in one
+ * go instead of parsing the XML. Files with another version or hash, a wrong CRC or
+ * counts that do not fit the file are ignored (the TMX is parsed again) and rewritten
+ * after the next parse.
+ *
+ * Layout (big-endian): magic, version, hash[32], payload length, CRC32 of payload, payload.
+ * Payload: map size, tile size, wall tile bits, wall rects, wall polygons (bounds + points),
+ * object rects, object polygons.
+ */
+public class TMXCollisionCache {
+
+    private static final String CACHE_DIR = "cache/collision";
+    private static final int MAGIC = 0x5A534343; // "ZSCC"
+    private static final int VERSION = 2;
+    private static final int HASH_LENGTH = 32;
+
+    /**
+     * SHA-256 of the TMX source bytes.
+     */
+    public static byte[] hash(byte[] source) {
+        try {
+            return MessageDigest.getInstance("SHA-256").digest(source);
+        } catch (NoSuchAlgorithmException e) {
+            // Every JRE ships SHA-256
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /**
+     * Load cached collision data for a TMX map.
+     * @return the map data, or null if there is no valid cache entry for this content hash
+     */
+    public static TMXMapData load(String tmxPath, byte[] hash) {
+        File file = getCacheFile(tmxPath);
+        if (!file.exists()) {
+            return null;
+        }
+
+        try {
+            ByteBuffer in = ByteBuffer.wrap(Files.readAllBytes(file.toPath()));
+            if (in.getInt() != MAGIC || in.getInt() != VERSION) {
+                return null;
+            }
+            byte[] storedHash = new byte[HASH_LENGTH];
+            in.get(storedHash);
+            if (!Arrays.equals(storedHash, hash)) {
+                return null; // TMX changed since the cache was written
+            }
+            int length = in.getInt();
+            int expectedCrc = in.getInt();
+            if (length != in.remaining()) {
+                throw new IllegalArgumentException("payload length " + length + ", file has " + in.remaining());
+            }
+            CRC32 crc = new CRC32();
+            crc.update(in.array(), in.position(), length);
+            if ((int) crc.getValue() != expectedCrc) {
+                throw new IllegalArgumentException("CRC mismatch");
+            }
+
+            TMXMapData mapData = new TMXMapData(in.getInt(), in.getInt(), in.getInt(), in.getInt());
+
+            // Wall tile map, one bit per tile
+            int rows = in.getInt();
+            int cols = in.getInt();
+            if (rows < 0 || cols < 0 || ((long) rows * cols + 7) / 8 > in.remaining()) {
+                throw new IllegalArgumentException("bad wall tile map " + rows + "x" + cols);
+            }
+            byte[] bits = new byte[(rows * cols + 7) / 8];
+            in.get(bits);
+            for (int i = 0; i < rows * cols; i++) {
+                if ((bits[i >> 3] & (1 << (i & 7))) != 0) {
+                    mapData.setWallTile(i / cols, i % cols, true);
+                }
+            }
+
+            float[] rects = readFloats(in, readCount(in, 16) * 4);
+
+            int polygonCount = readCount(in, 16);
+            float[] bounds = readFloats(in, polygonCount * 4);
+            float[][] polygons = new float[polygonCount][];
+            for (int i = 0; i < polygonCount; i++) {
+                polygons[i] = readFloats(in, readCount(in, 8) * 2);
+            }
+            mapData.setBakedCollision(rects, polygons, bounds);
+
+            int objectRectCount = readCount(in, 16);
+            for (int i = 0; i < objectRectCount; i++) {
+                mapData.addObjectRectangle(new RectangleObject(in.getFloat(), in.getFloat(), in.getFloat(), in.getFloat()));
+            }
+            int objectPolygonCount = readCount(in, 12);
+            for (int i = 0; i < objectPolygonCount; i++) {
+                float x = in.getFloat();
+                float y = in.getFloat();
+                int pointCount = readCount(in, 8);
+                List<float[]> points = new ArrayList<>(pointCount);
+                for (int p = 0; p < pointCount; p++) {
+                    points.add(new float[]{in.getFloat(), in.getFloat()});
+                }
+                mapData.addObjectPolygon(new PolygonObject(x, y, points));
+            }
+
+            return mapData;
+        } catch (IOException | RuntimeException e) {
+            // Any damage is a cache miss: the TMX is parsed again
+            GameApp.log("Warning: Ignoring corrupt collision cache " + file.getPath() + " - " + e);
+            return null;
+        }
+    }
+
+    /**
+     * Write the collision data of a parsed (and baked) map. Failures are logged and ignored.
+     */
+    public static void save(String tmxPath, byte[] hash, TMXMapData mapData) {
+        File file = getCacheFile(tmxPath);
+        try {
+            ByteArrayOutputStream bytes = new ByteArrayOutputStream(4096);
+            DataOutputStream out = new DataOutputStream(bytes);
+            out.writeInt(mapData.getMapWidth());
+            out.writeInt(mapData.getMapHeight());
+            out.writeInt(mapData.getTileWidth());
+            out.writeInt(mapData.getTileHeight());
+
+            boolean[][] tiles = mapData.getWallTileMap();
+            int rows = tiles.length;
+            int cols = rows > 0 ? tiles[0].length : 0;
+            byte[] bits = new byte[(rows * cols + 7) / 8];
+            for (int i = 0; i < rows * cols; i++) {
+                if (tiles[i / cols][i % cols]) {
+                    bits[i >> 3] |= (byte) (1 << (i & 7));
+                }
+            }
+            out.writeInt(rows);
+            out.writeInt(cols);
+            out.write(bits);
+
+            float[] rects = mapData.getBakedWallRectangles();
+            out.writeInt(rects.length / 4);
+            writeFloats(out, rects);
+
+            float[][] polygons = mapData.getBakedWallPolygons();
+            out.writeInt(polygons.length);
+            writeFloats(out, mapData.getBakedWallPolygonBounds());
+            for (float[] points : polygons) {
+                out.writeInt(points.length / 2);
+                writeFloats(out, points);
+            }
+
+            out.writeInt(mapData.getObjectRectangles().size());
+            for (RectangleObject rect : mapData.getObjectRectangles()) {
+                out.writeFloat(rect.x);
+                out.writeFloat(rect.y);
+                out.writeFloat(rect.width);
+                out.writeFloat(rect.height);
+            }
+            out.writeInt(mapData.getObjectPolygons().size());
+            for (PolygonObject poly : mapData.getObjectPolygons()) {
+                out.writeFloat(poly.x);
+                out.writeFloat(poly.y);
+                out.writeInt(poly.points.size());
+                for (float[] point : poly.points) {
+                    out.writeFloat(point[0]);
+                    out.writeFloat(point[1]);
+                }
+            }
+            out.flush();
+            byte[] payload = bytes.toByteArray();
+
+            CRC32 crc = new CRC32();
+            crc.update(payload);
+            ByteArrayOutputStream fileBytes = new ByteArrayOutputStream(payload.length + 48);
+            DataOutputStream header = new DataOutputStream(fileBytes);
+            header.writeInt(MAGIC);
+            header.writeInt(VERSION);
+            header.write(hash);
+            header.writeInt(payload.length);
+            header.writeInt((int) crc.getValue());
+            header.write(payload);
+            header.flush();
+
+            // Write to a temp file and move it in place so a crash never leaves a half-written cache
+            Path target = file.toPath();
+            Files.createDirectories(target.getParent());
+            Path temp = target.resolveSibling(file.getName() + ".tmp");
+            Files.write(temp, fileBytes.toByteArray());
+            Files.move(temp, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException e) {
+            GameApp.log("Warning: Could not write collision cache " + file.getPath() + " - " + e.getMessage());
+        }
+    }
+
+    // assets/maps/map1.tmx -> cache/collision/map1.bin
+    private static File getCacheFile(String tmxPath) {
+        String name = tmxPath.substring(tmxPath.lastIndexOf('/') + 1);
+        if (name.endsWith(".tmx")) {
+            name = name.substring(0, name.length() - 4);
+        }
+        return new File(CACHE_DIR, name + ".bin");
+    }
+
+    // Element count that must fit in the remaining bytes (at least bytesPerElement each)
+    private static int readCount(ByteBuffer in, int bytesPerElement) {
+        int count = in.getInt();
+        if (count < 0 || (long) count * bytesPerElement > in.remaining()) {
+            throw new IllegalArgumentException("bad count " + count);
+        }
+        return count;
+    }
+
+    private static float[] readFloats(ByteBuffer in, int count) {
+        if (count < 0 || count * 4L > in.remaining()) {
+            throw new IllegalArgumentException("bad float count " + count);
+        }
+        float[] values = new float[count];
+        in.asFloatBuffer().get(values);
+        in.position(in.position() + count * 4);
+        return values;
+    }
+
+    private static void writeFloats(DataOutputStream out, float[] values) throws IOException {
+        for (float value : values) {
+            out.writeFloat(value);
+        }
+    }
+}
@@ -24,6 +24,17 @@ public class TMXMapData {
     private List<PolygonObject> objectPolygons;
     private List<RectangleObject> objectRectangles;
 
+    // Baked world-space wall geometry (flipped and offset once, see bakeCollision)
+    private float[] wallRectData = new float[0];          // x, bottom, width, height per rectangle
+    private float[][] wallPolygonPoints = new float[0][];  // x0, y0, x1, y1, ... per polygon
+    private float[] wallPolygonBounds = new float[0];      // minX, minY, maxX, maxY per polygon
+    private boolean collisionBaked = false;
+
+    // Collision polygons are shifted to match the visual wall (red overlay):
+    // +0.5 tile right and +16px up
+    private static final float POLYGON_OFFSET_X = 16f;
+    private static final float POLYGON_OFFSET_Y = 16f;
+
     private int mapWidth;
     private int mapHeight;
     private int tileWidth;
@@ -53,10 +64,12 @@ public class TMXMapData {
 
     public void addWallPolygon(PolygonObject poly) {
         wallPolygons.add(poly);
+        collisionBaked = false;
     }
 
     public void addWallRectangle(RectangleObject rect) {
         wallRectangles.add(rect);
+        collisionBaked = false;
     }
 
     public void addObjectPolygon(PolygonObject poly) {
@@ -67,10 +80,71 @@ public class TMXMapData {
         objectRectangles.add(rect);
     }
 
+    /**
+     * Convert the wall rectangles and polygons to world space once, so collision
+     * checks do not flip and offset every point on every call.
+     */
+    public void bakeCollision() {
+        float[] rects = new float[wallRectangles.size() * 4];
+        for (int i = 0; i < wallRectangles.size(); i++) {
+            RectangleObject rect = wallRectangles.get(i);
+            rects[i * 4] = rect.x;
+            rects[i * 4 + 1] = tmxToWorldY(rect.y, rect.height);
+            rects[i * 4 + 2] = rect.width;
+            rects[i * 4 + 3] = rect.height;
+        }
+
+        float[][] polygons = new float[wallPolygons.size()][];
+        float[] bounds = new float[wallPolygons.size() * 4];
+        for (int i = 0; i < wallPolygons.size(); i++) {
+            PolygonObject poly = wallPolygons.get(i);
+            float[] pts = new float[poly.points.size() * 2];
+
+            // In TMX: absolute Y = poly.y + p[1] (top-left origin, Y increases downward)
+            // In GameApp: bottom-left origin, Y increases upward
+            float minX = Float.MAX_VALUE, minY = Float.MAX_VALUE;
+            float maxX = Float.MIN_VALUE, maxY = Float.MIN_VALUE;
+            for (int p = 0; p < poly.points.size(); p++) {
+                float[] point = poly.points.get(p);
+                float x = poly.x + point[0] + POLYGON_OFFSET_X;
+                float y = flipY(poly.y + point[1]) + POLYGON_OFFSET_Y;
+                pts[p * 2] = x;
+                pts[p * 2 + 1] = y;
+                minX = Math.min(minX, x);
+                maxX = Math.max(maxX, x);
+                minY = Math.min(minY, y);
+                maxY = Math.max(maxY, y);
+            }
+
+            polygons[i] = pts;
+            bounds[i * 4] = minX;
+            bounds[i * 4 + 1] = minY;
+            bounds[i * 4 + 2] = maxX;
+            bounds[i * 4 + 3] = maxY;
+        }
+
+        setBakedCollision(rects, polygons, bounds);
+    }
+
+    // Used by bakeCollision and TMXCollisionCache
+    void setBakedCollision(float[] rects, float[][] polygons, float[] bounds) {
+        this.wallRectData = rects;
+        this.wallPolygonPoints = polygons;
+        this.wallPolygonBounds = bounds;
+        this.collisionBaked = true;
+    }
+
+    float[] getBakedWallRectangles() { return wallRectData; }
+    float[][] getBakedWallPolygons() { return wallPolygonPoints; }
+    float[] getBakedWallPolygonBounds() { return wallPolygonBounds; }
+
     // =========================
     // Data getters
     // =========================
 
+    // Note: maps loaded from TMXCollisionCache only carry the baked wall geometry,
+    // so getWallPolygons/getWallRectangles are empty for them.
+
     public List<PolygonObject> getWallPolygons() {
         return wallPolygons;
     }
@@ -115,6 +189,10 @@ public class TMXMapData {
     }
 
     public boolean checkCollision(float worldX, float worldY, float width, float height) {
+        if (!collisionBaked) {
+            bakeCollision();
+        }
+
         float left = worldX;
         float right = worldX + width;
         float bottom = worldY;
@@ -126,63 +204,26 @@ public class TMXMapData {
         // ----------------------------------------------------
         // 1. RECTANGLE collision (ObjectGroup "wall")
         // ----------------------------------------------------
-        for (RectangleObject rect : wallRectangles) {
-            float rLeft = rect.x;
-            float rBottom = tmxToWorldY(rect.y, rect.height);
-
+        float[] rects = wallRectData;
+        for (int r = 0; r < rects.length; r += 4) {
             if (GameApp.rectOverlap(left, bottom, hitboxW, hitboxH,
-                    rLeft, rBottom, rect.width, rect.height)) {
+                    rects[r], rects[r + 1], rects[r + 2], rects[r + 3])) {
                 return true;
             }
         }
 
         // ----------------------------------------------------
-        // 2. POLYGON collision
+        // 2. POLYGON collision (points already in world space)
         // ----------------------------------------------------
-        for (int polyIdx = 0; polyIdx < wallPolygons.size(); polyIdx++) {
-            PolygonObject poly = wallPolygons.get(polyIdx);
-            // Convert polygon points once to world coords
-            List<float[]> pts = new ArrayList<>();
-
-            // In TMX: poly.y is the Y coordinate of base position (top-left origin, Y increases downward)
-            // In GameApp: bottom-left origin, Y increases upward
-            // Strategy: Convert base position, then flip relative Y offsets
-
-            // Convert base Y from TMX to GameApp
-            // Formula: flipY converts a point's Y coordinate (not top of rectangle)
-            float baseYGameApp = flipY(poly.y);
-
-            // Convert each polygon point
-            // Strategy: Convert absolute TMX Y coordinate to GameApp Y coordinate
-            // In TMX: absolute Y = poly.y + p[1] (where p[1] is relative offset, positive = down)
-            // Convert absolute TMX Y to GameApp Y using flipY formula
-            // FIX: Collision detection is shifted LEFT compared to visual wall (red overlay)
-            // Need to offset collision to the RIGHT by half tile (16px) and UP by 16px to match visual wall
-            final float OFFSET_X = 16f;  // +0.5 tile right (to match visual wall)
-            final float OFFSET_Y = 16f;  // +16px up (to adjust height)
-            for (int i = 0; i < poly.points.size(); i++) {
-                float[] p = poly.points.get(i);
-                float gameAppX = poly.x + p[0] + OFFSET_X;  // X: offset +1 tile right to match visual
-
-                // Calculate absolute TMX Y coordinate
-                float absoluteTmxY = poly.y + p[1];
-                // Convert absolute TMX Y to GameApp Y (no Y offset needed)
-                float gameAppY = flipY(absoluteTmxY) + OFFSET_Y;
-
-                pts.add(new float[]{gameAppX, gameAppY});
-            }
+        for (int polyIdx = 0; polyIdx < wallPolygonPoints.length; polyIdx++) {
+            float[] pts = wallPolygonPoints[polyIdx];
+            int b = polyIdx * 4;
+            float minX = wallPolygonBounds[b];
+            float minY = wallPolygonBounds[b + 1];
+            float maxX = wallPolygonBounds[b + 2];
+            float maxY = wallPolygonBounds[b + 3];
 
             // AABB optimization
-            float minX = Float.MAX_VALUE, minY = Float.MAX_VALUE;
-            float maxX = Float.MIN_VALUE, maxY = Float.MIN_VALUE;
-
-            for (float[] p : pts) {
-                minX = Math.min(minX, p[0]);
-                maxX = Math.max(maxX, p[0]);
-                minY = Math.min(minY, p[1]);
-                maxY = Math.max(maxY, p[1]);
-            }
-
             boolean aabbOverlap = GameApp.rectOverlap(left, bottom, hitboxW, hitboxH,
                     minX, minY, maxX - minX, maxY - minY);
             if (!aabbOverlap) {
@@ -193,46 +234,43 @@ public class TMXMapData {
             float sx = hitboxW / 3f;
             float sy = hitboxH / 3f;
 
-            boolean collisionFound = false;
             for (int i = 0; i < 4; i++) {
                 for (int j = 0; j < 4; j++) {
                     float px = left + i * sx;
                     float py = bottom + j * sy;
 
                     if (isPointInPolygon(px, py, pts)) {
-                        collisionFound = true;
+                        return true;
                     }
                 }
             }
 
             // If any polygon point is inside hitbox
-            for (float[] p : pts) {
-                if (GameApp.pointInRect(p[0], p[1], left, bottom, hitboxW, hitboxH)) {
-                    collisionFound = true;
+            for (int p = 0; p < pts.length; p += 2) {
+                if (GameApp.pointInRect(pts[p], pts[p + 1], left, bottom, hitboxW, hitboxH)) {
+                    return true;
                 }
             }
-
-            if (collisionFound) {
-                return true;
-            }
         }
 
         return false;
     }
-    private boolean isPointInPolygon(float px, float py, List<float[]> polyPoints) {
-        if (polyPoints.size() < 3) {
+
+    // Ray casting on packed x, y points
+    private boolean isPointInPolygon(float px, float py, float[] pts) {
+        int count = pts.length / 2;
+        if (count < 3) {
             return false;
         }
 
-        // Ray casting algorithm
         boolean inside = false;
-        int j = polyPoints.size() - 1;
+        int j = count - 1;
 
-        for (int i = 0; i < polyPoints.size(); i++) {
-            float xi = polyPoints.get(i)[0];
-            float yi = polyPoints.get(i)[1];
-            float xj = polyPoints.get(j)[0];
-            float yj = polyPoints.get(j)[1];
+        for (int i = 0; i < count; i++) {
+            float xi = pts[i * 2];
+            float yi = pts[i * 2 + 1];
+            float xj = pts[j * 2];
+            float yj = pts[j * 2 + 1];
 
             if (((yi > py) != (yj > py)) &&
                     (px < (xj - xi) * (py - yi) / (yj - yi) + xi)) {
@@ -1,12 +1,12 @@
 package nl.saxion.game.utils;
 
-import java.io.BufferedReader;
+import java.io.ByteArrayInputStream;
 import java.io.InputStream;
-import java.io.InputStreamReader;
 import java.util.ArrayList;
 import java.util.List;
-import java.util.regex.Matcher;
-import java.util.regex.Pattern;
+import javax.xml.stream.XMLInputFactory;
+import javax.xml.stream.XMLStreamConstants;
+import javax.xml.stream.XMLStreamReader;
 import nl.saxion.gameapp.GameApp;
 
 import static nl.saxion.game.utils.TMXMapObjects.PolygonObject;
@@ -17,47 +17,43 @@ public class TMXParser {
     private static final int ROOM_TILES_W = 30;
     private static final int ROOM_TILES_H = 20;
 
+    /**
+     * Load collision data for a TMX map.
+     * Uses the binary collision cache when it matches the TMX content, otherwise
+     * parses the XML (streaming) and refreshes the cache.
+     */
     public static TMXMapData loadFromTMX(String tmxPath) {
         try {
-            InputStream is = TMXParser.class.getClassLoader().getResourceAsStream(tmxPath);
-            if (is == null) {
-                GameApp.log("Cannot find TMX file: " + tmxPath);
-                return null;
+            // Asset pack first, then the loose resource
+            byte[] source = AssetPack.readBytes(tmxPath);
+            if (source == null) {
+                try (InputStream is = TMXParser.class.getClassLoader().getResourceAsStream(tmxPath)) {
+                    if (is == null) {
+                        GameApp.log("Cannot find TMX file: " + tmxPath);
+                        return null;
+                    }
+                    source = is.readAllBytes();
+                }
             }
 
-            BufferedReader reader = new BufferedReader(new InputStreamReader(is));
-            StringBuilder content = new StringBuilder();
-            String line;
-            while ((line = reader.readLine()) != null) {
-                content.append(line).append("\n");
+            // Warm start: collision data baked by an earlier run
+            byte[] hash = TMXCollisionCache.hash(source);
+            TMXMapData cached = TMXCollisionCache.load(tmxPath, hash);
+            if (cached != null) {
+                return cached;
             }
-            reader.close();
-
-            String xml = content.toString();
-
-            // Parse map attributes
-            int mapWidth = extractIntAttribute(xml, "<map", "width", 30);
-            int mapHeight = extractIntAttribute(xml, "<map", "height", 20);
-            int tileWidth = extractIntAttribute(xml, "<map", "tilewidth", 32);
-            int tileHeight = extractIntAttribute(xml, "<map", "tileheight", 32);
 
-            TMXMapData mapData = new TMXMapData(mapWidth, mapHeight, tileWidth, tileHeight);
+            TMXMapData mapData = parse(new ByteArrayInputStream(source));
+            mapData.bakeCollision();
+            TMXCollisionCache.save(tmxPath, hash, mapData);
 
-            // Parse wall layer (layer name="wall")
-            parseWallLayer(xml, mapData);
-
-            // Parse wall object group (objectgroup name="wall")
-            parseObjectGroup(xml, mapData, "wall", true);
-
-            // Parse objects object group (objectgroup name="objects")
-            parseObjectGroup(xml, mapData, "objects", false);
-
-            GameApp.log("TMX loaded: " + mapWidth + "x" + mapHeight +
-                    ", tiles: " + tileWidth + "x" + tileHeight);
+            GameApp.log("TMX loaded: " + mapData.getMapWidth() + "x" + mapData.getMapHeight() +
+                    ", tiles: " + mapData.getTileWidth() + "x" + mapData.getTileHeight());
             GameApp.log("Wall polygons: " + mapData.getWallPolygons().size());
             GameApp.log("Wall rectangles: " + mapData.getWallRectangles().size());
             GameApp.log("Object polygons: " + mapData.getObjectPolygons().size());
             GameApp.log("Object rectangles: " + mapData.getObjectRectangles().size());
+            logWallTileMap(mapData);
 
             return mapData;
 
@@ -68,221 +64,215 @@ public class TMXParser {
         }
     }
 
-    private static int extractIntAttribute(String xml, String tag, String attr, int defaultValue) {
-        Pattern pattern = Pattern.compile(tag + "[^>]*" + attr + "=\"(\\d+)\"");
-        Matcher matcher = pattern.matcher(xml);
-        if (matcher.find()) {
-            try {
-                return Integer.parseInt(matcher.group(1));
-            } catch (NumberFormatException e) {
-                return defaultValue;
-            }
-        }
-        return defaultValue;
-    }
+    /**
+     * Parse a TMX document in one streaming pass (no DOM, no regexes).
+     */
+    private static TMXMapData parse(InputStream in) throws Exception {
+        XMLInputFactory factory = XMLInputFactory.newInstance();
+        factory.setProperty(XMLInputFactory.SUPPORT_DTD, false);
+        factory.setProperty(XMLInputFactory.IS_SUPPORTING_EXTERNAL_ENTITIES, false);
+        XMLStreamReader reader = factory.createXMLStreamReader(in);
+
+        TMXMapData mapData = null;
+        boolean inWallLayer = false;
+        boolean foundWallLayer = false;
+        String objectGroup = null; // "wall", "objects" or null for other groups
+
+        // Object being read: attributes, and whether it has child elements (polygon, properties...)
+        boolean inObject = false;
+        boolean objectHasChildren = false;
+        float objX = 0f, objY = 0f, objWidth = -1f, objHeight = -1f;
 
-    private static float extractFloatAttribute(String xml, String attr, float defaultValue) {
-        Pattern pattern = Pattern.compile(attr + "=\"([^\"]+)\"");
-        Matcher matcher = pattern.matcher(xml);
-        if (matcher.find()) {
-            try {
-                return Float.parseFloat(matcher.group(1));
-            } catch (NumberFormatException e) {
-                return defaultValue;
+        try {
+            while (reader.hasNext()) {
+                int event = reader.next();
+
+                if (event == XMLStreamConstants.START_ELEMENT) {
+                    String element = reader.getLocalName();
+                    switch (element) {
+                        case "map" -> mapData = new TMXMapData(
+                                intAttribute(reader, "width", 30), intAttribute(reader, "height", 20),
+                                intAttribute(reader, "tilewidth", 32), intAttribute(reader, "tileheight", 32));
+                        case "layer" -> inWallLayer = "wall".equals(reader.getAttributeValue(null, "name"));
+                        case "data" -> {
+                            if (inWallLayer && mapData != null && "csv".equals(reader.getAttributeValue(null, "encoding"))) {
+                                parseWallCsv(reader.getElementText(), mapData);
+                                foundWallLayer = true;
+                            }
+                        }
+                        case "objectgroup" -> {
+                            String name = reader.getAttributeValue(null, "name");
+                            objectGroup = ("wall".equals(name) || "objects".equals(name)) ? name : null;
+                        }
+                        case "object" -> {
+                            inObject = objectGroup != null;
+                            objectHasChildren = false;
+                            objX = floatAttribute(reader, "x", 0f);
+                            objY = floatAttribute(reader, "y", 0f);
+                            objWidth = floatAttribute(reader, "width", -1f);
+                            objHeight = floatAttribute(reader, "height", -1f);
+                        }
+                        default -> {
+                            if (inObject) {
+                                objectHasChildren = true;
+                                if ("polygon".equals(element) && mapData != null) {
+                                    addPolygon(mapData, objectGroup, objX, objY, reader.getAttributeValue(null, "points"));
+                                }
+                            }
+                        }
+                    }
+                } else if (event == XMLStreamConstants.END_ELEMENT) {
+                    String element = reader.getLocalName();
+                    switch (element) {
+                        case "layer" -> inWallLayer = false;
+                        case "objectgroup" -> objectGroup = null;
+                        case "object" -> {
+                            // Objects without child elements are rectangles
+                            if (inObject && !objectHasChildren && objWidth > 0 && objHeight > 0 && mapData != null) {
+                                addRectangle(mapData, objectGroup, objX, objY, objWidth, objHeight);
+                            }
+                            inObject = false;
+                        }
+                        default -> { }
+                    }
+                }
             }
+        } finally {
+            reader.close();
         }
-        return defaultValue;
-    }
-
-    private static void parseWallLayer(String xml, TMXMapData mapData) {
-        Pattern layerPattern = Pattern.compile(
-                "<layer[^>]*name=\"wall\"[^>]*>\\s*<data[^>]*encoding=\"csv\"[^>]*>\\s*(.*?)\\s*</data>",
-                Pattern.DOTALL
-        );
-        Matcher layerMatcher = layerPattern.matcher(xml);
 
-        if (!layerMatcher.find()) {
-            GameApp.log("Warning: Could not find wall layer in TMX");
-            return;
+        if (mapData == null) {
+            throw new IllegalStateException("No <map> element");
         }
-
-        String csvData = layerMatcher.group(1).trim();
-        // Split by newlines, but handle cases where data might be all on one line with commas
-        String[] lines = csvData.split("[\r\n]+");
-
-        // If we only got one line, try splitting by pattern of 30 values
-        if (lines.length == 1) {
-            // Split into chunks of 30 values
-            String[] allValues = csvData.split(",");
-            int totalRows = (allValues.length + ROOM_TILES_W - 1) / ROOM_TILES_W;
-            lines = new String[totalRows];
-            for (int r = 0; r < totalRows; r++) {
-                StringBuilder sb = new StringBuilder();
-                for (int c = 0; c < ROOM_TILES_W && (r * ROOM_TILES_W + c) < allValues.length; c++) {
-                    if (c > 0) sb.append(",");
-                    sb.append(allValues[r * ROOM_TILES_W + c].trim());
-                }
-                lines[r] = sb.toString();
-            }
+        if (!foundWallLayer) {
+            GameApp.log("Warning: Could not find wall layer in TMX");
         }
+        return mapData;
+    }
 
-        // Parse CSV lines
-        for (int row = 0; row < ROOM_TILES_H && row < lines.length; row++) {
-            String line = lines[row].trim();
-            if (line.isEmpty() || line.equals(",")) {
-                continue;
-            }
-
-            // Remove trailing comma if exists
-            if (line.endsWith(",")) {
-                line = line.substring(0, line.length() - 1);
-            }
-
-            String[] values = line.split(",");
-            // Flip row: TMX row 0 (top) → GameApp row 19 (top)
-            int flippedRow = ROOM_TILES_H - 1 - row;
-
-            for (int col = 0; col < ROOM_TILES_W && col < values.length; col++) {
-                try {
-                    String value = values[col].trim();
-                    if (value.isEmpty()) {
-                        mapData.setWallTile(flippedRow, col, false);
-                        continue;
+    /**
+     * Parse the CSV wall layer without splitting strings.
+     * Values are row-major; TMX row 0 (top) is flipped to GameApp row 19 (top).
+     */
+    private static void parseWallCsv(String csv, TMXMapData mapData) {
+        int index = 0;
+        long gid = 0;
+        boolean inNumber = false;
+
+        for (int i = 0, n = csv.length(); i <= n; i++) {
+            char c = i < n ? csv.charAt(i) : ',';
+            if (c >= '0' && c <= '9') {
+                gid = gid * 10 + (c - '0');
+                inNumber = true;
+            } else if (c == ',') {
+                if (inNumber) {
+                    int row = index / ROOM_TILES_W;
+                    int col = index % ROOM_TILES_W;
+                    if (row < ROOM_TILES_H) {
+                        // Tiled format: 0 = empty, >0 = tile exists (mask off the flip flags)
+                        mapData.setWallTile(ROOM_TILES_H - 1 - row, col, (gid & 0x0FFFFFFF) != 0);
                     }
-                    // Parse GID (Global Tile ID)
-                    // Tiled format: 0 = empty, >0 = tile exists
-                    long gid = Long.parseLong(value);
-                    // Extract base GID (remove flip flags: mask with 0x0FFFFFFF)
-                    long baseGid = gid & 0x0FFFFFFF;
-                    mapData.setWallTile(flippedRow, col, baseGid != 0);
-                } catch (NumberFormatException e) {
-                    mapData.setWallTile(flippedRow, col, false);
+                    index++;
+                } else if (i < n) {
+                    // Empty value between commas
+                    index++;
                 }
+                gid = 0;
+                inNumber = false;
             }
+            // Whitespace and newlines are separators only
         }
+    }
 
-        GameApp.log("Parsed wall layer: " + ROOM_TILES_W + "x" + ROOM_TILES_H + " tiles");
-
-        // DEBUG: Print wallTileMap pattern to verify flip correctness
-        GameApp.log("\n=== WALL TILE MAP PATTERN ===");
-        boolean[][] wallTileMap = mapData.getWallTileMap();
-        StringBuilder patternBuilder = new StringBuilder();
-        for (int r = 0; r < ROOM_TILES_H; r++) {
-            patternBuilder.append("Row ").append(r).append(": ");
-            for (int c = 0; c < ROOM_TILES_W; c++) {
-                patternBuilder.append(wallTileMap[r][c] ? "1" : "0");
-            }
-            patternBuilder.append("\n");
+    private static void addRectangle(TMXMapData mapData, String group, float x, float y, float width, float height) {
+        RectangleObject rect = new RectangleObject(x, y, width, height);
+        if ("wall".equals(group)) {
+            mapData.addWallRectangle(rect);
+        } else {
+            mapData.addObjectRectangle(rect);
+            DebugLogger.log("Parsed object rectangle: x=" + x + " y=" + y + " w=" + width + " h=" + height);
         }
-        GameApp.log(patternBuilder.toString());
-        GameApp.log("=== END WALL TILE MAP ===\n");
     }
 
-    private static void parseObjectGroup(String xml, TMXMapData mapData, String groupName, boolean isWallGroup) {
-        Pattern objectGroupPattern = Pattern.compile(
-                "<objectgroup[^>]*name=\"" + groupName + "\"[^>]*>(.*?)</objectgroup>",
-                Pattern.DOTALL
-        );
-        Matcher objectGroupMatcher = objectGroupPattern.matcher(xml);
+    private static void addPolygon(TMXMapData mapData, String group, float x, float y, String pointsStr) {
+        if (pointsStr == null) return;
+        List<float[]> points = parsePolygonPoints(pointsStr);
+        if (points.isEmpty()) return;
 
-        if (!objectGroupMatcher.find()) {
-            GameApp.log("Info: No '" + groupName + "' object group found in TMX");
-            return;
+        PolygonObject poly = new PolygonObject(x, y, points);
+        if ("wall".equals(group)) {
+            mapData.addWallPolygon(poly);
+        } else {
+            mapData.addObjectPolygon(poly);
         }
+    }
 
-        String objectGroupXml = objectGroupMatcher.group(1);
-
-        Pattern selfClosingPattern = Pattern.compile(
-                "<object[^>]*/>",
-                Pattern.DOTALL
-        );
-        Matcher selfClosingMatcher = selfClosingPattern.matcher(objectGroupXml);
+    /**
+     * Parse "x1,y1 x2,y2 ..." by scanning for separators (no regex splits).
+     */
+    private static List<float[]> parsePolygonPoints(String pointsStr) {
+        List<float[]> points = new ArrayList<>();
+        int n = pointsStr.length();
+        int i = 0;
 
-        while (selfClosingMatcher.find()) {
-            try {
-                String objectTag = selfClosingMatcher.group(0);
+        while (i < n) {
+            // Skip whitespace between points
+            while (i < n && Character.isWhitespace(pointsStr.charAt(i))) i++;
+            if (i >= n) break;
 
-                // Extract các attributes từ object tag
-                float objX = extractFloatAttribute(objectTag, "x", 0f);
-                float objY = extractFloatAttribute(objectTag, "y", 0f);
-                float width = extractFloatAttribute(objectTag, "width", -1f);
-                float height = extractFloatAttribute(objectTag, "height", -1f);
+            int end = i;
+            while (end < n && !Character.isWhitespace(pointsStr.charAt(end))) end++;
 
-                // Self-closing tags thường là rectangles
-                if (width > 0 && height > 0) {
-                    RectangleObject rect = new RectangleObject(objX, objY, width, height);
-                    if (isWallGroup) {
-                        mapData.addWallRectangle(rect);
-                    } else {
-                        mapData.addObjectRectangle(rect);
-                        GameApp.log("Parsed object rectangle [self-closing]: x=" + objX + " y=" + objY + " w=" + width + " h=" + height);
-                    }
+            int comma = pointsStr.indexOf(',', i);
+            if (comma > i && comma < end - 1) {
+                try {
+                    float x = Float.parseFloat(pointsStr.substring(i, comma));
+                    float y = Float.parseFloat(pointsStr.substring(comma + 1, end));
+                    points.add(new float[]{x, y});
+                } catch (NumberFormatException e) {
+                    // Skip malformed point
                 }
-            } catch (Exception e) {
-                GameApp.log("Error parsing self-closing object in group '" + groupName + "': " + e.getMessage());
-                e.printStackTrace();
             }
+            i = end;
         }
-        Pattern objectWithContentPattern = Pattern.compile(
-                "<object[^>]*>(.*?)</object>",
-                Pattern.DOTALL
-        );
-        Matcher contentMatcher = objectWithContentPattern.matcher(objectGroupXml);
-
-        while (contentMatcher.find()) {
-            try {
-                String fullMatch = contentMatcher.group(0);
-                String objectContent = contentMatcher.group(1);
 
-                // Extract attributes từ opening tag
-                int openTagEnd = fullMatch.indexOf('>');
-                String objectTag = fullMatch.substring(0, openTagEnd + 1);
-
-                float objX = extractFloatAttribute(objectTag, "x", 0f);
-                float objY = extractFloatAttribute(objectTag, "y", 0f);
+        return points;
+    }
 
-                // Check if it's a polygon
-                Pattern polygonPattern = Pattern.compile(
-                        "<polygon[^>]*points=\"([^\"]+)\"",
-                        Pattern.DOTALL
-                );
-                Matcher polygonMatcher = polygonPattern.matcher(objectContent);
+    private static int intAttribute(XMLStreamReader reader, String name, int defaultValue) {
+        String value = reader.getAttributeValue(null, name);
+        if (value == null) return defaultValue;
+        try {
+            return Integer.parseInt(value.trim());
+        } catch (NumberFormatException e) {
+            return defaultValue;
+        }
+    }
 
-                if (polygonMatcher.find()) {
-                    String pointsStr = polygonMatcher.group(1);
-                    List<float[]> points = parsePolygonPoints(pointsStr);
-                    if (!points.isEmpty()) {
-                        PolygonObject poly = new PolygonObject(objX, objY, points);
-                        if (isWallGroup) {
-                            mapData.addWallPolygon(poly);
-                        } else {
-                            mapData.addObjectPolygon(poly);
-                        }
-                    }
-                }
-            } catch (Exception e) {
-                GameApp.log("Error parsing object with content in group '" + groupName + "': " + e.getMessage());
-                e.printStackTrace();
-            }
+    private static float floatAttribute(XMLStreamReader reader, String name, float defaultValue) {
+        String value = reader.getAttributeValue(null, name);
+        if (value == null) return defaultValue;
+        try {
+            return Float.parseFloat(value.trim());
+        } catch (NumberFormatException e) {
+            return defaultValue;
         }
     }
 
-    private static List<float[]> parsePolygonPoints(String pointsStr) {
-        List<float[]> points = new ArrayList<>();
-        String[] pointStrings = pointsStr.trim().split("\\s+");
+    // DEBUG: Print wallTileMap pattern to verify flip correctness
+    private static void logWallTileMap(TMXMapData mapData) {
+        if (!DebugLogger.isEnabled()) return;
 
-        for (String pointStr : pointStrings) {
-            String[] coords = pointStr.split(",");
-            if (coords.length == 2) {
-                try {
-                    float x = Float.parseFloat(coords[0].trim());
-                    float y = Float.parseFloat(coords[1].trim());
-                    points.add(new float[]{x, y});
-                } catch (NumberFormatException e) {
-                }
+        boolean[][] wallTileMap = mapData.getWallTileMap();
+        StringBuilder patternBuilder = new StringBuilder("=== WALL TILE MAP PATTERN ===\n");
+        for (int r = 0; r < ROOM_TILES_H; r++) {
+            patternBuilder.append("Row ").append(r).append(": ");
+            for (int c = 0; c < ROOM_TILES_W; c++) {
+                patternBuilder.append(wallTileMap[r][c] ? "1" : "0");
             }
+            patternBuilder.append("\n");
         }
-
-        return points;
+        patternBuilder.append("=== END WALL TILE MAP ===");
+        DebugLogger.log(patternBuilder.toString());
     }
 }
@@ -0,0 +1,78 @@
+package nl.saxion.game.utils;
+
+import java.text.DecimalFormatSymbols;
+
+/**
+ * Allocation-free number and time formatting for text drawn every frame.
+ *
+ * The append methods write into a caller-owned StringBuilder (same output as
+ * String.format("%,d") and "%02d:%02d"). IntText keeps the String for the last value
+ * it was asked for and only rebuilds it when the value changes, so a HUD counter costs
+ * one String per change instead of one (plus a Formatter) per frame.
+ */
+public class TextFormat {
+
+    // Same grouping character String.format("%,d") uses for the default locale
+    private static final char GROUPING_SEPARATOR = DecimalFormatSymbols.getInstance().getGroupingSeparator();
+
+    /**
+     * Append a number with thousands separators, e.g. 1234567 -> "1,234,567".
+     */
+    public static StringBuilder appendGrouped(StringBuilder sb, long value) {
+        int start = sb.length();
+        sb.append(value);
+        if (value < 0) {
+            start++; // keep the minus sign in front
+        }
+        for (int i = sb.length() - 3; i > start; i -= 3) {
+            sb.insert(i, GROUPING_SEPARATOR);
+        }
+        return sb;
+    }
+
+    /**
+     * Append seconds as a clock, e.g. 75 -> "01:15".
+     */
+    public static StringBuilder appendClock(StringBuilder sb, int totalSeconds) {
+        int minutes = totalSeconds / 60;
+        int seconds = totalSeconds % 60;
+        appendTwoDigits(sb, minutes).append(':');
+        return appendTwoDigits(sb, seconds);
+    }
+
+    private static StringBuilder appendTwoDigits(StringBuilder sb, int value) {
+        if (value >= 0 && value < 10) {
+            sb.append('0');
+        }
+        return sb.append(value);
+    }
+
+    /**
+     * Text for an int value, rebuilt only when the value changes.
+     */
+    public static class IntText {
+
+        public interface Format {
+            void append(StringBuilder sb, int value);
+        }
+
+        private final StringBuilder builder = new StringBuilder(32);
+        private final Format format;
+        private int value;
+        private String text;
+
+        public IntText(Format format) {
+            this.format = format;
+        }
+
+        public String get(int value) {
+            if (text == null || value != this.value) {
+                builder.setLength(0);
+                format.append(builder, value);
+                text = builder.toString();
+                this.value = value;
+            }
+            return text;
+        }
+    }
+}